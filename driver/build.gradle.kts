@@ -58,6 +58,7 @@ dependencies {
 
   // internal libraries
   "implementation"(libs.asm)
+  "implementation"(libs.lz4)
   "implementation"(libs.gson)
   "implementation"(libs.guava)
 
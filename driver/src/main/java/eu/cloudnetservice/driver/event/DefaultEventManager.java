@@ -17,15 +17,23 @@
 package eu.cloudnetservice.driver.event;
 
 import dev.derklaro.aerogel.auto.Provides;
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import jakarta.inject.Singleton;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
@@ -40,8 +48,22 @@
 @Provides(EventManager.class)
 public class DefaultEventManager implements EventManager {
 
+  private static final Logger LOGGER = LogManager.logger(DefaultEventManager.class);
+  private static final RegisteredEventListener[] EMPTY_LISTENER_ARRAY = new RegisteredEventListener[0];
+
+  protected final Executor asyncEventExecutor = ExecutorServiceUtil.newVirtualThreadExecutor(
+    "Async-Event-Dispatcher-",
+    threadFactory -> Executors.newCachedThreadPool(runnable -> {
+      var thread = threadFactory.newThread(runnable);
+      thread.setDaemon(true);
+      return thread;
+    }));
+
   protected final Lock bakeLock = new ReentrantLock(true);
+  // guarded by the bake lock, only used to bake the listener arrays
   protected final Map<Class<?>, List<RegisteredEventListener>> listeners = new HashMap<>();
+  // event class -> channel -> sorted listeners, the inner maps and arrays are never modified after being baked
+  protected final Map<Class<?>, Map<String, BakedListeners>> bakedListeners = new ConcurrentHashMap<>();
 
   /**
    * {@inheritDoc}
@@ -69,23 +91,28 @@ public class DefaultEventManager implements EventManager {
    */
   @Override
   public <T extends Event> @NonNull T callEvent(@NonNull String channel, @NonNull T event) {
-    // get all registered listeners of the event
-    var listeners = this.listeners.get(event.getClass());
-    if (listeners != null && !listeners.isEmpty()) {
-      // check if there is only one listener
-      if (listeners.size() == 1) {
-        var listener = listeners.get(0);
-        // check if the event gets called on the same channel as the listener is listening to
-        if (listener.channel().equals(channel)) {
+    // get all registered listeners of the event which are listening to the given channel
+    var listeners = this.bakedListeners.get(event.getClass());
+    if (listeners != null) {
+      var channelListeners = listeners.get(channel);
+      if (channelListeners != null) {
+        // post the event to the synchronous listeners
+        for (var listener : channelListeners.sync()) {
           listener.fireEvent(event);
         }
-      } else {
-        // post the event to the listeners
-        for (var listener : listeners) {
-          // check if the event gets called on the same channel as the listener is listening to
-          if (listener.channel().equals(channel)) {
-            listener.fireEvent(event);
-          }
+
+        // post the event to the asynchronous listeners, after all synchronous listeners handled the event
+        var asyncListeners = channelListeners.async();
+        if (asyncListeners.length > 0) {
+          this.asyncEventExecutor.execute(() -> {
+            try {
+              for (var listener : asyncListeners) {
+                listener.fireEvent(event);
+              }
+            } catch (EventListenerException exception) {
+              LOGGER.severe("Exception while asynchronously calling event %s", exception, event.getClass().getName());
+            }
+          });
         }
       }
     }
@@ -93,6 +120,41 @@ public class DefaultEventManager implements EventManager {
     return event;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull <T extends Event> Task<T> callEventAsync(@NonNull String channel, @NonNull T event) {
+    // check if there are any listeners which are listening to the event, no need to switch threads if not
+    var listeners = this.bakedListeners.get(event.getClass());
+    var channelListeners = listeners == null ? null : listeners.get(channel);
+    if (channelListeners == null) {
+      return Task.completedTask(event);
+    }
+
+    // post the event to all listeners, in order
+    var task = new Task<T>();
+    this.asyncEventExecutor.execute(() -> {
+      try {
+        for (var listener : channelListeners.all()) {
+          listener.fireEvent(event);
+        }
+        task.complete(event);
+      } catch (Throwable throwable) {
+        task.completeExceptionally(throwable);
+      }
+    });
+    return task;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean hasListeners(@NonNull Class<? extends Event> eventClass) {
+    return this.bakedListeners.containsKey(eventClass);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -153,6 +215,8 @@ public class DefaultEventManager implements EventManager {
           listeners.add(eventListener);
           // sort now - we don't need to sort lather then
           Collections.sort(listeners);
+          // re-bake the listeners of the event
+          this.bakeListeners(eventClass);
         } finally {
           this.bakeLock.unlock();
         }
@@ -171,18 +235,69 @@ public class DefaultEventManager implements EventManager {
   protected void safeRemove(@NonNull Predicate<RegisteredEventListener> predicate) {
     this.bakeLock.lock();
     try {
-      var iterator = this.listeners.values().iterator();
+      var iterator = this.listeners.entrySet().iterator();
       while (iterator.hasNext()) {
         // remove all listeners which are matching the predicate
         var entry = iterator.next();
-        entry.removeIf(predicate);
-        // check if the entry is still needed
-        if (entry.isEmpty()) {
-          iterator.remove();
+        if (entry.getValue().removeIf(predicate)) {
+          // check if the entry is still needed
+          if (entry.getValue().isEmpty()) {
+            iterator.remove();
+          }
+          // re-bake the listeners of the event
+          this.bakeListeners(entry.getKey());
         }
       }
     } finally {
       this.bakeLock.unlock();
     }
   }
+
+  /**
+   * Bakes the registered listeners of the given event class into immutable arrays per channel, sorted by their
+   * invocation order. This method must only be called while holding the bake lock.
+   *
+   * @param eventClass the event class to bake the listeners of.
+   * @throws NullPointerException if the given event class is null.
+   */
+  protected void bakeListeners(@NonNull Class<?> eventClass) {
+    var listeners = this.listeners.get(eventClass);
+    if (listeners == null || listeners.isEmpty()) {
+      this.bakedListeners.remove(eventClass);
+      return;
+    }
+
+    // group the listeners by their channel, keeping the order of the listeners
+    Map<String, List<RegisteredEventListener>> listenersByChannel = new HashMap<>();
+    for (var listener : listeners) {
+      listenersByChannel.computeIfAbsent(listener.channel(), $ -> new ArrayList<>()).add(listener);
+    }
+
+    Map<String, BakedListeners> bakedListeners = new HashMap<>();
+    for (var entry : listenersByChannel.entrySet()) {
+      var channelListeners = entry.getValue();
+      bakedListeners.put(entry.getKey(), new BakedListeners(
+        channelListeners.toArray(EMPTY_LISTENER_ARRAY),
+        channelListeners.stream().filter(listener -> !listener.async()).toArray(RegisteredEventListener[]::new),
+        channelListeners.stream().filter(RegisteredEventListener::async).toArray(RegisteredEventListener[]::new)));
+    }
+    this.bakedListeners.put(eventClass, Map.copyOf(bakedListeners));
+  }
+
+  /**
+   * The baked listeners of an event in a specific channel, each array is sorted by the invocation order of the
+   * listeners and must never be modified.
+   *
+   * @param all   all listeners listening to the event in the channel.
+   * @param sync  the listeners which should be called synchronously when the event is called synchronously.
+   * @param async the listeners which should be called asynchronously when the event is called synchronously.
+   * @since 4.0
+   */
+  protected record BakedListeners(
+    @NonNull RegisteredEventListener[] all,
+    @NonNull RegisteredEventListener[] sync,
+    @NonNull RegisteredEventListener[] async
+  ) {
+
+  }
 }
@@ -21,9 +21,14 @@
 import dev.derklaro.reflexion.Reflexion;
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
+import eu.cloudnetservice.driver.event.invoker.ListenerInvoker;
+import eu.cloudnetservice.driver.event.invoker.ListenerInvokerGenerator;
 import eu.cloudnetservice.driver.inject.InjectUtil;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
 import lombok.NonNull;
 
 /**
@@ -34,6 +39,8 @@
 final class DefaultRegisteredEventListener implements RegisteredEventListener {
 
   private static final Logger LOGGER = LogManager.logger(DefaultRegisteredEventListener.class);
+  private static final long SLOW_LISTENER_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(
+    Long.getLong("cloudnet.event.slow-listener-threshold", 500));
 
   private final Object instance;
   private final Class<?> eventClass;
@@ -41,10 +48,13 @@ final class DefaultRegisteredEventListener implements RegisteredEventListener {
 
   private final String methodName;
   private final Element[] methodArguments;
-  private final MethodAccessor<?> methodAccessor;
+  private final ListenerInvoker listenerInvoker;
 
   private final InjectionLayer<?> injectionLayer;
 
+  private final LongAdder invocationCount = new LongAdder();
+  private final LongAdder totalInvocationNanos = new LongAdder();
+
   /**
    * Constructs a new default registered event listener instance.
    *
@@ -69,9 +79,22 @@ final class DefaultRegisteredEventListener implements RegisteredEventListener {
     this.methodName = targetMethod.getName();
     this.eventClass = targetMethod.getParameterTypes()[0];
 
-    // method access
-    var reflexion = Reflexion.onBound(instance);
-    this.methodAccessor = reflexion.unreflect(targetMethod);
+    // method access, prefer a generated invoker and fall back to reflection if the method is not accessible for it
+    var invoker = ListenerInvokerGenerator.makeListenerInvoker(instance, targetMethod);
+    if (invoker == null) {
+      MethodAccessor<?> methodAccessor = Reflexion.onBound(instance).unreflect(targetMethod);
+      invoker = (event, arguments) -> {
+        var args = new Object[arguments.length + 1];
+        args[0] = event;
+        System.arraycopy(arguments, 0, args, 1, arguments.length);
+        // rethrow the exception thrown by the listener, if any
+        var result = methodAccessor.invokeWithArgs(args);
+        if (result.wasExceptional()) {
+          throw result.getException();
+        }
+      };
+    }
+    this.listenerInvoker = invoker;
 
     // injection stuff, ignore the first element (the event itself)
     this.methodArguments = InjectUtil.buildElementsForParameters(targetMethod.getParameters(), 1);
@@ -82,24 +105,30 @@ final class DefaultRegisteredEventListener implements RegisteredEventListener {
    */
   @Override
   public void fireEvent(@NonNull Event event) {
-    LOGGER.fine(
-      "Calling event %s on listener %s",
-      null,
-      event.getClass().getName(),
-      this.instance().getClass().getName());
+    // prevent the allocation of the parameter array if the message would not be logged anyway
+    if (LOGGER.isLoggable(Level.FINE)) {
+      LOGGER.fine(
+        "Calling event %s on listener %s",
+        null,
+        event.getClass().getName(),
+        this.instance().getClass().getName());
+    }
 
-    // find the parameter instances, set the first argument to the event instance
-    var instances = InjectUtil.findAllInstances(this.injectionLayer, this.methodArguments, 1);
-    instances[0] = event;
+    // find the instances of the additional parameters, the array is shared if the method takes no additional arguments
+    var instances = InjectUtil.findAllInstances(this.injectionLayer, this.methodArguments);
 
     // invoke the event listener & rethrow any thrown exceptions wrapped
-    var result = this.methodAccessor.invokeWithArgs(instances);
-    if (result.wasExceptional()) {
+    var startTime = System.nanoTime();
+    try {
+      this.listenerInvoker.invoke(event, instances);
+    } catch (Throwable throwable) {
       throw new EventListenerException(String.format(
         "Error while invoking event listener %s in class %s",
         this.methodName,
         this.instance.getClass().getName()
-      ), result.getException());
+      ), throwable);
+    } finally {
+      this.recordInvocation(event, System.nanoTime() - startTime);
     }
   }
 
@@ -135,6 +164,46 @@ public void fireEvent(@NonNull Event event) {
     return this.eventClass;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long invocationCount() {
+    return this.invocationCount.sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long totalInvocationNanos() {
+    return this.totalInvocationNanos.sum();
+  }
+
+  /**
+   * Records an invocation of this listener, logging a warning if the invocation took longer than the configured slow
+   * listener threshold.
+   *
+   * @param event         the event which was handled by this listener.
+   * @param durationNanos the time in nanoseconds this listener took to handle the event.
+   * @throws NullPointerException if the given event is null.
+   */
+  private void recordInvocation(@NonNull Event event, long durationNanos) {
+    this.invocationCount.increment();
+    this.totalInvocationNanos.add(durationNanos);
+
+    // warn about listeners which are taking too long to handle an event
+    if (SLOW_LISTENER_THRESHOLD_NANOS > 0 && durationNanos >= SLOW_LISTENER_THRESHOLD_NANOS) {
+      LOGGER.warning(
+        "Event listener %s in class %s took %d ms to handle event %s",
+        null,
+        this.methodName,
+        this.instance.getClass().getName(),
+        TimeUnit.NANOSECONDS.toMillis(durationNanos),
+        event.getClass().getName());
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
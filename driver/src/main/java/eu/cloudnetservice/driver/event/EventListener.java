@@ -69,4 +69,17 @@
    * @return the priority of the listener.
    */
   InvocationOrder order() default InvocationOrder.NORMAL;
+
+  /**
+   * Defines if this listener should be called asynchronously when the event is called using one of the synchronous
+   * {@code EventManager#callEvent} methods. Asynchronous listeners are called after all synchronous listeners handled
+   * the event, on a separate thread and in their invocation order. Changes made to the event by an asynchronous listener
+   * are therefore not visible to the caller of the event. Defaults to false.
+   * <p>
+   * This setting has no effect when the event is called using one of the {@code EventManager#callEventAsync} methods,
+   * as all listeners are called asynchronously in that case anyway.
+   *
+   * @return true if this listener should be called asynchronously, false otherwise.
+   */
+  boolean async() default false;
 }
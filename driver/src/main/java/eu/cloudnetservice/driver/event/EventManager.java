@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.event;
 
+import eu.cloudnetservice.common.concurrent.Task;
 import lombok.NonNull;
 
 /**
@@ -34,7 +35,9 @@
  * Note: event execution is always a blocking operation, <strong>NEVER</strong> should an event listener receive event
  * notifications simultaneously. By default, no event listener will be called when any event publish is ongoing. Other
  * implementations are free to change this behaviour as long as there are no calls to the same event listener
- * simultaneously.
+ * simultaneously. The only exceptions to this are listeners which opted into asynchronous execution (see
+ * {@link EventListener#async()}) and events called using {@link #callEventAsync(String, Event)}, in which case the
+ * listeners must be able to handle events from multiple threads at the same time.
  *
  * @see EventListener
  * @see RegisteredEventListener
@@ -88,6 +91,45 @@ public interface EventManager {
    */
   @NonNull <T extends Event> T callEvent(@NonNull String channel, @NonNull T event);
 
+  /**
+   * Calls the given event asynchronously to the * channel, triggering all event listeners which are listening to it.
+   * <p>
+   * This method call is equivalent to {@code callEventAsync("*", event)}.
+   *
+   * @param event the event to call.
+   * @param <T>   the type of the event.
+   * @return a task completed with the same event as used to call the method, after processing.
+   * @throws NullPointerException if the given event is null.
+   */
+  default @NonNull <T extends Event> Task<T> callEventAsync(@NonNull T event) {
+    return this.callEventAsync("*", event);
+  }
+
+  /**
+   * Calls the given event asynchronously to the given channel, only triggering the event listeners which are
+   * specifically listening to the given channel unless the channel is *. All listeners, regardless if they are marked
+   * as asynchronous or not, are called sequentially in their invocation order on a separate thread. The returned task is
+   * completed exceptionally with an {@link EventListenerException} if any listener threw an exception while processing
+   * the event.
+   *
+   * @param channel the specific channel to call the listeners on.
+   * @param event   the event to call.
+   * @param <T>     the type of the event.
+   * @return a task completed with the same event as used to call the method, after processing.
+   * @throws NullPointerException if the given channel or event is null.
+   */
+  @NonNull <T extends Event> Task<T> callEventAsync(@NonNull String channel, @NonNull T event);
+
+  /**
+   * Get if at least one listener is registered for the given event class, regardless of the channel the listener is
+   * listening to. This can be used to skip the construction of events which would not be received by anyone.
+   *
+   * @param eventClass the event class to check for listeners.
+   * @return true if at least one listener is registered for the given event class, false otherwise.
+   * @throws NullPointerException if the given event class is null.
+   */
+  boolean hasListeners(@NonNull Class<? extends Event> eventClass);
+
   /**
    * Registers all methods in the given listener class which are annotated with {@link EventListener} and are taking
    * only one argument with a subtype of {@link Event}. The instance the constructed event listeners are bound to are
@@ -73,6 +73,31 @@ public interface RegisteredEventListener extends Comparable<RegisteredEventListe
    */
   @NonNull Class<?> eventClass();
 
+  /**
+   * Get if this listener should be called asynchronously when the event is called synchronously.
+   *
+   * @return true if this listener should be called asynchronously, false otherwise.
+   * @see EventListener#async()
+   */
+  default boolean async() {
+    return this.eventListener().async();
+  }
+
+  /**
+   * Get the amount of times this listener was invoked since it was registered.
+   *
+   * @return the amount of invocations of this listener.
+   */
+  long invocationCount();
+
+  /**
+   * Get the total time in nanoseconds this listener spent handling events since it was registered. Together with the
+   * invocation count this can be used to identify slow listeners.
+   *
+   * @return the total time in nanoseconds spent handling events.
+   */
+  long totalInvocationNanos();
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.event.invoker;
+
+import eu.cloudnetservice.driver.event.Event;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * An invoker for an event listener method which is bound to the instance of the listener. Listener invokers should only
+ * get created once for each listener method, never multiple times during event processing.
+ *
+ * @since 4.0
+ */
+@FunctionalInterface
+@ApiStatus.Internal
+public interface ListenerInvoker {
+
+  /**
+   * Invokes the target listener method of this invoker.
+   *
+   * @param event     the event to pass as the first argument to the listener method.
+   * @param arguments the additional arguments to pass to the listener method, empty if the method takes no more args.
+   * @throws NullPointerException if the given event or arguments array is null.
+   * @throws Throwable            any exception thrown by the listener method.
+   */
+  void invoke(@NonNull Event event, @NonNull Object[] arguments) throws Throwable;
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.event.invoker;
+
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.POP2;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+import eu.cloudnetservice.common.util.StringUtil;
+import eu.cloudnetservice.driver.event.Event;
+import eu.cloudnetservice.driver.network.rpc.exception.ClassCreationException;
+import eu.cloudnetservice.driver.util.asm.AsmHelper;
+import eu.cloudnetservice.driver.util.define.ClassDefiners;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+/**
+ * A utility class to generate and define an invoker for an event listener method in the runtime.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class ListenerInvokerGenerator {
+
+  private static final String SUPER = "java/lang/Object";
+  private static final String OBJ_DESCRIPTOR = Type.getDescriptor(Object.class);
+  // ListenerInvoker related stuff
+  private static final String[] LISTENER_INVOKER = new String[]{Type.getInternalName(ListenerInvoker.class)};
+  private static final String INVOKE_DESCRIPTOR = Type.getMethodDescriptor(
+    Type.VOID_TYPE,
+    Type.getType(Event.class),
+    Type.getType(Object[].class));
+  // Constructor stuff
+  private static final String CONSTRUCTOR_DESCRIPTOR = Type.getMethodDescriptor(
+    Type.VOID_TYPE,
+    Type.getType(Object.class));
+  // generated classes related stuff
+  private static final String CLASS_NAME_FORMAT = "%s$GeneratedListenerInvoker_%s_%s";
+
+  private ListenerInvokerGenerator() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Generates a listener invoker for the given listener method which is bound to the given instance. This method
+   * returns null if the given method or one of the types it uses is not public, as a generated class might not be able
+   * to access it.
+   *
+   * @param instance the instance to bind the invoker to.
+   * @param method   the listener method to generate the invoker for.
+   * @return the generated listener invoker, null if no invoker can be generated for the given method.
+   * @throws NullPointerException   if the given instance or method is null.
+   * @throws ClassCreationException if something goes wrong during the class generation.
+   */
+  public static @Nullable ListenerInvoker makeListenerInvoker(@NonNull Object instance, @NonNull Method method) {
+    // validate that the generated class is able to access everything it needs
+    if (!Modifier.isPublic(method.getModifiers()) || !isPublic(method.getDeclaringClass())) {
+      return null;
+    }
+    for (var parameterType : method.getParameterTypes()) {
+      if (!isPublic(parameterType)) {
+        return null;
+      }
+    }
+
+    try {
+      var definingClass = method.getDeclaringClass();
+      var className = String.format(
+        CLASS_NAME_FORMAT,
+        Type.getInternalName(definingClass),
+        method.getName(),
+        StringUtil.generateRandomString(25));
+      // init the class writer for a public final class implementing the ListenerInvoker
+      var cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+      cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL, className, null, SUPER, LISTENER_INVOKER);
+      // visit the instance field
+      cw.visitField(ACC_PRIVATE | ACC_FINAL, "instance", OBJ_DESCRIPTOR, null, null).visitEnd();
+      // generate the constructor taking the instance
+      MethodVisitor mv;
+      {
+        mv = cw.visitMethod(ACC_PUBLIC, "<init>", CONSTRUCTOR_DESCRIPTOR, null, null);
+        mv.visitCode();
+        // call super()
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, SUPER, "<init>", "()V", false);
+        // assign the instance field
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitFieldInsn(PUTFIELD, className, "instance", OBJ_DESCRIPTOR);
+        // finish the constructor
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+      }
+      {
+        mv = cw.visitMethod(ACC_PUBLIC, "invoke", INVOKE_DESCRIPTOR, null, null);
+        mv.visitCode();
+        // get the instance field
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, className, "instance", OBJ_DESCRIPTOR);
+        mv.visitTypeInsn(CHECKCAST, Type.getInternalName(definingClass));
+        // load the event
+        var parameterTypes = method.getParameterTypes();
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, Type.getInternalName(parameterTypes[0]));
+        // load each additional argument of the method
+        for (var i = 1; i < parameterTypes.length; i++) {
+          mv.visitVarInsn(ALOAD, 2);
+          AsmHelper.pushInt(mv, i - 1);
+          mv.visitInsn(AALOAD);
+          // check if the raw type is primitive
+          if (parameterTypes[i].isPrimitive()) {
+            AsmHelper.wrapperToPrimitive(mv, parameterTypes[i]);
+          } else {
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(parameterTypes[i]));
+          }
+        }
+        // invoke the method
+        mv.visitMethodInsn(
+          definingClass.isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL,
+          Type.getInternalName(definingClass),
+          method.getName(),
+          Type.getMethodDescriptor(method),
+          definingClass.isInterface());
+        // discard the return value of the method, if any
+        var returnType = method.getReturnType();
+        if (returnType == long.class || returnType == double.class) {
+          mv.visitInsn(POP2);
+        } else if (returnType != void.class) {
+          mv.visitInsn(POP);
+        }
+        // finish the method
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+      }
+      // finish the class
+      cw.visitEnd();
+      // define and make the constructor accessible
+      var constructor = ClassDefiners.current()
+        .defineClass(className, definingClass, cw.toByteArray())
+        .getDeclaredConstructor(Object.class);
+      constructor.setAccessible(true);
+      // instantiate
+      return (ListenerInvoker) constructor.newInstance(instance);
+    } catch (Exception exception) {
+      throw new ClassCreationException(String.format(
+        "Cannot generate event listener invoker for method %s defined in class %s",
+        method.getName(),
+        method.getDeclaringClass().getCanonicalName()
+      ), exception);
+    }
+  }
+
+  /**
+   * Checks if the given type is accessible from any class. Array types are accessible if their component type is
+   * accessible, primitive types are always accessible.
+   *
+   * @param type the type to check.
+   * @return true if the given type is accessible from any class, false otherwise.
+   * @throws NullPointerException if the given type is null.
+   */
+  private static boolean isPublic(@NonNull Class<?> type) {
+    while (type.isArray()) {
+      type = type.getComponentType();
+    }
+
+    if (type.isPrimitive()) {
+      return true;
+    }
+
+    // check the type and all enclosing types
+    for (var current = type; current != null; current = current.getDeclaringClass()) {
+      if (!Modifier.isPublic(current.getModifiers())) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
+import eu.cloudnetservice.driver.network.protocol.BroadcastPacket;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import java.util.Collection;
 import lombok.NonNull;
@@ -60,6 +61,12 @@ default void closeChannels() {
    */
   @Override
   default void sendPacket(@NonNull Packet packet) {
+    // broadcast packets are able to share their content with all channels
+    if (packet instanceof BroadcastPacket broadcastPacket) {
+      broadcastPacket.sendTo(this.modifiableChannels(), false);
+      return;
+    }
+
     for (var channel : this.modifiableChannels()) {
       channel.sendPacket(packet);
     }
@@ -70,6 +77,12 @@ default void sendPacket(@NonNull Packet packet) {
    */
   @Override
   default void sendPacketSync(@NonNull Packet packet) {
+    // broadcast packets are able to share their content with all channels
+    if (packet instanceof BroadcastPacket broadcastPacket) {
+      broadcastPacket.sendTo(this.modifiableChannels(), true);
+      return;
+    }
+
     for (var channel : this.modifiableChannels()) {
       channel.sendPacketSync(packet);
     }
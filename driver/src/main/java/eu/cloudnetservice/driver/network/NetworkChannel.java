@@ -17,6 +17,7 @@
 package eu.cloudnetservice.driver.network;
 
 import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.network.def.PacketCompressionType;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListenerRegistry;
 import eu.cloudnetservice.driver.network.protocol.PacketSender;
@@ -107,6 +108,14 @@ public interface NetworkChannel extends PacketSender {
    */
   boolean writeable();
 
+  /**
+   * Get if the current thread is the thread which processes the i/o operations of this channel. Blocking that thread
+   * while waiting for an i/o operation of this channel to complete results in a deadlock.
+   *
+   * @return true if the current thread processes the i/o operations of this channel, false otherwise.
+   */
+  boolean inEventLoop();
+
   /**
    * Get if the underlying channel is still active and therefore connected.
    *
@@ -114,6 +123,18 @@ public interface NetworkChannel extends PacketSender {
    */
   boolean active();
 
+  /**
+   * Enables the compression of packets sent to this channel which are at least as big as the given threshold. Packets
+   * which were sent before are written without compression, the other side of the channel detects the change from the
+   * stream itself. Normally compression is negotiated during the authorization of a component and there is no need to
+   * call this method directly.
+   *
+   * @param compressionType the compression type to use, must be supported by the other side of the channel.
+   * @param threshold       the minimum size of a packet to compress, in bytes.
+   * @throws NullPointerException if the given compression type is null.
+   */
+  void enableCompression(@NonNull PacketCompressionType compressionType, int threshold);
+
   /**
    * Requests the close of the channel, flushing all outbound i/o requests before. After a channel was closed it cannot
    * be used again.
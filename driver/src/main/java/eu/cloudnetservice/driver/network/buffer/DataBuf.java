@@ -96,6 +96,16 @@ public interface DataBuf extends AutoCloseable {
    */
   int readInt();
 
+  /**
+   * Reads a variable length 32-bit integer from this buffer at the current reader index. Between one and five bytes are
+   * read from the buffer, smaller positive values need fewer bytes.
+   *
+   * @return the next variable length integer in the buffer at the current reader index.
+   * @throws IndexOutOfBoundsException if the buffer ends before the end of the integer.
+   * @throws IllegalStateException     if this buffer was released or the integer is longer than five bytes.
+   */
+  int readVarInt();
+
   /**
    * Reads a 16-bit short from this buffer at the current reader index. Exactly two bytes are read from the buffer.
    *
@@ -356,6 +366,15 @@ interface Mutable extends DataBuf {
      */
     @NonNull DataBuf.Mutable writeInt(int integer);
 
+    /**
+     * Writes the given integer as a variable length integer at the current writer index. Between one and five bytes are
+     * written, smaller positive values need fewer bytes.
+     *
+     * @param integer the integer to write into the buffer.
+     * @return the same buffer used to call the method, for chaining.
+     */
+    @NonNull DataBuf.Mutable writeVarInt(int integer);
+
     /**
      * Writes the given byte at the current writer index, increasing the index by one.
      *
@@ -487,5 +506,15 @@ interface Mutable extends DataBuf {
      * @return an immutable version of this buffer.
      */
     @NonNull DataBuf asImmutable();
+
+    /**
+     * Converts this buffer into a read-only version of it. Unlike {@link #asImmutable()} the underlying buffer is made
+     * read-only as well, which allows the factory to create copies of the returned buffer that share the same memory
+     * rather than copying it (see {@link DataBufFactory#copyOf(DataBuf)}). This buffer must no longer be used after
+     * calling this method, the ownership of the underlying buffer is transferred to the returned buffer.
+     *
+     * @return a read-only version of this buffer.
+     */
+    @NonNull DataBuf asReadOnly();
   }
 }
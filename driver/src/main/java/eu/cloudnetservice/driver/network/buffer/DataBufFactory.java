@@ -58,7 +58,8 @@ public interface DataBufFactory {
 
   /**
    * Creates a readonly copy of the given data buffer. The copied variant of the buffer will start the read process from
-   * the first byte rather than re-using the current index of the original buffer.
+   * the first byte rather than re-using the current index of the original buffer. If the given buffer is read-only (see
+   * {@link DataBuf.Mutable#asReadOnly()}) the factory is allowed to share the memory of the buffer with the copy.
    * <p>
    * A factory is only expected to be able to copy a buffer created by it. Cross factory copy might be possible but is
    * not a requirement. Use {@code factory.createOf(buffer.toByteArray)} if you want to be sure that the buffer can be
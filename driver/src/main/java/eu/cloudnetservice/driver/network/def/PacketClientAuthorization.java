@@ -39,6 +39,8 @@
  *   <li>The cluster id
  *   <li>The network cluster node (offline information) of the node.
  * </ol>
+ * <p>
+ * In both cases the packet is followed by the compression types supported by the connecting component.
  *
  * @since 4.0
  */
@@ -54,7 +56,7 @@ public final class PacketClientAuthorization extends BasePacket {
   public PacketClientAuthorization(@NonNull PacketAuthorizationType type, @NonNull DataBuf dataBuf) {
     super(
       NetworkConstants.INTERNAL_AUTHORIZATION_CHANNEL,
-      DataBuf.empty().writeObject(type).writeDataBuf(dataBuf));
+      PacketCompressionType.writeSupportedTypes(DataBuf.empty().writeObject(type).writeDataBuf(dataBuf)));
   }
 
   /**
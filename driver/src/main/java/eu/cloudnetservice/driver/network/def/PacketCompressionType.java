@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.def;
+
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The compression types which can be used to compress packets sent between two network components. Both components
+ * send the supported compression types during the authorization, the server then selects the type which is used for the
+ * connection. Packets smaller than the negotiated threshold are always sent uncompressed.
+ * <p>
+ * The compression threshold of a server can be set using the {@code cloudnet.network.compression-threshold} system
+ * property. A negative threshold (the default) disables compression for all connections made to the server.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public enum PacketCompressionType {
+
+  /**
+   * The lz4 compression which is optimized for compression and decompression speed rather than compression ratio.
+   */
+  LZ4((byte) 1);
+
+  private static final int COMPRESSION_THRESHOLD = Integer.getInteger("cloudnet.network.compression-threshold", -1);
+
+  private final byte id;
+
+  /**
+   * Constructs a new compression type.
+   *
+   * @param id the id of the type which is sent in front of each compressed packet.
+   */
+  PacketCompressionType(byte id) {
+    this.id = id;
+  }
+
+  /**
+   * Get the compression type which is associated with the given id.
+   *
+   * @param id the id of the compression type to get.
+   * @return the compression type associated with the given id, null if no type is associated with the id.
+   */
+  public static @Nullable PacketCompressionType byId(byte id) {
+    for (var type : values()) {
+      if (type.id == id) {
+        return type;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Writes all compression types which are supported by this component into the given buffer.
+   *
+   * @param dataBuf the buffer to write the supported compression types to.
+   * @return the same buffer as given, for chaining.
+   * @throws NullPointerException if the given buffer is null.
+   */
+  public static @NonNull DataBuf.Mutable writeSupportedTypes(@NonNull DataBuf.Mutable dataBuf) {
+    var types = values();
+    dataBuf.writeInt(types.length);
+    for (var type : types) {
+      dataBuf.writeByte(type.id);
+    }
+    return dataBuf;
+  }
+
+  /**
+   * Reads the compression types supported by the other component from the given buffer. Unknown compression types are
+   * ignored. If the buffer has no readable bytes left (for example because the other component does not support
+   * compression at all) an empty set is returned.
+   *
+   * @param dataBuf the buffer to read the supported compression types from.
+   * @return the compression types supported by both components.
+   * @throws NullPointerException if the given buffer is null.
+   */
+  public static @NonNull Set<PacketCompressionType> readSupportedTypes(@NonNull DataBuf dataBuf) {
+    Set<PacketCompressionType> types = EnumSet.noneOf(PacketCompressionType.class);
+    if (dataBuf.readableBytes() > 0) {
+      var count = dataBuf.readInt();
+      for (var i = 0; i < count; i++) {
+        var type = byId(dataBuf.readByte());
+        if (type != null) {
+          types.add(type);
+        }
+      }
+    }
+    return types;
+  }
+
+  /**
+   * Get the compression threshold configured for this component, in bytes. Packets which are smaller than the threshold
+   * are sent uncompressed. A negative threshold indicates that compression is disabled.
+   *
+   * @return the compression threshold configured for this component.
+   */
+  public static int compressionThreshold() {
+    return COMPRESSION_THRESHOLD;
+  }
+
+  /**
+   * Selects the compression type to use for a connection based on the compression types supported by the other
+   * component. This method returns null if compression is disabled for this component or none of the types supported
+   * by the other component is known to this component.
+   *
+   * @param supportedTypes the compression types supported by the other component.
+   * @return the compression type to use for the connection, null if the connection should not be compressed.
+   * @throws NullPointerException if the given type collection is null.
+   */
+  public static @Nullable PacketCompressionType negotiate(@NonNull Collection<PacketCompressionType> supportedTypes) {
+    if (COMPRESSION_THRESHOLD >= 0) {
+      for (var type : values()) {
+        if (supportedTypes.contains(type)) {
+          return type;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Get the id of this compression type which is sent in front of each packet compressed using this type.
+   *
+   * @return the id of this compression type.
+   */
+  public byte id() {
+    return this.id;
+  }
+}
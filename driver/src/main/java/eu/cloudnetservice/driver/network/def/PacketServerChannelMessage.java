@@ -19,6 +19,7 @@
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import eu.cloudnetservice.driver.network.protocol.BroadcastPacket;
 import lombok.NonNull;
 
 /**
@@ -38,9 +39,35 @@ public final class PacketServerChannelMessage extends BasePacket {
    * @throws NullPointerException if the given channel message is null.
    */
   public PacketServerChannelMessage(@NonNull ChannelMessage message, boolean wrapper) {
-    super(
+    super(NetworkConstants.CHANNEL_MESSAGING_CHANNEL, message.prioritized(), serialize(message, wrapper));
+  }
+
+  /**
+   * Constructs a new broadcast packet for the given channel message. The message is only serialized once, no matter to
+   * how many channels the returned packet gets sent.
+   *
+   * @param message the channel message (or content) which should be sent to the other components.
+   * @param wrapper if the channel was sent by a wrapper component.
+   * @return a new broadcast packet for the given channel message.
+   * @throws NullPointerException if the given channel message is null.
+   */
+  public static @NonNull BroadcastPacket broadcast(@NonNull ChannelMessage message, boolean wrapper) {
+    return new BroadcastPacket(
       NetworkConstants.CHANNEL_MESSAGING_CHANNEL,
       message.prioritized(),
-      DataBuf.empty().writeBoolean(wrapper).writeObject(message));
+      serialize(message, wrapper));
+  }
+
+  /**
+   * Serializes the given channel message into a new buffer. The content of the message is released after writing it,
+   * unless it was acquired before.
+   *
+   * @param message the channel message to serialize.
+   * @param wrapper if the channel was sent by a wrapper component.
+   * @return a new buffer containing the serialized channel message.
+   * @throws NullPointerException if the given channel message is null.
+   */
+  private static @NonNull DataBuf.Mutable serialize(@NonNull ChannelMessage message, boolean wrapper) {
+    return DataBuf.empty().writeBoolean(wrapper).writeObject(message);
   }
 }
@@ -22,6 +22,8 @@
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.NetworkChannelHandler;
+import eu.cloudnetservice.driver.network.def.PacketCompressionType;
+import eu.cloudnetservice.driver.network.netty.codec.NettyPacketCompressor;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListenerRegistry;
 import io.netty5.channel.Channel;
@@ -123,6 +125,14 @@ public boolean writeable() {
     return this.channel.isWritable();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean inEventLoop() {
+    return this.channel.executor().inEventLoop();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -131,6 +141,19 @@ public boolean active() {
     return this.channel.isActive();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void enableCompression(@NonNull PacketCompressionType compressionType, int threshold) {
+    var context = this.channel.pipeline().context(NettyPacketCompressor.class);
+    if (context != null) {
+      // enable the compression on the event loop, packets which were sent before are written without compression
+      var compressor = (NettyPacketCompressor) context.handler();
+      this.channel.executor().execute(() -> compressor.enable(context, compressionType, threshold));
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -149,11 +172,14 @@ public void close() {
    * @throws NullPointerException if the given packet is null.
    */
   private @Nullable Future<Void> writePacket(@NonNull Packet packet, boolean flushAfter) {
-    var event = this.eventManager.callEvent(new NetworkChannelPacketSendEvent(this, packet));
-    if (!event.cancelled()) {
-      return flushAfter ? this.channel.writeAndFlush(packet) : this.channel.write(packet);
-    } else {
-      return null;
+    // only construct and call the send event if someone is actually listening to it
+    if (this.eventManager.hasListeners(NetworkChannelPacketSendEvent.class)) {
+      var event = this.eventManager.callEvent(new NetworkChannelPacketSendEvent(this, packet));
+      if (event.cancelled()) {
+        return null;
+      }
     }
+
+    return flushAfter ? this.channel.writeAndFlush(packet) : this.channel.write(packet);
   }
 }
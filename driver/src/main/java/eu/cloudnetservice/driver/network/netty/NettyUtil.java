@@ -53,6 +53,8 @@ public final class NettyUtil {
   // transport
   private static final boolean NO_NATIVE_TRANSPORT = Boolean.getBoolean("cloudnet.no-native");
   private static final NettyTransport CURR_NETTY_TRANSPORT = NettyTransport.availableTransport(NO_NATIVE_TRANSPORT);
+  // codec
+  private static final boolean ZERO_COPY_CODEC = Boolean.getBoolean("cloudnet.network.zero-copy");
   // packet thread handling
   private static final RejectedExecutionHandler DEFAULT_REJECT_HANDLER = new ThreadPoolExecutor.CallerRunsPolicy();
 
@@ -240,6 +242,21 @@ public static int varIntBytes(int contentLength) {
     return environment.equals(DriverEnvironment.NODE) ? Math.max(8, Runtime.getRuntime().availableProcessors() * 2) : 4;
   }
 
+  /**
+   * Get if the zero-copy packet codec should be used for new network channels. In zero-copy mode the decoder hands out
+   * read-only slices of the inbound buffer as packet content, while the encoder only writes the packet header and
+   * passes the packet body through as part of a composite buffer. This mode can be enabled by setting the system
+   * property {@code cloudnet.network.zero-copy} to true.
+   * <p>
+   * Note that packet contents decoded in zero-copy mode share the memory of the inbound buffer, which means that the
+   * memory of an inbound buffer is only freed once all packets decoded from it were released.
+   *
+   * @return true if the zero-copy packet codec should be used, false otherwise.
+   */
+  public static boolean zeroCopyCodec() {
+    return ZERO_COPY_CODEC;
+  }
+
   /**
    * Get the selected netty transport which will be used for client/server channel and event loop group construction.
    *
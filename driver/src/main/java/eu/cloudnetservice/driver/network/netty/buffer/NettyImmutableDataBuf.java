@@ -78,6 +78,24 @@ public int readInt() {
     return this.hotRead(Buffer::readInt);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int readVarInt() {
+    return this.hotRead(buffer -> {
+      var value = 0;
+      for (var i = 0; i < 5; i++) {
+        var nextByte = buffer.readByte();
+        value |= (nextByte & 0x7F) << i * 7;
+        if ((nextByte & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new IllegalStateException("VarInt is longer than five bytes");
+    });
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -62,6 +62,15 @@ public NettyMutableDataBuf(@NonNull Buffer buffer) {
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull DataBuf.Mutable writeVarInt(int integer) {
+    NettyUtil.writeVarInt(this.buffer, integer);
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -197,4 +206,12 @@ public NettyMutableDataBuf(@NonNull Buffer buffer) {
   public @NonNull DataBuf asImmutable() {
     return new NettyImmutableDataBuf(this.buffer);
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull DataBuf asReadOnly() {
+    return new NettyImmutableDataBuf(this.buffer.makeReadOnly());
+  }
 }
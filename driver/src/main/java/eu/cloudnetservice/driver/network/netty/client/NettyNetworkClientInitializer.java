@@ -19,8 +19,13 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.netty.NettyOptionSettingChannelInitializer;
+import eu.cloudnetservice.driver.network.netty.NettyUtil;
+import eu.cloudnetservice.driver.network.netty.codec.NettyCompositePacketEncoder;
+import eu.cloudnetservice.driver.network.netty.codec.NettyPacketCompressor;
 import eu.cloudnetservice.driver.network.netty.codec.NettyPacketDecoder;
+import eu.cloudnetservice.driver.network.netty.codec.NettyPacketDecompressor;
 import eu.cloudnetservice.driver.network.netty.codec.NettyPacketEncoder;
+import eu.cloudnetservice.driver.network.netty.codec.VarInt32CompositeFramePrepender;
 import eu.cloudnetservice.driver.network.netty.codec.VarInt32FrameDecoder;
 import eu.cloudnetservice.driver.network.netty.codec.VarInt32FramePrepender;
 import io.netty5.channel.Channel;
@@ -67,11 +72,17 @@ protected void doInitChannel(@NonNull Channel channel) {
         this.hostAndPort.port()));
     }
 
+    // check if the zero-copy packet codec should be used for the channel
+    var zeroCopy = NettyUtil.zeroCopyCodec();
+
     channel.pipeline()
-      .addLast("packet-length-deserializer", new VarInt32FrameDecoder())
-      .addLast("packet-decoder", new NettyPacketDecoder())
-      .addLast("packet-length-serializer", VarInt32FramePrepender.INSTANCE)
-      .addLast("packet-encoder", NettyPacketEncoder.INSTANCE)
+      .addLast("packet-length-deserializer", new VarInt32FrameDecoder(zeroCopy))
+      .addLast("packet-decompressor", new NettyPacketDecompressor())
+      .addLast("packet-decoder", new NettyPacketDecoder(zeroCopy))
+      .addLast("packet-length-serializer",
+        zeroCopy ? VarInt32CompositeFramePrepender.INSTANCE : VarInt32FramePrepender.INSTANCE)
+      .addLast("packet-compressor", new NettyPacketCompressor())
+      .addLast("packet-encoder", zeroCopy ? NettyCompositePacketEncoder.INSTANCE : NettyPacketEncoder.INSTANCE)
       .addLast("network-client-handler",
         new NettyNetworkClientHandler(this.eventManager, this.nettyNetworkClient, this.hostAndPort));
   }
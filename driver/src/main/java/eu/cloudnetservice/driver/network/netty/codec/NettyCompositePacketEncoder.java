@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.codec;
+
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.netty.NettyUtil;
+import eu.cloudnetservice.driver.network.netty.buffer.NettyImmutableDataBuf;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.handler.codec.MessageToMessageEncoder;
+import java.util.List;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * A zero-copy variant of the packet encoder. Instead of copying the packet content into a freshly allocated buffer,
+ * this encoder only allocates a buffer for the packet header and passes the packet body through as the second component
+ * of a composite buffer.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class NettyCompositePacketEncoder extends MessageToMessageEncoder<Packet> {
+
+  public static final NettyCompositePacketEncoder INSTANCE = new NettyCompositePacketEncoder();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void encode(@NonNull ChannelHandlerContext ctx, @NonNull Packet msg, @NonNull List<Object> out) {
+    // we only support netty buf
+    var content = msg.content();
+    var contentBuffer = ((NettyImmutableDataBuf) content).buffer();
+    var length = contentBuffer.readableBytes();
+
+    // we allocate 2 booleans (prioritized and isQuery) + content length + channel in advance
+    var headerLength = 2 + NettyUtil.varIntBytes(msg.channel()) + NettyUtil.varIntBytes(length);
+    // if the given packet has a query unique id we need two longs for that unique id as well
+    var queryUniqueId = msg.uniqueId();
+    if (queryUniqueId != null) {
+      headerLength += 16;
+    }
+
+    // channel
+    var header = ctx.bufferAllocator().allocate(headerLength);
+    NettyUtil.writeVarInt(header, msg.channel());
+    // packet priority
+    header.writeBoolean(msg.prioritized());
+    // query id (if present)
+    header.writeBoolean(queryUniqueId != null);
+    if (queryUniqueId != null) {
+      header
+        .writeLong(queryUniqueId.getMostSignificantBits())
+        .writeLong(queryUniqueId.getLeastSignificantBits());
+    }
+    // body length
+    NettyUtil.writeVarInt(header, length);
+
+    // extract the body and release the content of the packet now, don't use the local field to respect if releasing was
+    // disabled in the original buffer.
+    var body = this.extractBody(content, contentBuffer, length);
+    content.release();
+
+    // the components of a composite buffer must either be all read-only or all writable
+    if (body.readOnly()) {
+      header.makeReadOnly();
+    }
+
+    out.add(ctx.bufferAllocator().compose(List.of(header.send(), body.send())));
+  }
+
+  /**
+   * Extracts the body of the given packet content without copying it if possible. Read-only content is shared with the
+   * returned buffer, content that is only owned by the packet is split from the content buffer. Content that is still
+   * acquired somewhere else and writable must be copied as it might get modified after the packet was written.
+   *
+   * @param content       the content of the packet to extract the body from.
+   * @param contentBuffer the netty buffer wrapped by the given content.
+   * @param length        the length of the body to extract.
+   * @return a buffer holding the packet body, owned by the caller.
+   * @throws NullPointerException if the given content or content buffer is null.
+   */
+  private @NonNull Buffer extractBody(@NonNull DataBuf content, @NonNull Buffer contentBuffer, int length) {
+    if (contentBuffer.readOnly()) {
+      // copying a read-only buffer into a read-only buffer shares the underlying memory
+      return contentBuffer.copy(contentBuffer.readerOffset(), length, true);
+    } else if (content.acquires() > 1) {
+      // the buffer is acquired by someone else who might still modify it
+      return contentBuffer.copy(contentBuffer.readerOffset(), length);
+    } else {
+      // we're the only owner of the buffer, just take the readable bytes
+      return contentBuffer.readSplit(length);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isSharable() {
+    return true;
+  }
+}
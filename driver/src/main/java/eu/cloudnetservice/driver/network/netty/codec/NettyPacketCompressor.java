@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.codec;
+
+import eu.cloudnetservice.driver.network.def.PacketCompressionType;
+import eu.cloudnetservice.driver.network.netty.NettyUtil;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.handler.codec.EncoderException;
+import io.netty5.handler.codec.MessageToMessageEncoder;
+import java.util.List;
+import lombok.NonNull;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * The encoder responsible to compress outbound packets once compression was enabled for a channel. Until compression is
+ * negotiated frames are passed through unchanged, keeping the wire format compatible with components which don't
+ * support compression. Enabling the compression writes an empty frame which signals the other side that all following
+ * frames are prefixed with the uncompressed length of the frame, or 0 if the frame is not compressed. Compressed frames
+ * are additionally prefixed with the id of the compression type that was used. Frames which are smaller than the
+ * compression threshold are passed through without being copied.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class NettyPacketCompressor extends MessageToMessageEncoder<Buffer> {
+
+  private static final LZ4Compressor LZ4_COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+
+  private volatile int threshold = -1;
+  private volatile PacketCompressionType compressionType;
+
+  /**
+   * Enables the compression of outbound frames which are at least as big as the given threshold. This method must be
+   * called on the event loop of the channel, frames which were written before are sent without a prefix. Calls after
+   * the compression was enabled are ignored.
+   *
+   * @param ctx             the context of this encoder in the pipeline of the channel.
+   * @param compressionType the compression type to use.
+   * @param threshold       the minimum size of a frame to compress, in bytes.
+   * @throws NullPointerException if the given context or compression type is null.
+   */
+  public void enable(@NonNull ChannelHandlerContext ctx, @NonNull PacketCompressionType compressionType, int threshold) {
+    if (this.compressionType == null) {
+      this.threshold = threshold;
+      this.compressionType = compressionType;
+      // the empty frame is passed to the frame prepender directly, signalling that all following frames are prefixed
+      ctx.writeAndFlush(ctx.bufferAllocator().allocate(0));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void encode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer msg, @NonNull List<Object> out) {
+    var length = msg.readableBytes();
+    var threshold = this.threshold;
+    var compressionType = this.compressionType;
+
+    // frames are sent unchanged until compression was negotiated with the other side
+    if (compressionType == null) {
+      out.add(msg.split());
+      return;
+    }
+
+    // check if the frame should be compressed
+    if (threshold < 0 || length < threshold) {
+      // an uncompressed length of 0 indicates that the frame is not compressed
+      var header = ctx.bufferAllocator().allocate(1).writeByte((byte) 0);
+      // the components of a composite buffer must either be all read-only or all writable
+      if (msg.readOnly()) {
+        header.makeReadOnly();
+      }
+
+      // split off the readable part of the given frame, the remaining (empty) part gets disposed by the encoder
+      out.add(ctx.bufferAllocator().compose(List.of(header.send(), msg.split().send())));
+      return;
+    }
+
+    // read the frame and compress it
+    var uncompressed = new byte[length];
+    msg.readBytes(uncompressed, 0, length);
+
+    byte[] compressed;
+    int compressedLength;
+    switch (compressionType) {
+      case LZ4 -> {
+        compressed = new byte[LZ4_COMPRESSOR.maxCompressedLength(length)];
+        compressedLength = LZ4_COMPRESSOR.compress(uncompressed, 0, length, compressed, 0, compressed.length);
+      }
+      default -> throw new EncoderException("Unsupported compression type " + compressionType);
+    }
+
+    // write the uncompressed length and compression type in front of the compressed data
+    var frame = ctx.bufferAllocator().allocate(NettyUtil.varIntBytes(length) + 1 + compressedLength);
+    NettyUtil.writeVarInt(frame, length)
+      .writeByte(compressionType.id())
+      .writeBytes(compressed, 0, compressedLength);
+    out.add(frame);
+  }
+}
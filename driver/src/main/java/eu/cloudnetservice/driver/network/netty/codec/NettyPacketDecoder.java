@@ -47,6 +47,24 @@ public final class NettyPacketDecoder extends ByteToMessageDecoder {
 
   private static final Logger LOGGER = LogManager.logger(NettyPacketDecoder.class);
 
+  private final boolean zeroCopy;
+
+  /**
+   * Constructs a new packet decoder instance which copies the body of each packet into a new buffer.
+   */
+  public NettyPacketDecoder() {
+    this(false);
+  }
+
+  /**
+   * Constructs a new packet decoder instance.
+   *
+   * @param zeroCopy true if packet bodies should be read-only slices of the inbound buffer rather than copies.
+   */
+  public NettyPacketDecoder(boolean zeroCopy) {
+    this.zeroCopy = zeroCopy;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -66,8 +84,7 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer in) {
 
       // extract the body
       var bodyLength = NettyUtil.readVarInt(in);
-      var body = new NettyImmutableDataBuf(in.copy(in.readerOffset(), bodyLength, true));
-      in.skipReadableBytes(bodyLength);
+      var body = new NettyImmutableDataBuf(this.extractBody(in, bodyLength));
 
       // construct the packet
       var packet = new BasePacket(channel, prioritized, body);
@@ -79,4 +96,24 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer in) {
       LOGGER.severe("Exception while decoding packet", exception);
     }
   }
+
+  /**
+   * Extracts the body of a packet from the given inbound buffer and moves the reader offset of the inbound buffer past
+   * the body. In zero-copy mode the returned buffer is a read-only split of the inbound buffer which shares its memory,
+   * the memory gets freed once both the inbound buffer and the split are closed.
+   *
+   * @param in         the inbound buffer to extract the body from.
+   * @param bodyLength the length of the body to extract.
+   * @return a buffer containing the packet body.
+   * @throws NullPointerException if the given inbound buffer is null.
+   */
+  private @NonNull Buffer extractBody(@NonNull Buffer in, int bodyLength) {
+    if (this.zeroCopy) {
+      return in.readSplit(bodyLength).makeReadOnly();
+    } else {
+      var body = in.copy(in.readerOffset(), bodyLength, true);
+      in.skipReadableBytes(bodyLength);
+      return body;
+    }
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.codec;
+
+import eu.cloudnetservice.driver.network.def.PacketCompressionType;
+import eu.cloudnetservice.driver.network.netty.NettyUtil;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.handler.codec.ByteToMessageDecoder;
+import io.netty5.handler.codec.DecoderException;
+import lombok.NonNull;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * The decoder responsible to decompress inbound frames which were written by a {@link NettyPacketCompressor}. Frames
+ * are passed through unchanged until the compressor of the other side signals that all following frames are prefixed
+ * by sending an empty frame. Frames which were not compressed by the sender are passed through without being copied.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class NettyPacketDecompressor extends ByteToMessageDecoder {
+
+  // the maximum size of a decompressed frame, to prevent allocating huge buffers due to malformed frames
+  private static final int MAX_UNCOMPRESSED_LENGTH = 1 << 28;
+  private static final LZ4SafeDecompressor LZ4_DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+
+  // only accessed on the event loop of the channel
+  private boolean prefixedFrames;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void channelRead(@NonNull ChannelHandlerContext ctx, @NonNull Object msg) throws Exception {
+    // an empty frame signals that the other side enabled the compression, all following frames are prefixed
+    if (msg instanceof Buffer buffer && buffer.readableBytes() == 0) {
+      buffer.close();
+      this.prefixedFrames = true;
+      return;
+    }
+
+    super.channelRead(ctx, msg);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer in) {
+    // validates that the channel associated to this decoder call is still active and actually transferred data before
+    // beginning to read.
+    if (!ctx.channel().isActive() || in.readableBytes() <= 0) {
+      return;
+    }
+
+    // frames are not prefixed until the other side enabled the compression
+    if (!this.prefixedFrames) {
+      ctx.fireChannelRead(in.readSplit(in.readableBytes()));
+      return;
+    }
+
+    // an uncompressed length of 0 indicates that the frame is not compressed
+    var uncompressedLength = NettyUtil.readVarInt(in);
+    if (uncompressedLength == 0) {
+      ctx.fireChannelRead(in.readSplit(in.readableBytes()));
+      return;
+    }
+
+    // validate the uncompressed length and the compression type
+    if (uncompressedLength < 0 || uncompressedLength > MAX_UNCOMPRESSED_LENGTH) {
+      throw new DecoderException("Invalid uncompressed frame length " + uncompressedLength);
+    }
+    var compressionType = PacketCompressionType.byId(in.readByte());
+    if (compressionType == null) {
+      throw new DecoderException("Unknown compression type of inbound frame");
+    }
+
+    // read and decompress the frame
+    var compressed = new byte[in.readableBytes()];
+    in.readBytes(compressed, 0, compressed.length);
+
+    var uncompressed = new byte[uncompressedLength];
+    var decompressedLength = switch (compressionType) {
+      case LZ4 -> LZ4_DECOMPRESSOR.decompress(compressed, 0, compressed.length, uncompressed, 0, uncompressedLength);
+    };
+
+    // validate that the frame was decompressed to the announced length
+    if (decompressedLength != uncompressedLength) {
+      throw new DecoderException(String.format(
+        "Decompressed frame length %d does not match the announced length %d",
+        decompressedLength,
+        uncompressedLength));
+    }
+
+    ctx.fireChannelRead(ctx.bufferAllocator().copyOf(uncompressed));
+  }
+}
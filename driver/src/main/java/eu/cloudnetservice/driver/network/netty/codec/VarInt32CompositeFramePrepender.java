@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.codec;
+
+import eu.cloudnetservice.driver.network.netty.NettyUtil;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.handler.codec.MessageToMessageEncoder;
+import java.util.List;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * A zero-copy variant of the var int frame prepender. Instead of copying the frame into a new buffer, this prepender
+ * allocates a buffer only for the frame length and composes it with the given frame.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class VarInt32CompositeFramePrepender extends MessageToMessageEncoder<Buffer> {
+
+  public static final VarInt32CompositeFramePrepender INSTANCE = new VarInt32CompositeFramePrepender();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void encode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer msg, @NonNull List<Object> out) {
+    var frameLength = msg.readableBytes();
+    var lengthBuffer = ctx.bufferAllocator().allocate(NettyUtil.varIntBytes(frameLength));
+    NettyUtil.writeVarInt(lengthBuffer, frameLength);
+
+    // the components of a composite buffer must either be all read-only or all writable
+    if (msg.readOnly()) {
+      lengthBuffer.makeReadOnly();
+    }
+
+    // split off the readable part of the given frame, the remaining (empty) part gets disposed by the encoder
+    out.add(ctx.bufferAllocator().compose(List.of(lengthBuffer.send(), msg.split().send())));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isSharable() {
+    return true;
+  }
+}
@@ -26,6 +26,24 @@
 @ApiStatus.Internal
 public final class VarInt32FrameDecoder extends ByteToMessageDecoder {
 
+  private final boolean zeroCopy;
+
+  /**
+   * Constructs a new frame decoder instance which copies each frame into a new buffer.
+   */
+  public VarInt32FrameDecoder() {
+    this(false);
+  }
+
+  /**
+   * Constructs a new frame decoder instance.
+   *
+   * @param zeroCopy true if frames should be split from the inbound buffer rather than being copied.
+   */
+  public VarInt32FrameDecoder(boolean zeroCopy) {
+    this.zeroCopy = zeroCopy;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -45,8 +63,14 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer in) {
       return;
     }
 
-    // skip empty packets silently
-    if (length <= 0) {
+    // empty frames are used by the compression to signal that all following frames are prefixed
+    if (length == 0) {
+      ctx.fireChannelRead(ctx.bufferAllocator().allocate(0));
+      return;
+    }
+
+    // skip invalid packets silently
+    if (length < 0) {
       // check if there are bytes to skip
       if (in.readableBytes() > 0) {
         in.skipReadableBytes(in.readableBytes());
@@ -56,9 +80,14 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer in) {
 
     // check if the packet data supplied in the buffer is actually at least the transmitted size
     if (in.readableBytes() >= length) {
-      // fire the channel read
-      ctx.fireChannelRead(in.copy(in.readerOffset(), length, true));
-      in.skipReadableBytes(length);
+      if (this.zeroCopy) {
+        // split the frame from the inbound buffer, the split buffer shares the memory with the inbound buffer
+        ctx.fireChannelRead(in.readSplit(length));
+      } else {
+        // fire the channel read
+        ctx.fireChannelRead(in.copy(in.readerOffset(), length, true));
+        in.skipReadableBytes(length);
+      }
     } else {
       // reset the reader index, there is still data missing
       in.readerOffset(readerIndex);
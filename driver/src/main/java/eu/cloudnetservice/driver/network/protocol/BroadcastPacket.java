@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.protocol;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import lombok.NonNull;
+
+/**
+ * A packet which is meant to be sent to multiple network channels while only encoding its content once. The content of
+ * the packet is converted into a read-only buffer, each channel the packet gets sent to receives a duplicate of the
+ * packet which shares the memory of the content rather than copying it. The memory of the content is freed once this
+ * packet and all duplicates of it were released (which happens automatically when a duplicate was written to a
+ * channel).
+ * <p>
+ * The content of this packet must not be read from directly, if needed a duplicate of this packet should be obtained
+ * and read from instead.
+ *
+ * @since 4.0
+ */
+public class BroadcastPacket extends BasePacket {
+
+  /**
+   * Constructs a new broadcast packet instance.
+   *
+   * @param channel     the channel to which the packet should be sent.
+   * @param prioritized if the packet should be prioritized.
+   * @param content     the content of the packet, must not be used anymore after passing it to this constructor.
+   * @throws NullPointerException if the given content is null.
+   */
+  public BroadcastPacket(int channel, boolean prioritized, @NonNull DataBuf.Mutable content) {
+    super(channel, prioritized, content.asReadOnly());
+  }
+
+  /**
+   * Creates a duplicate of this packet which can be written to a single network channel. The content of the duplicate
+   * shares the memory with the content of this packet and is released independently of it.
+   *
+   * @return a new duplicate of this packet.
+   * @throws IllegalStateException if this packet was already released.
+   */
+  public @NonNull Packet duplicate() {
+    return new BasePacket(this.channel, this.prioritized, DataBufFactory.defaultFactory().copyOf(this.dataBuf));
+  }
+
+  /**
+   * Sends a duplicate of this packet to each of the given channels and releases this packet afterwards. This packet
+   * cannot be used anymore after this method was called.
+   *
+   * @param channels the channels to send the packet to.
+   * @param sync     true if the current thread should wait for each write operation to complete, false otherwise.
+   * @throws NullPointerException  if the given channel iterable is null.
+   * @throws IllegalStateException if this packet was already released.
+   */
+  public void sendTo(@NonNull Iterable<? extends NetworkChannel> channels, boolean sync) {
+    try {
+      for (var channel : channels) {
+        if (sync) {
+          channel.sendPacketSync(this.duplicate());
+        } else {
+          channel.sendPacket(this.duplicate());
+        }
+      }
+    } finally {
+      this.release();
+    }
+  }
+
+  /**
+   * Releases the content of this packet. Duplicates of this packet which were already created are not affected by this
+   * call and remain readable until they are released themselves.
+   */
+  public void release() {
+    this.dataBuf.release();
+  }
+}
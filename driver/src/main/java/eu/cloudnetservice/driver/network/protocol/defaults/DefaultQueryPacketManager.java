@@ -143,9 +143,10 @@ public boolean unregisterWaitingHandler(@NonNull UUID queryUniqueId) {
     // create & register the result handler
     var task = new Task<Packet>();
     this.waitingHandlers.put(queryUniqueId, task);
-    // set the unique id of the packet and send
+    // set the unique id of the packet and send, there is no need to wait for the write to complete as the task
+    // gets completed either by the response or when the query times out
     packet.uniqueId(queryUniqueId);
-    this.networkChannel.sendPacketSync(packet);
+    this.networkChannel.sendPacket(packet);
     // return the created handler
     return task;
   }
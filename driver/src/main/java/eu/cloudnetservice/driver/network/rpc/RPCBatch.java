@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc;
+
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.rpc.exception.RPCException;
+import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
+import java.util.List;
+import lombok.NonNull;
+import org.jetbrains.annotations.Blocking;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NonBlocking;
+import org.jetbrains.annotations.UnmodifiableView;
+
+/**
+ * Represents a batch of independent rpcs and rpc chains which are sent in one packet to the target component and are
+ * answered in one response. Batching many small rpcs (for example when loading the initial state of a component)
+ * removes the overhead of sending and flushing one packet per rpc.
+ * <p>
+ * The entries of a batch are executed in the order they were added to the batch, unless parallel execution was
+ * enabled. In that case there is no guarantee in which order the entries get executed.
+ *
+ * @since 4.0
+ */
+public interface RPCBatch {
+
+  /**
+   * Adds the given rpc to this batch. The result of the rpc will be at the same index in the result list as the rpc is
+   * in the list of batch entries.
+   *
+   * @param rpc the rpc to add to this batch.
+   * @return the same batch instance as used to call the method, for chaining.
+   * @throws NullPointerException     if the given rpc is null.
+   * @throws IllegalArgumentException if the given rpc cannot be sent in a batch.
+   */
+  @Contract("_ -> this")
+  @NonNull RPCBatch add(@NonNull RPC rpc);
+
+  /**
+   * Adds the given rpc chain to this batch. The result of the chain will be at the same index in the result list as the
+   * chain is in the list of batch entries.
+   *
+   * @param chain the rpc chain to add to this batch.
+   * @return the same batch instance as used to call the method, for chaining.
+   * @throws NullPointerException     if the given rpc chain is null.
+   * @throws IllegalArgumentException if the given rpc chain cannot be sent in a batch.
+   */
+  @Contract("_ -> this")
+  @NonNull RPCBatch add(@NonNull RPCChain chain);
+
+  /**
+   * Sets if the entries of this batch can be executed in parallel by the receiving component.
+   *
+   * @param parallel true if the entries can be executed in parallel, false otherwise.
+   * @return the same batch instance as used to call the method, for chaining.
+   */
+  @Contract("_ -> this")
+  @NonNull RPCBatch parallel(boolean parallel);
+
+  /**
+   * Get if the entries of this batch can be executed in parallel by the receiving component.
+   *
+   * @return true if the entries can be executed in parallel, false otherwise.
+   */
+  boolean parallel();
+
+  /**
+   * Get all entries of this batch in the order they were added.
+   *
+   * @return all entries of this batch.
+   */
+  @NonNull
+  @UnmodifiableView List<RPCExecutable> entries();
+
+  /**
+   * Fires this batch into the first channel of the network component associated with the first entry of the batch and
+   * doesn't wait for the results. This method will not suspend the current thread.
+   *
+   * @throws NullPointerException  if the associated network component has no channels available.
+   * @throws IllegalStateException if this batch has no entries.
+   */
+  @NonBlocking
+  void fireAndForget();
+
+  /**
+   * Fires this batch into the first channel of the network component associated with the first entry of the batch and
+   * waits for the results to become available, or times out after 30 seconds. This method will suspend the calling
+   * thread.
+   *
+   * @return the results of all batch entries, in the order of the batch entries.
+   * @throws NullPointerException  if the associated network component has no channels available.
+   * @throws IllegalStateException if this batch has no entries.
+   * @throws RPCExecutionException if any exception occurred on the remote component during the rpc processing.
+   * @throws RPCException          if any other exception occurs during the rpc processing.
+   */
+  @Blocking
+  @NonNull List<Object> fireSync();
+
+  /**
+   * Fires this batch into the first channel of the network component associated with the first entry of the batch and
+   * returns a future which will be completed with the results of all entries when available. The future is completed
+   * exceptionally if the execution of any entry failed or when the query packet future times out.
+   *
+   * @return a task completed with the results of all batch entries, in the order of the batch entries.
+   * @throws NullPointerException  if the associated network component has no channels available.
+   * @throws IllegalStateException if this batch has no entries.
+   */
+  @NonNull Task<List<Object>> fire();
+
+  /**
+   * Fires this batch into the given network channel and doesn't wait for the results. This method will not suspend the
+   * current thread.
+   *
+   * @param component the network channel to which the batch should be sent.
+   * @throws NullPointerException if the given network channel is null.
+   */
+  @NonBlocking
+  void fireAndForget(@NonNull NetworkChannel component);
+
+  /**
+   * Fires this batch into the given network channel and waits for the results to become available, or times out after
+   * 30 seconds. This method will suspend the calling thread.
+   *
+   * @param component the network channel to which the batch should be sent.
+   * @return the results of all batch entries, in the order of the batch entries.
+   * @throws NullPointerException  if the given network channel is null.
+   * @throws RPCExecutionException if any exception occurred on the remote component during the rpc processing.
+   * @throws RPCException          if any other exception occurs during the rpc processing.
+   */
+  @Blocking
+  @NonNull List<Object> fireSync(@NonNull NetworkChannel component);
+
+  /**
+   * Fires this batch into the given network channel and returns a future which will be completed with the results of
+   * all entries when available. The future is completed exceptionally if the execution of any entry failed or when the
+   * query packet future times out.
+   *
+   * @param component the network channel to which the batch should be sent.
+   * @return a task completed with the results of all batch entries, in the order of the batch entries.
+   * @throws NullPointerException if the given network channel is null.
+   */
+  @NonNull Task<List<Object>> fire(@NonNull NetworkChannel component);
+}
@@ -186,4 +186,12 @@ public interface RPCFactory {
     @Nullable Object binding,
     @NonNull ObjectMapper objectMapper,
     @NonNull DataBufFactory dataBufFactory);
+
+  /**
+   * Constructs a new, empty rpc batch. A batch sends multiple independent rpcs and rpc chains in a single packet and
+   * receives the results of all of them in a single response.
+   *
+   * @return a new, empty rpc batch.
+   */
+  @NonNull RPCBatch newBatch();
 }
@@ -17,6 +17,7 @@
 package eu.cloudnetservice.driver.network.rpc;
 
 import eu.cloudnetservice.driver.network.rpc.defaults.MethodInformation;
+import eu.cloudnetservice.driver.network.rpc.exception.CannotDecideException;
 import lombok.NonNull;
 import org.jetbrains.annotations.UnknownNullability;
 
@@ -52,6 +53,29 @@ public interface RPCHandler extends RPCProvider {
    */
   @NonNull HandlingResult handle(@NonNull RPCInvocationContext context);
 
+  /**
+   * Handles the given rpc context like {@link #handle(RPCInvocationContext)}, but uses the given information of the
+   * target method rather than looking it up. The given information must be the information resolved by this handler for
+   * a context which targets the same method with the same working instance.
+   *
+   * @param context     the context of the handler invocation.
+   * @param information the information of the target method of the invocation.
+   * @return the result of the handler execution.
+   * @throws NullPointerException if the given context or method information is null.
+   */
+  @NonNull HandlingResult handle(@NonNull RPCInvocationContext context, @NonNull MethodInformation information);
+
+  /**
+   * Resolves the information of the method targeted by the given context. The arguments of the invocation are not read
+   * from the context.
+   *
+   * @param context the context of the handler invocation.
+   * @return the information of the target method of the invocation.
+   * @throws NullPointerException  if the given context is null.
+   * @throws CannotDecideException if none or multiple methods are matching the method to call.
+   */
+  @NonNull MethodInformation methodInformation(@NonNull RPCInvocationContext context);
+
   /**
    * Represents the result of a method invocation with rpc.
    *
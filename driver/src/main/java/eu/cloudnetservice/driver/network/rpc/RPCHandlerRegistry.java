@@ -77,6 +77,15 @@ public interface RPCHandlerRegistry {
    */
   @Nullable RPCHandler handler(@NonNull String targetClassName);
 
+  /**
+   * Get the amount of modifications made to this registry. The count is incremented each time a handler is registered
+   * or unregistered, allowing callers to cache the handlers which they resolved from this registry until the count
+   * changes.
+   *
+   * @return the amount of modifications made to this registry.
+   */
+  long modificationCount();
+
   /**
    * Registers the given handler to this registry, replacing the handler which was registered previously for the target
    * class of the handler.
@@ -16,7 +16,9 @@
 
 package eu.cloudnetservice.driver.network.rpc.defaults;
 
+import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.rpc.RPCProvider;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
 import lombok.NonNull;
@@ -28,6 +30,8 @@
  */
 public abstract class DefaultRPCProvider implements RPCProvider {
 
+  private static final boolean WAIT_FOR_WRITABILITY = Boolean.getBoolean("cloudnet.rpc.wait-for-writability");
+
   protected final Class<?> targetClass;
   protected final ObjectMapper objectMapper;
   protected final DataBufFactory dataBufFactory;
@@ -73,4 +77,23 @@ protected DefaultRPCProvider(
   public @NonNull DataBufFactory dataBufFactory() {
     return this.dataBufFactory;
   }
+
+  /**
+   * Sends the given rpc request packet into the given channel without waiting for the packet to be written. If waiting
+   * for writability is enabled (using the {@code cloudnet.rpc.wait-for-writability} system property) and the channel is
+   * currently not writable, the packet is written synchronously instead to apply backpressure to the caller. Calls from
+   * the event loop of the channel always send the packet asynchronously, as waiting for the write would block the
+   * thread which has to perform it.
+   *
+   * @param channel the channel to send the packet to.
+   * @param packet  the rpc request packet to send.
+   * @throws NullPointerException if the given channel or packet is null.
+   */
+  protected void sendRequestPacket(@NonNull NetworkChannel channel, @NonNull Packet packet) {
+    if (WAIT_FOR_WRITABILITY && !channel.writeable() && !channel.inEventLoop()) {
+      channel.sendPacketSync(packet);
+    } else {
+      channel.sendPacket(packet);
+    }
+  }
 }
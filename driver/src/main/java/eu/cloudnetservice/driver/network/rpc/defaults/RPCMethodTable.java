@@ -0,0 +1,371 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.rpc.RPCHandler;
+import eu.cloudnetservice.driver.network.rpc.RPCHandlerRegistry;
+import eu.cloudnetservice.driver.network.rpc.RPCInvocationContext;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A per-channel table which maps the class and method name of rpc targets to numeric ids, removing the need to send
+ * both names with every rpc request. Ids are assigned lazily by the sending side of a channel: the first requests to a
+ * method carry the names together with the id which should be associated with them. Once a response to such a request
+ * was received, the sender knows that the other side registered the id and sends only the id from then on.
+ * <p>
+ * A method reference is encoded as a single var int, followed by the class and method name if needed:
+ * <ul>
+ *   <li>{@code 0} indicates that the names follow without an associated id.
+ *   <li>An odd value references the method with the id {@code (value - 1) / 2} which is known to the receiver.
+ *   <li>Any other even value defines the id {@code (value - 2) / 2} for the names which follow.
+ * </ul>
+ * <p>
+ * The receiving side keeps the methods in an array indexed by their id. Each entry caches the handler which is
+ * responsible for the method and the information about the target method, removing the need to look up both for every
+ * request.
+ * <p>
+ * Requests which are sent into an inactive channel don't use ids, see {@link #forRequests(NetworkChannel)}.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class RPCMethodTable {
+
+  private static final int MAX_METHOD_IDS = 4096;
+  private static final int NO_METHOD_ID = 0;
+
+  private static final Cache<NetworkChannel, RPCMethodTable> METHOD_TABLES = Caffeine.newBuilder()
+    .weakKeys()
+    .build();
+  // a table which never assigns ids, all references are sent with their names
+  private static final RPCMethodTable UNBOUND_TABLE = new RPCMethodTable(MAX_METHOD_IDS);
+
+  // outbound
+  private final AtomicInteger nextOutboundId;
+  private final Map<MethodReference, OutboundMethod> outboundMethods = new ConcurrentHashMap<>();
+
+  // inbound
+  private volatile InboundMethod[] inboundMethods = new InboundMethod[16];
+
+  /**
+   * Constructs a new method table.
+   *
+   * @param firstOutboundId the first id to assign to outbound methods, no ids are assigned if it reaches the id limit.
+   */
+  private RPCMethodTable(int firstOutboundId) {
+    this.nextOutboundId = new AtomicInteger(firstOutboundId);
+  }
+
+  /**
+   * Get the method table which is associated with the given channel, creating a new one if needed.
+   *
+   * @param channel the channel to get the method table of.
+   * @return the method table associated with the given channel.
+   * @throws NullPointerException if the given channel is null.
+   */
+  public static @NonNull RPCMethodTable forChannel(@NonNull NetworkChannel channel) {
+    return METHOD_TABLES.get(channel, $ -> new RPCMethodTable(0));
+  }
+
+  /**
+   * Get the method table to use when writing requests which are sent to the given channel. Packets sent into a channel
+   * which is not active might be delivered through another connection (for example when they are queued until a node
+   * reconnects), which does not know the ids assigned in the table of the given channel. For such channels a table is
+   * returned which writes the names of all methods and never assigns ids.
+   *
+   * @param channel the channel to which the requests are sent.
+   * @return the method table to use when writing requests for the given channel.
+   * @throws NullPointerException if the given channel is null.
+   */
+  public static @NonNull RPCMethodTable forRequests(@NonNull NetworkChannel channel) {
+    return channel.active() ? forChannel(channel) : UNBOUND_TABLE;
+  }
+
+  /**
+   * Writes a reference to the given target method into the given buffer, assigning an id to the method if it has none
+   * yet and the id limit of this table is not reached.
+   *
+   * @param dataBuf    the buffer to write the method reference to.
+   * @param className  the name of the class in which the target method is located.
+   * @param methodName the name of the target method.
+   * @throws NullPointerException if the given buffer, class name or method name is null.
+   */
+  public void writeMethodReference(
+    @NonNull DataBuf.Mutable dataBuf,
+    @NonNull String className,
+    @NonNull String methodName
+  ) {
+    var reference = new MethodReference(className, methodName);
+    var method = this.outboundMethods.computeIfAbsent(reference, $ -> {
+      var id = this.nextOutboundId.getAndUpdate(current -> current < MAX_METHOD_IDS ? current + 1 : current);
+      return id < MAX_METHOD_IDS ? new OutboundMethod(id) : null;
+    });
+
+    if (method == null) {
+      // id limit reached, send the names without an id
+      dataBuf.writeVarInt(NO_METHOD_ID).writeString(className).writeString(methodName);
+    } else if (method.confirmed) {
+      // the other side knows the id of the method
+      dataBuf.writeVarInt((method.id << 1) + 1);
+    } else {
+      // the other side might not know the id yet, define it
+      dataBuf.writeVarInt((method.id << 1) + 2).writeString(className).writeString(methodName);
+    }
+  }
+
+  /**
+   * Marks the id of the given method as known to the other side of the channel. This method must only be called after
+   * a response to a request was received which contained a reference to the given method.
+   *
+   * @param className  the name of the class in which the target method is located.
+   * @param methodName the name of the target method.
+   * @throws NullPointerException if the given class or method name is null.
+   */
+  public void confirmMethodReference(@NonNull String className, @NonNull String methodName) {
+    var method = this.outboundMethods.get(new MethodReference(className, methodName));
+    if (method != null) {
+      method.confirmed = true;
+    }
+  }
+
+  /**
+   * Reads a method reference written by {@link #writeMethodReference(DataBuf.Mutable, String, String)} from the given
+   * buffer, registering the id of the method if the reference defines one.
+   *
+   * @param dataBuf the buffer to read the method reference from.
+   * @return the method referenced in the given buffer.
+   * @throws NullPointerException  if the given buffer is null.
+   * @throws IllegalStateException if the buffer references an unknown or invalid method id.
+   */
+  public @NonNull MethodReference readMethodReference(@NonNull DataBuf dataBuf) {
+    return this.readInboundMethod(dataBuf).reference();
+  }
+
+  /**
+   * Reads a method reference written by {@link #writeMethodReference(DataBuf.Mutable, String, String)} from the given
+   * buffer and returns the entry of the method in this table, registering the id of the method if the reference defines
+   * one. Methods which are referenced without an id are not cached and a new entry is returned for each of them.
+   *
+   * @param dataBuf the buffer to read the method reference from.
+   * @return the entry of the method referenced in the given buffer.
+   * @throws NullPointerException  if the given buffer is null.
+   * @throws IllegalStateException if the buffer references an unknown or invalid method id.
+   */
+  public @NonNull InboundMethod readInboundMethod(@NonNull DataBuf dataBuf) {
+    var value = dataBuf.readVarInt();
+    if (value < 0) {
+      throw new IllegalStateException("Invalid rpc method id " + value);
+    }
+
+    if ((value & 1) == 1) {
+      // reference to a known method
+      var id = value >>> 1;
+      var methods = this.inboundMethods;
+      var method = id < methods.length ? methods[id] : null;
+      if (method == null) {
+        throw new IllegalStateException("Unknown rpc method id " + id);
+      }
+      return method;
+    }
+
+    var method = new InboundMethod(new MethodReference(dataBuf.readString(), dataBuf.readString()));
+    if (value != NO_METHOD_ID) {
+      return this.defineInboundMethod((value >>> 1) - 1, method);
+    }
+    return method;
+  }
+
+  /**
+   * Registers the given method for the given id sent by the other side of the channel.
+   *
+   * @param id     the id of the method.
+   * @param method the method to associate with the id.
+   * @return the entry registered for the given id.
+   * @throws NullPointerException  if the given method is null.
+   * @throws IllegalStateException if the given id exceeds the id limit.
+   */
+  private synchronized @NonNull InboundMethod defineInboundMethod(int id, @NonNull InboundMethod method) {
+    if (id >= MAX_METHOD_IDS) {
+      throw new IllegalStateException("Invalid rpc method id " + id);
+    }
+
+    var methods = this.inboundMethods;
+    var current = id < methods.length ? methods[id] : null;
+    if (current != null && current.reference().equals(method.reference())) {
+      // the definition is re-sent until the sender received a response, keep the resolved target
+      return current;
+    }
+
+    if (id >= methods.length) {
+      methods = Arrays.copyOf(methods, Math.min(MAX_METHOD_IDS, Math.max(id + 1, methods.length << 1)));
+    }
+
+    // re-assign the array to publish the new method
+    methods[id] = method;
+    this.inboundMethods = methods;
+    return method;
+  }
+
+  /**
+   * A reference to a rpc target method.
+   *
+   * @param className  the name of the class in which the method is located.
+   * @param methodName the name of the method.
+   * @since 4.0
+   */
+  public record MethodReference(@NonNull String className, @NonNull String methodName) {
+
+  }
+
+  /**
+   * An inbound method of a method table. The method caches the handler which is responsible for it, which is resolved
+   * again once the handler registry was modified. If the method is called on the binding instance of the handler, the
+   * information about the target method is cached as well.
+   *
+   * @since 4.0
+   */
+  public static final class InboundMethod {
+
+    private final MethodReference reference;
+    private volatile ResolvedTarget target;
+
+    /**
+     * Constructs a new inbound method.
+     *
+     * @param reference the reference to the target method.
+     * @throws NullPointerException if the given reference is null.
+     */
+    private InboundMethod(@NonNull MethodReference reference) {
+      this.reference = reference;
+    }
+
+    /**
+     * Get the reference to the target method.
+     *
+     * @return the reference to the target method.
+     */
+    public @NonNull MethodReference reference() {
+      return this.reference;
+    }
+
+    /**
+     * Get the handler which is responsible for the class of this method from the given registry. The handler is cached
+     * until the registry is modified.
+     *
+     * @param registry the registry to get the handler from.
+     * @return the handler responsible for the class of this method, null if no handler is registered for the class.
+     * @throws NullPointerException if the given registry is null.
+     */
+    public @Nullable RPCHandler handler(@NonNull RPCHandlerRegistry registry) {
+      var target = this.target;
+      var modificationCount = registry.modificationCount();
+      if (target != null && target.registry() == registry && target.modificationCount() == modificationCount) {
+        return target.handler();
+      }
+
+      // the count is read before the lookup, a concurrent modification results in another lookup on the next call
+      var handler = registry.handler(this.reference.className());
+      this.target = new ResolvedTarget(registry, modificationCount, handler, -1, null);
+      return handler;
+    }
+
+    /**
+     * Posts the given context into the given handler, using the cached information about the target method if the
+     * method is called on the binding instance of the handler.
+     *
+     * @param handler the handler to post the invocation to, obtained from {@link #handler(RPCHandlerRegistry)}.
+     * @param context the context of the method invocation.
+     * @return the result of the method invocation.
+     * @throws NullPointerException if the given handler or context is null.
+     */
+    public @NonNull RPCHandler.HandlingResult handle(
+      @NonNull RPCHandler handler,
+      @NonNull RPCInvocationContext context
+    ) {
+      var target = this.target;
+      if (target == null
+        || target.handler() != handler
+        || context.workingInstance() != null
+        || context.strictInstanceUsage()) {
+        // the information depends on the instance, let the handler decide
+        return handler.handle(context);
+      }
+
+      var information = target.information();
+      if (information == null || target.argumentCount() != context.argumentCount()) {
+        information = handler.methodInformation(context);
+        this.target = new ResolvedTarget(
+          target.registry(),
+          target.modificationCount(),
+          handler,
+          context.argumentCount(),
+          information);
+      }
+      return handler.handle(context, information);
+    }
+
+    /**
+     * The handler and method information resolved for an inbound method.
+     *
+     * @param registry          the registry from which the handler was resolved.
+     * @param modificationCount the modification count of the registry when the handler was resolved.
+     * @param handler           the resolved handler, null if no handler was registered.
+     * @param argumentCount     the argument count for which the method information was resolved.
+     * @param information       the resolved method information, null if not resolved yet.
+     * @since 4.0
+     */
+    private record ResolvedTarget(
+      @NonNull RPCHandlerRegistry registry,
+      long modificationCount,
+      @Nullable RPCHandler handler,
+      int argumentCount,
+      @Nullable MethodInformation information
+    ) {
+
+    }
+  }
+
+  /**
+   * An outbound method which has an id assigned.
+   *
+   * @since 4.0
+   */
+  private static final class OutboundMethod {
+
+    private final int id;
+    private volatile boolean confirmed;
+
+    /**
+     * Constructs a new outbound method.
+     *
+     * @param id the id assigned to the method.
+     */
+    public OutboundMethod(int id) {
+      this.id = id;
+    }
+  }
+}
@@ -41,7 +41,7 @@ public class DefaultRPCHandler extends DefaultRPCProvider implements RPCHandler
   protected final Object bindingInstance;
   protected final MethodInvokerGenerator generator;
 
-  protected final Cache<String, MethodInformation> methodCache = Caffeine.newBuilder().build();
+  protected final Cache<MethodCacheKey, MethodInformation> methodCache = Caffeine.newBuilder().build();
 
   /**
    * Constructs a new default rpc handler instance.
@@ -78,26 +78,35 @@ public void registerTo(@NonNull RPCHandlerRegistry registry) {
    */
   @Override
   public @NonNull HandlingResult handle(@NonNull RPCInvocationContext context) {
-    // get the working instance
-    var inst = context.workingInstance();
-    if (inst == null) {
-      inst = context.strictInstanceUsage() ? null : this.bindingInstance;
-    }
+    return this.handle(context, this.methodInformation(context));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull MethodInformation methodInformation(@NonNull RPCInvocationContext context) {
     // now we try to find the associated method information to the given method name or try to read it
-    var instance = inst; // pail
-    var information = this.methodCache.get(
-      String.format(
-        "%d@%s@%s@%d",
-        inst == null ? -1 : inst.hashCode(),
-        this.bindingClass.getCanonicalName(),
-        context.methodName(),
-        context.argumentCount()),
+    var instance = this.workingInstance(context);
+    return this.methodCache.get(
+      new MethodCacheKey(instance == null ? -1 : instance.hashCode(), context.methodName(), context.argumentCount()),
       $ -> MethodInformation.find(
         instance,
         this.bindingClass,
         context.methodName(),
         instance == null ? null : this.generator,
         context.argumentCount()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull HandlingResult handle(
+    @NonNull RPCInvocationContext context,
+    @NonNull MethodInformation information
+  ) {
+    var instance = this.workingInstance(context);
     // now as we have the method info, try to read all arguments needed
     var arguments = new Object[information.arguments().length];
     for (var i = 0; i < arguments.length; i++) {
@@ -132,4 +141,32 @@ public void registerTo(@NonNull RPCHandlerRegistry registry) {
     // return the result
     return result;
   }
+
+  /**
+   * Get the instance to invoke the method targeted by the given context on.
+   *
+   * @param context the context of the handler invocation.
+   * @return the instance to invoke the target method on, null if there is no instance to invoke the method on.
+   * @throws NullPointerException if the given context is null.
+   */
+  protected @Nullable Object workingInstance(@NonNull RPCInvocationContext context) {
+    var instance = context.workingInstance();
+    if (instance == null) {
+      instance = context.strictInstanceUsage() ? null : this.bindingInstance;
+    }
+    return instance;
+  }
+
+  /**
+   * The key of a method in the method cache of a handler. The class is not part of the key as each handler is bound to
+   * exactly one class.
+   *
+   * @param instanceHash  the hash code of the instance the method is bound to, -1 if not bound.
+   * @param methodName    the name of the method.
+   * @param argumentCount the argument count of the method.
+   * @since 4.0
+   */
+  protected record MethodCacheKey(int instanceHash, @NonNull String methodName, int argumentCount) {
+
+  }
 }
@@ -23,6 +23,7 @@
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
@@ -37,6 +38,7 @@
 public class DefaultRPCHandlerRegistry implements RPCHandlerRegistry {
 
   protected final Map<String, RPCHandler> handlers = new ConcurrentHashMap<>();
+  protected final AtomicLong modificationCount = new AtomicLong();
 
   /**
    * {@inheritDoc}
@@ -78,12 +80,22 @@ public boolean hasHandler(@NonNull String targetClassName) {
     return this.handlers.get(targetClassName);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long modificationCount() {
+    return this.modificationCount.get();
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public boolean registerHandler(@NonNull RPCHandler rpcHandler) {
-    return this.handlers.put(rpcHandler.targetClass().getCanonicalName(), rpcHandler) == null;
+    var previous = this.handlers.put(rpcHandler.targetClass().getCanonicalName(), rpcHandler);
+    this.modificationCount.incrementAndGet();
+    return previous == null;
   }
 
   /**
@@ -95,6 +107,7 @@ public boolean unregisterHandler(@NonNull RPCHandler rpcHandler) {
     var handler = this.handler(rpcHandler.targetClass());
     if (handler == rpcHandler) {
       this.handlers.remove(handler.targetClass().getCanonicalName());
+      this.modificationCount.incrementAndGet();
       return true;
     }
     // the handlers did not match and was no unregistered
@@ -114,7 +127,11 @@ public boolean unregisterHandler(@NonNull Class<?> rpcHandlerTargetClass) {
    */
   @Override
   public boolean unregisterHandler(@NonNull String rpcHandlerTargetClassName) {
-    return this.handlers.remove(rpcHandlerTargetClassName) != null;
+    if (this.handlers.remove(rpcHandlerTargetClassName) != null) {
+      this.modificationCount.incrementAndGet();
+      return true;
+    }
+    return false;
   }
 
   /**
@@ -123,8 +140,9 @@ public boolean unregisterHandler(@NonNull String rpcHandlerTargetClassName) {
   @Override
   public void unregisterHandlers(@NonNull ClassLoader classLoader) {
     for (var entry : this.handlers.entrySet()) {
-      if (entry.getValue().getClass().getClassLoader().equals(classLoader)) {
-        this.handlers.remove(entry.getKey(), entry.getValue());
+      if (entry.getValue().getClass().getClassLoader().equals(classLoader)
+        && this.handlers.remove(entry.getKey(), entry.getValue())) {
+        this.modificationCount.incrementAndGet();
       }
     }
   }
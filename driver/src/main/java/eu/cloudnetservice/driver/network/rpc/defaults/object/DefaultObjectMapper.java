@@ -86,6 +86,11 @@
 
 /**
  * The default object mapper implementation.
+ * <p>
+ * The serializer used for a type is resolved by walking the type hierarchy of it until a registered serializer accepts
+ * the type. As this lookup is expensive, the first serializer found for an exact type is remembered until the
+ * registered serializers change. The remembered serializer is used directly as long as it accepts the object or type,
+ * the full lookup is only done if it declines.
  *
  * @since 4.0
  */
@@ -186,6 +191,9 @@ public class DefaultObjectMapper implements ObjectMapper {
       return types;
     });
 
+  // the first registered serializer found in the type hierarchy of exact types, reset when the bindings change
+  private volatile ResolvedSerializerCache resolvedSerializers = new ResolvedSerializerCache();
+
   /**
    * Constructs a new default object mapper instance with all default object serializers already registered. This call
    * is equivalent to {@code new DefaultObjectMapper(true)}.
@@ -221,6 +229,8 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
       // we don't need to unregister the subtypes of the type, skip the lookup
       this.registeredSerializers.remove(type);
     }
+    // the resolved serializers might be outdated now
+    this.resolvedSerializers = new ResolvedSerializerCache();
     return this;
   }
 
@@ -234,6 +244,8 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
         this.registeredSerializers.remove(entry.getKey(), entry.getValue());
       }
     }
+    // the resolved serializers might be outdated now, this also drops all references to the unregistered serializers
+    this.resolvedSerializers = new ResolvedSerializerCache();
     // for chaining
     return this;
   }
@@ -258,6 +270,8 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
       // we don't need to register the subtypes of the type, skip the lookup
       this.registeredSerializers.putIfAbsent(type, serializer);
     }
+    // the resolved serializers might be outdated now
+    this.resolvedSerializers = new ResolvedSerializerCache();
     return this;
   }
 
@@ -267,6 +281,13 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
   @Override
   public @NonNull <T> DataBuf.Mutable writeObject(@NonNull DataBuf.Mutable dataBuf, @Nullable T object) {
     return dataBuf.writeNullable(object, (buffer, obj) -> {
+      // check if the serializer resolved for the exact type accepts the object
+      ObjectSerializer<T> resolvedSerializer = this.resolvedSerializers.serializer(obj.getClass());
+      if (resolvedSerializer != null && resolvedSerializer.preWriteCheckAccepts(obj, this)) {
+        resolvedSerializer.write(buffer, obj, obj.getClass(), this);
+        return;
+      }
+
       // Get the type token of the type
       var subTypes = this.typeCache.get(obj.getClass());
       // get the registered serializer for the type
@@ -293,6 +314,12 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
   @SuppressWarnings("unchecked")
   public <T> @Nullable T readObject(@NonNull DataBuf dataBuf, @NonNull Type type) {
     return dataBuf.readNullable(buffer -> {
+      // check if the serializer resolved for the exact type accepts the type
+      ObjectSerializer<?> resolvedSerializer = this.resolvedSerializers.serializer(type);
+      if (resolvedSerializer != null && resolvedSerializer.preReadCheckAccepts(type, this)) {
+        return (T) resolvedSerializer.read(buffer, type, this);
+      }
+
       // Get the type token of the type
       var subTypes = this.typeCache.get(type);
       // get the registered serializer for the type
@@ -326,4 +353,79 @@ public DefaultObjectMapper(boolean registerDefaultSerializers) {
     var byType = (ObjectSerializer<T>) this.registeredSerializers.get(typePair.first());
     return byType == null ? (ObjectSerializer<T>) this.registeredSerializers.get(typePair.second()) : byType;
   }
+
+  /**
+   * Resolves the first serializer which is registered for a type in the type hierarchy of the given type, without
+   * checking if the serializer accepts the type.
+   *
+   * @param type the type to resolve the serializer for.
+   * @return the first registered serializer in the type hierarchy of the given type, null if none is registered.
+   * @throws NullPointerException if the given type is null.
+   */
+  protected @Nullable ObjectSerializer<?> resolveSerializer(@NonNull Type type) {
+    for (var subType : this.typeCache.get(type)) {
+      var serializer = this.serializerForType(subType);
+      if (serializer != null) {
+        return serializer;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * A holder for the serializer resolved for a type. The serializer is wrapped to allow caching types for which no
+   * serializer is registered.
+   *
+   * @param serializer the serializer resolved for the type, null if no serializer is registered.
+   * @since 4.0
+   */
+  private record ResolvedSerializer(@Nullable ObjectSerializer<?> serializer) {
+
+  }
+
+  /**
+   * A cache of the serializers resolved for exact types. Classes are cached in a class value to make the lookup as
+   * cheap as possible, other types (such as parameterized types) are cached in a map.
+   *
+   * @since 4.0
+   */
+  private final class ResolvedSerializerCache extends ClassValue<ResolvedSerializer> {
+
+    private final Map<Type, ResolvedSerializer> genericTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Get the serializer which was resolved for the given exact type, resolving it if needed.
+     *
+     * @param type the type to get the resolved serializer of.
+     * @param <T>  the generic type of the object serializer to get.
+     * @return the first registered serializer in the type hierarchy of the given type, null if none is registered.
+     * @throws NullPointerException if the given type is null.
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable <T> ObjectSerializer<T> serializer(@NonNull Type type) {
+      var resolved = type instanceof Class<?> clazz
+        ? this.get(clazz)
+        : this.genericTypes.computeIfAbsent(type, this::resolve);
+      return (ObjectSerializer<T>) resolved.serializer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected @NonNull ResolvedSerializer computeValue(@NonNull Class<?> type) {
+      return this.resolve(type);
+    }
+
+    /**
+     * Resolves the serializer of the given type.
+     *
+     * @param type the type to resolve the serializer of.
+     * @return the resolved serializer of the given type.
+     * @throws NullPointerException if the given type is null.
+     */
+    private @NonNull ResolvedSerializer resolve(@NonNull Type type) {
+      return new ResolvedSerializer(DefaultObjectMapper.this.resolveSerializer(type));
+    }
+  }
 }
@@ -16,8 +16,6 @@
 
 package eu.cloudnetservice.driver.network.rpc.defaults.object.data;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.base.Preconditions;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
@@ -34,8 +32,13 @@
  */
 public class DataClassSerializer implements ObjectSerializer<Object> {
 
-  private final LoadingCache<Type, DataClassInformation> dataClassInformationCache = Caffeine.newBuilder()
-    .build(key -> DataClassInformation.createClassInformation((Class<?>) key));
+  // the generated codecs are bound to the data class, a class value makes the lookup nearly free
+  private final ClassValue<DataClassInformation> dataClassInformationCache = new ClassValue<>() {
+    @Override
+    protected @NonNull DataClassInformation computeValue(@NonNull Class<?> type) {
+      return DataClassInformation.createClassInformation(type);
+    }
+  };
 
   /**
    * {@inheritDoc}
@@ -54,7 +57,7 @@ public class DataClassSerializer implements ObjectSerializer<Object> {
       return this.readArray(source, clazz, caller);
     }
     // get the class information and deserialize the object
-    return this.dataClassInformationCache.get(type).instanceCreator().makeInstance(source, caller);
+    return this.dataClassInformationCache.get(clazz).instanceCreator().makeInstance(source, caller);
   }
 
   /**
@@ -76,7 +79,7 @@ public void write(
       return;
     }
     // get the class information and serialize the object
-    this.dataClassInformationCache.get(type).informationWriter().writeInformation(dataBuf, object, caller);
+    this.dataClassInformationCache.get(clazz).informationWriter().writeInformation(dataBuf, object, caller);
   }
 
   /**
@@ -18,11 +18,13 @@
 
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
 import eu.cloudnetservice.driver.network.rpc.RPC;
 import eu.cloudnetservice.driver.network.rpc.RPCChain;
 import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCProvider;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodTable;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCException;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
@@ -172,7 +174,8 @@ public void fireAndForget() {
    */
   @Override
   public void fireAndForget(@NonNull NetworkChannel component) {
-    this.disableResultExpectation().fireSync(component);
+    var methodTable = RPCMethodTable.forRequests(component);
+    this.sendRequestPacket(component, new RPCRequestPacket(this.writeRequest(methodTable, false)));
   }
 
   /**
@@ -202,27 +205,45 @@ public void fireAndForget(@NonNull NetworkChannel component) {
    */
   @Override
   public @NonNull <T> Task<T> fire(@NonNull NetworkChannel component) {
-    // write the default needed information we need
-    var dataBuf = this.dataBufFactory.createEmpty()
-      .writeBoolean(false) // not a method chain
-      .writeString(this.className)
-      .writeString(this.methodName)
-      .writeBoolean(this.resultExpectation)
-      .writeInt(this.arguments.length);
-    // write the arguments provided
-    for (var argument : this.arguments) {
-      this.objectMapper.writeObject(dataBuf, argument);
-    }
+    var methodTable = RPCMethodTable.forRequests(component);
+    var dataBuf = this.writeRequest(methodTable, this.resultExpectation);
     // send query if result is needed
     if (this.resultExpectation) {
       // now send the query and read the response
       return Task.wrapFuture(component
         .sendQueryAsync(new RPCRequestPacket(dataBuf))
+        .thenApply(response -> {
+          // the other side handled the request, it knows the id of the target method now
+          methodTable.confirmMethodReference(this.className, this.methodName);
+          return response;
+        })
         .thenApply(new RPCResultMapper<>(this.expectedResultType, this.objectMapper)));
     } else {
       // just send the method invocation request
-      component.sendPacket(new RPCRequestPacket(dataBuf));
+      this.sendRequestPacket(component, new RPCRequestPacket(dataBuf));
       return Task.completedTask(null);
     }
   }
+
+  /**
+   * Writes the request information of this rpc into a new buffer.
+   *
+   * @param methodTable       the method table of the channel to which the request gets sent.
+   * @param resultExpectation if the sender of the request expects a result.
+   * @return a new buffer containing the request information of this rpc.
+   * @throws NullPointerException if the given method table is null.
+   */
+  protected @NonNull DataBuf.Mutable writeRequest(@NonNull RPCMethodTable methodTable, boolean resultExpectation) {
+    // write the default needed information we need
+    var dataBuf = this.dataBufFactory.createEmpty().writeBoolean(false); // not a method chain
+    methodTable.writeMethodReference(dataBuf, this.className, this.methodName);
+    dataBuf
+      .writeBoolean(resultExpectation)
+      .writeInt(this.arguments.length);
+    // write the arguments provided
+    for (var argument : this.arguments) {
+      this.objectMapper.writeObject(dataBuf, argument);
+    }
+    return dataBuf;
+  }
 }
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults.rpc;
+
+import com.google.common.util.concurrent.UncheckedTimeoutException;
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.RPC;
+import eu.cloudnetservice.driver.network.rpc.RPCBatch;
+import eu.cloudnetservice.driver.network.rpc.RPCChain;
+import eu.cloudnetservice.driver.network.rpc.RPCExecutable;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodTable;
+import eu.cloudnetservice.driver.network.rpc.exception.RPCException;
+import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
+import eu.cloudnetservice.driver.network.rpc.packet.RPCBatchPacket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import lombok.NonNull;
+
+/**
+ * The default implementation of a rpc batch. Each entry of the batch is encoded in the same way as it would be when
+ * sending the entry on its own.
+ *
+ * @since 4.0
+ */
+public class DefaultRPCBatch implements RPCBatch {
+
+  protected final DataBufFactory dataBufFactory;
+  protected final List<RPCExecutable> entries = new ArrayList<>();
+
+  protected boolean parallel;
+
+  /**
+   * Constructs a new, empty rpc batch.
+   *
+   * @param dataBufFactory the data buf factory to use for buffer allocation.
+   * @throws NullPointerException if the given data buf factory is null.
+   */
+  public DefaultRPCBatch(@NonNull DataBufFactory dataBufFactory) {
+    this.dataBufFactory = dataBufFactory;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull RPCBatch add(@NonNull RPC rpc) {
+    if (!(rpc instanceof DefaultRPC)) {
+      throw new IllegalArgumentException("Unsupported rpc implementation " + rpc.getClass().getName());
+    }
+
+    this.entries.add(rpc);
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull RPCBatch add(@NonNull RPCChain chain) {
+    if (!(chain instanceof DefaultRPCChain)) {
+      throw new IllegalArgumentException("Unsupported rpc chain implementation " + chain.getClass().getName());
+    }
+
+    this.entries.add(chain);
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull RPCBatch parallel(boolean parallel) {
+    this.parallel = parallel;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean parallel() {
+    return this.parallel;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull List<RPCExecutable> entries() {
+    return Collections.unmodifiableList(this.entries);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void fireAndForget() {
+    this.fireAndForget(this.firstChannel());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull List<Object> fireSync() {
+    return this.fireSync(this.firstChannel());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Task<List<Object>> fire() {
+    return this.fire(this.firstChannel());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void fireAndForget(@NonNull NetworkChannel component) {
+    var methodTable = RPCMethodTable.forRequests(component);
+    component.sendPacket(new RPCBatchPacket(this.writeBatch(methodTable, false)));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull List<Object> fireSync(@NonNull NetworkChannel component) {
+    try {
+      return this.fire(component).get();
+    } catch (ExecutionException exception) {
+      if (exception.getCause() instanceof RPCExecutionException executionException) {
+        // may be thrown when the handler did throw an exception, just rethrow that one
+        throw executionException;
+      } else {
+        // any other exception should get wrapped
+        throw new RPCException(this, exception);
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt(); // reset the interrupted state of the thread
+      throw new IllegalThreadStateException();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Task<List<Object>> fire(@NonNull NetworkChannel component) {
+    var methodTable = RPCMethodTable.forRequests(component);
+    var dataBuf = this.writeBatch(methodTable, true);
+    // copy the entries to prevent changes to the batch from affecting the result mapping
+    var entries = List.copyOf(this.entries);
+    return Task.wrapFuture(component
+      .sendQueryAsync(new RPCBatchPacket(dataBuf))
+      .thenApply(response -> this.readResults(methodTable, entries, response)));
+  }
+
+  /**
+   * Writes all entries of this batch into a new buffer.
+   *
+   * @param methodTable       the method table of the channel to which the batch gets sent.
+   * @param resultExpectation if the sender of the batch expects the results of the entries.
+   * @return a new buffer containing all entries of this batch.
+   * @throws NullPointerException if the given method table is null.
+   */
+  protected @NonNull DataBuf.Mutable writeBatch(@NonNull RPCMethodTable methodTable, boolean resultExpectation) {
+    var dataBuf = this.dataBufFactory.createEmpty()
+      .writeBoolean(this.parallel)
+      .writeInt(this.entries.size());
+    for (var entry : this.entries) {
+      // each entry is written in the same format as it would be when sent on its own
+      if (entry instanceof DefaultRPC rpc) {
+        dataBuf.writeDataBuf(rpc.writeRequest(methodTable, resultExpectation));
+      } else {
+        dataBuf.writeDataBuf(((DefaultRPCChain) entry).writeChain(methodTable));
+      }
+    }
+    return dataBuf;
+  }
+
+  /**
+   * Reads the results of the given batch entries from the given response packet.
+   *
+   * @param methodTable the method table of the channel to which the batch was sent.
+   * @param entries     the entries of the batch which was sent.
+   * @param response    the response to the batch.
+   * @return the results of the given entries, in the order of the entries.
+   * @throws NullPointerException      if the given method table, entry list or response is null.
+   * @throws UncheckedTimeoutException if the batch query timed out.
+   * @throws IllegalStateException     if the result count in the response does not match the entry count.
+   */
+  protected @NonNull List<Object> readResults(
+    @NonNull RPCMethodTable methodTable,
+    @NonNull List<RPCExecutable> entries,
+    @NonNull Packet response
+  ) {
+    // check if the query timed out before trying to read from the buffer
+    if (!response.readable()) {
+      throw new UncheckedTimeoutException("Query future was completed before rpc batch was able to respond");
+    }
+
+    var content = response.content();
+    var resultCount = content.readInt();
+    if (resultCount != entries.size()) {
+      // the other side must respond with exactly one result per entry, anything else means that it handled the batch
+      // differently than expected and that the results cannot be associated with the entries
+      throw new IllegalStateException(String.format(
+        "Rpc batch response contains %d results, but the batch has %d entries",
+        resultCount,
+        entries.size()));
+    }
+
+    List<Object> results = new ArrayList<>(resultCount);
+    for (var i = 0; i < resultCount; i++) {
+      var entry = entries.get(i);
+      // the other side handled the batch, it knows the id of the target methods now
+      if (entry instanceof DefaultRPC rpc) {
+        methodTable.confirmMethodReference(rpc.className(), rpc.methodName());
+      } else {
+        // only the root rpc is guaranteed to be read, the handling of a chain stops when one rpc throws an exception
+        var root = ((DefaultRPCChain) entry).head();
+        methodTable.confirmMethodReference(root.className(), root.methodName());
+      }
+
+      // check if the entry produced a result (it might not if no handler for the target class is registered)
+      if (content.readBoolean()) {
+        try (var result = content.readDataBuf()) {
+          results.add(this.resultMapper(entry).map(result));
+        }
+      } else {
+        results.add(null);
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Constructs the mapper for the result of the given batch entry.
+   *
+   * @param entry the entry to get the result mapper for.
+   * @return a result mapper for the result of the given entry.
+   * @throws NullPointerException if the given entry is null.
+   */
+  protected @NonNull RPCResultMapper<Object> resultMapper(@NonNull RPCExecutable entry) {
+    if (entry instanceof DefaultRPC rpc) {
+      return new RPCResultMapper<>(rpc.expectedResultType(), rpc.objectMapper());
+    } else {
+      var chain = (DefaultRPCChain) entry;
+      return new RPCResultMapper<>(chain.headRPC.expectedResultType(), chain.objectMapper());
+    }
+  }
+
+  /**
+   * Get the first channel of the network component associated with the first entry of this batch.
+   *
+   * @return the first channel of the network component associated with the first entry of this batch.
+   * @throws NullPointerException  if the associated network component has no channels available.
+   * @throws IllegalStateException if this batch has no entries.
+   */
+  protected @NonNull NetworkChannel firstChannel() {
+    if (this.entries.isEmpty()) {
+      throw new IllegalStateException("Cannot fire an empty rpc batch");
+    }
+
+    var first = this.entries.get(0);
+    var rpc = first instanceof RPC ? (RPC) first : ((RPCChain) first).head();
+    return Objects.requireNonNull(rpc.sender().associatedComponent().firstChannel());
+  }
+}
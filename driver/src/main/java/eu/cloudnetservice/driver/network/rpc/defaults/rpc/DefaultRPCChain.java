@@ -22,6 +22,7 @@
 import eu.cloudnetservice.driver.network.rpc.RPC;
 import eu.cloudnetservice.driver.network.rpc.RPCChain;
 import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCProvider;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodTable;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCException;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
 import eu.cloudnetservice.driver.network.rpc.packet.RPCRequestPacket;
@@ -135,7 +136,7 @@ public void fireAndForget() {
   @Override
   public void fireAndForget(@NonNull NetworkChannel component) {
     this.headRPC.disableResultExpectation();
-    this.fireSync(component);
+    this.sendRequestPacket(component, new RPCRequestPacket(this.writeChain(RPCMethodTable.forRequests(component))));
   }
 
   /**
@@ -165,42 +166,66 @@ public void fireAndForget(@NonNull NetworkChannel component) {
    */
   @Override
   public @NonNull <T> Task<T> fire(@NonNull NetworkChannel component) {
-    // information about the root invocation
-    var dataBuf = this.dataBufFactory.createEmpty()
-      .writeBoolean(true) // method chain
-      .writeInt(this.rpcChain.size() + 1); // chain length (+1 because the root chain is not included)
-    // write the root rpc first
-    this.writeRPCInformation(dataBuf, this.rootRPC, false); // the root rpc can never the last
-    // write the full chain
-    for (var i = 0; i < this.rpcChain.size(); i++) {
-      this.writeRPCInformation(dataBuf, this.rpcChain.get(i), i < (this.rpcChain.size() - 1));
-    }
+    var methodTable = RPCMethodTable.forRequests(component);
+    var dataBuf = this.writeChain(methodTable);
     // send query if result is needed
     if (this.headRPC.expectsResult()) {
       // now send the query and read the response
       return Task.wrapFuture(component
         .sendQueryAsync(new RPCRequestPacket(dataBuf))
+        .thenApply(response -> {
+          // only the root rpc is guaranteed to be read by the other side, the handling of the chain stops when
+          // one rpc in the chain throws an exception
+          methodTable.confirmMethodReference(this.rootRPC.className(), this.rootRPC.methodName());
+          return response;
+        })
         .thenApply(new RPCResultMapper<>(this.headRPC.expectedResultType(), this.objectMapper)));
     } else {
       // just send the method invocation request
-      component.sendPacket(new RPCRequestPacket(dataBuf));
+      this.sendRequestPacket(component, new RPCRequestPacket(dataBuf));
       return Task.completedTask(null);
     }
   }
 
+  /**
+   * Writes the full rpc chain into a new buffer.
+   *
+   * @param methodTable the method table of the channel to which the chain gets sent.
+   * @return a new buffer containing the full rpc chain.
+   * @throws NullPointerException if the given method table is null.
+   */
+  protected @NonNull DataBuf.Mutable writeChain(@NonNull RPCMethodTable methodTable) {
+    // information about the root invocation
+    var dataBuf = this.dataBufFactory.createEmpty()
+      .writeBoolean(true) // method chain
+      .writeInt(this.rpcChain.size() + 1); // chain length (+1 because the root chain is not included)
+    // write the root rpc first
+    this.writeRPCInformation(dataBuf, methodTable, this.rootRPC, false); // the root rpc can never the last
+    // write the full chain
+    for (var i = 0; i < this.rpcChain.size(); i++) {
+      this.writeRPCInformation(dataBuf, methodTable, this.rpcChain.get(i), i < (this.rpcChain.size() - 1));
+    }
+    return dataBuf;
+  }
+
   /**
    * Writes the given rpc into the given buffer.
    *
-   * @param dataBuf the data buffer to write the rpc to.
-   * @param rpc     the rpc to serialize.
-   * @param last    true if the given rpc is the last rpc in the call chain, false otherwise.
-   * @throws NullPointerException if either the given buffer or rpc is null.
+   * @param dataBuf     the data buffer to write the rpc to.
+   * @param methodTable the method table of the channel to which the rpc gets sent.
+   * @param rpc         the rpc to serialize.
+   * @param last        true if the given rpc is the last rpc in the call chain, false otherwise.
+   * @throws NullPointerException if either the given buffer, method table or rpc is null.
    */
-  protected void writeRPCInformation(@NonNull DataBuf.Mutable dataBuf, @NonNull RPC rpc, boolean last) {
+  protected void writeRPCInformation(
+    @NonNull DataBuf.Mutable dataBuf,
+    @NonNull RPCMethodTable methodTable,
+    @NonNull RPC rpc,
+    boolean last
+  ) {
     // general information about the rpc invocation
+    methodTable.writeMethodReference(dataBuf, rpc.className(), rpc.methodName());
     dataBuf
-      .writeString(rpc.className())
-      .writeString(rpc.methodName())
       .writeBoolean(!last || rpc.expectsResult())
       .writeInt(rpc.arguments().length);
     // write the arguments provided
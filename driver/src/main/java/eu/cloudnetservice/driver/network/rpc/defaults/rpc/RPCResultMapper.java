@@ -17,6 +17,7 @@
 package eu.cloudnetservice.driver.network.rpc.defaults.rpc;
 
 import com.google.common.util.concurrent.UncheckedTimeoutException;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.rpc.defaults.handler.util.ExceptionalResultUtil;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
@@ -26,7 +27,7 @@
 import org.jetbrains.annotations.UnknownNullability;
 
 /**
- * The shared mapping function between the rpc chain and default rpc handling the result of a remote code execution and
+ * The shared mapping function between the rpc chain, rpc batch and default rpc handling the result of a remote code execution and
  * mapping the result in a convenient way.
  *
  * @param <T> the generic expected result type of the rpc.
@@ -44,19 +45,29 @@
   public @UnknownNullability T apply(@UnknownNullability Packet response) {
     // check if the query timed out before trying to read from the buffer
     if (response.readable()) {
-      // the remote execution responded - check if the execution was successful or resulted in an exception
-      var content = response.content();
-      if (content.readBoolean()) {
-        // the execution did not throw an exception
-        return this.objectMapper.readObject(content, this.expectedResultType);
-      } else {
-        // rethrow the execution exception
-        ExceptionalResultUtil.rethrowException(content);
-        return null; // ok fine, but this will never happen - no one was seen again after entering the rethrowException method
-      }
+      return this.map(response.content());
     } else {
       // the query timed out - just cover that case in a nice exception wrapper :(
       throw new UncheckedTimeoutException("Query future was completed before rpc was able to respond");
     }
   }
+
+  /**
+   * Maps the given result of a remote code execution, rethrowing the exception if the execution was not successful.
+   *
+   * @param content the encoded result of the remote code execution.
+   * @return the result of the remote code execution.
+   * @throws NullPointerException if the given content is null.
+   */
+  public @UnknownNullability T map(@NonNull DataBuf content) {
+    // the remote execution responded - check if the execution was successful or resulted in an exception
+    if (content.readBoolean()) {
+      // the execution did not throw an exception
+      return this.objectMapper.readObject(content, this.expectedResultType);
+    } else {
+      // rethrow the execution exception
+      ExceptionalResultUtil.rethrowException(content);
+      return null; // ok fine, but this will never happen - no one was seen again after entering the rethrowException method
+    }
+  }
 }
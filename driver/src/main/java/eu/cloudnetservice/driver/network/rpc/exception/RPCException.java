@@ -17,6 +17,7 @@
 package eu.cloudnetservice.driver.network.rpc.exception;
 
 import eu.cloudnetservice.driver.network.rpc.RPC;
+import eu.cloudnetservice.driver.network.rpc.RPCBatch;
 import eu.cloudnetservice.driver.network.rpc.RPCChain;
 import java.util.Arrays;
 import java.util.stream.Collectors;
@@ -56,6 +57,17 @@ public RPCException(@NonNull RPCChain chain, @NonNull Exception root) {
         .collect(Collectors.joining("\n"))), root);
   }
 
+  /**
+   * Constructs a new rpc exception instance.
+   *
+   * @param batch the rpc batch during which execution the execution happened.
+   * @param root  the exception which was thrown.
+   * @throws NullPointerException if either the given rpc batch or root exception is null.
+   */
+  public RPCException(@NonNull RPCBatch batch, @NonNull Exception root) {
+    super(String.format("Unable to get future result of rpc batch with %d entries", batch.entries().size()), root);
+  }
+
   /**
    * Formats the given rpc into a better readable string, including the target class and method name as well as all
    * arguments which were used for the target method call.
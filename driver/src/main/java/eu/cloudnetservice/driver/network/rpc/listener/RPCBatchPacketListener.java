@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.listener;
+
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.NetworkServer;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.protocol.PacketListener;
+import eu.cloudnetservice.driver.network.rpc.defaults.handler.util.ExceptionalResultUtil;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A network packet listener designed to handle batched rpc messages. Each entry of a batch is handled by the rpc
+ * packet listener, the results of all entries are sent back in one response.
+ *
+ * @since 4.0
+ */
+@Singleton
+public class RPCBatchPacketListener implements PacketListener {
+
+  private static final Logger LOGGER = LogManager.logger(RPCBatchPacketListener.class);
+
+  private final Executor packetDispatcher;
+  private final RPCPacketListener requestListener;
+
+  /**
+   * Constructs a new rpc batch packet listener instance.
+   *
+   * @param requestListener the listener to use to handle the entries of a batch.
+   * @param networkServer   the network server whose packet dispatcher is used to handle batch entries in parallel.
+   * @throws NullPointerException if the given request listener or network server is null.
+   */
+  @Inject
+  public RPCBatchPacketListener(@NonNull RPCPacketListener requestListener, @NonNull NetworkServer networkServer) {
+    this(requestListener, networkServer.packetDispatcher());
+  }
+
+  /**
+   * Constructs a new rpc batch packet listener instance.
+   *
+   * @param requestListener  the listener to use to handle the entries of a batch.
+   * @param packetDispatcher the executor to use to handle batch entries in parallel.
+   * @throws NullPointerException if the given request listener or packet dispatcher is null.
+   */
+  public RPCBatchPacketListener(@NonNull RPCPacketListener requestListener, @NonNull Executor packetDispatcher) {
+    this.requestListener = requestListener;
+    this.packetDispatcher = packetDispatcher;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) throws Exception {
+    var content = packet.content();
+    var parallel = content.readBoolean();
+    var requests = new DataBuf[content.readInt()];
+    for (var i = 0; i < requests.length; i++) {
+      requests[i] = content.readDataBuf();
+    }
+
+    var results = new DataBuf[requests.length];
+    if (parallel && requests.length > 1) {
+      // handle all entries on the packet dispatcher. Waiting for the entries to complete would block a dispatcher
+      // thread, which can exhaust the dispatcher when multiple batches are handled at the same time so that the
+      // entries waited for are never executed. Therefore, the response is sent once all entries completed instead
+      var futures = new CompletableFuture<?>[requests.length];
+      for (var i = 0; i < requests.length; i++) {
+        var index = i;
+        futures[i] = CompletableFuture.runAsync(
+          () -> results[index] = this.handleEntry(channel, requests[index]),
+          this.packetDispatcher);
+      }
+
+      CompletableFuture.allOf(futures).thenRun(() -> {
+        releaseAll(requests);
+        this.sendResults(channel, packet, results);
+      });
+    } else {
+      try {
+        for (var i = 0; i < requests.length; i++) {
+          results[i] = this.handleEntry(channel, requests[i]);
+        }
+      } finally {
+        releaseAll(requests);
+      }
+
+      this.sendResults(channel, packet, results);
+    }
+  }
+
+  /**
+   * Handles a single entry of a batch. If the handling fails the exception is serialized as the result of the entry,
+   * the other side must always receive one result per entry to be able to map the results to the entries.
+   *
+   * @param channel the channel from which the batch packet came.
+   * @param request the request of the batch entry to handle.
+   * @return the serialized result of the entry, or null if the entry has no result.
+   * @throws NullPointerException if the given channel or request is null.
+   */
+  private @Nullable DataBuf handleEntry(@NonNull NetworkChannel channel, @NonNull DataBuf request) {
+    try {
+      return this.requestListener.handleRequest(channel, request);
+    } catch (Exception exception) {
+      LOGGER.severe("Exception while handling rpc batch entry", exception);
+      return ExceptionalResultUtil.serializeThrowable(DataBuf.empty().writeBoolean(false), exception);
+    }
+  }
+
+  /**
+   * Sends the results of the batch entries to the sender of the given batch packet, if the sender expects a response.
+   *
+   * @param channel the channel from which the batch packet came.
+   * @param packet  the batch packet which was handled.
+   * @param results the results of the batch entries, in the order of the entries.
+   * @throws NullPointerException if the given channel, packet or result array is null.
+   */
+  private void sendResults(@NonNull NetworkChannel channel, @NonNull Packet packet, @NonNull DataBuf[] results) {
+    // check if we need to send the results
+    if (packet.uniqueId() == null) {
+      releaseAll(results);
+      return;
+    }
+
+    var response = DataBuf.empty().writeInt(results.length);
+    for (var result : results) {
+      response.writeBoolean(result != null);
+      if (result != null) {
+        response.writeDataBuf(result);
+      }
+    }
+
+    var responsePacket = new BasePacket(-1, response);
+    responsePacket.uniqueId(packet.uniqueId());
+    channel.sendPacket(responsePacket);
+  }
+
+  /**
+   * Releases all non-null buffers in the given array.
+   *
+   * @param buffers the buffers to release.
+   * @throws NullPointerException if the given buffer array is null.
+   */
+  private static void releaseAll(@NonNull DataBuf[] buffers) {
+    for (var buffer : buffers) {
+      if (buffer != null) {
+        buffer.release();
+      }
+    }
+  }
+}
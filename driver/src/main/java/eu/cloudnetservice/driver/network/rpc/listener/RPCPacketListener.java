@@ -25,6 +25,7 @@
 import eu.cloudnetservice.driver.network.rpc.RPCHandler;
 import eu.cloudnetservice.driver.network.rpc.RPCHandlerRegistry;
 import eu.cloudnetservice.driver.network.rpc.RPCInvocationContext;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodTable;
 import eu.cloudnetservice.driver.network.rpc.defaults.handler.util.ExceptionalResultUtil;
 import eu.cloudnetservice.driver.network.rpc.exception.CannotDecideException;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
@@ -60,10 +61,28 @@ public RPCPacketListener(@NonNull RPCHandlerRegistry rpcHandlerRegistry) {
    */
   @Override
   public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) throws Exception {
+    var result = this.handleRequest(channel, packet.content());
+    // check if we need to send a result
+    if (result != null && packet.uniqueId() != null) {
+      var response = new BasePacket(-1, result);
+      response.uniqueId(packet.uniqueId());
+      channel.sendPacket(response);
+    }
+  }
+
+  /**
+   * Handles the rpc request (either a single rpc or a rpc chain) in the given buffer and serializes the result of it.
+   *
+   * @param channel the network channel on which the rpc request was received.
+   * @param buf     the buffer containing the rpc request.
+   * @return the serialized result of the request, or null if no result is expected or no handler was found.
+   * @throws NullPointerException  if either the given channel or buffer is null.
+   * @throws CannotDecideException if none or multiple methods are matching a method to call.
+   */
+  protected @Nullable DataBuf handleRequest(@NonNull NetworkChannel channel, @NonNull DataBuf buf) {
     // the result of the invocation, encoded
     DataBuf result = null;
-    // the input information we get
-    var buf = packet.content();
+    var methodTable = RPCMethodTable.forChannel(channel);
     // check if the invocation is chained
     if (buf.readBoolean()) {
       // get the chain size
@@ -71,67 +90,66 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
       // invoke the method on the current result
       RPCHandler.HandlingResult lastResult = null;
       for (var i = 1; i < chainSize; i++) {
+        var method = methodTable.readInboundMethod(buf);
         if (i == 1) {
           // always invoke the first method
-          lastResult = this.handleRaw(buf.readString(), this.buildContext(channel, buf, null, false));
+          lastResult = this.handleRaw(method, this.buildContext(channel, buf, method.reference(), null, false));
         } else if (lastResult != null) {
           if (lastResult.wasSuccessful()) {
             // only invoke upcoming methods if there was a previous result
             lastResult = this.handleRaw(
-              buf.readString(),
-              this.buildContext(channel, buf, lastResult.invocationResult(), true));
+              method,
+              this.buildContext(channel, buf, method.reference(), lastResult.invocationResult(), true));
           } else {
             // an exception was thrown previously, break
-            buf.readString(); // remove the handler information which is not necessary
             result = this.serializeResult(
               lastResult,
               lastResult.invocationHandler().dataBufFactory(),
               lastResult.invocationHandler().objectMapper(),
-              this.buildContext(channel, buf, null, true));
+              this.buildContext(channel, buf, method.reference(), null, true));
             break;
           }
         } else {
           // just process over to remove the content from the buffer
-          this.handleRaw(buf.readString(), this.buildContext(channel, buf, null, true));
+          this.handleRaw(method, this.buildContext(channel, buf, method.reference(), null, true));
         }
       }
       // check if there is already a result (which is caused by an exception - we can skip the handling step then)
       if (result == null && lastResult != null) {
         // the last handler decides over the method invocation result
+        var method = methodTable.readInboundMethod(buf);
         result = this.handle(
-          buf.readString(),
-          this.buildContext(channel, buf, lastResult.invocationResult(), true));
+          method,
+          this.buildContext(channel, buf, method.reference(), lastResult.invocationResult(), true));
       }
     } else {
       // just invoke the method
-      result = this.handle(buf.readString(), this.buildContext(channel, buf, null, false));
-    }
-    // check if we need to send a result
-    if (result != null && packet.uniqueId() != null) {
-      var response = new BasePacket(-1, result);
-      response.uniqueId(packet.uniqueId());
-      channel.sendPacket(response);
+      var method = methodTable.readInboundMethod(buf);
+      result = this.handle(method, this.buildContext(channel, buf, method.reference(), null, false));
     }
+    return result;
   }
 
   /**
-   * Posts the next rpc instruction in the given context into the handler for the given class which potentially contains
-   * the target method and serializes the result into a data buffer. Null is returned when no handler for the given
-   * class is present.
+   * Posts the next rpc instruction in the given context into the handler for the class of the given method and
+   * serializes the result into a data buffer. Null is returned when no handler for the class is present.
    *
-   * @param clazz   the class in which the method to call is located.
+   * @param method  the target method of the invocation.
    * @param context the context of the method invocation passed to the handler for the method invocation.
-   * @return the serialized result of the method invocation, or null if no handler for the given class is registered.
-   * @throws NullPointerException  if either the given class or invocation context is null.
-   * @throws CannotDecideException if none or multiple methods are matching the method to call in the given class.
+   * @return the serialized result of the method invocation, or null if no handler for the class is registered.
+   * @throws NullPointerException  if either the given method or invocation context is null.
+   * @throws CannotDecideException if none or multiple methods are matching the method to call in the class.
    */
-  protected @Nullable DataBuf handle(@NonNull String clazz, @NonNull RPCInvocationContext context) {
+  protected @Nullable DataBuf handle(
+    @NonNull RPCMethodTable.InboundMethod method,
+    @NonNull RPCInvocationContext context
+  ) {
     // get the handler associated with the class of the rpc
-    var handler = this.rpcHandlerRegistry.handler(clazz);
+    var handler = method.handler(this.rpcHandlerRegistry);
     // check if the method gets called on a specific instance
     if (handler != null) {
       // invoke the method
-      var handlingResult = handler.handle(context);
+      var handlingResult = method.handle(handler, context);
       // serialize the result
       return this.serializeResult(handlingResult, handler.dataBufFactory(), handler.objectMapper(), context);
     }
@@ -177,51 +195,52 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
   }
 
   /**
-   * Posts the next rpc instruction in the given context into the handler for the given class which potentially contains
-   * the target method. Null is returned when no handler for the given class is present.
+   * Posts the next rpc instruction in the given context into the handler for the class of the given method. Null is
+   * returned when no handler for the class is present.
    *
-   * @param clazz   the class in which the method to call is located.
+   * @param method  the target method of the invocation.
    * @param context the context of the method invocation passed to the handler for the method invocation.
-   * @return the result of the method invocation, or null if no handler for the given class is registered.
-   * @throws NullPointerException  if either the given class or invocation context is null.
-   * @throws CannotDecideException if none or multiple methods are matching the method to call in the given class.
+   * @return the result of the method invocation, or null if no handler for the class is registered.
+   * @throws NullPointerException  if either the given method or invocation context is null.
+   * @throws CannotDecideException if none or multiple methods are matching the method to call in the class.
    */
   protected @Nullable RPCHandler.HandlingResult handleRaw(
-    @NonNull String clazz,
+    @NonNull RPCMethodTable.InboundMethod method,
     @NonNull RPCInvocationContext context
   ) {
     // get the handler associated with the class of the rpc
-    var handler = this.rpcHandlerRegistry.handler(clazz);
+    var handler = method.handler(this.rpcHandlerRegistry);
     // invoke the handler with the information
-    return handler == null ? null : handler.handle(context);
+    return handler == null ? null : method.handle(handler, context);
   }
 
   /**
    * Builds a new context for a rpc method invocation based on the given information and remaining content in the
    * buffer. The given buffer should still contain (in the given order):
    * <ol>
-   *   <li>the target method name
    *   <li>a boolean indicating if the rpc call expects a result
    *   <li>the number of arguments of the target method
    * </ol>
    *
    * @param channel             the network channel on which the rpc request was received.
    * @param content             the remaining buffer content, containing the data as described above.
+   * @param method              the target method of the invocation.
    * @param on                  the object to call the method on, when using a rpc chain.
    * @param strictInstanceUsage if using the instance provided to the context is required.
    * @return a generated invocation context based on the given information.
-   * @throws NullPointerException if either the given channel or content buffer is null.
+   * @throws NullPointerException if either the given channel, content buffer or method is null.
    */
   protected @NonNull RPCInvocationContext buildContext(
     @NonNull NetworkChannel channel,
     @NonNull DataBuf content,
+    @NonNull RPCMethodTable.MethodReference method,
     @Nullable Object on,
     boolean strictInstanceUsage
   ) {
     return RPCInvocationContext.builder()
       .workingInstance(on)
       .channel(channel)
-      .methodName(content.readString())
+      .methodName(method.methodName())
       .expectsMethodResult(content.readBoolean())
       .argumentCount(content.readInt())
       .argumentInformation(content)
@@ -18,6 +18,9 @@
 
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.property.DefaultedDocPropertyHolder;
+import eu.cloudnetservice.driver.util.VarHandleUtil;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
@@ -35,6 +38,12 @@
 @EqualsAndHashCode
 public abstract class AbstractPermissible implements DefaultedDocPropertyHolder, Permissible {
 
+  private static final VarHandle MODIFICATION_COUNT_VAR_HANDLE = VarHandleUtil.lookup(
+    MethodHandles.lookup(),
+    AbstractPermissible.class,
+    "modificationCount",
+    long.class);
+
   protected final String name;
   protected final int potency;
   protected final long createdTime;
@@ -44,6 +53,10 @@ public abstract class AbstractPermissible implements DefaultedDocPropertyHolder,
 
   protected final Document properties;
 
+  // incremented after each in-place modification of the permissions or groups of this permissible
+  @ToString.Exclude
+  private transient volatile long modificationCount;
+
   /**
    * Constructs a new abstract permissible instance.
    *
@@ -71,6 +84,24 @@ public AbstractPermissible(
     this.properties = properties;
   }
 
+  /**
+   * Get the amount of in-place modifications which were made to the permissions or groups of this permissible. Caches
+   * of information derived from this permissible can compare this count to detect that the permissible was modified
+   * without being replaced.
+   *
+   * @return the amount of in-place modifications made to this permissible.
+   */
+  long modificationCount() {
+    return this.modificationCount;
+  }
+
+  /**
+   * Records an in-place modification of the permissions or groups of this permissible.
+   */
+  void markModified() {
+    MODIFICATION_COUNT_VAR_HANDLE.getAndAdd(this, 1L);
+  }
+
   /**
    * Adds the given permission into the set of permissions. If the collection contains a permission with the same name
    * it is removed before adding the new permission.
@@ -82,6 +113,7 @@ public AbstractPermissible(
   private void addPermission(@NonNull Set<Permission> permissions, @NonNull Permission permission) {
     permissions.removeIf(existingPermission -> existingPermission.name().equalsIgnoreCase(permission.name()));
     permissions.add(permission);
+    this.markModified();
   }
 
   /**
@@ -108,7 +140,9 @@ public boolean removePermission(@NonNull String permission) {
     var exist = this.permission(permission);
 
     if (exist != null) {
-      return this.permissions.remove(exist);
+      var removed = this.permissions.remove(exist);
+      this.markModified();
+      return removed;
     } else {
       return false;
     }
@@ -126,6 +160,10 @@ public boolean removePermission(@NonNull String permission, @NonNull String grou
         this.groupPermissions.remove(group);
       }
 
+      if (removed) {
+        this.markModified();
+      }
+
       return removed;
     }
 
@@ -161,7 +199,7 @@ public int potency() {
    */
   @Override
   public @NonNull Collection<Permission> permissions() {
-    return this.permissions;
+    return new ModificationTrackingSet<>(this.permissions, this::markModified);
   }
 
   /**
@@ -169,7 +207,7 @@ public int potency() {
    */
   @Override
   public @NonNull Map<String, Set<Permission>> groupPermissions() {
-    return this.groupPermissions;
+    return new ModificationTrackingMap<>(this.groupPermissions, this::markModified);
   }
 
   /**
@@ -19,11 +19,15 @@
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -31,6 +35,13 @@
  * This management extends the default implementation of the permission management by implementing all methods needed
  * for caching of both permission users and groups. The caches are backed by Caffeine and expire after 5 minutes without
  * any access or locks on the specific permissible.
+ * <p>
+ * Permission checks of cached users and groups are resolved using a {@link PermissionTree} which is compiled once per
+ * permissible and requested group set. A compiled tree is discarded when the permissible is replaced in the cache, when
+ * any permissible is modified in place or when any permission group changes, as a group change might affect the
+ * permissions inherited by every permissible. Note that the removal of a group from the group cache only discards the
+ * compiled trees once the (asynchronous) removal listener of the cache ran, callers which need the change to be visible
+ * immediately must call {@link #invalidateCompiledPermissions()} themselves.
  *
  * @see CachedPermissionManagement
  * @since 4.0
@@ -59,6 +70,144 @@ public abstract class DefaultCachedPermissionManagement extends DefaultPermissio
       }
     })
     .build();
+  // holds the compiled permission trees of the cached permissibles, keyed by the permissible and the requested groups
+  protected final Cache<CompiledPermissionsKey, CompiledPermissions> compiledPermissionCache = Caffeine.newBuilder()
+    .expireAfterAccess(5, TimeUnit.MINUTES)
+    .build();
+  // incremented on each group change to discard all compiled permission trees which were compiled before
+  protected final AtomicLong permissionGroupGeneration = new AtomicLong();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull PermissionCheckResult permissionResult(
+    @NonNull Permissible permissible,
+    @NonNull Permission permission
+  ) {
+    var permissionTree = this.compiledPermissions(permissible, null);
+    if (permissionTree == null) {
+      return super.permissionResult(permissible, permission);
+    }
+
+    return PermissionCheckResult.fromPermission(permissionTree.findHighestPermission(permission));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull PermissionCheckResult groupsPermissionResult(
+    @NonNull Permissible permissible,
+    @NonNull String[] groups,
+    @NonNull Permission permission
+  ) {
+    var permissionTree = this.compiledPermissions(permissible, groups);
+    if (permissionTree == null) {
+      return super.groupsPermissionResult(permissible, groups, permission);
+    }
+
+    return PermissionCheckResult.fromPermission(permissionTree.findHighestPermission(permission));
+  }
+
+  /**
+   * Discards all compiled permission trees of the given permission user.
+   *
+   * @param uniqueId the unique id of the user to discard the compiled permissions of.
+   * @throws NullPointerException if the given unique id is null.
+   */
+  public void invalidateCompiledPermissions(@NonNull UUID uniqueId) {
+    this.compiledPermissionCache.asMap().keySet().removeIf(key -> key.permissible().equals(uniqueId));
+  }
+
+  /**
+   * Discards all compiled permission trees. This method must be called whenever a permission group changes, is added
+   * or removed.
+   */
+  public void invalidateCompiledPermissions() {
+    this.permissionGroupGeneration.incrementAndGet();
+    this.compiledPermissionCache.invalidateAll();
+  }
+
+  /**
+   * Get the compiled permission tree of the given permissible including the permissions of the given groups, compiling
+   * it if needed. Permission trees are only compiled for the permissibles which are currently cached by this
+   * management, as only changes to these are known to this management.
+   *
+   * @param permissible the permissible to get the compiled permissions of.
+   * @param groups      the groups to include the group permissions of, null to not include group permissions.
+   * @return the compiled permission tree of the permissible, null if the permissible is not cached.
+   * @throws NullPointerException if the given permissible is null.
+   */
+  protected @Nullable PermissionTree compiledPermissions(@NonNull Permissible permissible, @Nullable String[] groups) {
+    Object permissibleKey;
+    if (permissible instanceof PermissionUser user && this.cachedUser(user.uniqueId()) == user) {
+      permissibleKey = user.uniqueId();
+    } else if (permissible instanceof PermissionGroup group && this.cachedGroup(group.name()) == group) {
+      permissibleKey = group.name();
+    } else {
+      return null;
+    }
+
+    // read the generation and modification count before collecting the permissions, a concurrent change will make the
+    // next check compile the tree again
+    var generation = this.permissionGroupGeneration.get();
+    var modificationCount = this.modificationCount(permissible);
+    var key = new CompiledPermissionsKey(permissibleKey, groups == null ? null : List.of(groups));
+
+    var compiledPermissions = this.compiledPermissionCache.getIfPresent(key);
+    if (compiledPermissions == null
+      || compiledPermissions.permissible() != permissible
+      || compiledPermissions.generation() != generation
+      || compiledPermissions.modificationCount() != modificationCount
+    ) {
+      var permissionTree = PermissionTree.compile(this.collectAllPermissions(permissible, groups));
+      compiledPermissions = new CompiledPermissions(permissible, generation, modificationCount, permissionTree);
+      this.compiledPermissionCache.put(key, compiledPermissions);
+    }
+
+    return compiledPermissions.permissionTree();
+  }
+
+  /**
+   * Sums the in-place modification counts of the given permissible and all groups it inherits from. As modification
+   * counts only increase the sum changes whenever one of the permissibles was modified. Replacing one of the groups
+   * changes the permission group generation instead.
+   *
+   * @param permissible the permissible to sum the modification counts of.
+   * @return the sum of the modification counts of the permissible and all groups it inherits from.
+   * @throws NullPointerException if the given permissible is null.
+   */
+  protected long modificationCount(@NonNull Permissible permissible) {
+    var modificationCount = permissible instanceof AbstractPermissible abstractPermissible
+      ? abstractPermissible.modificationCount()
+      : 0L;
+    return modificationCount + this.modificationCount(this.groupsOf(permissible), new HashSet<>());
+  }
+
+  /**
+   * Sums the in-place modification counts of the given groups and the parents of the groups. The travelled group
+   * collection is used to prevent infinite recursion, the collection is passed down while travelling to the next group.
+   *
+   * @param groups          the groups to sum the modification counts of.
+   * @param travelledGroups all already visited groups.
+   * @return the sum of the modification counts of the given groups and their parents.
+   * @throws NullPointerException if the given group or travelled group collection is null.
+   */
+  private long modificationCount(
+    @NonNull Collection<PermissionGroup> groups,
+    @NonNull Collection<String> travelledGroups
+  ) {
+    var modificationCount = 0L;
+    for (var permissionGroup : groups) {
+      if (permissionGroup != null && travelledGroups.add(permissionGroup.name())) {
+        modificationCount += permissionGroup.modificationCount();
+        modificationCount += this.modificationCount(this.groupsOf(permissionGroup), travelledGroups);
+      }
+    }
+
+    return modificationCount;
+  }
 
   /**
    * {@inheritDoc}
@@ -166,6 +315,36 @@ public void unlockFully(@NonNull PermissionGroup group) {
     this.permissionGroupLocks.remove(group.name());
   }
 
+  /**
+   * Holds the key of a compiled permission tree.
+   *
+   * @param permissible the unique id of the user or the name of the group the permissions were compiled for.
+   * @param groups      the groups whose group permissions are included, null if no group permissions are included.
+   * @since 4.0
+   */
+  protected record CompiledPermissionsKey(@NonNull Object permissible, @Nullable List<String> groups) {
+
+  }
+
+  /**
+   * Holds a compiled permission tree and the information needed to decide if it is still valid.
+   *
+   * @param permissible       the permissible instance the tree was compiled from.
+   * @param generation        the permission group generation at the time the tree was compiled.
+   * @param modificationCount the summed in-place modification count of the permissible and its groups at the time the
+   *                          tree was compiled.
+   * @param permissionTree    the compiled permission tree.
+   * @since 4.0
+   */
+  protected record CompiledPermissions(
+    @NonNull Permissible permissible,
+    long generation,
+    long modificationCount,
+    @NonNull PermissionTree permissionTree
+  ) {
+
+  }
+
   /**
    * Handles the removal of the permission user in the cache. If the user still is locked and wasn't removed because he
    * is replaced the user is added back to the cache.
@@ -178,6 +357,8 @@ public void unlockFully(@NonNull PermissionGroup group) {
   protected void handleUserRemove(@NonNull UUID key, @NonNull PermissionUser user, @NonNull RemovalCause cause) {
     if (cause.wasEvicted() && this.locked(user)) {
       this.permissionUserCache.put(key, user);
+    } else {
+      this.invalidateCompiledPermissions(key);
     }
   }
 
@@ -193,6 +374,9 @@ protected void handleUserRemove(@NonNull UUID key, @NonNull PermissionUser user,
   protected void handleGroupRemove(@NonNull String key, @NonNull PermissionGroup group, @NonNull RemovalCause cause) {
     if (cause.wasEvicted() && this.locked(group)) {
       this.permissionGroupCache.put(key, group);
+    } else {
+      // removal listeners are called asynchronously, checks made before this call might still use the old group
+      this.invalidateCompiledPermissions();
     }
   }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.permission;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A view of a map of sets which notifies the given listener about every modification made through it, including the
+ * modifications of the value sets. Used by permissibles to detect in-place modifications of their group permissions.
+ *
+ * @param <K> the type of keys in the map.
+ * @param <E> the type of elements in the value sets of the map.
+ * @since 4.0
+ */
+final class ModificationTrackingMap<K, E> extends AbstractMap<K, Set<E>> {
+
+  private final Map<K, Set<E>> delegate;
+  private final Runnable modificationListener;
+
+  /**
+   * Constructs a new modification tracking view of the given map.
+   *
+   * @param delegate             the map to track the modifications of.
+   * @param modificationListener the listener to call after each modification of the map or one of its values.
+   * @throws NullPointerException if the given delegate or modification listener is null.
+   */
+  ModificationTrackingMap(@NonNull Map<K, Set<E>> delegate, @NonNull Runnable modificationListener) {
+    this.delegate = delegate;
+    this.modificationListener = modificationListener;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return this.delegate.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean containsKey(Object key) {
+    return this.delegate.containsKey(key);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable Set<E> get(Object key) {
+    return this.track(this.delegate.get(key));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable Set<E> put(K key, Set<E> value) {
+    var previous = this.delegate.put(key, value);
+    this.modificationListener.run();
+    return this.track(previous);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable Set<E> remove(Object key) {
+    var removed = this.delegate.remove(key);
+    if (removed != null) {
+      this.modificationListener.run();
+    }
+    return this.track(removed);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable Set<E> computeIfAbsent(
+    K key,
+    @NonNull Function<? super K, ? extends Set<E>> mappingFunction
+  ) {
+    var value = this.delegate.get(key);
+    if (value == null) {
+      value = mappingFunction.apply(key);
+      if (value == null) {
+        return null;
+      }
+
+      this.delegate.put(key, value);
+      this.modificationListener.run();
+    }
+
+    return this.track(value);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void clear() {
+    if (!this.delegate.isEmpty()) {
+      this.delegate.clear();
+      this.modificationListener.run();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Set<Entry<K, Set<E>>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public int size() {
+        return ModificationTrackingMap.this.delegate.size();
+      }
+
+      @Override
+      public @NonNull Iterator<Entry<K, Set<E>>> iterator() {
+        var iterator = ModificationTrackingMap.this.delegate.entrySet().iterator();
+        return new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            return iterator.hasNext();
+          }
+
+          @Override
+          public Entry<K, Set<E>> next() {
+            var entry = iterator.next();
+            return new SimpleImmutableEntry<>(entry.getKey(), ModificationTrackingMap.this.track(entry.getValue()));
+          }
+
+          @Override
+          public void remove() {
+            iterator.remove();
+            ModificationTrackingMap.this.modificationListener.run();
+          }
+        };
+      }
+    };
+  }
+
+  /**
+   * Wraps the given value set of this map into a view which tracks the modifications made to it.
+   *
+   * @param value the value set to wrap, can be null.
+   * @return a modification tracking view of the given value set, null if the given value set is null.
+   */
+  private @Nullable Set<E> track(@Nullable Set<E> value) {
+    return value == null ? null : new ModificationTrackingSet<>(value, this.modificationListener);
+  }
+}
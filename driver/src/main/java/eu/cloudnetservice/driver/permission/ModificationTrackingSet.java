@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.permission;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import lombok.NonNull;
+
+/**
+ * A view of a set which notifies the given listener about every modification made through it. Used by permissibles to
+ * detect in-place modifications of their permissions and groups.
+ *
+ * @param <E> the type of elements in the set.
+ * @since 4.0
+ */
+final class ModificationTrackingSet<E> extends AbstractSet<E> {
+
+  private final Set<E> delegate;
+  private final Runnable modificationListener;
+
+  /**
+   * Constructs a new modification tracking view of the given set.
+   *
+   * @param delegate             the set to track the modifications of.
+   * @param modificationListener the listener to call after each modification of the set.
+   * @throws NullPointerException if the given delegate or modification listener is null.
+   */
+  ModificationTrackingSet(@NonNull Set<E> delegate, @NonNull Runnable modificationListener) {
+    this.delegate = delegate;
+    this.modificationListener = modificationListener;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return this.delegate.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean contains(Object element) {
+    return this.delegate.contains(element);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean add(E element) {
+    var added = this.delegate.add(element);
+    if (added) {
+      this.modificationListener.run();
+    }
+    return added;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean remove(Object element) {
+    var removed = this.delegate.remove(element);
+    if (removed) {
+      this.modificationListener.run();
+    }
+    return removed;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Iterator<E> iterator() {
+    var iterator = this.delegate.iterator();
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public E next() {
+        return iterator.next();
+      }
+
+      @Override
+      public void remove() {
+        iterator.remove();
+        ModificationTrackingSet.this.modificationListener.run();
+      }
+    };
+  }
+}
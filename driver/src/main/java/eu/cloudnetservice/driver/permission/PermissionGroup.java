@@ -195,7 +195,7 @@ public boolean defaultGroup() {
    */
   @Override
   public @NonNull Collection<String> groupNames() {
-    return this.groups;
+    return new ModificationTrackingSet<>(this.groups, this::markModified);
   }
 
   /**
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.permission;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A compiled form of a collection of permissions which allows resolving the highest permission matching a requested
+ * permission without scanning all permissions of the collection. The resolution result is the same as the one of
+ * {@link PermissionManagement#findHighestPermission(Collection, Permission)} for the collection the tree was compiled
+ * from:
+ * <ul>
+ *   <li>exact permissions are matched case-insensitive against the requested permission name.
+ *   <li>permissions ending with {@code *} match every permission whose name contains the permission name without the
+ *   {@code *} characters. The star permission itself (an empty name after removing all stars) matches everything.
+ *   <li>from all matching permissions the one with the highest absolute potency wins, in case of a tie the permission
+ *   which was iterated last during compilation wins.
+ * </ul>
+ * <p>
+ * A compiled tree is immutable and can safely be shared between threads.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class PermissionTree {
+
+  private final Node wildcardRoot;
+  private final Map<String, Candidate> exactPermissions;
+
+  /**
+   * Constructs a new permission tree instance.
+   *
+   * @param wildcardRoot     the root node of the tree holding all wildcard permissions.
+   * @param exactPermissions the exact permissions mapped by their case-folded name.
+   * @throws NullPointerException if the given root node or exact permission map is null.
+   */
+  private PermissionTree(@NonNull Node wildcardRoot, @NonNull Map<String, Candidate> exactPermissions) {
+    this.wildcardRoot = wildcardRoot;
+    this.exactPermissions = exactPermissions;
+  }
+
+  /**
+   * Compiles the given permissions into a new permission tree. The iteration order of the given collection is used to
+   * resolve ties between permissions with the same absolute potency.
+   *
+   * @param permissions the permissions to compile.
+   * @return a new permission tree holding all the given permissions.
+   * @throws NullPointerException if the given permission collection is null.
+   */
+  public static @NonNull PermissionTree compile(@NonNull Collection<Permission> permissions) {
+    var wildcardRoot = new Node();
+    Map<String, Candidate> exactPermissions = new HashMap<>();
+
+    var index = 0;
+    for (var permission : permissions) {
+      var candidate = new Candidate(permission, index++);
+      exactPermissions.merge(foldCase(permission.name()), candidate, PermissionTree::better);
+
+      // wildcard permissions are inserted with all stars removed, the star permission is located at the root node
+      if (permission.name().endsWith("*")) {
+        var node = wildcardRoot;
+        for (var c : permission.name().toCharArray()) {
+          if (c != '*') {
+            node = node.children.computeIfAbsent(c, $ -> new Node());
+          }
+        }
+        node.wildcard = better(node.wildcard, candidate);
+      }
+    }
+
+    return new PermissionTree(wildcardRoot, exactPermissions);
+  }
+
+  /**
+   * Finds the highest permission in this tree which matches the given permission. This method returns null if no
+   * matching permission has at least the absolute potency of the given permission.
+   *
+   * @param permission the permission to find the highest matching permission for.
+   * @return the highest matching permission or null if no permission matches.
+   * @throws NullPointerException if the given permission is null.
+   */
+  public @Nullable Permission findHighestPermission(@NonNull Permission permission) {
+    var name = permission.name();
+    var best = better(this.wildcardRoot.wildcard, this.exactPermissions.get(foldCase(name)));
+
+    // walk down the tree from each position of the name to find all wildcards which are contained in the name
+    for (var start = 0; start < name.length(); start++) {
+      var node = this.wildcardRoot;
+      for (var i = start; i < name.length(); i++) {
+        node = node.children.get(name.charAt(i));
+        if (node == null) {
+          break;
+        }
+        best = better(best, node.wildcard);
+      }
+    }
+
+    return best == null || best.permission().compareTo(permission) < 0 ? null : best.permission();
+  }
+
+  /**
+   * Folds the case of each character in the given string the same way {@link String#equalsIgnoreCase(String)} compares
+   * characters, which makes the returned keys of two strings equal if the strings are equal ignoring case.
+   *
+   * @param name the string to fold.
+   * @return the case-folded version of the given string.
+   * @throws NullPointerException if the given string is null.
+   */
+  private static @NonNull String foldCase(@NonNull String name) {
+    var chars = name.toCharArray();
+    for (var i = 0; i < chars.length; i++) {
+      chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Selects the better of the given permission candidates, which is the one with the higher absolute potency or the
+   * one which was compiled last in case both have the same absolute potency.
+   *
+   * @param left  the first candidate, can be null.
+   * @param right the second candidate, can be null.
+   * @return the better candidate of both, null if both candidates are null.
+   */
+  private static @Nullable Candidate better(@Nullable Candidate left, @Nullable Candidate right) {
+    if (left == null || right == null) {
+      return left == null ? right : left;
+    }
+
+    var result = left.permission().compareTo(right.permission());
+    if (result == 0) {
+      return left.index() >= right.index() ? left : right;
+    }
+    return result > 0 ? left : right;
+  }
+
+  /**
+   * A permission in a compiled tree.
+   *
+   * @param permission the permission.
+   * @param index      the position of the permission in the iteration order during compilation.
+   */
+  private record Candidate(@NonNull Permission permission, int index) {
+
+  }
+
+  /**
+   * A node in the wildcard part of a compiled tree.
+   */
+  private static final class Node {
+
+    private final Map<Character, Node> children = new HashMap<>();
+    private Candidate wildcard;
+  }
+}
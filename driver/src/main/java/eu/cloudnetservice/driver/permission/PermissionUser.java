@@ -137,7 +137,7 @@ public boolean checkPassword(@Nullable String password) {
    * @return all groups of the user.
    */
   public @NonNull Collection<PermissionUserGroupInfo> groups() {
-    return this.groups;
+    return new ModificationTrackingSet<>(this.groups, this::markModified);
   }
 
   /**
@@ -220,7 +220,8 @@ public boolean checkPassword(@Nullable String password) {
     if (oldInfo != null) {
       this.removeGroup(oldInfo.group());
     }
-    this.groups().add(groupInfo);
+    this.groups.add(groupInfo);
+    this.markModified();
     // for chaining
     return this;
   }
@@ -236,7 +237,11 @@ public boolean checkPassword(@Nullable String password) {
    * @throws NullPointerException if the given group is null.
    */
   public boolean removeGroup(@NonNull String group) {
-    return this.groups.removeIf(info -> info.group().equalsIgnoreCase(group));
+    var removed = this.groups.removeIf(info -> info.group().equalsIgnoreCase(group));
+    if (removed) {
+      this.markModified();
+    }
+    return removed;
   }
 
   /**
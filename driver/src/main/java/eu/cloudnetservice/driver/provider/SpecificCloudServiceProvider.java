@@ -25,6 +25,7 @@
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
 import eu.cloudnetservice.driver.service.ServiceRemoteInclusion;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.service.ThreadSnapshot;
 import java.util.Collection;
 import java.util.Queue;
 import lombok.NonNull;
@@ -83,6 +84,19 @@ public interface SpecificCloudServiceProvider {
    */
   @Nullable ServiceInfoSnapshot forceUpdateServiceInfo();
 
+  /**
+   * Requests a snapshot of all threads of the service process. The thread information is not part of the process
+   * snapshot which is published by the service, as capturing it pauses the service process. This method returns an
+   * empty collection when the underlying service
+   * <ol>
+   *   <li>doesn't exist anymore.
+   *   <li>is not started and therefore not connected to a node.
+   * </ol>
+   *
+   * @return a snapshot of all threads of the service process, empty as described above.
+   */
+  @NonNull Collection<ThreadSnapshot> threadSnapshots();
+
   /**
    * Adds the given service template to the inclusion queue. This does not mean that the given template will be copied
    * directly onto the service. The template will be copied when
@@ -344,6 +358,21 @@ default void removeAndExecuteDeployments() {
     return Task.supply(this::forceUpdateServiceInfo);
   }
 
+  /**
+   * Requests a snapshot of all threads of the service process. The thread information is not part of the process
+   * snapshot which is published by the service, as capturing it pauses the service process. This method returns an
+   * empty collection when the underlying service
+   * <ol>
+   *   <li>doesn't exist anymore.
+   *   <li>is not started and therefore not connected to a node.
+   * </ol>
+   *
+   * @return a task completed with a snapshot of all threads of the service process, empty as described above.
+   */
+  default @NonNull Task<Collection<ThreadSnapshot>> threadSnapshotsAsync() {
+    return Task.supply(this::threadSnapshots);
+  }
+
   /**
    * Adds the given service template to the inclusion queue. This does not mean that the given template will be copied
    * directly onto the service. The template will be copied when
@@ -24,6 +24,7 @@
 import java.lang.management.ThreadMXBean;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import lombok.NonNull;
 
@@ -40,7 +41,9 @@
  * @param unloadedClassCount      the amount of classes the associated process unloaded since starting.
  * @param totalLoadedClassCount   the amount of classes which were loaded since the associated process was started.
  * @param currentLoadedClassCount the amount of classes which are currently loaded by the associated process.
- * @param threads                 a snapshot of all threads which are currently known to the associated process.
+ * @param threadCount             the amount of threads which are currently alive in the associated process.
+ * @param threads                 a snapshot of all threads which are currently known to the associated process, only
+ *                                present in snapshots which were explicitly requested to include thread information.
  * @since 4.0
  */
 public record ProcessSnapshot(
@@ -53,6 +56,7 @@ public record ProcessSnapshot(
   long unloadedClassCount,
   long totalLoadedClassCount,
   int currentLoadedClassCount,
+  int threadCount,
   @NonNull Collection<ThreadSnapshot> threads
 ) implements Cloneable {
 
@@ -64,7 +68,7 @@ public record ProcessSnapshot(
 
   private static final long OWN_PID = ProcessHandle.current().pid();
   private static final ProcessSnapshot EMPTY = new ProcessSnapshot(
-    -1, -1, -1, -1, -1, -1, -1, -1, -1, Set.of());
+    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, Set.of());
 
   /**
    * Get a jvm static process snapshot which holds no information about any process.
@@ -76,11 +80,28 @@ public record ProcessSnapshot(
   }
 
   /**
-   * Creates a new process snapshot info filled with information about the current process.
+   * Creates a new process snapshot info filled with information about the current process. The snapshot only contains
+   * the amount of threads, not the threads themselves, as capturing them requires a dump of all threads which pauses
+   * the process. Use {@link #selfWithThreads()} to create a snapshot including the threads.
    *
    * @return a process snapshot holding information about the current process.
    */
   public static @NonNull ProcessSnapshot self() {
+    return self(List.of());
+  }
+
+  /**
+   * Creates a new process snapshot info filled with information about the current process, including a snapshot of
+   * all threads of the process. Note that this requires a dump of all threads which pauses the process, this method
+   * should therefore only be used when the thread information is explicitly requested.
+   *
+   * @return a process snapshot holding information about the current process and its threads.
+   */
+  public static @NonNull ProcessSnapshot selfWithThreads() {
+    return self(Arrays.stream(THREAD_MX_BEAN.dumpAllThreads(false, false, 0)).map(ThreadSnapshot::from).toList());
+  }
+
+  private static @NonNull ProcessSnapshot self(@NonNull Collection<ThreadSnapshot> threads) {
     return new ProcessSnapshot(
       ownPID(),
       CpuUsageResolver.processCpuLoad(),
@@ -91,7 +112,8 @@ public record ProcessSnapshot(
       CLASS_LOADING_MX_BEAN.getUnloadedClassCount(),
       CLASS_LOADING_MX_BEAN.getTotalLoadedClassCount(),
       CLASS_LOADING_MX_BEAN.getLoadedClassCount(),
-      Arrays.stream(THREAD_MX_BEAN.dumpAllThreads(false, false, 0)).map(ThreadSnapshot::from).toList());
+      THREAD_MX_BEAN.getThreadCount(),
+      threads);
   }
 
   /**
@@ -20,19 +20,27 @@
 import eu.cloudnetservice.common.Named;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.property.DefaultedDocPropertyHolder;
+import eu.cloudnetservice.driver.document.property.DocProperty;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.ToString;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.UnknownNullability;
 
 /**
  * Represents the state of a service at the snapshot creation time. A service snapshot (once created) will never change
  * its state again. If the latest information is needed from a service, make sure you actually force the service into
  * updating its last snapshot to get a new, clean version of it.
+ * <p>
+ * As the properties of a snapshot never change, values read via {@link #readProperty(DocProperty)} are decoded once per
+ * property and reused for all further reads on the same snapshot instance. Replacing the snapshot of a service (which
+ * always creates a new instance) therefore implicitly invalidates all decoded values.
  *
  * @since 4.0
  */
@@ -41,6 +49,9 @@
 public class ServiceInfoSnapshot
   implements Named, DefaultedDocPropertyHolder, Cloneable, Comparable<ServiceInfoSnapshot> {
 
+  private static final Object NULL_PROPERTY_VALUE = new Object();
+  private static final int MAX_DECODED_PROPERTIES = Integer.getInteger("cloudnet.snapshot.max-decoded-properties", 64);
+
   protected final long creationTime;
 
   protected final HostAndPort address;
@@ -53,6 +64,10 @@
 
   protected final Document properties;
 
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private transient volatile Map<DocProperty<?>, Object> decodedProperties;
+
   /**
    * Constructs a new service info snapshot. This constructor is for internal use only, there should be no reason
    * normally why you need to create a service info snapshot instance yourself.
@@ -187,6 +202,43 @@ public long connectedTime() {
     return this.properties;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <E> @UnknownNullability E readProperty(@NonNull DocProperty<E> property) {
+    var decodedProperties = this.decodedProperties();
+    var decodedValue = decodedProperties.get(property);
+    if (decodedValue != null) {
+      return decodedValue == NULL_PROPERTY_VALUE ? null : (E) decodedValue;
+    }
+
+    // decode the value from the underlying document and remember it. The amount of remembered properties is limited
+    // in case a caller constructs a new property instance for each read which would otherwise never hit the cache
+    var value = property.readFrom(this.properties);
+    if (decodedProperties.size() < MAX_DECODED_PROPERTIES) {
+      decodedProperties.putIfAbsent(property, value == null ? NULL_PROPERTY_VALUE : value);
+    }
+    return value;
+  }
+
+  /**
+   * Get the map holding the values which were already decoded from the properties of this snapshot, lazily creating it
+   * if needed. The map is not created eagerly as deserialization of a snapshot might skip the constructor.
+   *
+   * @return the decoded property values of this snapshot.
+   */
+  private @NonNull Map<DocProperty<?>, Object> decodedProperties() {
+    var decodedProperties = this.decodedProperties;
+    if (decodedProperties == null) {
+      // racing threads might both create a map, but that only results in a value being decoded twice
+      decodedProperties = new ConcurrentHashMap<>();
+      this.decodedProperties = decodedProperties;
+    }
+    return decodedProperties;
+  }
+
   /**
    * {@inheritDoc}
    */
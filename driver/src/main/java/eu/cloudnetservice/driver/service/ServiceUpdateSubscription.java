@@ -0,0 +1,185 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.NonNull;
+
+/**
+ * The interest of a service in lifecycle and snapshot updates of other services. The node only routes an update to a
+ * service if the updated service matches its subscription. A service always receives the updates of itself, services
+ * which did not declare a subscription receive all updates.
+ *
+ * @param wildcard     if the service is interested in the updates of all services.
+ * @param tasks        the names of the tasks the service is interested in.
+ * @param groups       the names of the groups the service is interested in.
+ * @param environments the names of the environments the service is interested in.
+ * @param services     the names of the specific services the service is interested in.
+ * @since 4.0
+ */
+public record ServiceUpdateSubscription(
+  boolean wildcard,
+  @NonNull Set<String> tasks,
+  @NonNull Set<String> groups,
+  @NonNull Set<String> environments,
+  @NonNull Set<String> services
+) {
+
+  private static final ServiceUpdateSubscription ALL = new ServiceUpdateSubscription(
+    true,
+    Set.of(),
+    Set.of(),
+    Set.of(),
+    Set.of());
+
+  /**
+   * Get a subscription which matches the updates of all services, for example for proxies which need to know about
+   * every service in the network.
+   *
+   * @return a subscription matching all services.
+   */
+  public static @NonNull ServiceUpdateSubscription all() {
+    return ALL;
+  }
+
+  /**
+   * Constructs a new builder for a service update subscription.
+   *
+   * @return a new service update subscription builder.
+   */
+  public static @NonNull Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Checks if the given service is matched by this subscription.
+   *
+   * @param snapshot the snapshot of the service to check.
+   * @return true if the updates of the given service should be routed to the subscriber, false otherwise.
+   * @throws NullPointerException if the given snapshot is null.
+   */
+  public boolean matches(@NonNull ServiceInfoSnapshot snapshot) {
+    if (this.wildcard) {
+      return true;
+    }
+
+    var serviceId = snapshot.serviceId();
+    if (this.services.contains(serviceId.name())
+      || this.tasks.contains(serviceId.taskName())
+      || this.environments.contains(serviceId.environmentName())) {
+      return true;
+    }
+
+    for (var group : snapshot.configuration().groups()) {
+      if (this.groups.contains(group)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * A builder for a service update subscription.
+   *
+   * @since 4.0
+   */
+  public static final class Builder {
+
+    private final Set<String> tasks = new HashSet<>();
+    private final Set<String> groups = new HashSet<>();
+    private final Set<String> environments = new HashSet<>();
+    private final Set<String> services = new HashSet<>();
+
+    private boolean wildcard;
+
+    /**
+     * Sets if the subscription should match the updates of all services. When set to true all other settings of this
+     * builder are ignored.
+     *
+     * @param wildcard if the subscription should match all services.
+     * @return the same instance as used to call the method, for chaining.
+     */
+    public @NonNull Builder wildcard(boolean wildcard) {
+      this.wildcard = wildcard;
+      return this;
+    }
+
+    /**
+     * Adds the given tasks to the tasks which are matched by the subscription.
+     *
+     * @param tasks the names of the tasks to match.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException if the given tasks are null.
+     */
+    public @NonNull Builder tasks(@NonNull Collection<String> tasks) {
+      this.tasks.addAll(tasks);
+      return this;
+    }
+
+    /**
+     * Adds the given groups to the groups which are matched by the subscription.
+     *
+     * @param groups the names of the groups to match.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException if the given groups are null.
+     */
+    public @NonNull Builder groups(@NonNull Collection<String> groups) {
+      this.groups.addAll(groups);
+      return this;
+    }
+
+    /**
+     * Adds the given environments to the environments which are matched by the subscription.
+     *
+     * @param environments the names of the environments to match.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException if the given environments are null.
+     */
+    public @NonNull Builder environments(@NonNull Collection<String> environments) {
+      this.environments.addAll(environments);
+      return this;
+    }
+
+    /**
+     * Adds the given services to the specific services which are matched by the subscription.
+     *
+     * @param services the names of the services to match.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException if the given services are null.
+     */
+    public @NonNull Builder services(@NonNull Collection<String> services) {
+      this.services.addAll(services);
+      return this;
+    }
+
+    /**
+     * Builds a new service update subscription from the options set in this builder.
+     *
+     * @return a new service update subscription.
+     */
+    public @NonNull ServiceUpdateSubscription build() {
+      return new ServiceUpdateSubscription(
+        this.wildcard,
+        Set.copyOf(this.tasks),
+        Set.copyOf(this.groups),
+        Set.copyOf(this.environments),
+        Set.copyOf(this.services));
+    }
+  }
+}
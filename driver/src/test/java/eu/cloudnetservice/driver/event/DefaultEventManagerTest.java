@@ -18,6 +18,9 @@
 
 import com.google.common.collect.Iterables;
 import eu.cloudnetservice.driver.event.events.service.CloudServiceLifecycleChangeEvent;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -89,6 +92,63 @@ void testUnregisterListenerByClassLoader() {
     Assertions.assertEquals(0, eventManager.listeners.size());
   }
 
+  @Test
+  @Order(40)
+  void testEventCallOnChannel() {
+    var eventManager = new DefaultEventManager();
+    var listener = new PublicTestListener();
+    eventManager.registerListener(listener);
+
+    Assertions.assertTrue(eventManager.hasListeners(PublicTestEvent.class));
+    Assertions.assertFalse(eventManager.hasListeners(TestEvent.class));
+
+    eventManager.callEvent(new PublicTestEvent());
+    Assertions.assertEquals(1, listener.wildcardCalls);
+    Assertions.assertEquals(0, listener.channelCalls);
+
+    eventManager.callEvent("test", new PublicTestEvent());
+    Assertions.assertEquals(1, listener.wildcardCalls);
+    Assertions.assertEquals(1, listener.channelCalls);
+
+    eventManager.callEvent("unknown", new PublicTestEvent());
+    Assertions.assertEquals(1, listener.wildcardCalls);
+    Assertions.assertEquals(1, listener.channelCalls);
+
+    eventManager.unregisterListener(listener);
+    Assertions.assertFalse(eventManager.hasListeners(PublicTestEvent.class));
+    Assertions.assertTrue(eventManager.bakedListeners.isEmpty());
+  }
+
+  @Test
+  @Order(50)
+  void testAsyncListenerCall() throws Exception {
+    var eventManager = new DefaultEventManager();
+    var listener = new AsyncTestListener();
+    eventManager.registerListener(listener);
+
+    var event = eventManager.callEvent(new PublicTestEvent());
+    Assertions.assertTrue(listener.asyncLatch.await(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(1, listener.syncCalls.get());
+    Assertions.assertNotSame(Thread.currentThread(), listener.asyncThread);
+    Assertions.assertSame(event, listener.asyncEvent);
+  }
+
+  @Test
+  @Order(60)
+  void testCallEventAsync() {
+    var eventManager = new DefaultEventManager();
+    var listener = new PublicTestListener();
+    eventManager.registerListener(listener);
+
+    var event = new PublicTestEvent();
+    Assertions.assertSame(event, eventManager.callEventAsync(event).getOrNull());
+    Assertions.assertEquals(1, listener.wildcardCalls);
+
+    // no listeners on the channel, the task should be completed instantly
+    var task = eventManager.callEventAsync("unknown", new PublicTestEvent());
+    Assertions.assertTrue(task.isDone());
+  }
+
   private DefaultEventManager newEventManagerWithListener() {
     var eventManager = new DefaultEventManager();
 
@@ -141,4 +201,47 @@ private TestEvent(int number) {
       this.number = number;
     }
   }
+
+  public static final class PublicTestListener {
+
+    private int wildcardCalls;
+    private int channelCalls;
+
+    @EventListener
+    public void handleWildcard(PublicTestEvent event) {
+      this.wildcardCalls++;
+    }
+
+    @EventListener(channel = "test")
+    public void handleChannel(PublicTestEvent event) {
+      this.channelCalls++;
+    }
+  }
+
+  public static final class AsyncTestListener {
+
+    private final AtomicInteger syncCalls = new AtomicInteger();
+    private final CountDownLatch asyncLatch = new CountDownLatch(1);
+
+    private volatile Thread asyncThread;
+    private volatile PublicTestEvent asyncEvent;
+
+    @EventListener
+    public void handleSync(PublicTestEvent event) {
+      this.syncCalls.incrementAndGet();
+    }
+
+    @EventListener(async = true)
+    public void handleAsync(PublicTestEvent event) {
+      // the synchronous listener must have been called before
+      Assertions.assertEquals(1, this.syncCalls.get());
+      this.asyncThread = Thread.currentThread();
+      this.asyncEvent = event;
+      this.asyncLatch.countDown();
+    }
+  }
+
+  public static final class PublicTestEvent extends Event {
+
+  }
 }
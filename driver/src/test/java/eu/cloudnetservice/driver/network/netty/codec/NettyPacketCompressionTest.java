@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.codec;
+
+import eu.cloudnetservice.driver.network.def.PacketCompressionType;
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.DefaultBufferAllocators;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandlerContext;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class NettyPacketCompressionTest {
+
+  private static final byte[] CONTENT = "CloudNet".repeat(128).getBytes(StandardCharsets.UTF_8);
+
+  private static ChannelHandlerContext mockContext(List<Object> fired) {
+    var channel = Mockito.mock(Channel.class);
+    Mockito.when(channel.isActive()).thenReturn(true);
+
+    var ctx = Mockito.mock(ChannelHandlerContext.class);
+    Mockito.when(ctx.channel()).thenReturn(channel);
+    Mockito.when(ctx.bufferAllocator()).thenReturn(DefaultBufferAllocators.onHeapAllocator());
+    Mockito.when(ctx.fireChannelRead(Mockito.any())).then(invocation -> {
+      fired.add(invocation.getArgument(0));
+      return ctx;
+    });
+    return ctx;
+  }
+
+  private static NettyPacketCompressor compressor(PacketCompressionType type, int threshold) {
+    var compressor = new NettyPacketCompressor();
+    var ctx = mockContext(new ArrayList<>());
+    compressor.enable(ctx, type, threshold);
+
+    // enabling the compression must signal the other side using an empty frame
+    var marker = ArgumentCaptor.forClass(Buffer.class);
+    Mockito.verify(ctx).writeAndFlush(marker.capture());
+    try (var frame = marker.getValue()) {
+      Assertions.assertEquals(0, frame.readableBytes());
+    }
+
+    return compressor;
+  }
+
+  private static Buffer compress(NettyPacketCompressor compressor) {
+    List<Object> out = new ArrayList<>();
+    try (var frame = DefaultBufferAllocators.onHeapAllocator().copyOf(CONTENT)) {
+      compressor.encode(mockContext(new ArrayList<>()), frame, out);
+    }
+
+    Assertions.assertEquals(1, out.size());
+    return (Buffer) out.get(0);
+  }
+
+  private static void assertDecompressesToContent(Buffer compressed, boolean negotiated) throws Exception {
+    List<Object> fired = new ArrayList<>();
+    var decompressor = new NettyPacketDecompressor();
+    if (negotiated) {
+      decompressor.channelRead(mockContext(fired), DefaultBufferAllocators.onHeapAllocator().allocate(0));
+    }
+
+    try (compressed) {
+      decompressor.decode(mockContext(fired), compressed);
+    }
+
+    Assertions.assertEquals(1, fired.size());
+    try (var frame = (Buffer) fired.get(0)) {
+      var content = new byte[frame.readableBytes()];
+      frame.readBytes(content, 0, content.length);
+      Assertions.assertArrayEquals(CONTENT, content);
+    }
+  }
+
+  @Test
+  void testFramesAreNotPrefixedBeforeNegotiation() throws Exception {
+    var compressed = compress(new NettyPacketCompressor());
+    // the frame is passed through unchanged to stay compatible with components which don't support compression
+    Assertions.assertEquals(CONTENT.length, compressed.readableBytes());
+    assertDecompressesToContent(compressed, false);
+  }
+
+  @Test
+  void testFrameBelowThresholdIsNotCompressed() throws Exception {
+    var compressed = compress(compressor(PacketCompressionType.LZ4, CONTENT.length + 1));
+    // only the uncompressed marker is added in front of the frame
+    Assertions.assertEquals(CONTENT.length + 1, compressed.readableBytes());
+    assertDecompressesToContent(compressed, true);
+  }
+
+  @Test
+  void testCompressedRoundTrip() throws Exception {
+    var compressed = compress(compressor(PacketCompressionType.LZ4, 0));
+    Assertions.assertTrue(compressed.readableBytes() < CONTENT.length);
+    assertDecompressesToContent(compressed, true);
+  }
+}
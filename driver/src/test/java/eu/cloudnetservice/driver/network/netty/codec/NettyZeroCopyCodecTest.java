@@ -0,0 +1,179 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.codec;
+
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.netty.buffer.NettyImmutableDataBuf;
+import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.CompositeBuffer;
+import io.netty5.buffer.DefaultBufferAllocators;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandlerContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class NettyZeroCopyCodecTest {
+
+  private static ChannelHandlerContext mockOutboundContext() {
+    var ctx = Mockito.mock(ChannelHandlerContext.class);
+    Mockito.when(ctx.bufferAllocator()).thenReturn(DefaultBufferAllocators.onHeapAllocator());
+    return ctx;
+  }
+
+  private static ChannelHandlerContext mockInboundContext(List<Object> fired) {
+    var channel = Mockito.mock(Channel.class);
+    Mockito.when(channel.isActive()).thenReturn(true);
+
+    var ctx = mockOutboundContext();
+    Mockito.when(ctx.channel()).thenReturn(channel);
+    Mockito.when(ctx.fireChannelRead(Mockito.any())).then(invocation -> {
+      fired.add(invocation.getArgument(0));
+      return ctx;
+    });
+    return ctx;
+  }
+
+  private static Buffer encode(Packet packet) {
+    var ctx = mockOutboundContext();
+
+    // encode the packet
+    List<Object> encoded = new ArrayList<>();
+    NettyCompositePacketEncoder.INSTANCE.encode(ctx, packet, encoded);
+    Assertions.assertEquals(1, encoded.size());
+    Assertions.assertInstanceOf(CompositeBuffer.class, encoded.get(0));
+
+    // prepend the frame length
+    List<Object> framed = new ArrayList<>();
+    try (var frame = (Buffer) encoded.get(0)) {
+      VarInt32CompositeFramePrepender.INSTANCE.encode(ctx, frame, framed);
+    }
+
+    Assertions.assertEquals(1, framed.size());
+    return (Buffer) framed.get(0);
+  }
+
+  private static Packet decode(Buffer in) {
+    // split the frame from the inbound buffer
+    List<Object> frames = new ArrayList<>();
+    new VarInt32FrameDecoder(true).decode(mockInboundContext(frames), in);
+    Assertions.assertEquals(1, frames.size());
+    Assertions.assertEquals(0, in.readableBytes());
+
+    // decode the packet from the frame
+    List<Object> packets = new ArrayList<>();
+    try (var frame = (Buffer) frames.get(0)) {
+      new NettyPacketDecoder(true).decode(mockInboundContext(packets), frame);
+      Assertions.assertEquals(0, frame.readableBytes());
+    }
+
+    Assertions.assertEquals(1, packets.size());
+    return (Packet) packets.get(0);
+  }
+
+  @Test
+  void testZeroCopyRoundTrip() {
+    var queryUniqueId = UUID.randomUUID();
+    DataBuf content = DataBufFactory.defaultFactory().createEmpty()
+      .writeBoolean(true)
+      .writeInt(1234)
+      .writeString("Hello World");
+
+    var packet = new BasePacket(12, true, content);
+    packet.uniqueId(queryUniqueId);
+
+    var in = encode(packet);
+    // the packet content is owned by the encoded frame now
+    Assertions.assertFalse(content.accessible());
+
+    var decoded = decode(in);
+    // the inbound buffer can be closed, the packet content shares the memory
+    in.close();
+    Assertions.assertFalse(in.isAccessible());
+
+    Assertions.assertEquals(12, decoded.channel());
+    Assertions.assertTrue(decoded.prioritized());
+    Assertions.assertEquals(queryUniqueId, decoded.uniqueId());
+
+    var body = ((NettyImmutableDataBuf) decoded.content()).buffer();
+    Assertions.assertTrue(body.readOnly());
+
+    Assertions.assertTrue(decoded.content().readBoolean());
+    Assertions.assertEquals(1234, decoded.content().readInt());
+    Assertions.assertEquals("Hello World", decoded.content().readString());
+
+    // reading the last byte releases the content
+    Assertions.assertFalse(decoded.content().accessible());
+    Assertions.assertFalse(body.isAccessible());
+  }
+
+  @Test
+  void testUnreadContentReleasedExplicitly() {
+    var content = DataBufFactory.defaultFactory().createEmpty().writeLong(5L).writeLong(10L);
+
+    try (var in = encode(new BasePacket(1, content))) {
+      var decoded = decode(in);
+      Assertions.assertEquals(5L, decoded.content().readLong());
+      Assertions.assertTrue(decoded.content().accessible());
+
+      decoded.content().release();
+      Assertions.assertFalse(decoded.content().accessible());
+    }
+  }
+
+  @Test
+  void testAcquiredContentIsNotTaken() {
+    var content = DataBufFactory.defaultFactory().createEmpty().writeInt(42).acquire();
+
+    try (var in = encode(new BasePacket(1, content))) {
+      // the content is still acquired and must be readable as before
+      Assertions.assertTrue(content.accessible());
+      Assertions.assertEquals(Integer.BYTES, content.readableBytes());
+
+      var decoded = decode(in);
+      Assertions.assertEquals(42, decoded.content().readInt());
+      Assertions.assertFalse(decoded.content().accessible());
+    }
+
+    // the last release frees the content
+    Assertions.assertEquals(42, content.readInt());
+    Assertions.assertFalse(content.accessible());
+  }
+
+  @Test
+  void testReadOnlyContentIsShared() {
+    var buffer = DefaultBufferAllocators.onHeapAllocator().copyOf(new byte[]{1, 2, 3, 4}).makeReadOnly();
+    var content = new NettyImmutableDataBuf(buffer);
+
+    var in = encode(new BasePacket(1, content));
+    Assertions.assertTrue(in.readOnly());
+    // the packet content was released, the encoded frame still holds the shared memory
+    Assertions.assertFalse(buffer.isAccessible());
+
+    var decoded = decode(in);
+    in.close();
+
+    Assertions.assertArrayEquals(new byte[]{1, 2, 3, 4}, decoded.content().toByteArray());
+    Assertions.assertFalse(decoded.content().accessible());
+  }
+}
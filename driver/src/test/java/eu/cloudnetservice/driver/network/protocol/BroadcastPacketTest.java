@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.protocol;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class BroadcastPacketTest {
+
+  @Test
+  void testDuplicatesShareContent() {
+    var packet = new BroadcastPacket(12, true, DataBuf.empty().writeString("Hello").writeInt(1234));
+
+    var first = packet.duplicate();
+    var second = packet.duplicate();
+    packet.release();
+
+    for (var duplicate : List.of(first, second)) {
+      Assertions.assertEquals(12, duplicate.channel());
+      Assertions.assertTrue(duplicate.prioritized());
+      Assertions.assertNull(duplicate.uniqueId());
+
+      Assertions.assertEquals("Hello", duplicate.content().readString());
+      Assertions.assertEquals(1234, duplicate.content().readInt());
+      Assertions.assertFalse(duplicate.content().accessible());
+    }
+  }
+
+  @Test
+  void testSendToAllChannels() {
+    List<Packet> sentPackets = new ArrayList<>();
+    var channels = new ArrayList<NetworkChannel>();
+    for (var i = 0; i < 3; i++) {
+      var channel = Mockito.mock(NetworkChannel.class);
+      Mockito.doAnswer(invocation -> sentPackets.add(invocation.getArgument(0)))
+        .when(channel)
+        .sendPacket(Mockito.any(Packet.class));
+      channels.add(channel);
+    }
+
+    var packet = new BroadcastPacket(1, false, DataBuf.empty().writeLong(5L));
+    packet.sendTo(channels, false);
+
+    Assertions.assertFalse(packet.content().accessible());
+    Assertions.assertEquals(3, sentPackets.size());
+    for (var sentPacket : sentPackets) {
+      Assertions.assertEquals(5L, sentPacket.content().readLong());
+    }
+  }
+}
@@ -59,6 +59,18 @@ void testSendQueryPacketWithFixedId() {
     Assertions.assertFalse(manager.hasWaitingHandler(uniqueId));
   }
 
+  @Test
+  void testSendQueryPacketDoesNotWaitForWrite() {
+    var mockedPacket = this.mockUniqueIdAblePacket();
+    var channel = Mockito.mock(NetworkChannel.class);
+    QueryPacketManager manager = new DefaultQueryPacketManager(channel);
+
+    manager.sendQueryPacket(mockedPacket.first());
+
+    Mockito.verify(channel).sendPacket(mockedPacket.first());
+    Mockito.verify(channel, Mockito.never()).sendPacketSync(Mockito.any(Packet.class));
+  }
+
   @Test
   void testGetAndRemoveHandler() {
     var mockedPacket = this.mockUniqueIdAblePacket();
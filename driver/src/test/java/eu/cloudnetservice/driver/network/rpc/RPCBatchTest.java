@@ -0,0 +1,229 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc;
+
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.NetworkComponent;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCFactory;
+import eu.cloudnetservice.driver.network.rpc.defaults.handler.DefaultRPCHandlerRegistry;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
+import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
+import eu.cloudnetservice.driver.network.rpc.listener.RPCBatchPacketListener;
+import eu.cloudnetservice.driver.network.rpc.listener.RPCPacketListener;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+
+public class RPCBatchTest {
+
+  private static RPCHandlerRegistry handlerRegistry() {
+    RPCHandlerRegistry registry = new DefaultRPCHandlerRegistry();
+    RPCFactory factory = new DefaultRPCFactory(new DefaultObjectMapper(), DataBufFactory.defaultFactory());
+    registry.registerHandler(factory.newHandler(TestApi.class, new TestApi()));
+    return registry;
+  }
+
+  private static NetworkChannel mockChannel(boolean parallel) {
+    return mockChannel(parallel, new RPCPacketListener(handlerRegistry()));
+  }
+
+  private static NetworkChannel mockChannel(boolean parallel, RPCPacketListener requestListener) {
+    // the executor used for parallel execution should only be used when requested
+    var listener = new RPCBatchPacketListener(requestListener, runnable -> {
+      Assertions.assertTrue(parallel);
+      new Thread(runnable).start();
+    });
+
+    var response = new AtomicReference<Task<Packet>>();
+    var resultChannel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> response.get().complete(invocation.getArgument(0)))
+      .when(resultChannel)
+      .sendPacket(Mockito.any(Packet.class));
+
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> {
+        response.set(new Task<>());
+        Packet packet = invocation.getArgument(0);
+        packet.uniqueId(UUID.randomUUID());
+        listener.handle(resultChannel, packet);
+        return response.get();
+      })
+      .when(channel)
+      .sendQueryAsync(Mockito.any(Packet.class));
+    return channel;
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testBatchResultsAreInOrder(boolean parallel) {
+    var channel = mockChannel(parallel);
+    var component = Mockito.mock(NetworkComponent.class);
+    Mockito.when(component.firstChannel()).thenReturn(channel);
+
+    RPCFactory factory = new DefaultRPCFactory(new DefaultObjectMapper(), DataBufFactory.defaultFactory());
+    var sender = factory.providerForClass(component, TestApi.class);
+
+    // fire the batch twice to test the second batch which uses the method ids
+    for (var i = 0; i < 2; i++) {
+      var results = factory.newBatch()
+        .parallel(parallel)
+        .add(sender.invokeMethod("concat", "Hello", "World"))
+        .add(sender.invokeMethod("sum", 1, 2))
+        .add(sender.invokeMethod("self").join(sender.invokeMethod("sum", 3, 4)))
+        .fireSync();
+      Assertions.assertEquals(Arrays.asList("HelloWorld", 3, 7), results);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testBatchFailsIfEntryFails(boolean parallel) {
+    var channel = mockChannel(parallel);
+    RPCFactory factory = new DefaultRPCFactory(new DefaultObjectMapper(), DataBufFactory.defaultFactory());
+    var sender = factory.providerForClass(null, TestApi.class);
+
+    var batch = factory.newBatch()
+      .parallel(parallel)
+      .add(sender.invokeMethod("sum", 1, 2))
+      .add(sender.invokeMethod("fail"));
+    Assertions.assertThrows(RPCExecutionException.class, () -> batch.fireSync(channel));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void testBatchRespondsIfEntryHandlingThrows(boolean parallel) {
+    var failed = new AtomicBoolean();
+    var requestListener = new RPCPacketListener(handlerRegistry()) {
+      @Override
+      protected DataBuf handleRequest(NetworkChannel channel, DataBuf buf) {
+        // the first entry fails outside the invocation of the target method
+        if (failed.compareAndSet(false, true)) {
+          throw new IllegalStateException("Entry failed :(");
+        }
+        return super.handleRequest(channel, buf);
+      }
+    };
+
+    var channel = mockChannel(parallel, requestListener);
+    RPCFactory factory = new DefaultRPCFactory(new DefaultObjectMapper(), DataBufFactory.defaultFactory());
+    var sender = factory.providerForClass(null, TestApi.class);
+
+    var batch = factory.newBatch()
+      .parallel(parallel)
+      .add(sender.invokeMethod("sum", 1, 2))
+      .add(sender.invokeMethod("sum", 3, 4));
+    var exception = Assertions.assertTimeoutPreemptively(
+      Duration.ofSeconds(10),
+      () -> Assertions.assertThrows(RPCExecutionException.class, () -> batch.fireSync(channel)));
+    Assertions.assertTrue(exception.getMessage().contains("Entry failed :("));
+  }
+
+  @Test
+  void testConcurrentParallelBatchesDoNotExhaustDispatcher() throws Exception {
+    RPCHandlerRegistry registry = new DefaultRPCHandlerRegistry();
+    RPCFactory factory = new DefaultRPCFactory(new DefaultObjectMapper(), DataBufFactory.defaultFactory());
+    registry.registerHandler(factory.newHandler(TestApi.class, new TestApi()));
+
+    // the batch packets are handled on the same dispatcher that is used to execute the entries of the batches
+    var dispatcher = Executors.newFixedThreadPool(2);
+    try {
+      var listener = new RPCBatchPacketListener(new RPCPacketListener(registry), dispatcher);
+
+      Map<UUID, Task<Packet>> responses = new ConcurrentHashMap<>();
+      var resultChannel = Mockito.mock(NetworkChannel.class);
+      Mockito
+        .doAnswer(invocation -> {
+          Packet packet = invocation.getArgument(0);
+          return responses.get(packet.uniqueId()).complete(packet);
+        })
+        .when(resultChannel)
+        .sendPacket(Mockito.any(Packet.class));
+
+      var channel = Mockito.mock(NetworkChannel.class);
+      Mockito
+        .doAnswer(invocation -> {
+          var response = new Task<Packet>();
+          Packet packet = invocation.getArgument(0);
+          packet.uniqueId(UUID.randomUUID());
+          responses.put(packet.uniqueId(), response);
+          dispatcher.execute(() -> Assertions.assertDoesNotThrow(() -> listener.handle(resultChannel, packet)));
+          return response;
+        })
+        .when(channel)
+        .sendQueryAsync(Mockito.any(Packet.class));
+
+      var sender = factory.providerForClass(null, TestApi.class);
+      List<Task<List<Object>>> batches = new ArrayList<>();
+      for (var i = 0; i < 8; i++) {
+        batches.add(factory.newBatch()
+          .parallel(true)
+          .add(sender.invokeMethod("sum", i, 1))
+          .add(sender.invokeMethod("sum", i, 2))
+          .add(sender.invokeMethod("sum", i, 3))
+          .fire(channel));
+      }
+
+      for (var i = 0; i < batches.size(); i++) {
+        var results = Assertions.assertTimeoutPreemptively(
+          Duration.ofSeconds(10),
+          batches.get(i)::get);
+        Assertions.assertEquals(Arrays.asList(i + 1, i + 2, i + 3), results);
+      }
+    } finally {
+      dispatcher.shutdownNow();
+      Assertions.assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+    }
+  }
+
+  public static final class TestApi {
+
+    public String concat(String left, String right) {
+      return left + right;
+    }
+
+    public int sum(int left, int right) {
+      return left + right;
+    }
+
+    public TestApi self() {
+      return this;
+    }
+
+    public void fail() {
+      throw new IllegalStateException("Failed :(");
+    }
+  }
+}
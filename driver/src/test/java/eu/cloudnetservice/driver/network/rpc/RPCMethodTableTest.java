@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class RPCMethodTableTest {
+
+  @Test
+  void testMethodIdIsUsedAfterConfirmation() {
+    var sender = RPCMethodTable.forChannel(Mockito.mock(NetworkChannel.class));
+    var receiver = RPCMethodTable.forChannel(Mockito.mock(NetworkChannel.class));
+
+    // the first reference defines the id and contains the names
+    var definition = DataBuf.empty();
+    sender.writeMethodReference(definition, "eu.cloudnetservice.Test", "test");
+    Assertions.assertEquals(
+      new RPCMethodTable.MethodReference("eu.cloudnetservice.Test", "test"),
+      receiver.readMethodReference(definition));
+    Assertions.assertEquals(0, definition.readableBytes());
+
+    // the method is defined until the sender knows that the receiver registered the id
+    sender.confirmMethodReference("eu.cloudnetservice.Test", "test");
+
+    var reference = DataBuf.empty();
+    sender.writeMethodReference(reference, "eu.cloudnetservice.Test", "test");
+    Assertions.assertEquals(1, reference.readableBytes());
+    Assertions.assertEquals(
+      new RPCMethodTable.MethodReference("eu.cloudnetservice.Test", "test"),
+      receiver.readMethodReference(reference));
+  }
+
+  @Test
+  void testUnknownMethodIdIsRejected() {
+    var receiver = RPCMethodTable.forChannel(Mockito.mock(NetworkChannel.class));
+    Assertions.assertThrows(
+      IllegalStateException.class,
+      () -> receiver.readMethodReference(DataBuf.empty().writeVarInt((5 << 1) + 1)));
+  }
+
+  @Test
+  void testHandlerIsResolvedAgainAfterRegistryModification() {
+    var sender = RPCMethodTable.forChannel(Mockito.mock(NetworkChannel.class));
+    var receiver = RPCMethodTable.forChannel(Mockito.mock(NetworkChannel.class));
+
+    var definition = DataBuf.empty();
+    sender.writeMethodReference(definition, "eu.cloudnetservice.Test", "test");
+    var method = receiver.readInboundMethod(definition);
+
+    var registry = Mockito.mock(RPCHandlerRegistry.class);
+    var handler = Mockito.mock(RPCHandler.class);
+    Mockito.when(registry.handler("eu.cloudnetservice.Test")).thenReturn(handler);
+
+    // the handler is cached as long as the registry was not modified
+    Assertions.assertSame(handler, method.handler(registry));
+    Assertions.assertSame(handler, method.handler(registry));
+    Mockito.verify(registry, Mockito.times(1)).handler("eu.cloudnetservice.Test");
+
+    Mockito.when(registry.modificationCount()).thenReturn(1L);
+    Mockito.when(registry.handler("eu.cloudnetservice.Test")).thenReturn(null);
+    Assertions.assertNull(method.handler(registry));
+
+    // the entry of the id is kept when the definition is received again
+    sender.writeMethodReference(definition, "eu.cloudnetservice.Test", "test");
+    Assertions.assertSame(method, receiver.readInboundMethod(definition));
+  }
+
+  @Test
+  void testRequestsToInactiveChannelsUseNames() {
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(channel.active()).thenReturn(false);
+    var receiver = RPCMethodTable.forChannel(Mockito.mock(NetworkChannel.class));
+
+    // confirmations must not result in an id being used, the packet might be delivered through another connection
+    var table = RPCMethodTable.forRequests(channel);
+    table.confirmMethodReference("eu.cloudnetservice.Test", "test");
+    for (var i = 0; i < 2; i++) {
+      var reference = DataBuf.empty();
+      table.writeMethodReference(reference, "eu.cloudnetservice.Test", "test");
+      Assertions.assertEquals(0, reference.readVarInt());
+      Assertions.assertEquals("eu.cloudnetservice.Test", reference.readString());
+      Assertions.assertEquals("test", reference.readString());
+    }
+
+    var definition = DataBuf.empty();
+    table.writeMethodReference(definition, "eu.cloudnetservice.Test", "test");
+    Assertions.assertEquals(
+      new RPCMethodTable.MethodReference("eu.cloudnetservice.Test", "test"),
+      receiver.readMethodReference(definition));
+
+    Mockito.when(channel.active()).thenReturn(true);
+    Assertions.assertSame(RPCMethodTable.forChannel(channel), RPCMethodTable.forRequests(channel));
+  }
+
+  @Test
+  void testTablesAreBoundToChannels() {
+    var channel = Mockito.mock(NetworkChannel.class);
+    Assertions.assertSame(RPCMethodTable.forChannel(channel), RPCMethodTable.forChannel(channel));
+    Assertions.assertNotSame(
+      RPCMethodTable.forChannel(channel),
+      RPCMethodTable.forChannel(Mockito.mock(NetworkChannel.class)));
+  }
+}
@@ -99,7 +99,7 @@ void testMethodInvocation() {
     var nestedSender = factory.providerForClass(component, TestApiClassNested.class);
     var veryNestedSender = factory.providerForClass(component, TestApiClassVeryNested.class);
     // pre-save the arguments we are using
-    var snapshot = ProcessSnapshot.self();
+    var snapshot = ProcessSnapshot.selfWithThreads();
     var integers = Arrays.asList(185, 186, 188);
     // send an invoke request of the method to the handler
     Map<Long, Map<String, String>> result = sender
@@ -23,6 +23,7 @@
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.serializers.FunctionalObjectSerializer;
 import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.driver.service.ServiceConfiguration;
 import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
@@ -145,7 +146,7 @@ static Stream<Arguments> dataClassProvider() {
       Arguments.of(new ServiceInfoSnapshot(
         System.currentTimeMillis(),
         new HostAndPort("127.0.1.1", 99),
-        ProcessSnapshot.self(),
+        ProcessSnapshot.selfWithThreads(),
         ServiceConfiguration.builder()
           .taskName("Lobby")
           .environment(ServiceEnvironmentType.BUNGEECORD)
@@ -373,4 +374,57 @@ void testTimeClassSerialization(Object timeInstance) {
     Assertions.assertNotNull(result);
     Assertions.assertEquals(timeInstance, result);
   }
+
+  @Test
+  @Order(90)
+  void testBindingChangesReplaceResolvedSerializers() {
+    var mapper = new DefaultObjectMapper();
+    var listType = TypeFactory.parameterizedClass(List.class, String.class);
+
+    // resolve the serializers of the types once
+    var buf = DataBuf.empty();
+    mapper.writeObject(buf, "test");
+    mapper.writeObject(buf, List.of("test"));
+    Assertions.assertEquals("test", mapper.readObject(buf, String.class));
+    Assertions.assertEquals(List.of("test"), mapper.readObject(buf, listType));
+
+    // the new binding must be used for all following writes and reads
+    mapper.unregisterBinding(String.class, false);
+    mapper.registerBinding(
+      String.class,
+      FunctionalObjectSerializer.of(buffer -> buffer.readString() + "!", DataBuf.Mutable::writeString),
+      false);
+
+    buf = DataBuf.empty();
+    mapper.writeObject(buf, "test");
+    mapper.writeObject(buf, List.of("test"));
+    Assertions.assertEquals("test!", mapper.readObject(buf, String.class));
+    Assertions.assertEquals(List.of("test!"), mapper.readObject(buf, listType));
+  }
+
+  @Test
+  @Order(100)
+  void testRepeatedServiceSnapshotRoundTrips() {
+    var mapper = new DefaultObjectMapper();
+    var snapshot = new ServiceInfoSnapshot(
+      System.currentTimeMillis(),
+      new HostAndPort("127.0.0.1", 25565),
+      ProcessSnapshot.self(),
+      ServiceConfiguration.builder()
+        .taskName("Lobby")
+        .environment(ServiceEnvironmentType.MINECRAFT_SERVER)
+        .maxHeapMemory(512)
+        .startPort(25565)
+        .build(),
+      System.currentTimeMillis(),
+      ServiceLifeCycle.RUNNING,
+      Document.newJsonDocument().append("Online-Count", 15));
+
+    // all round trips after the first one use the serializers resolved during the first one
+    for (var i = 0; i < 1_000; i++) {
+      var buf = DataBuf.empty();
+      mapper.writeObject(buf, snapshot);
+      Assertions.assertEquals(snapshot, mapper.readObject(buf, ServiceInfoSnapshot.class));
+    }
+  }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.permission;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class PermissionTreeTest {
+
+  private static final String[] SEGMENTS = {"cloudnet", "Command", "kick", "ban", "*", "bridge", "x"};
+
+  @Test
+  void testPermissionResolution() {
+    var tree = PermissionTree.compile(List.of(
+      Permission.builder().name("cloudnet.command.kick").potency(1).build(),
+      Permission.builder().name("cloudnet.command.*").potency(5).build(),
+      Permission.builder().name("cloudnet.command.ban").potency(-10).build(),
+      Permission.builder().name("bridge.*").potency(0).build()));
+
+    Assertions.assertEquals(5, tree.findHighestPermission(Permission.of("cloudnet.command.kick")).potency());
+    Assertions.assertEquals(5, tree.findHighestPermission(Permission.of("CLOUDNET.command.other")).potency());
+    Assertions.assertEquals(-10, tree.findHighestPermission(Permission.of("Cloudnet.Command.Ban")).potency());
+    Assertions.assertEquals(0, tree.findHighestPermission(Permission.of("bridge.lobby")).potency());
+    Assertions.assertNull(tree.findHighestPermission(Permission.of("cloudnet.other")));
+    Assertions.assertNull(tree.findHighestPermission(Permission.builder().name("bridge.lobby").potency(1).build()));
+
+    var starTree = PermissionTree.compile(List.of(Permission.builder().name("*").potency(-1).build()));
+    Assertions.assertEquals(-1, starTree.findHighestPermission(Permission.of("anything")).potency());
+  }
+
+  @Test
+  void testResolutionMatchesLinearSearch() {
+    var management = Mockito.mock(DefaultPermissionManagement.class, Mockito.CALLS_REAL_METHODS);
+    var random = new Random(4);
+
+    for (var round = 0; round < 500; round++) {
+      List<Permission> permissions = new ArrayList<>();
+      for (var i = random.nextInt(20); i >= 0; i--) {
+        permissions.add(Permission.builder().name(randomName(random)).potency(random.nextInt(11) - 5).build());
+      }
+
+      var tree = PermissionTree.compile(permissions);
+      for (var i = 0; i < 20; i++) {
+        var requested = Permission.builder().name(randomName(random)).potency(random.nextInt(3) - 1).build();
+        Assertions.assertEquals(
+          management.findHighestPermission(permissions, requested),
+          tree.findHighestPermission(requested),
+          () -> "Resolution of " + requested + " in " + permissions);
+      }
+    }
+  }
+
+  @Test
+  void testCompiledPermissionsOfDeepGroupInheritance() {
+    var management = Mockito.mock(
+      DefaultCachedPermissionManagement.class,
+      Mockito.withSettings().useConstructor().defaultAnswer(Mockito.CALLS_REAL_METHODS));
+    Mockito.doAnswer(invocation -> management.cachedGroup(invocation.getArgument(0)))
+      .when(management)
+      .group(Mockito.anyString());
+
+    // build a chain of 32 groups, each group inherits all permissions of the next one
+    for (var i = 0; i < 32; i++) {
+      var group = PermissionGroup.builder()
+        .name("group-" + i)
+        .groups(i == 31 ? List.of() : List.of("group-" + (i + 1)))
+        .addPermission(Permission.builder().name("perm." + i).potency(i).build())
+        .build();
+      management.cachedPermissionGroups().put(group.name(), group);
+    }
+
+    var user = PermissionUser.builder()
+      .name("test")
+      .uniqueId(UUID.randomUUID())
+      .addGroup(PermissionUserGroupInfo.builder().group("group-0").build())
+      .build();
+    management.cachedPermissionUsers().put(user.uniqueId(), user);
+
+    Assertions.assertEquals(PermissionCheckResult.ALLOWED, management.permissionResult(user, Permission.of("perm.31")));
+    Assertions.assertEquals(PermissionCheckResult.DENIED, management.permissionResult(user, Permission.of("perm.32")));
+    Assertions.assertEquals(1, management.compiledPermissionCache.estimatedSize());
+
+    // forbid the permission in the deepest group, the compiled tree must be discarded
+    var deepestGroup = PermissionGroup.builder(management.cachedGroup("group-31"))
+      .addPermission(Permission.builder().name("perm.31").potency(-100).build())
+      .build();
+    management.cachedPermissionGroups().put(deepestGroup.name(), deepestGroup);
+    management.invalidateCompiledPermissions();
+
+    Assertions.assertEquals(
+      PermissionCheckResult.FORBIDDEN,
+      management.permissionResult(user, Permission.of("perm.31")));
+  }
+
+  @Test
+  void testCompiledPermissionsOfInPlaceModification() {
+    var management = Mockito.mock(
+      DefaultCachedPermissionManagement.class,
+      Mockito.withSettings().useConstructor().defaultAnswer(Mockito.CALLS_REAL_METHODS));
+    Mockito.doAnswer(invocation -> management.cachedGroup(invocation.getArgument(0)))
+      .when(management)
+      .group(Mockito.anyString());
+
+    var group = PermissionGroup.builder()
+      .name("admin")
+      .addPermission(Permission.builder().name("cloudnet.command.*").potency(1).build())
+      .build();
+    management.cachedPermissionGroups().put(group.name(), group);
+
+    var user = PermissionUser.builder()
+      .name("test")
+      .uniqueId(UUID.randomUUID())
+      .addPermission(Permission.builder().name("cloudnet.command.kick").potency(1).build())
+      .build();
+    management.cachedPermissionUsers().put(user.uniqueId(), user);
+
+    var kick = Permission.of("cloudnet.command.kick");
+    var ban = Permission.of("cloudnet.command.ban");
+    Assertions.assertEquals(PermissionCheckResult.ALLOWED, management.permissionResult(user, kick));
+    Assertions.assertEquals(PermissionCheckResult.DENIED, management.permissionResult(user, ban));
+
+    // modify the cached user instance without replacing it
+    user.addPermission(Permission.builder().name("cloudnet.command.kick").potency(-1).build());
+    Assertions.assertEquals(PermissionCheckResult.FORBIDDEN, management.permissionResult(user, kick));
+
+    // add a group to the cached user instance
+    user.addGroup("admin");
+    Assertions.assertEquals(PermissionCheckResult.ALLOWED, management.permissionResult(user, ban));
+
+    // modify the cached group instance the user inherits from
+    group.removePermission("cloudnet.command.*");
+    Assertions.assertEquals(PermissionCheckResult.DENIED, management.permissionResult(user, ban));
+
+    // remove the group from the cached user instance again
+    group.addPermission(Permission.builder().name("cloudnet.command.*").potency(1).build());
+    Assertions.assertEquals(PermissionCheckResult.ALLOWED, management.permissionResult(user, ban));
+    user.removeGroup("admin");
+    Assertions.assertEquals(PermissionCheckResult.DENIED, management.permissionResult(user, ban));
+  }
+
+  @Test
+  void testCompiledPermissionsOfCollectionModification() {
+    var management = Mockito.mock(
+      DefaultCachedPermissionManagement.class,
+      Mockito.withSettings().useConstructor().defaultAnswer(Mockito.CALLS_REAL_METHODS));
+    Mockito.doAnswer(invocation -> management.cachedGroup(invocation.getArgument(0)))
+      .when(management)
+      .group(Mockito.anyString());
+
+    var group = PermissionGroup.builder().name("admin").build();
+    management.cachedPermissionGroups().put(group.name(), group);
+
+    var user = PermissionUser.builder().name("test").uniqueId(UUID.randomUUID()).build();
+    var otherUser = PermissionUser.builder().name("other").uniqueId(UUID.randomUUID()).build();
+    management.cachedPermissionUsers().put(user.uniqueId(), user);
+    management.cachedPermissionUsers().put(otherUser.uniqueId(), otherUser);
+
+    var kick = Permission.of("cloudnet.command.kick");
+    Assertions.assertEquals(PermissionCheckResult.DENIED, management.permissionResult(user, kick));
+    var otherTree = management.compiledPermissions(otherUser, null);
+
+    // modify the permissions of the cached user through the returned collection
+    user.permissions().add(Permission.builder().name("cloudnet.command.kick").potency(1).build());
+    Assertions.assertEquals(PermissionCheckResult.ALLOWED, management.permissionResult(user, kick));
+
+    // modifying one user must not discard the compiled tree of another user
+    Assertions.assertSame(otherTree, management.compiledPermissions(otherUser, null));
+
+    // remove the expired permission of the user using the permissible test
+    user.permissions().clear();
+    user.addPermission(Permission.builder().name("cloudnet.command.kick").potency(1).timeOutMillis(1).build());
+    Assertions.assertEquals(PermissionCheckResult.ALLOWED, management.permissionResult(user, kick));
+    Assertions.assertTrue(management.testPermissible(user));
+    Assertions.assertEquals(PermissionCheckResult.DENIED, management.permissionResult(user, kick));
+
+    // modify the parent groups and permissions of the cached group through the returned collections
+    user.groups().add(PermissionUserGroupInfo.builder().group("admin").build());
+    Assertions.assertEquals(PermissionCheckResult.DENIED, management.permissionResult(user, kick));
+    group.permissions().add(Permission.builder().name("cloudnet.command.*").potency(1).build());
+    Assertions.assertEquals(PermissionCheckResult.ALLOWED, management.permissionResult(user, kick));
+    group.permissions().removeIf(permission -> permission.name().equals("cloudnet.command.*"));
+    Assertions.assertEquals(PermissionCheckResult.DENIED, management.permissionResult(user, kick));
+  }
+
+  private static String randomName(Random random) {
+    var builder = new StringBuilder();
+    for (var i = random.nextInt(3); i >= 0; i--) {
+      if (!builder.isEmpty()) {
+        builder.append('.');
+      }
+      builder.append(SEGMENTS[random.nextInt(SEGMENTS.length)]);
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.service;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.property.DocProperty;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ServiceInfoSnapshotPropertyCacheTest {
+
+  private static final int SERVICE_COUNT = 200;
+  private static final int SELECTION_ROUNDS = 1_000;
+
+  private static ServiceInfoSnapshot snapshot(int taskId, Document properties) {
+    return new ServiceInfoSnapshot(
+      System.currentTimeMillis(),
+      new HostAndPort("127.0.0.1", 25565 + taskId),
+      ProcessSnapshot.empty(),
+      ServiceConfiguration.builder()
+        .taskName("Lobby")
+        .taskId(taskId)
+        .environment(ServiceEnvironmentType.MINECRAFT_SERVER)
+        .maxHeapMemory(512)
+        .startPort(25565)
+        .build(),
+      System.currentTimeMillis(),
+      ServiceLifeCycle.RUNNING,
+      properties);
+  }
+
+  @Test
+  void testPropertyIsDecodedOnce() {
+    var decodes = new AtomicInteger();
+    var property = DocProperty.property("Online-Count", Integer.class).withReadRewrite(count -> {
+      decodes.incrementAndGet();
+      return count;
+    });
+
+    var snapshot = snapshot(1, Document.newJsonDocument().append("Online-Count", 15));
+    for (var i = 0; i < 10; i++) {
+      Assertions.assertEquals(15, snapshot.readProperty(property));
+    }
+    Assertions.assertEquals(1, decodes.get());
+
+    // a cloned snapshot wraps the same properties, it can share the decoded values
+    Assertions.assertEquals(15, snapshot.clone().readProperty(property));
+    Assertions.assertEquals(1, decodes.get());
+
+    // replacing the snapshot must expose the new property value
+    var replacement = snapshot(1, Document.newJsonDocument().append("Online-Count", 20));
+    Assertions.assertEquals(20, replacement.readProperty(property));
+    Assertions.assertEquals(2, decodes.get());
+  }
+
+  @Test
+  void testAbsentPropertyIsRemembered() {
+    var property = DocProperty.property("Motd", String.class);
+    var snapshot = snapshot(1, Document.newJsonDocument());
+
+    Assertions.assertNull(snapshot.readProperty(property));
+    Assertions.assertNull(snapshot.readProperty(property));
+    Assertions.assertEquals("default", snapshot.readPropertyOrDefault(property, "default"));
+    Assertions.assertEquals("default", snapshot.readProperty(property.withDefault("default")));
+  }
+
+  @Test
+  void testFallbackSelectionOverLargeServiceSet() {
+    var decodes = new AtomicInteger();
+    var onlineCount = DocProperty.property("Online-Count", Integer.class).withReadRewrite(count -> {
+      decodes.incrementAndGet();
+      return count;
+    });
+
+    List<ServiceInfoSnapshot> services = new ArrayList<>(SERVICE_COUNT);
+    for (var i = 1; i <= SERVICE_COUNT; i++) {
+      // the service with the task id 100 is the only one with no players
+      var players = i == 100 ? 0 : 1 + (i * 31) % 97;
+      services.add(snapshot(i, Document.newJsonDocument().append("Online-Count", players)));
+    }
+
+    for (var round = 0; round < SELECTION_ROUNDS; round++) {
+      var fallback = services.stream()
+        .filter(ServiceInfoSnapshot::connected)
+        .min(Comparator.comparingInt(service -> service.readProperty(onlineCount)))
+        .orElseThrow();
+      Assertions.assertEquals(100, fallback.serviceId().taskServiceId());
+    }
+
+    // each service must only be decoded once, regardless of the comparisons made during the selection rounds
+    Assertions.assertEquals(SERVICE_COUNT, decodes.get());
+  }
+}
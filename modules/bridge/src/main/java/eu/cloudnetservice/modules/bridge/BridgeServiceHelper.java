@@ -150,7 +150,7 @@ public BridgeServiceHelper(
     value = value.replace("%port%", Integer.toString(service.configuration().port()));
     // process information
     value = value.replace("%pid%", Long.toString(service.processSnapshot().pid()));
-    value = value.replace("%threads%", Integer.toString(service.processSnapshot().threads().size()));
+    value = value.replace("%threads%", Integer.toString(service.processSnapshot().threadCount()));
     value = value.replace("%heap_usage%", Long.toString(service.processSnapshot().heapUsageMemory()));
     value = value.replace("%max_heap_usage%", Long.toString(service.processSnapshot().maxHeapMemory()));
     value = value.replace(
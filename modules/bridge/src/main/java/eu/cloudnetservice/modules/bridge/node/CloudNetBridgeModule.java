@@ -91,9 +91,11 @@ public void convertOldDatabaseEntries(
 
         // invalid player data - convert the database
         var convertedPlayers = 0;
+        String lastKey = null;
         Map<String, Document> chunkData;
-        while ((chunkData = playerDb.readChunk(convertedPlayers, 100)) != null) {
+        while ((chunkData = playerDb.readChunkAfter(lastKey, 100)) != null) {
           for (var entry : chunkData.entrySet()) {
+            lastKey = entry.getKey();
             // get all the required path
             var valueCopy = entry.getValue().mutableCopy();
             var lastProxyInfo = valueCopy.readMutableDocument("lastNetworkConnectionInfo");
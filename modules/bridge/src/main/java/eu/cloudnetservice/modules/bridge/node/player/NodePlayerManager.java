@@ -119,6 +119,12 @@ public NodePlayerManager(
       .build());
   }
 
+  @PostConstruct
+  private void createDatabaseIndexes() {
+    // offline players are looked up by their name
+    this.database().createIndex("name");
+  }
+
   @PostConstruct
   private void registerPlayerCommand() {
     this.commandProvider.register(PlayersCommand.class);
@@ -225,8 +231,8 @@ public long registeredCount() {
 
   @Override
   public @NonNull List<CloudOfflinePlayer> registeredPlayers() {
-    return this.database().entries().values().stream()
-      .map(doc -> doc.toInstanceOf(CloudOfflinePlayer.class))
+    return this.database().stream()
+      .map(entry -> entry.getValue().toInstanceOf(CloudOfflinePlayer.class))
       .filter(Objects::nonNull)
       .toList();
   }
@@ -18,7 +18,6 @@
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
-import eu.cloudnetservice.common.tuple.Tuple2;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.rpc.RPCFactory;
@@ -38,6 +37,7 @@
 import eu.cloudnetservice.modules.bridge.config.ProxyFallbackConfiguration;
 import eu.cloudnetservice.modules.bridge.event.BridgeConfigurationUpdateEvent;
 import eu.cloudnetservice.modules.bridge.platform.fallback.FallbackProfile;
+import eu.cloudnetservice.modules.bridge.platform.fallback.FallbackServiceIndex;
 import eu.cloudnetservice.modules.bridge.platform.listener.PlatformChannelMessageListener;
 import eu.cloudnetservice.modules.bridge.platform.listener.PlatformInformationListener;
 import eu.cloudnetservice.modules.bridge.player.NetworkServiceInfo;
@@ -52,7 +52,6 @@
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -84,6 +83,7 @@
   protected final WrapperConfiguration wrapperConfig;
   protected final LoadingCache<UUID, FallbackProfile> fallbackProfiles;
   protected final Map<UUID, ServiceInfoSnapshot> cachedServices;
+  protected final FallbackServiceIndex fallbackServiceIndex;
 
   protected volatile ServiceTask selfTask;
   protected volatile BridgeConfiguration configuration;
@@ -110,6 +110,7 @@ public PlatformBridgeManagement(
     this.serviceProvider = serviceProvider;
     this.wrapperConfig = wrapperConfig;
     this.cachedServices = new ConcurrentHashMap<>();
+    this.fallbackServiceIndex = new FallbackServiceIndex();
     this.fallbackProfiles = Caffeine.newBuilder()
       .expireAfterAccess(Duration.ofMinutes(10))
       .build($ -> new FallbackProfile());
@@ -184,6 +185,10 @@ public void handleTaskUpdate(@NonNull String name, @Nullable ServiceTask task) {
     return Optional.ofNullable(this.cachedServices.get(uniqueId));
   }
 
+  public @NonNull Optional<ServiceInfoSnapshot> cachedService(@NonNull String name) {
+    return Optional.ofNullable(this.fallbackServiceIndex.service(name));
+  }
+
   public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot) {
     // if the service is not yet cached check if we need to cache it
     if (!this.cachedServices.containsKey(snapshot.serviceId().uniqueId())) {
@@ -191,14 +196,17 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot) {
       if (this.cacheTester.test(snapshot)) {
         this.cacheRegisterListener.accept(snapshot);
         this.cachedServices.put(snapshot.serviceId().uniqueId(), snapshot);
+        this.fallbackServiceIndex.update(snapshot);
       }
     } else {
       // if the service is already cached we need to check if we should still cache it
       if (this.cacheTester.test(snapshot)) {
         this.cachedServices.replace(snapshot.serviceId().uniqueId(), snapshot);
+        this.fallbackServiceIndex.update(snapshot);
       } else {
         this.cacheUnregisterListener.accept(snapshot);
         this.cachedServices.remove(snapshot.serviceId().uniqueId());
+        this.fallbackServiceIndex.remove(snapshot);
       }
     }
   }
@@ -220,14 +228,13 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot) {
     var profile = this.fallbackProfiles.get(playerId);
     // search for the best fallback
     return this.possibleFallbacks(currentServerName, virtualHost, permissionTester)
-      // get all services we have cached of the task
-      .map(fallback -> new Tuple2<>(fallback, this.anyTaskService(fallback.task(), profile, currentServerName)))
-      // filter out all fallbacks that have no services
-      .filter(possibility -> possibility.second().isPresent())
-      // get the first possibility with the highest priority
-      .min(Comparator.comparing(Tuple2::first))
-      // extract the target service
-      .map(Tuple2::second)
+      // check the fallbacks ordered by their priority, only until the first one with an available service is found
+      .sorted()
+      // get the best service we have cached of the task
+      .map(fallback -> this.anyTaskService(fallback.task(), profile, currentServerName))
+      // get the first possibility with the highest priority that has a service
+      .filter(Optional::isPresent)
+      .findFirst()
       // add the service to the tried ones
       .map(service -> {
         // we cannot flat-map because of the orElseGet
@@ -260,7 +267,8 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot) {
     }
 
     // get all groups of the service the player is currently on
-    var currentGroups = this.cachedService(service -> service.name().equals(currentServerName))
+    var currentGroups = Optional.ofNullable(currentServerName)
+      .flatMap(this::cachedService)
       .map(service -> service.configuration().groups())
       .orElse(Collections.emptySet());
     // find all matching fallback configurations
@@ -287,7 +295,8 @@ public boolean isOnAnyFallbackInstance(
     }
 
     // check if the current server of the player is given
-    return this.cachedService(service -> service.name().equals(currentServerName))
+    return Optional.ofNullable(currentServerName)
+      .flatMap(this::cachedService)
       .map(service -> {
         // check if the configuration has a default fallback task
         if (config.defaultFallbackTask() != null
@@ -305,22 +314,11 @@ public boolean isOnAnyFallbackInstance(
     @NonNull FallbackProfile profile,
     @Nullable String currentServerName
   ) {
-    return this.cachedServices.values().stream()
-      // check if the service is associated with the task of the fallback
-      .filter(service -> service.serviceId().taskName().equals(task))
-      // check if the player failed to connect to that fallback during the current iteration
-      .filter(service -> !profile.hasTried(service.name()))
-      // check if the service is marked as joinable
-      .filter(service -> service.connected() && service.readProperty(BridgeDocProperties.IS_ONLINE))
-      // check if the player is not currently connected to that service
-      .filter(service -> currentServerName == null || !service.name().equals(currentServerName))
-      // find the service with the lowest player count known to use
-      .min((optionA, optionB) -> {
-        var playersOnOptionA = optionA.readProperty(BridgeDocProperties.ONLINE_COUNT);
-        var playersOnOptionB = optionB.readProperty(BridgeDocProperties.ONLINE_COUNT);
-        // compare the player count
-        return Integer.compare(playersOnOptionA, playersOnOptionB);
-      });
+    // find the joinable service with the lowest player count known to us, skipping all services the player failed to
+    // connect to during the current iteration and the service the player is currently connected to
+    return this.fallbackServiceIndex.emptiestService(
+      task,
+      service -> profile.hasTried(service) || service.equals(currentServerName));
   }
 
   public void handleFallbackConnectionSuccess(@NonNull UUID uniqueId) {
@@ -189,7 +189,7 @@ public void handle(@NonNull ServerKickEvent event) {
   @EventHandler
   public void handle(@NonNull ServerConnectedEvent event) {
     var joinedServiceInfo = this.management
-      .cachedService(service -> service.name().equals(event.getServer().getInfo().getName()))
+      .cachedService(event.getServer().getInfo().getName())
       .map(NetworkServiceInfo::fromServiceInfoSnapshot)
       .orElse(null);
     // check if the player connection was initial
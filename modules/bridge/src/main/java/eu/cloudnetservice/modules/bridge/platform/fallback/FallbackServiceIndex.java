@@ -0,0 +1,165 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.bridge.platform.fallback;
+
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.modules.bridge.BridgeDocProperties;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An index of the services cached by a platform which allows selecting the emptiest joinable service of a task without
+ * scanning all known services. The index must be kept in sync by calling {@link #update(ServiceInfoSnapshot)} and
+ * {@link #remove(ServiceInfoSnapshot)} whenever the cached snapshot of a service changes.
+ *
+ * @since 4.0
+ */
+public final class FallbackServiceIndex {
+
+  private static final Comparator<IndexedService> SERVICE_ORDER = Comparator
+    .comparingInt(IndexedService::onlineCount)
+    .thenComparing(IndexedService::name)
+    .thenComparing(IndexedService::uniqueId);
+
+  private final Map<UUID, IndexedService> indexedServices = new HashMap<>();
+  private final Map<String, ServiceInfoSnapshot> servicesByName = new ConcurrentHashMap<>();
+  private final Map<String, NavigableSet<IndexedService>> joinableServicesByTask = new ConcurrentHashMap<>();
+
+  /**
+   * Indexes the given snapshot, replacing the previous snapshot of the same service if one was indexed before. The
+   * service is only selectable as a fallback if it is connected and marked as online.
+   *
+   * @param snapshot the new snapshot of the service to index.
+   * @throws NullPointerException if the given snapshot is null.
+   */
+  public synchronized void update(@NonNull ServiceInfoSnapshot snapshot) {
+    this.unindex(snapshot.serviceId().uniqueId());
+
+    var indexedService = new IndexedService(
+      snapshot.serviceId().uniqueId(),
+      snapshot.name(),
+      snapshot.readProperty(BridgeDocProperties.ONLINE_COUNT),
+      snapshot.connected() && snapshot.readProperty(BridgeDocProperties.IS_ONLINE),
+      snapshot);
+    this.indexedServices.put(indexedService.uniqueId(), indexedService);
+    this.servicesByName.put(indexedService.name(), snapshot);
+
+    // only services which can be joined are selectable as fallbacks
+    if (indexedService.joinable()) {
+      this.joinableServicesByTask
+        .computeIfAbsent(snapshot.serviceId().taskName(), $ -> new ConcurrentSkipListSet<>(SERVICE_ORDER))
+        .add(indexedService);
+    }
+  }
+
+  /**
+   * Removes the given service from this index. This method does nothing if the service is not indexed.
+   *
+   * @param snapshot the snapshot of the service to remove.
+   * @throws NullPointerException if the given snapshot is null.
+   */
+  public synchronized void remove(@NonNull ServiceInfoSnapshot snapshot) {
+    this.unindex(snapshot.serviceId().uniqueId());
+  }
+
+  /**
+   * Get the indexed service with the given name.
+   *
+   * @param name the name of the service to get.
+   * @return the last indexed snapshot of the service with the given name, null if no such service is indexed.
+   * @throws NullPointerException if the given name is null.
+   */
+  public @Nullable ServiceInfoSnapshot service(@NonNull String name) {
+    return this.servicesByName.get(name);
+  }
+
+  /**
+   * Finds the joinable service of the given task with the lowest online count whose name is not excluded by the given
+   * filter. Services with the same online count are ordered by their name.
+   *
+   * @param task     the name of the task to find a service of.
+   * @param excluded a filter which returns true for the names of all services which cannot be selected.
+   * @return the joinable service of the task with the lowest online count which is not excluded.
+   * @throws NullPointerException if the given task or exclusion filter is null.
+   */
+  public @NonNull Optional<ServiceInfoSnapshot> emptiestService(
+    @NonNull String task,
+    @NonNull Predicate<String> excluded
+  ) {
+    var joinableServices = this.joinableServicesByTask.get(task);
+    if (joinableServices != null) {
+      // the services are ordered by their online count, the first one which is not excluded is the best choice
+      for (var service : joinableServices) {
+        if (!excluded.test(service.name())) {
+          return Optional.of(service.snapshot());
+        }
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  /**
+   * Removes all index entries of the service with the given unique id. The caller must hold the lock of this index.
+   *
+   * @param uniqueId the unique id of the service to remove from the index.
+   * @throws NullPointerException if the given unique id is null.
+   */
+  private void unindex(@NonNull UUID uniqueId) {
+    var indexedService = this.indexedServices.remove(uniqueId);
+    if (indexedService != null) {
+      this.servicesByName.remove(indexedService.name(), indexedService.snapshot());
+
+      var taskName = indexedService.snapshot().serviceId().taskName();
+      var joinableServices = this.joinableServicesByTask.get(taskName);
+      if (joinableServices != null) {
+        joinableServices.remove(indexedService);
+        if (joinableServices.isEmpty()) {
+          this.joinableServicesByTask.remove(taskName);
+        }
+      }
+    }
+  }
+
+  /**
+   * A service entry in the fallback index. The online count and joinable state are read once when indexing.
+   *
+   * @param uniqueId    the unique id of the service.
+   * @param name        the name of the service.
+   * @param onlineCount the amount of players which were connected to the service when indexing.
+   * @param joinable    if the service is connected and marked as online.
+   * @param snapshot    the snapshot of the service which was indexed.
+   */
+  private record IndexedService(
+    @NonNull UUID uniqueId,
+    @NonNull String name,
+    int onlineCount,
+    boolean joinable,
+    @NonNull ServiceInfoSnapshot snapshot
+  ) {
+
+  }
+}
@@ -137,7 +137,7 @@ public void handleServerKick(@NonNull KickedFromServerEvent event) {
   public void handleServiceConnected(@NonNull ServerPostConnectEvent event) {
     var joinedServiceInfo = event.getPlayer().getCurrentServer()
       .flatMap(server -> this.management
-        .cachedService(service -> server.getServerInfo().getName().equals(service.name()))
+        .cachedService(server.getServerInfo().getName())
         .map(NetworkServiceInfo::fromServiceInfoSnapshot))
       .orElse(null);
     // check if the connection was initial
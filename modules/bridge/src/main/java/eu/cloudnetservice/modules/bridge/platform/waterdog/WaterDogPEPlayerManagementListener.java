@@ -99,7 +99,7 @@ private void handleInitialConnect(@NonNull InitialServerConnectedEvent event) {
     this.proxyPlatformHelper.sendChannelMessageLoginSuccess(
       this.management.createPlayerInformation(event.getPlayer()),
       this.management
-        .cachedService(service -> service.name().equals(event.getInitialDownstream().getServerInfo().getServerName()))
+        .cachedService(event.getInitialDownstream().getServerInfo().getServerName())
         .map(NetworkServiceInfo::fromServiceInfoSnapshot)
         .orElse(null));
     // update the service info
@@ -110,7 +110,7 @@ private void handleInitialConnect(@NonNull InitialServerConnectedEvent event) {
 
   private void handleTransfer(@NonNull TransferCompleteEvent event) {
     this.management
-      .cachedService(service -> service.name().equals(event.getNewClient().getServerInfo().getServerName()))
+      .cachedService(event.getNewClient().getServerInfo().getServerName())
       .map(NetworkServiceInfo::fromServiceInfoSnapshot)
       .ifPresent(serviceInfo -> {
         // the player switched the service
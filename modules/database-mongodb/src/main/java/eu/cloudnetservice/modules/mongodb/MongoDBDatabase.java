@@ -20,6 +20,7 @@
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Sorts;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.Updates;
 import eu.cloudnetservice.driver.document.Document;
@@ -29,8 +30,11 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
 import org.bson.conversions.Bson;
@@ -45,6 +49,7 @@ public class MongoDBDatabase extends AbstractDatabase {
   protected static final UpdateOptions INSERT_OR_REPLACE_OPTIONS = new UpdateOptions().upsert(true);
 
   protected final MongoCollection<org.bson.Document> collection;
+  protected final Set<String> indexedFields = ConcurrentHashMap.newKeySet();
 
   protected MongoDBDatabase(
     @NonNull String name,
@@ -57,6 +62,15 @@ protected MongoDBDatabase(
     this.collection.createIndex(Indexes.ascending(KEY_NAME), UNIQUE_KEY_OPTIONS);
   }
 
+  @Override
+  public boolean createIndex(@NonNull String fieldName) {
+    // creating an index which already exists is a no-op in mongo, but we can save the round trip
+    if (this.indexedFields.add(fieldName)) {
+      this.collection.createIndex(Indexes.ascending(VALUE_NAME + '.' + fieldName));
+    }
+    return true;
+  }
+
   @Override
   public boolean insert(@NonNull String key, @NonNull Document document) {
     return this.insertOrUpdate(key, document);
@@ -171,7 +185,15 @@ public boolean delete(@NonNull String key) {
 
   @Override
   public void iterate(@NonNull BiConsumer<String, Document> consumer) {
-    this.entries().forEach(consumer);
+    try (var cursor = this.collection.find().iterator()) {
+      while (cursor.hasNext()) {
+        var document = cursor.next();
+        var parsedDocument = this.parseDocumentValue(document);
+        if (parsedDocument != null) {
+          consumer.accept(document.getString(KEY_NAME), parsedDocument);
+        }
+      }
+    }
   }
 
   @Override
@@ -206,6 +228,28 @@ public boolean synced() {
     return result.isEmpty() ? null : result;
   }
 
+  @Override
+  public @Nullable Map<String, Document> readChunkAfter(@Nullable String previousKey, int chunkSize) {
+    // seek using the key index rather than skipping the previous entries
+    var filter = previousKey == null ? Filters.empty() : Filters.gt(KEY_NAME, previousKey);
+    Map<String, Document> result = new LinkedHashMap<>();
+    // the cursor is not limited: entries which can not be parsed are stepped over, and a chunk which is not full
+    // must only be returned when there are no more entries as callers treat it as the end of the database
+    var query = this.collection.find(filter).sort(Sorts.ascending(KEY_NAME)).batchSize(chunkSize);
+    try (var cursor = query.iterator()) {
+      while (result.size() < chunkSize && cursor.hasNext()) {
+        var document = cursor.next();
+        var parsedDocument = this.parseDocumentValue(document);
+        if (parsedDocument != null) {
+          var entryKey = document.getString(KEY_NAME);
+          result.put(entryKey, parsedDocument);
+        }
+      }
+    }
+
+    return result.isEmpty() ? null : result;
+  }
+
   @Override
   public void close() {
   }
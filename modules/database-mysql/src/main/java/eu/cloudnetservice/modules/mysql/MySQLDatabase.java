@@ -24,6 +24,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -242,4 +243,32 @@ public void iterate(@NonNull BiConsumer<String, Document> consumer) {
   @Override
   public void close() {
   }
+
+  @Override
+  public @Nullable Map<String, Document> readChunkAfter(@Nullable String previousKey, int chunkSize) {
+    // seek using the primary key index rather than skipping the previous entries
+    var query = previousKey == null
+      ? String.format("SELECT * FROM `%s` ORDER BY `%s` LIMIT ?;", this.name, TABLE_COLUMN_KEY)
+      : String.format(
+        "SELECT * FROM `%s` WHERE `%s` > ? ORDER BY `%s` LIMIT ?;",
+        this.name,
+        TABLE_COLUMN_KEY,
+        TABLE_COLUMN_KEY);
+    var arguments = previousKey == null ? new Object[]{chunkSize} : new Object[]{previousKey, chunkSize};
+
+    return this.databaseProvider.executeQuery(
+      query,
+      resultSet -> {
+        Map<String, Document> result = new LinkedHashMap<>();
+        while (resultSet.next()) {
+          var key = resultSet.getString(TABLE_COLUMN_KEY);
+          var document = DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
+          result.put(key, document);
+        }
+
+        return result.isEmpty() ? null : result;
+      },
+      null,
+      arguments);
+  }
 }
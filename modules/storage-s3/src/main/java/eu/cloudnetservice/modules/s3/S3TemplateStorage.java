@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.modules.s3;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import eu.cloudnetservice.common.io.FileUtil;
 import eu.cloudnetservice.common.io.ListenableOutputStream;
 import eu.cloudnetservice.common.io.ZipUtil;
@@ -31,14 +32,30 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
@@ -47,9 +64,14 @@
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.BucketAlreadyExistsException;
 import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
@@ -62,16 +84,41 @@
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 public class S3TemplateStorage implements TemplateStorage {
 
   private static final Logger LOGGER = LogManager.logger(S3TemplateStorage.class);
+  private static final Pattern ETAG_PATTERN = Pattern.compile("[A-Za-z0-9-]+");
+  // the minimum part size allowed by s3, except for the last part of an upload
+  private static final long MIN_PART_SIZE = 5 * 1024 * 1024;
 
   private final S3Client client;
   private final S3TemplateStorageModule module;
 
+  private final long partSize;
+  private final long multipartThreshold;
+  private final Path mirrorDirectory;
+  private final Duration mirrorMaxAge;
+  private final Duration mirrorPruneInterval;
+  private final AtomicLong nextMirrorPrune = new AtomicLong();
+  private final ExecutorService transferExecutor;
+
   public S3TemplateStorage(@NonNull S3TemplateStorageModule module) {
     this.module = module;
+    this.partSize = Math.max(MIN_PART_SIZE, Long.getLong("cloudnet.s3.part-size", 8 * 1024 * 1024));
+    this.multipartThreshold = Math.max(
+      this.partSize,
+      Long.getLong("cloudnet.s3.multipart-threshold", 16 * 1024 * 1024));
+    this.mirrorDirectory = Path.of(System.getProperty("cloudnet.s3.mirror.path", "local/s3-mirror"))
+      .resolve(this.config().name());
+    this.mirrorMaxAge = Duration.ofDays(Long.getLong("cloudnet.s3.mirror.max-age-days", 7));
+    this.mirrorPruneInterval = Duration.ofMinutes(Long.getLong("cloudnet.s3.mirror.prune-interval-minutes", 60));
+    // bounds the amount of objects (or parts of objects) which are transferred at the same time
+    var maxConcurrentTransfers = Math.max(1, Integer.getInteger("cloudnet.s3.max-concurrent-transfers", 16));
+    this.transferExecutor = Executors.newFixedThreadPool(
+      maxConcurrentTransfers,
+      new ThreadFactoryBuilder().setNameFormat("S3-Transfer-%d").setDaemon(true).build());
     this.client = S3Client.builder()
       .region(Region.of(this.config().region()))
       .endpointOverride(this.config().resolveEndpointOverride())
@@ -98,6 +145,10 @@ public S3TemplateStorage(@NonNull S3TemplateStorageModule module) {
         // unlikely to happen - not an error
       }
     }
+
+    // remove the objects from the local mirror which were not used for a while, and all leftover partial downloads
+    this.pruneMirror(true);
+    this.nextMirrorPrune.set(System.currentTimeMillis() + this.mirrorPruneInterval.toMillis());
   }
 
   @Override
@@ -111,28 +162,30 @@ public boolean deployDirectory(
     @NonNull Path directory,
     @Nullable Predicate<Path> filter
   ) {
-    var result = new AtomicBoolean(true);
-    // walk down the file tree
+    // collect all files to upload
+    List<Path> files = new ArrayList<>();
     FileUtil.walkFileTree(directory, ($, file) -> {
       if (!Files.isDirectory(file)) {
-        try {
-          var request = PutObjectRequest.builder()
-            .bucket(this.config().bucket())
-            .key(this.getBucketPath(target, directory, file))
-            .contentType(this.getContentType(file))
-            .contentLength(Files.size(file))
-            .build();
-          this.client.putObject(request, RequestBody.fromFile(file));
-        } catch (Exception exception) {
+        files.add(file);
+      }
+    }, true, filter == null ? path -> true : filter::test);
+
+    // upload all files concurrently
+    List<CompletableFuture<Boolean>> uploads = new ArrayList<>();
+    for (var file : files) {
+      var key = this.getBucketPath(target, directory, file);
+      uploads.add(this.uploadFile(key, file).handle(($, throwable) -> {
+        if (throwable != null) {
           LOGGER.severe("Exception putting file %s into s3 bucket %s",
-            exception,
+            throwable,
             file.toAbsolutePath(),
             this.config().bucket());
-          result.set(false);
+          return false;
         }
-      }
-    }, true, filter == null ? path -> true : filter::test);
-    return result.get();
+        return true;
+      }));
+    }
+    return this.awaitAll(uploads);
   }
 
   @Override
@@ -150,49 +203,70 @@ public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inpu
 
   @Override
   public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory) {
-    try {
-      // get the repo path
-      var templatePath = this.getBucketPath(template);
-      // list all files
-      return this.listAllObjects(templatePath, null, content -> {
-        // filter the content key
-        var target = directory.resolve(content.key().substring(templatePath.length() + 1));
-
-        // this prevents accidental exceptions created due to dum s3 guis which are creating "directories". As we all
-        // know s3 has no directories but the guis just create an object on the s3 and put further objects on the
-        // storage by just setting the file as an object. This results in responses like:
-        //   - Lobby/default/plugins
-        //   - Lobby/default/plugins/ProtocolLib.jar
-        // As all objects are handled as files, and the first call would create a new file this will result in an
-        // exception when pulling the ProtocolLib jar file as we would try to put it "into" a file.
-        // This check technically might break some structures as it will prioritize directories over files, but it's the
-        // best solution we have... Aside from just uploading files correctly :)
-        if (Files.exists(target) && Files.isDirectory(target)) {
-          return;
-        }
+    // get the repo path
+    var templatePath = this.getBucketPath(template);
+    // list all files
+    List<S3Object> objects = new ArrayList<>();
+    if (!this.listAllObjects(templatePath, null, objects::add)) {
+      LOGGER.severe("Exception requesting object list from bucket for downloading");
+      return false;
+    }
 
-        // check if the parent file already exists and is not a directory
-        var parent = target.getParent();
-        if (parent != null && Files.exists(parent) && !Files.isDirectory(parent)) {
-          FileUtil.delete(parent);
-        }
+    // this prevents accidental exceptions created due to dum s3 guis which are creating "directories". As we all
+    // know s3 has no directories but the guis just create an object on the s3 and put further objects on the
+    // storage by just setting the file as an object. This results in responses like:
+    //   - Lobby/default/plugins
+    //   - Lobby/default/plugins/ProtocolLib.jar
+    // As all objects are handled as files, and the first call would create a new file this will result in an
+    // exception when pulling the ProtocolLib jar file as we would try to put it "into" a file.
+    // This check technically might break some structures as it will prioritize directories over files, but it's the
+    // best solution we have... Aside from just uploading files correctly :)
+    Set<String> directories = new HashSet<>();
+    for (var object : objects) {
+      var key = object.key();
+      for (var index = key.indexOf('/'); index != -1; index = key.indexOf('/', index + 1)) {
+        directories.add(key.substring(0, index));
+      }
+    }
 
-        // now we can just create the parent as a directory (if we need to)
-        FileUtil.createDirectory(parent);
+    // prune the mirror from time to time while the storage is running, not only when it starts
+    this.schedulePruneMirror();
 
-        // get the file
-        var req = GetObjectRequest.builder()
-          .key(content.key())
-          .bucket(this.config().bucket())
-          .build();
-        try (InputStream stream = this.client.getObject(req); var out = Files.newOutputStream(target)) {
-          FileUtil.copy(stream, out);
+    // download all objects concurrently
+    List<CompletableFuture<Boolean>> downloads = new ArrayList<>();
+    for (var object : objects) {
+      // skip the template itself, directory marker objects ("plugins/") and objects which other objects are placed in
+      var key = object.key();
+      if (key.length() <= templatePath.length() || key.endsWith("/") || directories.contains(key)) {
+        continue;
+      }
+
+      var target = directory.resolve(object.key().substring(templatePath.length() + 1));
+      if (Files.exists(target) && Files.isDirectory(target)) {
+        continue;
+      }
+
+      // check if the parent file already exists and is not a directory
+      var parent = target.getParent();
+      if (parent != null && Files.exists(parent) && !Files.isDirectory(parent)) {
+        FileUtil.delete(parent);
+      }
+
+      // now we can just create the parent as a directory (if we need to)
+      FileUtil.createDirectory(parent);
+
+      downloads.add(this.downloadObject(object, target).handle(($, throwable) -> {
+        if (throwable != null) {
+          LOGGER.severe("Exception downloading object %s from s3 bucket %s",
+            throwable,
+            object.key(),
+            this.config().bucket());
+          return false;
         }
-      });
-    } catch (Exception exception) {
-      LOGGER.severe("Exception requesting object list from bucket for downloading", exception);
-      return false;
+        return true;
+      }));
     }
+    return this.awaitAll(downloads);
   }
 
   @Override
@@ -400,6 +474,11 @@ public boolean deleteFile(@NonNull ServiceTemplate template, @NonNull String pat
     // collect all files
     Collection<FileInfo> files = new ArrayList<>();
     this.listAllObjects(this.getBucketPath(template, dir), null, object -> {
+      // directory marker objects are not files
+      if (object.key().endsWith("/")) {
+        return;
+      }
+
       var parts = object.key().split("/");
       files.add(new FileInfo(
         object.key().substring(initialStrip),
@@ -434,9 +513,266 @@ public boolean deleteFile(@NonNull ServiceTemplate template, @NonNull String pat
 
   @Override
   public void close() {
+    this.transferExecutor.shutdownNow();
     this.client.close();
   }
 
+  protected @NonNull CompletableFuture<Void> downloadObject(@NonNull S3Object object, @NonNull Path target) {
+    // check if the object is present in the local mirror
+    var mirrorFile = this.mirrorFile(object);
+    if (mirrorFile != null && Files.exists(mirrorFile)) {
+      return CompletableFuture.supplyAsync(() -> {
+        try {
+          // mark the mirrored object as used
+          Files.setLastModifiedTime(mirrorFile, FileTime.from(Instant.now()));
+          Files.copy(mirrorFile, target, StandardCopyOption.REPLACE_EXISTING);
+          return true;
+        } catch (NoSuchFileException exception) {
+          // the mirrored object was pruned in the meantime
+          return false;
+        } catch (IOException exception) {
+          throw new CompletionException(exception);
+        }
+      }, this.transferExecutor).thenCompose(copied -> copied
+        ? CompletableFuture.completedFuture(null)
+        : this.downloadObject(object, mirrorFile, target));
+    }
+
+    return this.downloadObject(object, mirrorFile, target);
+  }
+
+  protected @NonNull CompletableFuture<Void> downloadObject(
+    @NonNull S3Object object,
+    @Nullable Path mirrorFile,
+    @NonNull Path target
+  ) {
+    // download the object into a temporary file, then move it into the mirror (if possible) and the target
+    var tempFile = mirrorFile == null
+      ? target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".part")
+      : this.mirrorDirectory.resolve(UUID.randomUUID() + ".part");
+    return this.downloadObjectContent(object, tempFile).whenComplete(($, throwable) -> {
+      try {
+        if (throwable != null) {
+          Files.deleteIfExists(tempFile);
+        } else if (mirrorFile == null) {
+          Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+          Files.move(tempFile, mirrorFile, StandardCopyOption.REPLACE_EXISTING);
+          Files.copy(mirrorFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+      } catch (IOException exception) {
+        throw new CompletionException(exception);
+      }
+    });
+  }
+
+  protected @NonNull CompletableFuture<Void> downloadObjectContent(@NonNull S3Object object, @NonNull Path target) {
+    FileUtil.createDirectory(target.getParent());
+    // small objects are downloaded in one request
+    if (object.size() < this.multipartThreshold) {
+      return CompletableFuture.runAsync(() -> {
+        // ensure that the downloaded content is the version of the object which was listed
+        var request = GetObjectRequest.builder()
+          .key(object.key())
+          .bucket(this.config().bucket())
+          .ifMatch(object.eTag())
+          .build();
+        try (InputStream stream = this.client.getObject(request); var out = Files.newOutputStream(target)) {
+          stream.transferTo(out);
+        } catch (IOException exception) {
+          throw new CompletionException(exception);
+        }
+      }, this.transferExecutor);
+    }
+
+    // large objects are downloaded in parts, each part is written to its position in the target file
+    FileChannel channel;
+    try {
+      channel = FileChannel.open(
+        target,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING);
+    } catch (IOException exception) {
+      return CompletableFuture.failedFuture(exception);
+    }
+
+    List<CompletableFuture<?>> parts = new ArrayList<>();
+    try {
+      for (long offset = 0; offset < object.size(); offset += this.partSize) {
+        var partStart = offset;
+        var partEnd = Math.min(object.size(), offset + this.partSize) - 1;
+        parts.add(CompletableFuture.runAsync(() -> {
+          // ensure that the object did not change while downloading the parts
+          var request = GetObjectRequest.builder()
+            .key(object.key())
+            .bucket(this.config().bucket())
+            .range(String.format("bytes=%d-%d", partStart, partEnd))
+            .ifMatch(object.eTag())
+            .build();
+          try (InputStream stream = this.client.getObject(request)) {
+            var buffer = new byte[64 * 1024];
+            var position = partStart;
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+              var byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+              while (byteBuffer.hasRemaining()) {
+                position += channel.write(byteBuffer, position);
+              }
+            }
+          } catch (IOException exception) {
+            throw new CompletionException(exception);
+          }
+        }, this.transferExecutor));
+      }
+    } catch (RuntimeException exception) {
+      // the channel is only closed once all parts completed, which never happens if not all parts were submitted
+      try {
+        channel.close();
+      } catch (IOException closeException) {
+        exception.addSuppressed(closeException);
+      }
+      return CompletableFuture.failedFuture(exception);
+    }
+
+    return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).whenComplete(($, throwable) -> {
+      try {
+        channel.close();
+      } catch (IOException exception) {
+        throw new CompletionException(exception);
+      }
+    });
+  }
+
+  protected @NonNull CompletableFuture<Void> uploadFile(@NonNull String key, @NonNull Path file) {
+    long size;
+    try {
+      size = Files.size(file);
+    } catch (IOException exception) {
+      return CompletableFuture.failedFuture(exception);
+    }
+
+    // small files are uploaded in one request
+    if (size < this.multipartThreshold) {
+      return CompletableFuture.runAsync(() -> {
+        var request = PutObjectRequest.builder()
+          .bucket(this.config().bucket())
+          .key(key)
+          .contentType(this.getContentType(file))
+          .contentLength(size)
+          .build();
+        this.client.putObject(request, RequestBody.fromFile(file));
+      }, this.transferExecutor);
+    }
+
+    // large files are uploaded in parts
+    return CompletableFuture.supplyAsync(() -> this.client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+      .bucket(this.config().bucket())
+      .key(key)
+      .contentType(this.getContentType(file))
+      .build()).uploadId(), this.transferExecutor).thenCompose(uploadId -> {
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        for (long offset = 0, partNumber = 1; offset < size; offset += this.partSize, partNumber++) {
+          var partStart = offset;
+          var partLength = (int) Math.min(this.partSize, size - offset);
+          var currentPartNumber = (int) partNumber;
+          parts.add(CompletableFuture.supplyAsync(() -> {
+            var content = new byte[partLength];
+            try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+              var byteBuffer = ByteBuffer.wrap(content);
+              while (byteBuffer.hasRemaining()) {
+                if (channel.read(byteBuffer, partStart + byteBuffer.position()) == -1) {
+                  throw new IOException("File " + file + " was truncated while uploading");
+                }
+              }
+            } catch (IOException exception) {
+              throw new CompletionException(exception);
+            }
+
+            var request = UploadPartRequest.builder()
+              .bucket(this.config().bucket())
+              .key(key)
+              .uploadId(uploadId)
+              .partNumber(currentPartNumber)
+              .contentLength((long) partLength)
+              .build();
+            var response = this.client.uploadPart(request, RequestBody.fromBytes(content));
+            return CompletedPart.builder().partNumber(currentPartNumber).eTag(response.eTag()).build();
+          }, this.transferExecutor));
+        }
+
+        return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).thenRun(() -> {
+          var completedParts = parts.stream()
+            .map(CompletableFuture::join)
+            .sorted(Comparator.comparing(CompletedPart::partNumber))
+            .toList();
+          this.client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+            .bucket(this.config().bucket())
+            .key(key)
+            .uploadId(uploadId)
+            .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+            .build());
+        }).whenComplete(($, throwable) -> {
+          if (throwable != null) {
+            // release the uploaded parts
+            this.client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+              .bucket(this.config().bucket())
+              .key(key)
+              .uploadId(uploadId)
+              .build());
+          }
+        });
+      });
+  }
+
+  protected boolean awaitAll(@NonNull List<CompletableFuture<Boolean>> transfers) {
+    var success = true;
+    for (var transfer : transfers) {
+      // wait for all transfers to complete, even if one of them failed
+      success &= transfer.join();
+    }
+    return success;
+  }
+
+  protected @Nullable Path mirrorFile(@NonNull S3Object object) {
+    var etag = object.eTag();
+    if (etag == null) {
+      return null;
+    }
+
+    // the etag identifies the content of the object, use it as the key of the object in the mirror
+    var strippedEtag = etag.replace("\"", "");
+    return ETAG_PATTERN.matcher(strippedEtag).matches() ? this.mirrorDirectory.resolve(strippedEtag) : null;
+  }
+
+  protected void schedulePruneMirror() {
+    var nextPrune = this.nextMirrorPrune.get();
+    var now = System.currentTimeMillis();
+    // only one pull schedules the prune once it's due
+    if (now >= nextPrune && this.nextMirrorPrune.compareAndSet(nextPrune, now + this.mirrorPruneInterval.toMillis())) {
+      this.transferExecutor.execute(() -> this.pruneMirror(false));
+    }
+  }
+
+  protected void pruneMirror(boolean removePartialDownloads) {
+    if (Files.exists(this.mirrorDirectory)) {
+      var oldestAllowed = Instant.now().minus(this.mirrorMaxAge);
+      FileUtil.walkFileTree(this.mirrorDirectory, ($, file) -> {
+        try {
+          // partial downloads are only removed on startup unless they are outdated, they might be in progress
+          if ((removePartialDownloads && file.getFileName().toString().endsWith(".part"))
+            || Files.getLastModifiedTime(file).toInstant().isBefore(oldestAllowed)) {
+            Files.deleteIfExists(file);
+          }
+        } catch (IOException exception) {
+          LOGGER.fine("Unable to prune mirrored s3 object %s", exception, file);
+        }
+      });
+    } else {
+      FileUtil.createDirectory(this.mirrorDirectory);
+    }
+  }
+
   protected boolean listAllObjects(
     @NonNull String prefix,
     @Nullable String marker,
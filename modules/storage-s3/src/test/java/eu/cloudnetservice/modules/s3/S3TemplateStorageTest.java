@@ -22,6 +22,9 @@
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -29,6 +32,7 @@
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.strategy.Wait;
@@ -53,12 +57,18 @@ class S3TemplateStorageTest {
     .withEnv("SERVICES", "s3")
     .waitingFor(Wait.forLogMessage(".*Ready\\.\n", 1));
 
+  @TempDir
+  private static Path tempDirectory;
   private static S3TemplateStorage storage;
 
   @BeforeAll
   @SuppressWarnings("HttpUrlsUsage")
   static void setupServer() throws UnknownHostException {
     var runningAddress = InetAddress.getByName(S3.getHost()).getHostAddress();
+    // use the smallest part size allowed by s3 to test multipart transfers
+    System.setProperty("cloudnet.s3.part-size", Integer.toString(5 * 1024 * 1024));
+    System.setProperty("cloudnet.s3.multipart-threshold", Integer.toString(5 * 1024 * 1024));
+    System.setProperty("cloudnet.s3.mirror.path", tempDirectory.resolve("mirror").toString());
 
     var module = Mockito.mock(S3TemplateStorageModule.class);
     Mockito.when(module.config()).thenReturn(new S3TemplateStorageConfig(
@@ -194,6 +204,62 @@ void testTemplateListing() {
     Assertions.assertEquals(TEMPLATE, templates.iterator().next());
   }
 
+  @Test
+  @Order(105)
+  void testDeployAndPullDirectory() throws IOException {
+    var random = new Random(1234);
+    var source = tempDirectory.resolve("source");
+    // small files, transferred in one request each
+    for (var i = 0; i < 25; i++) {
+      var content = new byte[1024 + i];
+      random.nextBytes(content);
+      Files.createDirectories(source.resolve("plugins"));
+      Files.write(source.resolve("plugins").resolve("plugin-" + i + ".jar"), content);
+    }
+    // a large file, transferred in multiple parts
+    var largeContent = new byte[11 * 1024 * 1024];
+    random.nextBytes(largeContent);
+    Files.write(source.resolve("world.dat"), largeContent);
+
+    Assertions.assertTrue(storage.deployDirectory(TEMPLATE, source, null));
+
+    // the first pull downloads all objects, the second one uses the local mirror
+    for (var pull = 0; pull < 2; pull++) {
+      var target = tempDirectory.resolve("target-" + pull);
+      Assertions.assertTrue(storage.pull(TEMPLATE, target));
+
+      Assertions.assertArrayEquals(largeContent, Files.readAllBytes(target.resolve("world.dat")));
+      for (var i = 0; i < 25; i++) {
+        var fileName = "plugin-" + i + ".jar";
+        Assertions.assertArrayEquals(
+          Files.readAllBytes(source.resolve("plugins").resolve(fileName)),
+          Files.readAllBytes(target.resolve("plugins").resolve(fileName)));
+      }
+    }
+
+    // all objects with an etag are mirrored locally (the files created by the previous tests included)
+    try (var mirrored = Files.list(tempDirectory.resolve("mirror").resolve("s3"))) {
+      Assertions.assertTrue(mirrored.count() >= 26);
+    }
+  }
+
+  @Test
+  @Order(107)
+  void testPullSkipsDirectoryMarkers() {
+    // directory markers as created by some s3 guis, with and without a trailing slash
+    Assertions.assertTrue(storage.createFile(TEMPLATE, "plugins/"));
+    Assertions.assertTrue(storage.createFile(TEMPLATE, "plugins"));
+
+    var target = tempDirectory.resolve("target-markers");
+    Assertions.assertTrue(storage.pull(TEMPLATE, target));
+    Assertions.assertTrue(Files.isDirectory(target.resolve("plugins")));
+    Assertions.assertTrue(Files.exists(target.resolve("plugins").resolve("plugin-0.jar")));
+
+    // the marker with a trailing slash is not a file of the template
+    var files = storage.listFiles(TEMPLATE, "", true);
+    Assertions.assertTrue(files.stream().noneMatch(file -> file.path().endsWith("/")));
+  }
+
   @Test
   @Order(110)
   void testTemplateDelete() {
@@ -53,6 +53,7 @@ public SFTPClientPool(int maxClients, @NonNull Callable<SSHClient> clientFactory
   }
 
   public @NonNull SFTPClientWrapper takeClient() {
+    CompletableFuture<SFTPClientWrapper> future = new CompletableFuture<>();
     try {
       // ensure that we call this method only once at a time & that this pool is still open
       this.clientCreateLock.lock();
@@ -81,13 +82,14 @@ public SFTPClientPool(int maxClients, @NonNull Callable<SSHClient> clientFactory
         }
       }
 
-      // wait for a new client to become available
-      CompletableFuture<SFTPClientWrapper> future = new CompletableFuture<>();
+      // register as waiter for the next returned client
       this.clientReturnWaiters.add(future);
-      return future.join();
     } finally {
       this.clientCreateLock.unlock();
     }
+
+    // wait outside the lock, returning a client requires the lock as well
+    return future.join();
   }
 
   public void returnClient(@NonNull SFTPClientWrapper client) {
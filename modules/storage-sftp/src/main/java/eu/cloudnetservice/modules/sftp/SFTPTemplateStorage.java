@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.modules.sftp;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import eu.cloudnetservice.common.io.FileUtil;
 import eu.cloudnetservice.common.io.ZipUtil;
 import eu.cloudnetservice.common.log.LogManager;
@@ -25,18 +26,28 @@
 import eu.cloudnetservice.driver.template.TemplateStorage;
 import eu.cloudnetservice.modules.sftp.config.SFTPTemplateStorageConfig;
 import eu.cloudnetservice.modules.sftp.sshj.ActiveHeartbeatKeepAliveProvider;
-import eu.cloudnetservice.modules.sftp.sshj.FilteringLocalFileSource;
 import io.vavr.CheckedFunction1;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import lombok.NonNull;
 import net.schmizz.sshj.Config;
@@ -59,11 +70,17 @@ public class SFTPTemplateStorage implements TemplateStorage {
   private final Config config;
   private final SFTPClientPool pool;
   private final SFTPTemplateStorageConfig storageConfig;
+  private final ExecutorService transferExecutor;
+  private final SFTPTransferStatistics transferStatistics = new SFTPTransferStatistics();
 
   private volatile SSHClient sshClient;
 
   public SFTPTemplateStorage(@NonNull SFTPTemplateStorageConfig config) {
     this.storageConfig = config;
+    // each transfer holds one pooled client, there is no point in running more transfers than clients
+    this.transferExecutor = Executors.newFixedThreadPool(
+      Math.max(1, config.clientPoolSize()),
+      new ThreadFactoryBuilder().setNameFormat("SFTP-Transfer-%d").setDaemon(true).build());
     // init the config
     this.config = new DefaultConfig();
     this.config.setLoggerFactory(NopLoggerFactory.INSTANCE);
@@ -122,10 +139,57 @@ public boolean deployDirectory(
     @NonNull Path directory,
     @Nullable Predicate<Path> filter
   ) {
-    return this.executeWithClient(client -> {
-      client.put(new FilteringLocalFileSource(directory, filter), this.constructRemotePath(target));
-      return true;
-    }, false);
+    List<Path> localFiles = new ArrayList<>();
+    List<Path> localDirectories = new ArrayList<>();
+    try {
+      this.collectLocalFiles(directory, filter, localDirectories, localFiles);
+    } catch (IOException exception) {
+      LOGGER.fine("Unable to list the local files of %s", exception, directory);
+      return false;
+    }
+
+    // list the remote template once and create all directories which are missing
+    Map<String, RemoteFile> remoteFiles = this.executeWithClient(client -> {
+      var templatePath = this.constructRemotePath(target);
+      client.mkdirs(templatePath);
+
+      Map<String, RemoteFile> files = new HashMap<>();
+      this.collectRemoteFiles(client, templatePath, "", files);
+      for (var localDirectory : localDirectories) {
+        var relativePath = this.relativePath(directory, localDirectory);
+        if (!files.containsKey(relativePath)) {
+          client.mkdir(this.constructRemotePath(target, relativePath));
+        }
+      }
+      return files;
+    }, null);
+    if (remoteFiles == null) {
+      return false;
+    }
+
+    List<CompletableFuture<Boolean>> transfers = new ArrayList<>();
+    for (var localFile : localFiles) {
+      var relativePath = this.relativePath(directory, localFile);
+      var remoteFile = remoteFiles.get(relativePath);
+      try {
+        // skip all files which did not change since the last upload
+        if (remoteFile != null && remoteFile.matches(Files.size(localFile), Files.getLastModifiedTime(localFile))) {
+          this.transferStatistics.recordSkip();
+          continue;
+        }
+      } catch (IOException exception) {
+        LOGGER.fine("Unable to read the attributes of %s", exception, localFile);
+      }
+
+      // sshj preserves the modification time of the file which is required to detect unchanged files later
+      var remotePath = this.constructRemotePath(target, relativePath);
+      transfers.add(this.scheduleTransfer(remotePath, client -> {
+        client.put(new FileSystemFile(localFile.toFile()), remotePath);
+        return Files.size(localFile);
+      }));
+    }
+
+    return this.awaitAll(transfers);
   }
 
   @Override
@@ -143,27 +207,57 @@ public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inpu
 
   @Override
   public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory) {
-    return this.executeWithClient(client -> {
-      // we cannot call "get" directly as that would cause a download of the file into a directory
-      // which is called the same way the template is called
-      var target = new FileSystemFile(directory.toFile());
-      for (var fileInfo : client.ls(this.constructRemotePath(template))) {
-        client.get(fileInfo.getPath(), target);
+    // list the whole remote template in one pass, the transfers are distributed over the pooled clients afterwards
+    Map<String, RemoteFile> remoteFiles = this.executeWithClient(client -> {
+      Map<String, RemoteFile> files = new HashMap<>();
+      this.collectRemoteFiles(client, this.constructRemotePath(template), "", files);
+      return files;
+    }, null);
+    if (remoteFiles == null) {
+      return false;
+    }
+
+    FileUtil.createDirectory(directory);
+    List<CompletableFuture<Boolean>> transfers = new ArrayList<>();
+    for (var entry : remoteFiles.entrySet()) {
+      var remoteFile = entry.getValue();
+      var localFile = FileUtil.resolve(directory, entry.getKey());
+      if (remoteFile.directory()) {
+        FileUtil.createDirectory(localFile);
+        continue;
       }
-      return true;
-    }, false);
+
+      try {
+        // skip all files which did not change since the last pull into the directory
+        if (Files.exists(localFile)
+          && remoteFile.matches(Files.size(localFile), Files.getLastModifiedTime(localFile))) {
+          this.transferStatistics.recordSkip();
+          continue;
+        }
+      } catch (IOException exception) {
+        LOGGER.fine("Unable to read the attributes of %s", exception, localFile);
+      }
+
+      // sshj preserves the modification time of the file which is required to detect unchanged files later
+      transfers.add(this.scheduleTransfer(remoteFile.path(), client -> {
+        FileUtil.createDirectory(localFile.getParent());
+        client.get(remoteFile.path(), new FileSystemFile(localFile.toFile()));
+        return remoteFile.size();
+      }));
+    }
+
+    return this.awaitAll(transfers);
   }
 
   @Override
   public @Nullable InputStream zipTemplate(@NonNull ServiceTemplate template) {
-    return this.executeWithClient(client -> {
-      var localTarget = FileUtil.createTempFile();
-      if (this.pull(template, localTarget)) {
-        return ZipUtil.zipToStream(localTarget);
-      } else {
-        return null;
-      }
-    }, null);
+    // the pull distributes the transfers over the pooled clients, do not hold a client while waiting for it
+    var localTarget = FileUtil.createTempFile();
+    try {
+      return this.pull(template, localTarget) ? ZipUtil.zipToStream(localTarget) : null;
+    } finally {
+      FileUtil.delete(localTarget);
+    }
   }
 
   @Override
@@ -321,7 +415,7 @@ protected void ls(
       result.add(this.createFileInfo(info.getAttributes(), info.getPath()));
       // if the file is a directory, and we should check recursive do that
       if (info.isDirectory() && deep) {
-        this.ls(client, result, template, dir.endsWith("/") ? dir : (dir + '/') + info.getName(), true);
+        this.ls(client, result, template, (dir.endsWith("/") ? dir : (dir + '/')) + info.getName(), true);
       }
     }
   }
@@ -345,8 +439,14 @@ protected void ls(
     }, Collections.emptySet());
   }
 
+  public @NonNull SFTPTransferStatistics transferStatistics() {
+    return this.transferStatistics;
+  }
+
   @Override
   public void close() throws IOException {
+    this.transferExecutor.shutdownNow();
+
     // if the base-client is null there are no pooled clients as well, but we need to mark the pool itself as closed
     this.pool.close();
 
@@ -380,6 +480,87 @@ public void close() throws IOException {
       attributes.getSize());
   }
 
+  protected void collectRemoteFiles(
+    @NonNull SFTPClient client,
+    @NonNull String remoteDirectory,
+    @NonNull String relativeDirectory,
+    @NonNull Map<String, RemoteFile> result
+  ) throws IOException {
+    for (var info : client.ls(remoteDirectory)) {
+      var relativePath = relativeDirectory.isEmpty() ? info.getName() : relativeDirectory + '/' + info.getName();
+      var attributes = info.getAttributes();
+      result.put(relativePath, new RemoteFile(
+        info.getPath(),
+        info.isDirectory(),
+        attributes.getSize(),
+        attributes.getMtime()));
+      // the listing of a directory already contains the attributes of all files, no need to stat them again
+      if (info.isDirectory()) {
+        this.collectRemoteFiles(client, info.getPath(), relativePath, result);
+      }
+    }
+  }
+
+  protected void collectLocalFiles(
+    @NonNull Path directory,
+    @Nullable Predicate<Path> filter,
+    @NonNull List<Path> directories,
+    @NonNull List<Path> files
+  ) throws IOException {
+    try (var stream = Files.list(directory)) {
+      for (var path : (Iterable<Path>) stream::iterator) {
+        // filtered directories are skipped including their content
+        if (filter != null && !filter.test(path)) {
+          continue;
+        }
+
+        if (Files.isDirectory(path)) {
+          directories.add(path);
+          this.collectLocalFiles(path, filter, directories, files);
+        } else {
+          files.add(path);
+        }
+      }
+    }
+  }
+
+  protected @NonNull String relativePath(@NonNull Path root, @NonNull Path path) {
+    return root.relativize(path).toString().replace(File.separatorChar, '/');
+  }
+
+  protected @NonNull CompletableFuture<Boolean> scheduleTransfer(
+    @NonNull String remotePath,
+    @NonNull CheckedFunction1<SFTPClient, Long> transfer
+  ) {
+    return CompletableFuture.supplyAsync(() -> {
+      var start = System.nanoTime();
+      long bytes = this.executeWithClient(transfer, -1L);
+      if (bytes < 0) {
+        return false;
+      }
+
+      var nanos = System.nanoTime() - start;
+      this.transferStatistics.recordTransfer(bytes, nanos);
+      LOGGER.fine(
+        "Transferred %s (%d bytes) in %d ms (%.2f KiB/s)",
+        null,
+        remotePath,
+        bytes,
+        TimeUnit.NANOSECONDS.toMillis(nanos),
+        SFTPTransferStatistics.throughput(bytes, nanos) / 1024);
+      return true;
+    }, this.transferExecutor).exceptionally(throwable -> false);
+  }
+
+  protected boolean awaitAll(@NonNull List<CompletableFuture<Boolean>> transfers) {
+    var success = true;
+    for (var transfer : transfers) {
+      // wait for all transfers to complete, even if one of them failed
+      success &= transfer.join();
+    }
+    return success;
+  }
+
   protected <T> T executeWithClient(@NonNull CheckedFunction1<SFTPClient, T> handler, T def) {
     // only take a client & execute the action if the pool is still available
     if (this.pool.stillActive()) {
@@ -400,4 +581,12 @@ protected <T> T executeWithClient(@NonNull CheckedFunction1<SFTPClient, T> handl
     // either an exception was thrown or the pool is closed
     return def;
   }
+
+  protected record RemoteFile(@NonNull String path, boolean directory, long size, long mtime) {
+
+    public boolean matches(long localSize, @NonNull FileTime localModificationTime) {
+      // sftp only transfers the modification time in seconds
+      return this.size == localSize && this.mtime == localModificationTime.to(TimeUnit.SECONDS);
+    }
+  }
 }
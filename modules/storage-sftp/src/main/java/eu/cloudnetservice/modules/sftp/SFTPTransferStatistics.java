@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.sftp;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class SFTPTransferStatistics {
+
+  private final LongAdder transfers = new LongAdder();
+  private final LongAdder skippedFiles = new LongAdder();
+  private final LongAdder transferredBytes = new LongAdder();
+  private final LongAdder transferNanos = new LongAdder();
+
+  void recordTransfer(long bytes, long nanos) {
+    this.transfers.increment();
+    this.transferredBytes.add(bytes);
+    this.transferNanos.add(nanos);
+  }
+
+  void recordSkip() {
+    this.skippedFiles.increment();
+  }
+
+  public long transfers() {
+    return this.transfers.sum();
+  }
+
+  public long skippedFiles() {
+    return this.skippedFiles.sum();
+  }
+
+  public long transferredBytes() {
+    return this.transferredBytes.sum();
+  }
+
+  public long transferNanos() {
+    return this.transferNanos.sum();
+  }
+
+  public double bytesPerSecond() {
+    return throughput(this.transferredBytes(), this.transferNanos());
+  }
+
+  static double throughput(long bytes, long nanos) {
+    return nanos <= 0 ? 0 : bytes / (nanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+}
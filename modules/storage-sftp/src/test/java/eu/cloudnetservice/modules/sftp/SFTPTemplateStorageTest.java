@@ -22,6 +22,8 @@
 import eu.cloudnetservice.modules.sftp.config.SFTPTemplateStorageConfig;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -29,6 +31,7 @@
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -186,6 +189,37 @@ void testTemplateListing() {
     Assertions.assertEquals(TEMPLATE, templates.iterator().next());
   }
 
+  @Test
+  @Order(105)
+  void testDeployAndPullDirectory(@TempDir Path source, @TempDir Path target) throws IOException {
+    Files.createDirectories(source.resolve("plugins/config"));
+    Files.writeString(source.resolve("server.properties"), "motd=Hello");
+    Files.writeString(source.resolve("plugins/config/config.yml"), "enabled: true");
+    Files.writeString(source.resolve("ignored.log"), "ignored");
+
+    Assertions.assertTrue(storage.deployDirectory(TEMPLATE, source, path -> !path.toString().endsWith(".log")));
+    Assertions.assertTrue(storage.hasFile(TEMPLATE, "plugins/config/config.yml"));
+    Assertions.assertFalse(storage.hasFile(TEMPLATE, "ignored.log"));
+
+    // redeploying the unchanged directory should not transfer any file
+    var transfers = storage.transferStatistics().transfers();
+    Assertions.assertTrue(storage.deployDirectory(TEMPLATE, source, path -> !path.toString().endsWith(".log")));
+    Assertions.assertEquals(transfers, storage.transferStatistics().transfers());
+
+    Assertions.assertTrue(storage.pull(TEMPLATE, target));
+    Assertions.assertEquals("motd=Hello", Files.readString(target.resolve("server.properties")));
+    Assertions.assertEquals("enabled: true", Files.readString(target.resolve("plugins/config/config.yml")));
+    Assertions.assertEquals("HelloWorld", Files.readString(target.resolve("test.txt")));
+
+    // pulling again into the same directory should skip all unchanged files
+    transfers = storage.transferStatistics().transfers();
+    var skipped = storage.transferStatistics().skippedFiles();
+    Assertions.assertTrue(storage.pull(TEMPLATE, target));
+    Assertions.assertEquals(transfers, storage.transferStatistics().transfers());
+    Assertions.assertTrue(storage.transferStatistics().skippedFiles() > skipped);
+    Assertions.assertTrue(storage.transferStatistics().transferredBytes() > 0);
+  }
+
   @Test
   @Order(110)
   void testTemplateDelete() {
@@ -98,8 +98,9 @@ public void shutdown() {
         LOGGER.info(I18n.trans("stop-node-connections"));
         this.nodeServerProvider.close();
 
-        // close all services
+        // close all services, no more services should be started
         LOGGER.info(I18n.trans("stop-services"));
+        this.serviceManager.startPipeline().close();
         this.serviceManager.deleteAllCloudServices();
 
         // close all networking listeners
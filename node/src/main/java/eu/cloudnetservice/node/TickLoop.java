@@ -31,6 +31,7 @@
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
+import java.util.ArrayDeque;
 import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -46,6 +47,11 @@ public final class TickLoop {
   public static final int TPS = 10;
   public static final int MILLIS_BETWEEN_TICKS = 1000 / TPS;
 
+  // the amount of slots in the timing wheel, rounded up to the next power of two
+  private static final int WHEEL_SIZE = Integer.highestOneBit(
+    Math.max(1, Integer.getInteger("cloudnet.tickloop.wheel-size", 512)) * 2 - 1);
+  private static final long OVERRUN_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(MILLIS_BETWEEN_TICKS);
+
   // exposed to the package for internal use
   static final AtomicBoolean RUNNING = new AtomicBoolean(true);
 
@@ -63,7 +69,27 @@ public final class TickLoop {
   private final CloudNetTickServiceStartEvent serviceTickStartEvent = new CloudNetTickServiceStartEvent(this);
 
   private final AtomicLong currentTick = new AtomicLong();
-  private final Queue<ScheduledTask<?>> processQueue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingTasks = new AtomicInteger();
+
+  // newly scheduled tasks, drained into the timing wheel by the ticking thread
+  private final Queue<ScheduledTask<?>> scheduleQueue = new ConcurrentLinkedQueue<>();
+  // a hashed timing wheel, each slot holds the tasks which are due in a tick that maps to the slot. Tasks which are due
+  // in a later round of the wheel stay in the slot until their tick is reached. Only accessed by the ticking thread
+  private final Queue<ScheduledTask<?>>[] timingWheel = newTimingWheel();
+
+  private final AtomicLong tickOverruns = new AtomicLong();
+  private long lastProcessedTick;
+  private volatile long lastTickDurationNanos;
+  private volatile long maxTickDurationNanos;
+
+  @SuppressWarnings("unchecked")
+  private static @NonNull Queue<ScheduledTask<?>>[] newTimingWheel() {
+    Queue<ScheduledTask<?>>[] wheel = new Queue[WHEEL_SIZE];
+    for (var i = 0; i < wheel.length; i++) {
+      wheel[i] = new ArrayDeque<>();
+    }
+    return wheel;
+  }
 
   @Inject
   public TickLoop(
@@ -89,7 +115,7 @@ public TickLoop(
 
   public @NonNull <T> Task<T> runTask(@NonNull Callable<T> callable) {
     var task = new ScheduledTask<>(callable, 0, 1, this.currentTick.get() + 1);
-    this.processQueue.offer(task);
+    this.schedule(task);
     return task;
   }
 
@@ -106,7 +132,7 @@ public TickLoop(
       0,
       1,
       this.currentTick.get() + (timeUnit.toMillis(delay) / MILLIS_BETWEEN_TICKS));
-    this.processQueue.offer(task);
+    this.schedule(task);
     return task;
   }
 
@@ -120,7 +146,7 @@ public TickLoop(
       delay,
       maxExecutions,
       this.currentTick.get() + delay);
-    this.processQueue.offer(task);
+    this.schedule(task);
     return task;
   }
 
@@ -136,6 +162,22 @@ public long currentTick() {
     return this.currentTick.get();
   }
 
+  public int pendingTasks() {
+    return this.pendingTasks.get();
+  }
+
+  public long lastTickDurationNanos() {
+    return this.lastTickDurationNanos;
+  }
+
+  public long maxTickDurationNanos() {
+    return this.maxTickDurationNanos;
+  }
+
+  public long tickOverruns() {
+    return this.tickOverruns.get();
+  }
+
   public void start() {
     long tick;
     long lastTickLength;
@@ -161,12 +203,9 @@ public void start() {
 
         // check if ticking is currently disabled
         if (this.tickPauseRequests.get() <= 0) {
+          var tickStart = System.nanoTime();
           // execute all scheduled tasks for this tick
-          for (var task : this.processQueue) {
-            if (task.isCancelled() || task.execute(tick)) {
-              this.processQueue.remove(task);
-            }
-          }
+          this.processScheduledTasks(tick);
 
           // check if the node is marked for draining
           if (this.nodeServerProvider.localNode().draining()) {
@@ -190,6 +229,7 @@ public void start() {
           }
 
           this.eventManager.callEvent(this.tickEvent);
+          this.recordTickDuration(System.nanoTime() - tickStart);
         }
       } catch (Exception exception) {
         LOGGER.severe("Exception while ticking", exception);
@@ -197,17 +237,78 @@ public void start() {
     }
   }
 
+  void processScheduledTasks(long tick) {
+    // move all newly scheduled tasks into the wheel
+    ScheduledTask<?> scheduledTask;
+    while ((scheduledTask = this.scheduleQueue.poll()) != null) {
+      // tasks which are already due (for example because they were scheduled while the tick was running) run now
+      this.timingWheel[(int) (Math.max(tick, scheduledTask.nextScheduledTick) & (WHEEL_SIZE - 1))].add(scheduledTask);
+    }
+
+    // visit the slots of all ticks which were not processed yet (for example while ticking was paused), at most one
+    // full round of the wheel as all slots were visited then
+    var firstTick = Math.max(this.lastProcessedTick + 1, tick - WHEEL_SIZE + 1);
+    for (var slotTick = firstTick; slotTick <= tick; slotTick++) {
+      this.processSlot(this.timingWheel[(int) (slotTick & (WHEEL_SIZE - 1))], tick);
+    }
+    this.lastProcessedTick = tick;
+  }
+
+  private void processSlot(@NonNull Queue<ScheduledTask<?>> slot, long tick) {
+    // only visit the tasks which were in the slot before, re-added tasks are at the end of the queue. Executed tasks
+    // are always re-added for a later tick, so a task never runs twice in the same tick
+    for (var remaining = slot.size(); remaining > 0; remaining--) {
+      var task = slot.poll();
+      if (task.isCancelled()) {
+        // the task was cancelled while waiting, drop it
+        this.pendingTasks.decrementAndGet();
+      } else if (task.nextScheduledTick > tick) {
+        // the task is due in a later round of the wheel
+        this.timingWheel[(int) (task.nextScheduledTick & (WHEEL_SIZE - 1))].add(task);
+      } else if (task.execute(tick)) {
+        // the task terminated
+        this.pendingTasks.decrementAndGet();
+      } else {
+        // the task runs again in a later tick
+        this.timingWheel[(int) (task.nextScheduledTick & (WHEEL_SIZE - 1))].add(task);
+      }
+    }
+  }
+
+  private void schedule(@NonNull ScheduledTask<?> task) {
+    this.pendingTasks.incrementAndGet();
+    this.scheduleQueue.offer(task);
+  }
+
+  private void recordTickDuration(long tickDurationNanos) {
+    this.lastTickDurationNanos = tickDurationNanos;
+    if (tickDurationNanos > this.maxTickDurationNanos) {
+      this.maxTickDurationNanos = tickDurationNanos;
+    }
+
+    // check if the tick took longer than the time available for one tick
+    if (tickDurationNanos > OVERRUN_THRESHOLD_NANOS) {
+      this.tickOverruns.incrementAndGet();
+    }
+  }
+
   private void startService() {
+    var startPipeline = this.serviceManager.startPipeline();
     for (var task : this.taskProvider.serviceTasks()) {
       if (!task.maintenance()) {
-        // get the count of running services
-        var runningServiceCount = this.serviceManager.servicesByTask(task.name())
-          .stream()
-          .filter(taskService -> taskService.lifeCycle() == ServiceLifeCycle.RUNNING)
-          .count();
-        // check if we need to start a service
-        if (task.minServiceCount() > runningServiceCount) {
-          this.serviceManager.selectOrCreateService(task).start();
+        // get the count of running services and services which are about to start
+        var runningServiceCount = this.serviceManager.serviceCountByTask(task.name(), ServiceLifeCycle.RUNNING);
+        var queuedServiceCount = startPipeline.queuedStarts(task.name());
+        var missingServiceCount = task.minServiceCount() - runningServiceCount - queuedServiceCount;
+        // queue the start of all missing services, the services are selected or created, prepared and started
+        // on the workers of the pipeline rather than on the main thread
+        for (var i = 0; i < missingServiceCount; i++) {
+          if (!startPipeline.submit(
+            task.name(),
+            excludedServices -> this.serviceManager.selectOrCreateService(task, excludedServices))) {
+            // the pipeline was closed
+            return;
+          }
         }
       }
     }
@@ -258,8 +359,8 @@ private boolean execute(long currentTick) {
         }
         // execute the task and reset
         super.run(false);
-        // set the next scheduled tick
-        this.nextScheduledTick = currentTick + this.tickPeriod;
+        // set the next scheduled tick, at least the next one
+        this.nextScheduledTick = currentTick + Math.max(1, this.tickPeriod);
       }
       // runs again or later
       return false;
@@ -28,6 +28,7 @@
 import eu.cloudnetservice.driver.network.chunk.ChunkedPacketSender;
 import eu.cloudnetservice.driver.network.chunk.TransferStatus;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.network.protocol.BroadcastPacket;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
 import eu.cloudnetservice.node.cluster.LocalNodeServer;
@@ -204,6 +205,12 @@ public void selectHeadNode() {
 
   @Override
   public void sendPacket(@NonNull Packet packet) {
+    // broadcast packets are able to share their content with all node channels
+    if (packet instanceof BroadcastPacket broadcastPacket) {
+      broadcastPacket.sendTo(this.connectedNodeChannels(), false);
+      return;
+    }
+
     for (var server : this.nodeServers) {
       var channel = server.channel();
       if (channel != null) {
@@ -214,6 +221,12 @@ public void sendPacket(@NonNull Packet packet) {
 
   @Override
   public void sendPacketSync(@NonNull Packet packet) {
+    // broadcast packets are able to share their content with all node channels
+    if (packet instanceof BroadcastPacket broadcastPacket) {
+      broadcastPacket.sendTo(this.connectedNodeChannels(), true);
+      return;
+    }
+
     for (var server : this.nodeServers) {
       var channel = server.channel();
       if (channel != null) {
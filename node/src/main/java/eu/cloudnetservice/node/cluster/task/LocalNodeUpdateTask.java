@@ -19,18 +19,20 @@
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
-import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.node.TickLoop;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.NodeServerState;
+import eu.cloudnetservice.node.cluster.util.NodeInfoSnapshotCodec;
 import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 
 @Singleton
 public record LocalNodeUpdateTask(
   @NonNull NodeServerProvider provider,
+  @NonNull NodeInfoSnapshotCodec snapshotCodec,
   @NonNull Provider<TickLoop> mainThreadProvider
 ) implements Runnable {
 
@@ -55,13 +57,15 @@ public void run() {
           // initial exchange of a node snapshot)
           .filter(server -> server.state() == NodeServerState.READY)
           .map(server -> server.info().uniqueId())
-          .toList();
+          .collect(Collectors.toSet());
         if (!targetNodes.isEmpty()) {
+          // only send the changed fields of the snapshot unless a full keyframe is due
+          var frame = this.snapshotCodec.encode(localNode.nodeInfoSnapshot(), targetNodes);
           var message = ChannelMessage.builder()
             .sendSync(true) // ensure that we don't schedule too many updates while other are still waiting
-            .message("update_node_info_snapshot")
+            .message(frame.message())
             .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
-            .buffer(DataBuf.empty().writeObject(localNode.nodeInfoSnapshot()))
+            .buffer(frame.content())
             .prioritized(this.mainThreadProvider.get().currentTick() % 10 == 0);
           // add all targets
           targetNodes.forEach(message::targetNode);
@@ -20,7 +20,6 @@
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
-import eu.cloudnetservice.driver.channel.ChannelMessageTarget;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.event.events.service.CloudServiceLifecycleChangeEvent;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
@@ -29,11 +28,9 @@
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
 import eu.cloudnetservice.node.cluster.NodeServer;
-import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
-import java.util.Collection;
 import lombok.NonNull;
 
 @Singleton
@@ -50,16 +47,6 @@ public NodeDisconnectHandler(@NonNull EventManager eventManager, @NonNull CloudS
     this.serviceManager = serviceManager;
   }
 
-  private static @NonNull ChannelMessage.Builder targetServices(@NonNull Collection<CloudService> services) {
-    var builder = ChannelMessage.builder();
-    // iterate over all local services - if the service is connected append it as target
-    for (var service : services) {
-      builder.target(ChannelMessageTarget.Type.SERVICE, service.serviceId().name());
-    }
-    // for chaining
-    return builder;
-  }
-
   public void handleNodeServerClose(@NonNull NodeServer server) {
     for (var snapshot : this.serviceManager.services()) {
       if (snapshot.serviceId().nodeUniqueId().equalsIgnoreCase(server.name())) {
@@ -78,15 +65,16 @@ public void handleNodeServerClose(@NonNull NodeServer server) {
         this.serviceManager.handleServiceUpdate(newSnapshot, null);
         this.eventManager.callEvent(new CloudServiceLifecycleChangeEvent(lifeCycle, newSnapshot));
 
-        // send the change to all service - all other nodes will handle the close as well (if there are any)
-        var localServices = this.serviceManager.localCloudServices();
-        if (!localServices.isEmpty()) {
-          targetServices(localServices)
-            .message("update_service_lifecycle")
-            .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
-            .buffer(DataBuf.empty().writeObject(lifeCycle).writeObject(newSnapshot))
-            .build()
-            .send();
+        // send the change to all subscribed services - all other nodes will handle the close as well
+        var message = ChannelMessage.builder()
+          .message("update_service_lifecycle")
+          .channel(NetworkConstants.INTERNAL_MSG_CHANNEL);
+        var subscribers = this.serviceManager.serviceSubscriptions().targetSubscribers(
+          message,
+          newSnapshot,
+          this.serviceManager.localCloudServices());
+        if (subscribers > 0) {
+          message.buffer(DataBuf.empty().writeObject(lifeCycle).writeObject(newSnapshot)).build().send();
         }
       }
     }
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.cluster.util;
+
+import eu.cloudnetservice.driver.CloudNetVersion;
+import eu.cloudnetservice.driver.cluster.NetworkClusterNode;
+import eu.cloudnetservice.driver.cluster.NodeInfoSnapshot;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.module.ModuleConfiguration;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import eu.cloudnetservice.node.cluster.NodeServer;
+import io.leangen.geantyref.TypeFactory;
+import jakarta.inject.Singleton;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Encodes the local node info snapshot either as a full keyframe or as a delta which only contains the fields that
+ * changed since the last snapshot sent to the cluster, and applies received deltas onto the snapshot of a remote node.
+ * <p>
+ * A keyframe is the full snapshot followed by its version, which keeps it readable for nodes that do not know about
+ * deltas. A delta starts with the unique id of the sending node, followed by the version it is based on, its own
+ * version, the creation time of the snapshot, a bitmask of the changed fields and the changed fields themselves.
+ */
+@Singleton
+public final class NodeInfoSnapshotCodec {
+
+  public static final String KEYFRAME_MESSAGE = "update_node_info_snapshot";
+  public static final String DELTA_MESSAGE = "update_node_info_snapshot_delta";
+  public static final String KEYFRAME_REQUEST_MESSAGE = "request_node_info_snapshot_keyframe";
+
+  private static final int KEYFRAME_INTERVAL = Math.max(
+    1,
+    Integer.getInteger("cloudnet.cluster.snapshot-keyframe-interval", 30));
+  private static final Type MODULES_TYPE = TypeFactory.parameterizedClass(Collection.class, ModuleConfiguration.class);
+
+  private static final int STARTUP_MILLIS = 1;
+  private static final int MAX_MEMORY = 1 << 1;
+  private static final int USED_MEMORY = 1 << 2;
+  private static final int RESERVED_MEMORY = 1 << 3;
+  private static final int SERVICE_COUNT = 1 << 4;
+  private static final int DRAIN = 1 << 5;
+  private static final int NODE = 1 << 6;
+  private static final int VERSION = 1 << 7;
+  private static final int PROCESS_SNAPSHOT = 1 << 8;
+  private static final int MAX_CPU_USAGE = 1 << 9;
+  private static final int MODULES = 1 << 10;
+  private static final int PROPERTIES = 1 << 11;
+
+  // sender state
+  private long sentVersion;
+  private int framesSinceKeyframe;
+  private Set<String> lastTargets = Set.of();
+  private NodeInfoSnapshot lastSentSnapshot;
+  private volatile boolean keyframeRequested;
+
+  // receiver state, the version of the last snapshot applied for each node
+  private final Map<String, Long> receivedVersions = new ConcurrentHashMap<>();
+
+  // metrics
+  private final LongAdder keyframesSent = new LongAdder();
+  private final LongAdder keyframeBytes = new LongAdder();
+  private final LongAdder deltasSent = new LongAdder();
+  private final LongAdder deltaBytes = new LongAdder();
+  private final LongAdder deltasApplied = new LongAdder();
+  private final LongAdder deltaMismatches = new LongAdder();
+  private final LongAdder receivedSnapshots = new LongAdder();
+  private final LongAdder propagationMillis = new LongAdder();
+
+  /**
+   * Encodes the given snapshot for the given target nodes. A keyframe is sent if there is no previous frame, the
+   * targets changed, a receiver requested one or the keyframe interval elapsed, a delta otherwise.
+   *
+   * @param snapshot the snapshot to encode.
+   * @param targets  the unique ids of the nodes the frame will be sent to.
+   * @return the encoded frame.
+   * @throws NullPointerException if the given snapshot or targets are null.
+   */
+  public synchronized @NonNull Frame encode(@NonNull NodeInfoSnapshot snapshot, @NonNull Set<String> targets) {
+    var previous = this.lastSentSnapshot;
+    var baseVersion = this.sentVersion;
+    var version = ++this.sentVersion;
+    this.lastSentSnapshot = snapshot;
+
+    var keyframe = previous == null
+      || this.keyframeRequested
+      || !targets.equals(this.lastTargets)
+      || ++this.framesSinceKeyframe >= KEYFRAME_INTERVAL;
+    if (keyframe) {
+      this.framesSinceKeyframe = 0;
+      this.keyframeRequested = false;
+      this.lastTargets = Set.copyOf(targets);
+
+      var content = DataBuf.empty().writeObject(snapshot).writeLong(version);
+      this.keyframesSent.increment();
+      this.keyframeBytes.add(content.readableBytes());
+      return new Frame(KEYFRAME_MESSAGE, content);
+    }
+
+    var mask = 0;
+    mask |= previous.startupMillis() != snapshot.startupMillis() ? STARTUP_MILLIS : 0;
+    mask |= previous.maxMemory() != snapshot.maxMemory() ? MAX_MEMORY : 0;
+    mask |= previous.usedMemory() != snapshot.usedMemory() ? USED_MEMORY : 0;
+    mask |= previous.reservedMemory() != snapshot.reservedMemory() ? RESERVED_MEMORY : 0;
+    mask |= previous.currentServicesCount() != snapshot.currentServicesCount() ? SERVICE_COUNT : 0;
+    mask |= previous.draining() != snapshot.draining() ? DRAIN : 0;
+    mask |= !Objects.equals(previous.node(), snapshot.node()) ? NODE : 0;
+    mask |= !Objects.equals(previous.version(), snapshot.version()) ? VERSION : 0;
+    mask |= !Objects.equals(previous.processSnapshot(), snapshot.processSnapshot()) ? PROCESS_SNAPSHOT : 0;
+    mask |= Double.compare(
+      previous.maxProcessorUsageToStartServices(),
+      snapshot.maxProcessorUsageToStartServices()) != 0 ? MAX_CPU_USAGE : 0;
+    mask |= !Objects.equals(previous.modules(), snapshot.modules()) ? MODULES : 0;
+    mask |= !Objects.equals(previous.propertyHolder(), snapshot.propertyHolder()) ? PROPERTIES : 0;
+
+    var content = DataBuf.empty()
+      .writeString(snapshot.node().uniqueId())
+      .writeLong(baseVersion)
+      .writeLong(version)
+      .writeLong(snapshot.creationTime())
+      .writeInt(mask);
+    if ((mask & STARTUP_MILLIS) != 0) {
+      content.writeLong(snapshot.startupMillis());
+    }
+    if ((mask & MAX_MEMORY) != 0) {
+      content.writeInt(snapshot.maxMemory());
+    }
+    if ((mask & USED_MEMORY) != 0) {
+      content.writeInt(snapshot.usedMemory());
+    }
+    if ((mask & RESERVED_MEMORY) != 0) {
+      content.writeInt(snapshot.reservedMemory());
+    }
+    if ((mask & SERVICE_COUNT) != 0) {
+      content.writeInt(snapshot.currentServicesCount());
+    }
+    if ((mask & DRAIN) != 0) {
+      content.writeBoolean(snapshot.draining());
+    }
+    if ((mask & NODE) != 0) {
+      content.writeObject(snapshot.node());
+    }
+    if ((mask & VERSION) != 0) {
+      content.writeObject(snapshot.version());
+    }
+    if ((mask & PROCESS_SNAPSHOT) != 0) {
+      content.writeObject(snapshot.processSnapshot());
+    }
+    if ((mask & MAX_CPU_USAGE) != 0) {
+      content.writeDouble(snapshot.maxProcessorUsageToStartServices());
+    }
+    if ((mask & MODULES) != 0) {
+      content.writeObject(snapshot.modules());
+    }
+    if ((mask & PROPERTIES) != 0) {
+      content.writeObject(snapshot.propertyHolder());
+    }
+
+    this.deltasSent.increment();
+    this.deltaBytes.add(content.readableBytes());
+    return new Frame(DELTA_MESSAGE, content);
+  }
+
+  /**
+   * Forces the next encoded frame to be a keyframe, for example because a receiver was unable to apply a delta.
+   */
+  public void requestKeyframe() {
+    this.keyframeRequested = true;
+  }
+
+  /**
+   * Decodes a keyframe and remembers its version as the base for following deltas of the node.
+   *
+   * @param content the content of the keyframe message.
+   * @return the decoded snapshot.
+   * @throws NullPointerException if the given content is null.
+   */
+  public @NonNull NodeInfoSnapshot decodeKeyframe(@NonNull DataBuf content) {
+    var snapshot = content.readObject(NodeInfoSnapshot.class);
+    // the version is missing if the keyframe was sent by a node which does not support deltas
+    if (content.readableBytes() >= Long.BYTES) {
+      this.receivedVersions.put(snapshot.node().uniqueId(), content.readLong());
+    } else {
+      this.receivedVersions.remove(snapshot.node().uniqueId());
+    }
+
+    this.recordReceived(snapshot);
+    return snapshot;
+  }
+
+  /**
+   * Applies the delta in the given content onto the current snapshot of the given node server. The unique id of the
+   * node must already be read from the content. Unchanged fields are taken over from the current snapshot without
+   * decoding them again.
+   *
+   * @param server  the node server which sent the delta.
+   * @param content the remaining content of the delta message.
+   * @return the patched snapshot, null if the delta is not based on the current snapshot of the node.
+   * @throws NullPointerException if the given server or content is null.
+   */
+  public @Nullable NodeInfoSnapshot applyDelta(@NonNull NodeServer server, @NonNull DataBuf content) {
+    var baseVersion = content.readLong();
+    var version = content.readLong();
+
+    // the delta can only be applied to the snapshot it is based on
+    var current = server.nodeInfoSnapshot();
+    var currentVersion = this.receivedVersions.get(server.name());
+    if (current == null || currentVersion == null || currentVersion != baseVersion) {
+      this.receivedVersions.remove(server.name());
+      this.deltaMismatches.increment();
+      return null;
+    }
+
+    var creationTime = content.readLong();
+    var mask = content.readInt();
+    var snapshot = new NodeInfoSnapshot(
+      creationTime,
+      (mask & STARTUP_MILLIS) != 0 ? content.readLong() : current.startupMillis(),
+      (mask & MAX_MEMORY) != 0 ? content.readInt() : current.maxMemory(),
+      (mask & USED_MEMORY) != 0 ? content.readInt() : current.usedMemory(),
+      (mask & RESERVED_MEMORY) != 0 ? content.readInt() : current.reservedMemory(),
+      (mask & SERVICE_COUNT) != 0 ? content.readInt() : current.currentServicesCount(),
+      (mask & DRAIN) != 0 ? content.readBoolean() : current.draining(),
+      (mask & NODE) != 0 ? content.readObject(NetworkClusterNode.class) : current.node(),
+      (mask & VERSION) != 0 ? content.readObject(CloudNetVersion.class) : current.version(),
+      (mask & PROCESS_SNAPSHOT) != 0 ? content.readObject(ProcessSnapshot.class) : current.processSnapshot(),
+      (mask & MAX_CPU_USAGE) != 0 ? content.readDouble() : current.maxProcessorUsageToStartServices(),
+      (mask & MODULES) != 0 ? content.<Collection<ModuleConfiguration>>readObject(MODULES_TYPE) : current.modules(),
+      (mask & PROPERTIES) != 0 ? content.readObject(Document.class) : current.propertyHolder());
+
+    this.receivedVersions.put(server.name(), version);
+    this.deltasApplied.increment();
+    this.recordReceived(snapshot);
+    return snapshot;
+  }
+
+  public long keyframesSent() {
+    return this.keyframesSent.sum();
+  }
+
+  public long keyframeBytes() {
+    return this.keyframeBytes.sum();
+  }
+
+  public long deltasSent() {
+    return this.deltasSent.sum();
+  }
+
+  public long deltaBytes() {
+    return this.deltaBytes.sum();
+  }
+
+  public long deltasApplied() {
+    return this.deltasApplied.sum();
+  }
+
+  public long deltaMismatches() {
+    return this.deltaMismatches.sum();
+  }
+
+  /**
+   * Get the average time between the creation of a received snapshot and the time it was applied on this node. This
+   * includes the clock difference between the nodes.
+   *
+   * @return the average propagation latency of received snapshots in milliseconds.
+   */
+  public double averagePropagationMillis() {
+    var received = this.receivedSnapshots.sum();
+    return received == 0 ? 0 : this.propagationMillis.sum() / (double) received;
+  }
+
+  private void recordReceived(@NonNull NodeInfoSnapshot snapshot) {
+    this.receivedSnapshots.increment();
+    this.propagationMillis.add(Math.max(0, System.currentTimeMillis() - snapshot.creationTime()));
+  }
+
+  /**
+   * An encoded node info snapshot frame.
+   *
+   * @param message the channel message name to send the frame with.
+   * @param content the encoded content of the frame.
+   */
+  public record Frame(@NonNull String message, @NonNull DataBuf content) {
+
+  }
+}
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.NetworkChannelHandler;
+import eu.cloudnetservice.driver.network.def.PacketCompressionType;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListenerRegistry;
 import eu.cloudnetservice.driver.network.protocol.QueryPacketManager;
@@ -88,11 +89,23 @@ public boolean writeable() {
     return true;
   }
 
+  @Override
+  public boolean inEventLoop() {
+    return false;
+  }
+
   @Override
   public boolean active() {
+    // must stay inactive: rpc requests sent to inactive channels are written without ids of this channel's method
+    // table, which would be unknown to the channel into which the queue gets drained
     return false;
   }
 
+  @Override
+  public void enableCompression(@NonNull PacketCompressionType compressionType, int threshold) {
+    this.wrappedChannel.enableCompression(compressionType, threshold);
+  }
+
   @Override
   public void close() {
     this.wrappedChannel.close();
@@ -438,7 +438,7 @@ private void displayServiceInfo(
     list.addAll(List.of(
       "PID: " + service.processSnapshot().pid(),
       "CPU usage: " + ResourceFormatter.formatTwoDigitPrecision(service.processSnapshot().cpuUsage()) + "%",
-      "Threads: " + service.processSnapshot().threads().size(),
+      "Threads: " + service.processSnapshot().threadCount(),
       "Heap usage: " + (service.processSnapshot().heapUsageMemory() / 1048576) + "/" +
         (service.processSnapshot().maxHeapMemory() / 1048576) + "MB",
       " "
@@ -16,14 +16,24 @@
 
 package eu.cloudnetservice.node.database;
 
+import com.google.common.collect.AbstractIterator;
 import eu.cloudnetservice.driver.database.Database;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.StandardSerialisationStyle;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.NonNull;
 
 public abstract class AbstractDatabase implements LocalDatabase, Database {
 
+  protected static final int STREAM_CHUNK_SIZE = 100;
+
   protected final String name;
   protected final NodeDatabaseProvider databaseProvider;
 
@@ -39,22 +49,57 @@ protected AbstractDatabase(@NonNull String name, @NonNull NodeDatabaseProvider d
 
   @Override
   public void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize) {
-    var documentCount = this.documentCount();
-    if (documentCount != 0) {
-      long currentIndex = 0;
-      while (currentIndex < documentCount) {
-        var result = this.readChunk(currentIndex, chunkSize);
-        if (result != null) {
-          result.forEach(consumer);
-          currentIndex += chunkSize;
-          continue;
-        }
+    String lastKey = null;
+    Map<String, Document> result;
+    while ((result = this.readChunkAfter(lastKey, chunkSize)) != null) {
+      for (var entry : result.entrySet()) {
+        consumer.accept(entry.getKey(), entry.getValue());
+        lastKey = entry.getKey();
+      }
 
+      // a chunk which is not full indicates that there are no more entries
+      if (result.size() < chunkSize) {
         break;
       }
     }
   }
 
+  @Override
+  public @NonNull Stream<Map.Entry<String, Document>> stream() {
+    var iterator = new AbstractIterator<Map.Entry<String, Document>>() {
+
+      private String lastKey;
+      private boolean lastChunk;
+      private Iterator<Map.Entry<String, Document>> currentChunk = Collections.emptyIterator();
+
+      @Override
+      protected Map.Entry<String, Document> computeNext() {
+        if (!this.currentChunk.hasNext()) {
+          // read the next chunk, unless the previous chunk was the last one
+          var chunk = this.lastChunk ? null : AbstractDatabase.this.readChunkAfter(this.lastKey, STREAM_CHUNK_SIZE);
+          if (chunk == null) {
+            return this.endOfData();
+          }
+
+          this.lastChunk = chunk.size() < STREAM_CHUNK_SIZE;
+          this.currentChunk = chunk.entrySet().iterator();
+        }
+
+        var entry = this.currentChunk.next();
+        this.lastKey = entry.getKey();
+        return entry;
+      }
+    };
+
+    var characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, characteristics), false);
+  }
+
+  @Override
+  public boolean createIndex(@NonNull String fieldName) {
+    return false;
+  }
+
   protected @NonNull String serializeDocumentToJsonString(@NonNull Document document) {
     // send the given document into a new json document
     var jsonDocument = Document.newJsonDocument();
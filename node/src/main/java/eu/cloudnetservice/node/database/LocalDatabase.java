@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.document.Document;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -41,5 +42,49 @@ public interface LocalDatabase extends Database {
    */
   void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize);
 
+  /**
+   * Reads a chunk of entries from the database, skipping the given amount of entries first. Skipping entries might
+   * require the database to step over all skipped entries, use {@link #readChunkAfter(String, int)} instead when
+   * reading all entries chunk by chunk.
+   *
+   * @param beginIndex the amount of entries to skip.
+   * @param chunkSize  the maximum amount of entries to read.
+   * @return the entries in the chunk, null if no entries were read.
+   */
   @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize);
+
+  /**
+   * Reads a chunk of entries from the database whose keys are ordered after the given key. The entries in the returned
+   * map are ordered by their key, the next chunk can be read by passing the key of the last entry in the returned map
+   * to this method. Reading a chunk only requires the database to seek to the given key rather than stepping over all
+   * previous entries.
+   *
+   * @param previousKey the key of the last entry of the previous chunk, null to start with the first entry.
+   * @param chunkSize   the maximum amount of entries to read.
+   * @return the entries in the chunk ordered by their key, null if no entries were read.
+   */
+  @Nullable Map<String, Document> readChunkAfter(@Nullable String previousKey, int chunkSize);
+
+  /**
+   * Get a lazily evaluated stream of all entries in this database, ordered by their key. The entries are read from the
+   * database chunk by chunk while the stream is consumed, the stream does not hold any resources of the database and
+   * does not need to be closed.
+   *
+   * @return a lazily evaluated stream of all entries in this database.
+   */
+  @NonNull Stream<Map.Entry<String, Document>> stream();
+
+  /**
+   * Creates a secondary index for the given top level field of the documents in this database. Searches using
+   * {@link #find(String, String)} or {@link #find(Map)} which filter on an indexed field are resolved using the index
+   * rather than checking every document in the database. Creating an index which already exists has no effect.
+   * <p>
+   * Indexes should be created once, before the database is used, as implementations might only maintain an index
+   * while it is registered.
+   *
+   * @param fieldName the name of the top level field to index.
+   * @return true if the index exists after the call, false if this database does not support secondary indexes.
+   * @throws NullPointerException if the given field name is null.
+   */
+  boolean createIndex(@NonNull String fieldName);
 }
@@ -16,25 +16,38 @@
 
 package eu.cloudnetservice.node.database.h2;
 
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.sql.SQLDatabase;
 import eu.cloudnetservice.node.database.sql.SQLDatabaseProvider;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 public final class H2Database extends SQLDatabase {
 
+  private static final Logger LOGGER = LogManager.logger(H2Database.class);
+  private static final String INDEX_COLUMN_PREFIX = "idx_";
+  private static final Pattern INDEXABLE_FIELD_PATTERN = Pattern.compile("[a-zA-Z0-9_]+");
+
+  private final Set<String> indexedFields = ConcurrentHashMap.newKeySet();
+
   public H2Database(@NonNull SQLDatabaseProvider provider, @NonNull String name) {
     super(provider, name);
 
@@ -56,23 +69,132 @@ public boolean insert(@NonNull String key, @NonNull Document document) {
   }
 
   private boolean insert0(@NonNull String key, @NonNull Document document) {
+    var columns = new StringBuilder(TABLE_COLUMN_KEY).append(',').append(TABLE_COLUMN_VAL);
+    var placeholders = new StringBuilder("?, ?");
+    List<Object> arguments = new ArrayList<>();
+    arguments.add(key);
+    arguments.add(this.serializeDocumentToJsonString(document));
+
+    // write the values of the indexed fields into their columns
+    for (var indexedField : this.indexedFields) {
+      columns.append(",`").append(INDEX_COLUMN_PREFIX).append(indexedField).append('`');
+      placeholders.append(", ?");
+      arguments.add(document.getString(indexedField));
+    }
+
     return this.databaseProvider.executeUpdate(
-      "INSERT INTO `" + this.name + "` (" + TABLE_COLUMN_KEY + "," + TABLE_COLUMN_VAL + ") VALUES (?, ?);",
-      key, this.serializeDocumentToJsonString(document)
+      "INSERT INTO `" + this.name + "` (" + columns + ") VALUES (" + placeholders + ");",
+      arguments.toArray()
     ) != -1;
   }
 
   public boolean update0(String key, Document document) {
+    var columns = new StringBuilder(TABLE_COLUMN_VAL).append("=?");
+    List<Object> arguments = new ArrayList<>();
+    arguments.add(this.serializeDocumentToJsonString(document));
+
+    // update the values of the indexed fields in their columns
+    for (var indexedField : this.indexedFields) {
+      columns.append(",`").append(INDEX_COLUMN_PREFIX).append(indexedField).append("`=?");
+      arguments.add(document.getString(indexedField));
+    }
+
+    arguments.add(key);
     return this.databaseProvider.executeUpdate(
-      "UPDATE `" + this.name + "` SET " + TABLE_COLUMN_VAL + "=? WHERE " + TABLE_COLUMN_KEY + "=?",
-      this.serializeDocumentToJsonString(document), key
+      "UPDATE `" + this.name + "` SET " + columns + " WHERE " + TABLE_COLUMN_KEY + "=?",
+      arguments.toArray()
     ) != -1;
   }
 
-  public boolean insertOrUpdate(String key, Document document) {
+  public synchronized boolean insertOrUpdate(String key, Document document) {
     return this.contains(key) ? this.update0(key, document) : this.insert0(key, document);
   }
 
+  @Override
+  public synchronized boolean createIndex(@NonNull String fieldName) {
+    if (this.indexedFields.contains(fieldName)) {
+      return true;
+    }
+
+    // the field name is used as part of the column name, only allow safe names
+    if (!INDEXABLE_FIELD_PATTERN.matcher(fieldName).matches()) {
+      return false;
+    }
+
+    // check if the column exists already, it is only maintained while the index is registered
+    var column = INDEX_COLUMN_PREFIX + fieldName;
+    Boolean columnExists = this.databaseProvider.executeQuery(
+      "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS "
+        + "WHERE UPPER(TABLE_NAME) = UPPER(?) AND UPPER(COLUMN_NAME) = UPPER(?)",
+      resultSet -> resultSet.next() && resultSet.getInt(1) > 0,
+      null,
+      this.name,
+      column);
+    if (columnExists == null) {
+      return false;
+    }
+
+    // create the column and the index of it
+    if (!columnExists && this.databaseProvider.executeUpdate(
+      String.format("ALTER TABLE `%s` ADD COLUMN `%s` VARCHAR;", this.name, column)) == -1) {
+      return false;
+    }
+
+    var indexCreated = this.databaseProvider.executeUpdate(String.format(
+      "CREATE INDEX IF NOT EXISTS `%s_%s` ON `%s` (`%s`);",
+      this.name,
+      column,
+      this.name,
+      column)) != -1;
+    if (!indexCreated) {
+      return false;
+    }
+
+    // fill the column with the values of the documents which are currently in the database. an existing column might
+    // be stale as documents written while the index was not registered didn't update it. drop a newly added column if
+    // that fails, the next registration of the index will then try again
+    if (!this.fillIndexColumn(fieldName, column)) {
+      if (!columnExists) {
+        this.databaseProvider.executeUpdate(String.format("ALTER TABLE `%s` DROP COLUMN `%s`;", this.name, column));
+      }
+      return false;
+    }
+
+    this.indexedFields.add(fieldName);
+    return true;
+  }
+
+  private boolean fillIndexColumn(@NonNull String fieldName, @NonNull String column) {
+    Map<String, String> values = new HashMap<>();
+    this.iterate((key, document) -> values.put(key, document.getString(fieldName)));
+
+    // update all rows in one batch and transaction
+    var connection = this.databaseProvider.connection();
+    try (var statement = connection.prepareStatement(
+      String.format("UPDATE `%s` SET `%s`=? WHERE %s=?", this.name, column, TABLE_COLUMN_KEY))) {
+      connection.setAutoCommit(false);
+      try {
+        for (var entry : values.entrySet()) {
+          statement.setString(1, entry.getValue());
+          statement.setString(2, entry.getKey());
+          statement.addBatch();
+        }
+
+        statement.executeBatch();
+        connection.commit();
+        return true;
+      } catch (SQLException exception) {
+        connection.rollback();
+        throw exception;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+    } catch (SQLException exception) {
+      LOGGER.severe("Unable to fill the index column %s of database %s", exception, column, this.name);
+      return false;
+    }
+  }
+
   @Override
   public boolean contains(@NonNull String key) {
     return this.databaseProvider.executeQuery(
@@ -106,6 +228,11 @@ public boolean delete0(String key) {
 
   @Override
   public @NonNull List<Document> find(@NonNull String fieldName, String fieldValue) {
+    // use the index column of the field if present
+    if (this.indexedFields.contains(fieldName)) {
+      return this.find(Collections.singletonMap(fieldName, fieldValue));
+    }
+
     return this.databaseProvider.executeQuery(
       String.format("SELECT %s FROM `%s` WHERE %s LIKE ? ESCAPE '$'", TABLE_COLUMN_VAL, this.name, TABLE_COLUMN_VAL),
       resultSet -> {
@@ -135,8 +262,19 @@ public boolean delete0(String key) {
       while (iterator.hasNext()) {
         var entry = iterator.next();
 
-        stringBuilder.append(TABLE_COLUMN_VAL).append(" LIKE ? ESCAPE '$'");
-        collection.add("%\"" + entry.getKey() + "\":\"" + entry.getValue().replaceAll("([_%])", "\\$$1") + "\"%");
+        if (this.indexedFields.contains(entry.getKey())) {
+          // use the index column of the field
+          var column = INDEX_COLUMN_PREFIX + entry.getKey();
+          if (entry.getValue() == null) {
+            stringBuilder.append('`').append(column).append("` IS NULL");
+          } else {
+            stringBuilder.append('`').append(column).append("`=?");
+            collection.add(entry.getValue());
+          }
+        } else {
+          stringBuilder.append(TABLE_COLUMN_VAL).append(" LIKE ? ESCAPE '$'");
+          collection.add("%\"" + entry.getKey() + "\":\"" + entry.getValue().replaceAll("([_%])", "\\$$1") + "\"%");
+        }
 
         if (iterator.hasNext()) {
           stringBuilder.append(" and ");
@@ -256,4 +394,32 @@ public boolean synced() {
       beginIndex, chunkSize
     );
   }
+
+  @Override
+  public @Nullable Map<String, Document> readChunkAfter(@Nullable String previousKey, int chunkSize) {
+    // seek using the primary key index rather than skipping the previous entries
+    var query = previousKey == null
+      ? String.format("SELECT * FROM `%s` ORDER BY `%s` LIMIT ?;", this.name, TABLE_COLUMN_KEY)
+      : String.format(
+        "SELECT * FROM `%s` WHERE `%s` > ? ORDER BY `%s` LIMIT ?;",
+        this.name,
+        TABLE_COLUMN_KEY,
+        TABLE_COLUMN_KEY);
+    var arguments = previousKey == null ? new Object[]{chunkSize} : new Object[]{previousKey, chunkSize};
+
+    return this.databaseProvider.executeQuery(
+      query,
+      resultSet -> {
+        Map<String, Document> result = new LinkedHashMap<>();
+        while (resultSet.next()) {
+          var key = resultSet.getString(TABLE_COLUMN_KEY);
+          var document = DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
+          result.put(key, document);
+        }
+
+        return result.isEmpty() ? null : result;
+      },
+      null,
+      arguments);
+  }
 }
@@ -23,38 +23,110 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import jetbrains.exodus.ArrayByteIterable;
+import jetbrains.exodus.ByteIterable;
 import jetbrains.exodus.bindings.StringBinding;
 import jetbrains.exodus.env.Environment;
 import jetbrains.exodus.env.Store;
+import jetbrains.exodus.env.StoreConfig;
+import jetbrains.exodus.env.Transaction;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 public class XodusDatabase extends AbstractDatabase {
 
+  protected static final String INDEX_STORE_SEPARATOR = "@index@";
+  protected static final ByteIterable NULL_INDEX_KEY = new ArrayByteIterable(new byte[]{0});
+
   protected final Environment environment;
   protected final AtomicReference<Store> store;
+  // field name -> index store mapping the field value to the keys of the documents
+  protected final Map<String, Store> indexStores;
 
-  protected XodusDatabase(@NonNull String name, @NonNull Store store, @NonNull XodusDatabaseProvider provider) {
+  protected XodusDatabase(
+    @NonNull String name,
+    @NonNull Store store,
+    @NonNull Map<String, Store> indexStores,
+    @NonNull XodusDatabaseProvider provider
+  ) {
     super(name, provider);
 
     this.environment = store.getEnvironment();
     this.store = new AtomicReference<>(store);
+    this.indexStores = new ConcurrentHashMap<>(indexStores);
+  }
+
+  protected static @NonNull String indexStoreName(@NonNull String databaseName, @NonNull String fieldName) {
+    return databaseName + INDEX_STORE_SEPARATOR + fieldName;
+  }
+
+  protected static @NonNull ByteIterable indexKey(@Nullable String fieldValue) {
+    if (fieldValue == null) {
+      return NULL_INDEX_KEY;
+    }
+
+    // prefix the value to distinguish between null and non-null values
+    var valueBytes = fieldValue.getBytes(StandardCharsets.UTF_8);
+    var key = new byte[valueBytes.length + 1];
+    key[0] = 1;
+    System.arraycopy(valueBytes, 0, key, 1, valueBytes.length);
+    return new ArrayByteIterable(key);
   }
 
   @Override
   public boolean insert(@NonNull String key, @NonNull Document document) {
-    return this.environment.computeInExclusiveTransaction(
-      txn -> this.store().put(
+    return this.environment.computeInExclusiveTransaction(txn -> {
+      var keyEntry = StringBinding.stringToEntry(key);
+      if (!this.indexStores.isEmpty()) {
+        // replace the index entries of the previous document with the entries of the new document
+        var previous = this.store().get(txn, keyEntry);
+        this.updateIndexes(txn, keyEntry, previous == null ? null : this.parseDocument(previous), document);
+      }
+
+      return this.store().put(
         txn,
-        StringBinding.stringToEntry(key),
-        new ArrayByteIterable(this.serializeDocumentToJsonString(document).getBytes(StandardCharsets.UTF_8))));
+        keyEntry,
+        new ArrayByteIterable(this.serializeDocumentToJsonString(document).getBytes(StandardCharsets.UTF_8)));
+    });
+  }
+
+  @Override
+  public boolean createIndex(@NonNull String fieldName) {
+    if (this.indexStores.containsKey(fieldName)) {
+      return true;
+    }
+
+    this.environment.executeInExclusiveTransaction(txn -> {
+      // check again, the index might have been created while waiting for the transaction
+      if (this.indexStores.containsKey(fieldName)) {
+        return;
+      }
+
+      // open the index store and index all documents which are currently in the database
+      var indexStore = this.environment.openStore(
+        indexStoreName(this.name, fieldName),
+        StoreConfig.WITH_DUPLICATES_WITH_PREFIXING,
+        txn);
+      try (var cursor = this.store().openCursor(txn)) {
+        while (cursor.getNext()) {
+          var document = this.parseDocument(cursor.getValue());
+          indexStore.put(txn, indexKey(document.getString(fieldName)), cursor.getKey());
+        }
+      }
+
+      // register the index while still holding the exclusive transaction, so that all following writes see it
+      this.indexStores.put(fieldName, indexStore);
+    });
+    return true;
   }
 
   @Override
@@ -65,19 +137,36 @@ public boolean contains(@NonNull String key) {
 
   @Override
   public boolean delete(@NonNull String key) {
-    return this.environment.computeInTransaction(txn -> this.store().delete(txn, StringBinding.stringToEntry(key)));
+    return this.environment.computeInTransaction(txn -> {
+      var keyEntry = StringBinding.stringToEntry(key);
+      if (!this.indexStores.isEmpty()) {
+        // remove the index entries of the document
+        var previous = this.store().get(txn, keyEntry);
+        if (previous != null) {
+          this.updateIndexes(txn, keyEntry, this.parseDocument(previous), null);
+        }
+      }
+
+      return this.store().delete(txn, keyEntry);
+    });
   }
 
   @Override
   public @Nullable Document get(@NonNull String key) {
     return this.environment.computeInReadonlyTransaction(txn -> {
       var entry = this.store().get(txn, StringBinding.stringToEntry(key));
-      return entry == null ? null : DocumentFactory.json().parse(entry.getBytesUnsafe());
+      return entry == null ? null : this.parseDocument(entry);
     });
   }
 
   @Override
   public @NonNull List<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
+    // use the index of the field if present
+    var indexStore = this.indexStores.get(fieldName);
+    if (indexStore != null) {
+      return this.findWithIndex(indexStore, fieldValue, null);
+    }
+
     return this.handleWithCursor(($, document) -> {
       if (Objects.equals(document.getString(fieldName), fieldValue)) {
         return document;
@@ -89,14 +178,24 @@ public boolean delete(@NonNull String key) {
   @Override
   public @NonNull List<Document> find(@NonNull Map<String, String> filters) {
     var entries = filters.entrySet();
-    return this.handleWithCursor(($, document) -> {
+    Predicate<Document> filter = document -> {
       for (var entry : entries) {
         if (!Objects.equals(document.getString(entry.getKey()), entry.getValue())) {
-          return null;
+          return false;
         }
       }
-      return document;
-    });
+      return true;
+    };
+
+    // use the index of the first indexed field to find the candidates, if any
+    for (var entry : entries) {
+      var indexStore = this.indexStores.get(entry.getKey());
+      if (indexStore != null) {
+        return this.findWithIndex(indexStore, entry.getValue(), filter);
+      }
+    }
+
+    return this.handleWithCursor(($, document) -> filter.test(document) ? document : null);
   }
 
   @Override
@@ -126,6 +225,13 @@ public void clear() {
     this.environment.executeInExclusiveTransaction(txn -> {
       this.environment.truncateStore(this.name, txn);
       this.store.set(this.environment.openStore(this.name, this.store().getConfig(), txn));
+
+      // truncate all indexes as well
+      for (var entry : this.indexStores.entrySet()) {
+        var indexStoreName = indexStoreName(this.name, entry.getKey());
+        this.environment.truncateStore(indexStoreName, txn);
+        entry.setValue(this.environment.openStore(indexStoreName, entry.getValue().getConfig(), txn));
+      }
     });
   }
 
@@ -158,14 +264,74 @@ protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
     this.environment.executeInReadonlyTransaction(txn -> {
       try (var cursor = this.store().openCursor(txn)) {
         while (cursor.getNext()) {
-          handler.accept(
-            StringBinding.entryToString(cursor.getKey()),
-            DocumentFactory.json().parse(cursor.getValue().getBytesUnsafe()));
+          handler.accept(StringBinding.entryToString(cursor.getKey()), this.parseDocument(cursor.getValue()));
         }
       }
     });
   }
 
+  protected @NonNull List<Document> findWithIndex(
+    @NonNull Store indexStore,
+    @Nullable String fieldValue,
+    @Nullable Predicate<Document> filter
+  ) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      List<Document> result = new ArrayList<>();
+      try (var cursor = indexStore.openCursor(txn)) {
+        // iterate over all keys of documents which are associated with the given field value
+        var documentKey = cursor.getSearchKey(indexKey(fieldValue));
+        while (documentKey != null) {
+          var entry = this.store().get(txn, documentKey);
+          if (entry != null) {
+            var document = this.parseDocument(entry);
+            if (filter == null || filter.test(document)) {
+              result.add(document);
+            }
+          }
+
+          documentKey = cursor.getNextDup() ? cursor.getValue() : null;
+        }
+      }
+      return result;
+    });
+  }
+
+  protected void updateIndexes(
+    @NonNull Transaction txn,
+    @NonNull ByteIterable key,
+    @Nullable Document previous,
+    @Nullable Document current
+  ) {
+    for (var entry : this.indexStores.entrySet()) {
+      var indexStore = entry.getValue();
+      var previousValue = previous == null ? null : previous.getString(entry.getKey());
+      var currentValue = current == null ? null : current.getString(entry.getKey());
+
+      // skip the update if the indexed value did not change
+      if (previous != null && current != null && Objects.equals(previousValue, currentValue)) {
+        continue;
+      }
+
+      // remove the previous index entry
+      if (previous != null) {
+        try (var cursor = indexStore.openCursor(txn)) {
+          if (cursor.getSearchBoth(indexKey(previousValue), key)) {
+            cursor.deleteCurrent();
+          }
+        }
+      }
+
+      // add the new index entry
+      if (current != null) {
+        indexStore.put(txn, indexKey(currentValue), key);
+      }
+    }
+  }
+
+  protected @NonNull Document parseDocument(@NonNull ByteIterable entry) {
+    return DocumentFactory.json().parse(entry.getBytesUnsafe());
+  }
+
   @Override
   public @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize) {
     return this.environment.computeInReadonlyTransaction(txn -> {
@@ -181,9 +347,7 @@ protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
 
         long currentReadCount = 0;
         while (chunkSize > currentReadCount && cursor.getNext()) {
-          result.put(
-            StringBinding.entryToString(cursor.getKey()),
-            DocumentFactory.json().parse(cursor.getValue().getBytesUnsafe()));
+          result.put(StringBinding.entryToString(cursor.getKey()), this.parseDocument(cursor.getValue()));
           currentReadCount++;
         }
 
@@ -192,6 +356,35 @@ protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
     });
   }
 
+  @Override
+  public @Nullable Map<String, Document> readChunkAfter(@Nullable String previousKey, int chunkSize) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      try (var cursor = this.store().openCursor(txn)) {
+        Map<String, Document> result = new LinkedHashMap<>();
+
+        // seek to the first entry after the previous key
+        boolean hasEntry;
+        if (previousKey == null) {
+          hasEntry = cursor.getNext();
+        } else {
+          var previousKeyEntry = StringBinding.stringToEntry(previousKey);
+          hasEntry = cursor.getSearchKeyRange(previousKeyEntry) != null;
+          // skip the previous key if it is still present
+          if (hasEntry && cursor.getKey().compareTo(previousKeyEntry) == 0) {
+            hasEntry = cursor.getNext();
+          }
+        }
+
+        while (hasEntry && result.size() < chunkSize) {
+          result.put(StringBinding.entryToString(cursor.getKey()), this.parseDocument(cursor.getValue()));
+          hasEntry = cursor.getNext();
+        }
+
+        return result.isEmpty() ? null : result;
+      }
+    });
+  }
+
   protected @NonNull Store store() {
     return this.store.get();
   }
@@ -22,9 +22,12 @@
 import eu.cloudnetservice.node.database.util.LocalDatabaseUtil;
 import java.io.File;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import jetbrains.exodus.env.Environment;
 import jetbrains.exodus.env.EnvironmentConfig;
 import jetbrains.exodus.env.Environments;
+import jetbrains.exodus.env.Store;
 import jetbrains.exodus.env.StoreConfig;
 import lombok.NonNull;
 
@@ -64,7 +67,18 @@ public boolean init() {
   public @NonNull LocalDatabase database(@NonNull String name) {
     return this.databaseCache.get(name, $ -> this.environment.computeInTransaction(txn -> {
       var store = this.environment.openStore(name, StoreConfig.WITHOUT_DUPLICATES_WITH_PREFIXING, txn);
-      return new XodusDatabase(name, store, this);
+
+      // open all indexes which were created for the database previously
+      Map<String, Store> indexStores = new HashMap<>();
+      var indexStorePrefix = XodusDatabase.indexStoreName(name, "");
+      for (var storeName : this.environment.getAllStoreNames(txn)) {
+        if (storeName.startsWith(indexStorePrefix)) {
+          var indexStore = this.environment.openStore(storeName, StoreConfig.WITH_DUPLICATES_WITH_PREFIXING, txn);
+          indexStores.put(storeName.substring(indexStorePrefix.length()), indexStore);
+        }
+      }
+
+      return new XodusDatabase(name, store, indexStores, this);
     }));
   }
 
@@ -76,14 +90,26 @@ public boolean containsDatabase(@NonNull String name) {
   @Override
   public boolean deleteDatabase(@NonNull String name) {
     this.databaseCache.invalidate(name);
-    this.environment.executeInTransaction(txn -> this.environment.removeStore(name, txn));
+    this.environment.executeInTransaction(txn -> {
+      this.environment.removeStore(name, txn);
+
+      // remove all indexes of the database as well
+      var indexStorePrefix = XodusDatabase.indexStoreName(name, "");
+      for (var storeName : this.environment.getAllStoreNames(txn)) {
+        if (storeName.startsWith(indexStorePrefix)) {
+          this.environment.removeStore(storeName, txn);
+        }
+      }
+    });
 
     return true;
   }
 
   @Override
   public @NonNull Collection<String> databaseNames() {
-    return this.environment.computeInReadonlyTransaction(txn -> this.environment.getAllStoreNames(txn));
+    return this.environment.computeInReadonlyTransaction(txn -> this.environment.getAllStoreNames(txn).stream()
+      .filter(storeName -> !storeName.contains(XodusDatabase.INDEX_STORE_SEPARATOR))
+      .toList());
   }
 
   @Override
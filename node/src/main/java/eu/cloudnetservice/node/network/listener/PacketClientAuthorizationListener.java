@@ -24,6 +24,7 @@
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.def.PacketClientAuthorization;
+import eu.cloudnetservice.driver.network.def.PacketCompressionType;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListener;
 import eu.cloudnetservice.driver.service.ServiceId;
@@ -41,6 +42,7 @@
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 @Singleton
 public final class PacketClientAuthorizationListener implements PacketListener {
@@ -76,6 +78,8 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
     // read the core data
     var type = packet.content().readObject(PacketClientAuthorization.PacketAuthorizationType.class);
     try (var content = packet.content().readDataBuf()) {
+      // select the compression to use for the channel based on the types supported by the client
+      var compressionType = PacketCompressionType.negotiate(PacketCompressionType.readSupportedTypes(packet.content()));
       // handle the authorization
       switch (type) {
         // NODE -> NODE
@@ -97,7 +101,8 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
               if (server.state() == NodeServerState.DISCONNECTED) {
                 // respond with an auth success
                 var data = this.dataSyncRegistry.prepareClusterData(true, DataSyncHandler::alwaysForceApply);
-                channel.sendPacket(new PacketServerAuthorizationResponse(true, true, data));
+                channel.sendPacket(new PacketServerAuthorizationResponse(true, true, data, compressionType));
+                this.enableCompression(channel, compressionType);
                 channel.packetRegistry().addListener(
                   NetworkConstants.INTERNAL_SERVICE_SYNC_ACK_CHANNEL,
                   PacketClientServiceSyncAckListener.class);
@@ -107,7 +112,8 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
                 this.eventManager.callEvent(new NetworkClusterNodeReconnectEvent(server, channel));
               } else {
                 // reply with a default auth success
-                channel.sendPacket(new PacketServerAuthorizationResponse(true, false, null));
+                channel.sendPacket(new PacketServerAuthorizationResponse(true, false, null, compressionType));
+                this.enableCompression(channel, compressionType);
                 // set the state of the node for further handling
                 server.channel(channel);
                 server.state(NodeServerState.READY);
@@ -138,7 +144,8 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
             channel.packetRegistry().removeListeners(NetworkConstants.INTERNAL_AUTHORIZATION_CHANNEL);
             this.networkUtil.addDefaultPacketListeners(channel.packetRegistry());
             // successful auth
-            channel.sendPacket(new PacketServerAuthorizationResponse(true, false, null));
+            channel.sendPacket(new PacketServerAuthorizationResponse(true, false, null, compressionType));
+            this.enableCompression(channel, compressionType);
             // call the auth success event
             this.eventManager.callEvent(new NetworkServiceAuthSuccessEvent(service, channel));
             var serviceId = service.serviceId();
@@ -160,4 +167,10 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
     channel.sendPacketSync(new PacketServerAuthorizationResponse(false, false, null));
     channel.close();
   }
+
+  private void enableCompression(@NonNull NetworkChannel channel, @Nullable PacketCompressionType compressionType) {
+    if (compressionType != null) {
+      channel.enableCompression(compressionType, PacketCompressionType.compressionThreshold());
+    }
+  }
 }
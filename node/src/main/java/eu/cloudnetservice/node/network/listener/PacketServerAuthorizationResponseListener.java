@@ -20,7 +20,9 @@
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.network.def.PacketCompressionType;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListener;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
@@ -62,7 +64,20 @@ public PacketServerAuthorizationResponseListener(
   @Override
   public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
     // check if the auth was successful
-    if (packet.content().readBoolean()) {
+    var content = packet.content();
+    if (content.readBoolean()) {
+      var reconnect = content.readBoolean();
+      var syncData = content.readObject(DataBuf.class);
+
+      // enable the compression selected by the other node, if any (older nodes don't send the compression information)
+      if (content.readableBytes() > 0) {
+        var compressionType = content.readObject(PacketCompressionType.class);
+        var compressionThreshold = content.readInt();
+        if (compressionType != null) {
+          channel.enableCompression(compressionType, compressionThreshold);
+        }
+      }
+
       // search for the node to which the auth succeeded
       var server = this.configuration.clusterConfig().nodes().stream()
         .filter(node -> node.listeners().stream().anyMatch(host -> channel.serverAddress().equals(host)))
@@ -72,9 +87,8 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
         .orElse(null);
       if (server != null) {
         // check if this was a reconnection from the point of view of the other node
-        if (packet.content().readBoolean()) {
+        if (reconnect && syncData != null) {
           // handle the data sync
-          var syncData = packet.content().readDataBuf();
           this.dataSyncRegistry.handle(syncData, syncData.readBoolean());
 
           // check if there are pending packets for the node
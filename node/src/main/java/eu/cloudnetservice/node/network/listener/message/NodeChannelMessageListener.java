@@ -21,7 +21,6 @@
 import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.cluster.NetworkClusterNode;
-import eu.cloudnetservice.driver.cluster.NodeInfoSnapshot;
 import eu.cloudnetservice.driver.event.EventListener;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.event.events.channel.ChannelMessageReceiveEvent;
@@ -29,6 +28,7 @@
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.sync.DataSyncRegistry;
+import eu.cloudnetservice.node.cluster.util.NodeInfoSnapshotCodec;
 import eu.cloudnetservice.node.config.Configuration;
 import eu.cloudnetservice.node.event.cluster.NetworkClusterNodeInfoUpdateEvent;
 import eu.cloudnetservice.node.provider.NodeClusterNodeProvider;
@@ -46,6 +46,7 @@ public final class NodeChannelMessageListener {
   private final DataSyncRegistry dataSyncRegistry;
   private final NodeClusterNodeProvider nodeInfoProvider;
   private final NodeServerProvider nodeServerProvider;
+  private final NodeInfoSnapshotCodec snapshotCodec;
 
   @Inject
   public NodeChannelMessageListener(
@@ -53,13 +54,15 @@ public NodeChannelMessageListener(
     @NonNull Configuration configuration,
     @NonNull DataSyncRegistry dataSyncRegistry,
     @NonNull NodeClusterNodeProvider nodeInfoProvider,
-    @NonNull NodeServerProvider nodeServerProvider
+    @NonNull NodeServerProvider nodeServerProvider,
+    @NonNull NodeInfoSnapshotCodec snapshotCodec
   ) {
     this.eventManager = eventManager;
     this.configuration = configuration;
     this.dataSyncRegistry = dataSyncRegistry;
     this.nodeInfoProvider = nodeInfoProvider;
     this.nodeServerProvider = nodeServerProvider;
+    this.snapshotCodec = snapshotCodec;
   }
 
   @EventListener
@@ -67,8 +70,8 @@ public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
     if (event.channel().equals(NetworkConstants.INTERNAL_MSG_CHANNEL)) {
       switch (event.message()) {
         // update a single node info snapshot
-        case "update_node_info_snapshot" -> {
-          var snapshot = event.content().readObject(NodeInfoSnapshot.class);
+        case NodeInfoSnapshotCodec.KEYFRAME_MESSAGE -> {
+          var snapshot = this.snapshotCodec.decodeKeyframe(event.content());
           // get the associated node server
           var server = this.nodeServerProvider.node(snapshot.node().uniqueId());
           if (server != null) {
@@ -77,6 +80,29 @@ public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
           }
         }
 
+        // apply the changed fields of a node info snapshot
+        case NodeInfoSnapshotCodec.DELTA_MESSAGE -> {
+          var server = this.nodeServerProvider.node(event.content().readString());
+          if (server != null) {
+            var snapshot = this.snapshotCodec.applyDelta(server, event.content());
+            if (snapshot != null) {
+              server.updateNodeInfoSnapshot(snapshot);
+              this.eventManager.callEvent(new NetworkClusterNodeInfoUpdateEvent(event.networkChannel(), snapshot));
+            } else {
+              // the delta is not based on our snapshot of the node, request a full snapshot
+              ChannelMessage.builder()
+                .message(NodeInfoSnapshotCodec.KEYFRAME_REQUEST_MESSAGE)
+                .targetNode(server.name())
+                .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+                .build()
+                .send();
+            }
+          }
+        }
+
+        // a node was unable to apply the last delta of our snapshot
+        case NodeInfoSnapshotCodec.KEYFRAME_REQUEST_MESSAGE -> this.snapshotCodec.requestKeyframe();
+
         // handles the sync requests of cluster data
         case "sync_cluster_data" -> {
           // handle the sync and send back the data to override on the caller
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.channel.ChannelMessageTarget;
 import eu.cloudnetservice.driver.event.EventListener;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.event.events.channel.ChannelMessageReceiveEvent;
@@ -34,9 +35,11 @@
 import eu.cloudnetservice.driver.service.ServiceCreateResult;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.driver.service.ServiceUpdateSubscription;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.util.function.Supplier;
 import lombok.NonNull;
 
 @Singleton
@@ -119,6 +122,7 @@ public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
           // update locally and call the event
           this.serviceManager.handleServiceUpdate(snapshot, event.networkChannel());
           this.eventManager.callEvent(new CloudServiceUpdateEvent(snapshot));
+          this.forwardToSubscribers(event, snapshot, () -> DataBuf.empty().writeObject(snapshot));
         }
 
         // update of a service lifecycle in the network
@@ -128,6 +132,16 @@ public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
           // update locally and call the event
           this.serviceManager.handleServiceUpdate(snapshot, event.networkChannel());
           this.eventManager.callEvent(new CloudServiceLifecycleChangeEvent(lifeCycle, snapshot));
+          this.forwardToSubscribers(
+            event,
+            snapshot,
+            () -> DataBuf.empty().writeObject(lifeCycle).writeObject(snapshot));
+        }
+
+        // a local service declares which service updates it is interested in
+        case "update_service_subscription" -> {
+          var subscription = event.content().readObject(ServiceUpdateSubscription.class);
+          this.serviceManager.serviceSubscriptions().subscribe(event.sender().name(), subscription);
         }
 
         // call the event for a new line in the log of the service
@@ -169,4 +183,28 @@ public void handleRemoteLifecycleChanges(@NonNull CloudServiceLifecycleChangeEve
       }
     }
   }
+
+  private void forwardToSubscribers(
+    @NonNull ChannelMessageReceiveEvent event,
+    @NonNull ServiceInfoSnapshot snapshot,
+    @NonNull Supplier<DataBuf> contentFactory
+  ) {
+    // updates which target all components were already sent to all services by the sender
+    var targetedAll = event.channelMessage().targets().stream()
+      .anyMatch(target -> target.type() == ChannelMessageTarget.Type.ALL);
+    if (!targetedAll) {
+      // keep the original sender, the services should not see this node as the source of the update
+      var message = ChannelMessage.builder()
+        .sender(event.sender())
+        .message(event.message())
+        .channel(NetworkConstants.INTERNAL_MSG_CHANNEL);
+      var subscribers = this.serviceManager.serviceSubscriptions().targetSubscribers(
+        message,
+        snapshot,
+        this.serviceManager.localCloudServices());
+      if (subscribers > 0) {
+        message.buffer(contentFactory.get()).build().send();
+      }
+    }
+  }
 }
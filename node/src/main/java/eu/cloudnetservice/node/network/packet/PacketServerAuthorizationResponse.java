@@ -18,17 +18,30 @@
 
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.network.def.PacketCompressionType;
 import eu.cloudnetservice.driver.network.protocol.BasePacket;
 import org.jetbrains.annotations.Nullable;
 
 public final class PacketServerAuthorizationResponse extends BasePacket {
 
   public PacketServerAuthorizationResponse(boolean success, boolean reconnect, @Nullable DataBuf extraData) {
+    this(success, reconnect, extraData, null);
+  }
+
+  public PacketServerAuthorizationResponse(
+    boolean success,
+    boolean reconnect,
+    @Nullable DataBuf extraData,
+    @Nullable PacketCompressionType compressionType
+  ) {
     super(
       NetworkConstants.INTERNAL_AUTHORIZATION_CHANNEL,
       DataBuf.empty()
         .writeBoolean(success)
         .writeBoolean(reconnect)
-        .writeObject(extraData));
+        .writeObject(extraData)
+        // appended to keep the packet readable for components which don't support compression
+        .writeObject(compressionType)
+        .writeInt(PacketCompressionType.compressionThreshold()));
   }
 }
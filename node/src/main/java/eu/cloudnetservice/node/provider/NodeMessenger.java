@@ -79,23 +79,14 @@ public void sendChannelMessage(@NonNull ChannelMessage message) {
   public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClusterRedirect) {
     // find the target channels to send the message to
     var channels = this.findChannels(message.targets(), allowClusterRedirect);
-    for (var channel : channels) {
-      // acquire the message content for each channel we're sending the message to
-      // when writing the message content to the target buffer, the message is released
-      // that means when the message was written to all channels it's released unless someone acquired it before
-      message.content().acquire();
-
-      // construct and send the packet
-      var packet = new PacketServerChannelMessage(message, false);
-      if (message.sendSync()) {
-        channel.sendPacketSync(packet);
-      } else {
-        channel.sendPacket(packet);
-      }
+    if (channels.isEmpty()) {
+      // no target channels found, release the message now
+      message.content().release();
+    } else {
+      // serialize the message once and share the content with all target channels
+      // serializing the message releases the message content unless someone acquired it before
+      PacketServerChannelMessage.broadcast(message, false).sendTo(channels, message.sendSync());
     }
-
-    // release the message now
-    message.content().release();
   }
 
   public @NonNull Task<Collection<ChannelMessage>> sendChannelMessageQueryAsync(
@@ -113,28 +104,28 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
       Set<ChannelMessage> result = new HashSet<>();
       var task = new CountingTask<Collection<ChannelMessage>>(result, channels.size());
 
-      // send the packet to each channel
-      for (var channel : channels) {
-        // acquire the message content for each channel we're sending the message to
-        // when writing the message content to the target buffer, the message is released
-        // that means when the message was written to all channels it's released unless someone acquired it before
-        message.content().acquire();
-
-        channel.sendQueryAsync(new PacketServerChannelMessage(message, false)).whenComplete((packet, th) -> {
-          // check if we got an actual result from the request
-          if (th == null && packet.readable()) {
-            // add all resulting messages we got
-            result.addAll(packet.content().readObject(COL_MSG));
-          }
+      // serialize the message once and share the content with all target channels
+      // serializing the message releases the message content unless someone acquired it before
+      var broadcast = PacketServerChannelMessage.broadcast(message, false);
+      try {
+        // send a duplicate of the packet to each channel, each duplicate gets its own query id
+        for (var channel : channels) {
+          channel.sendQueryAsync(broadcast.duplicate()).whenComplete((packet, th) -> {
+            // check if we got an actual result from the request
+            if (th == null && packet.readable()) {
+              // add all resulting messages we got
+              result.addAll(packet.content().readObject(COL_MSG));
+            }
 
-          // count down - one channel responded
-          task.countDown();
-        });
+            // count down - one channel responded
+            task.countDown();
+          });
+        }
+      } finally {
+        // release the shared content now, the duplicates are released when they were written
+        broadcast.release();
       }
 
-      // release the message now
-      message.content().release();
-
       // return the task on which the user can wait
       return task;
     }
@@ -22,8 +22,10 @@
 import eu.cloudnetservice.driver.service.ServiceConfiguration;
 import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
 import eu.cloudnetservice.driver.service.ServiceTask;
 import eu.cloudnetservice.node.cluster.NodeServer;
+import eu.cloudnetservice.node.template.TemplateCache;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Map;
@@ -73,8 +75,20 @@ void addServicePreparer(
 
   int currentReservedMemory();
 
+  int serviceCountByTask(@NonNull String taskName, @NonNull ServiceLifeCycle lifeCycle);
+
   @Nullable NodeServer selectNodeForService(@NonNull ServiceConfiguration configuration);
 
+  @NonNull ServicePlacementStrategy placementStrategy();
+
+  void placementStrategy(@NonNull ServicePlacementStrategy placementStrategy);
+
+  @NonNull ServiceStartPipeline startPipeline();
+
+  @NonNull TemplateCache templateCache();
+
+  @NonNull ServiceSubscriptionRegistry serviceSubscriptions();
+
   @NonNull
   @UnmodifiableView Collection<CloudService> localCloudServices();
 
@@ -115,4 +129,9 @@ void addServicePreparer(
 
   @ApiStatus.Internal
   @NonNull SpecificCloudServiceProvider selectOrCreateService(@NonNull ServiceTask task);
+
+  @ApiStatus.Internal
+  @NonNull SpecificCloudServiceProvider selectOrCreateService(
+    @NonNull ServiceTask task,
+    @NonNull Collection<UUID> excludedServices);
 }
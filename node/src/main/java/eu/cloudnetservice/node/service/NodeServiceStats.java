@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Live aggregates of the services which are registered on a node. The aggregates are updated when a service gets
+ * registered or unregistered, reading them is a constant time operation.
+ *
+ * @since 4.0
+ */
+public final class NodeServiceStats {
+
+  private final AtomicInteger serviceCount = new AtomicInteger();
+  private final AtomicInteger reservedMemory = new AtomicInteger();
+  private final Map<String, AtomicInteger> serviceCountsByTask = new ConcurrentHashMap<>();
+
+  /**
+   * Get the amount of services which are registered on the node.
+   *
+   * @return the amount of services registered on the node.
+   */
+  public int serviceCount() {
+    return this.serviceCount.get();
+  }
+
+  /**
+   * Get the sum of the max heap memory of all services registered on the node, in megabytes.
+   *
+   * @return the memory reserved by the services on the node.
+   */
+  public int reservedMemory() {
+    return this.reservedMemory.get();
+  }
+
+  /**
+   * Get the amount of services of the given task which are registered on the node.
+   *
+   * @param task the name of the task to get the service count of.
+   * @return the amount of services of the given task registered on the node.
+   * @throws NullPointerException if the given task name is null.
+   */
+  public int serviceCountByTask(@NonNull String task) {
+    var count = this.serviceCountsByTask.get(task);
+    return count == null ? 0 : count.get();
+  }
+
+  /**
+   * Adds or removes a service from these aggregates.
+   *
+   * @param task      the name of the task of the service.
+   * @param maxMemory the max heap memory of the service, in megabytes.
+   * @param added     true if the service was added, false if it was removed.
+   * @throws NullPointerException if the given task name is null.
+   */
+  @ApiStatus.Internal
+  public void update(@NonNull String task, int maxMemory, boolean added) {
+    var delta = added ? 1 : -1;
+    this.serviceCount.addAndGet(delta);
+    this.reservedMemory.addAndGet(delta * maxMemory);
+    this.serviceCountsByTask.computeIfAbsent(task, $ -> new AtomicInteger()).addAndGet(delta);
+  }
+}
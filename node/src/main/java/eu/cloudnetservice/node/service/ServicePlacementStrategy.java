@@ -0,0 +1,46 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service;
+
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.node.cluster.NodeServer;
+import lombok.NonNull;
+
+/**
+ * A strategy to select the node a service should get started on. Each candidate node gets a score, the node with the
+ * lowest score is selected. If multiple nodes have the same score, the node with the lower cpu usage is selected.
+ * <p>
+ * Scoring a node must be a constant time operation, all information needed about the services on a node should be
+ * taken from the given node service stats rather than iterating over the known services.
+ *
+ * @since 4.0
+ */
+@FunctionalInterface
+public interface ServicePlacementStrategy {
+
+  /**
+   * Scores the given node for the placement of a service with the given configuration. A lower score means that the
+   * node is better suited to start the service.
+   *
+   * @param server        the candidate node.
+   * @param stats         the live stats of the services registered on the candidate node.
+   * @param configuration the configuration of the service to place.
+   * @return the score of the node, lower is better.
+   * @throws NullPointerException if one of the given arguments is null.
+   */
+  double score(@NonNull NodeServer server, @NonNull NodeServiceStats stats, @NonNull ServiceConfiguration configuration);
+}
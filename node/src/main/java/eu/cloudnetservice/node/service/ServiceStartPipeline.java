@@ -0,0 +1,386 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
+import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+/**
+ * A pipeline which starts services on a bounded pool of worker threads, allowing multiple services to prepare (copy
+ * templates, download inclusions, rewrite configurations) and start in parallel rather than one after another on the
+ * main thread. The amount of services starting at the same time can be configured using the
+ * {@code cloudnet.service.start-concurrency} system property.
+ * <p>
+ * Each service can only be queued once, a start request for a service which is already queued or starting results in
+ * another start attempt once the current one finished. Services which are yet to be selected or created for a task are
+ * queued as well, the selection and creation happens on the worker threads one service at a time to ensure that the
+ * same prepared service is never selected twice.
+ * <p>
+ * As services are prepared in parallel, a service which is starting is not yet counted as a running service. Services
+ * therefore reserve their heap memory in this pipeline before they are prepared and release it once they are running
+ * or failed to start, see {@link #reserveHeapMemory(int, int, IntSupplier)}.
+ *
+ * @since 4.0
+ */
+public final class ServiceStartPipeline {
+
+  private static final Logger LOGGER = LogManager.logger(ServiceStartPipeline.class);
+  private static final int START_CONCURRENCY = Math.max(1, Integer.getInteger(
+    "cloudnet.service.start-concurrency",
+    Math.max(2, Runtime.getRuntime().availableProcessors())));
+
+  private final Object memoryLock = new Object();
+  private final Object selectionLock = new Object();
+  private final Map<UUID, QueuedStart> queuedStarts = new ConcurrentHashMap<>();
+  private final Map<String, AtomicInteger> pendingSelections = new ConcurrentHashMap<>();
+  private final Map<Stage, StageStatistics> stageStatistics = new EnumMap<>(Stage.class);
+  private final ExecutorService startExecutor;
+
+  // only accessed while holding the memory lock
+  private int reservedHeapMemory;
+
+  public ServiceStartPipeline() {
+    this(START_CONCURRENCY);
+  }
+
+  ServiceStartPipeline(int concurrency) {
+    this.startExecutor = Executors.newFixedThreadPool(
+      concurrency,
+      new ThreadFactoryBuilder().setNameFormat("Service-Start-Worker-%d").setDaemon(true).build());
+    for (var stage : Stage.values()) {
+      this.stageStatistics.put(stage, new StageStatistics());
+    }
+  }
+
+  /**
+   * Queues the start of the given service provider. If the service is already queued or starting, another start
+   * attempt is made after the current one finished.
+   *
+   * @param provider the provider of the service to start.
+   * @return true if the service is now queued to start, false if the provider does not reference an existing service.
+   * @throws NullPointerException if the given provider is null.
+   */
+  public boolean submit(@NonNull SpecificCloudServiceProvider provider) {
+    var serviceInfo = provider.serviceInfo();
+    if (serviceInfo == null) {
+      return false;
+    }
+
+    var uniqueId = this.register(provider);
+    if (uniqueId != null) {
+      try {
+        this.startExecutor.execute(() -> this.start(uniqueId, provider));
+      } catch (RejectedExecutionException exception) {
+        // the pipeline was closed
+        this.queuedStarts.remove(uniqueId);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Queues the start of a service of the given task which is yet to be selected or created. The given selector is
+   * called on a worker thread with the unique ids of all services which are already queued to start and should return
+   * the provider of a prepared or newly created service of the task. The selected service is then started on the same
+   * worker thread.
+   *
+   * @param task     the name of the task to start a service of.
+   * @param selector the function selecting or creating the service to start, excluding the given services.
+   * @return true if the selection of the service was queued, false if the pipeline was closed.
+   * @throws NullPointerException if the given task name or selector is null.
+   */
+  public boolean submit(
+    @NonNull String task,
+    @NonNull Function<Collection<UUID>, SpecificCloudServiceProvider> selector
+  ) {
+    var pendingSelections = this.pendingSelections.computeIfAbsent(task, $ -> new AtomicInteger());
+    pendingSelections.incrementAndGet();
+
+    try {
+      this.startExecutor.execute(() -> this.selectAndStart(pendingSelections, selector));
+      return true;
+    } catch (RejectedExecutionException exception) {
+      // the pipeline was closed
+      pendingSelections.decrementAndGet();
+      return false;
+    }
+  }
+
+  /**
+   * Stops all worker threads of this pipeline. Services which are queued are no longer started and no more services
+   * can be submitted to this pipeline.
+   */
+  public void close() {
+    this.startExecutor.shutdownNow();
+  }
+
+  /**
+   * Get the amount of services which are waiting to start or currently starting.
+   *
+   * @return the amount of services in the start queue.
+   */
+  public int queueDepth() {
+    var pendingSelections = 0;
+    for (var pendingTaskSelections : this.pendingSelections.values()) {
+      pendingSelections += pendingTaskSelections.get();
+    }
+    return this.queuedStarts.size() + pendingSelections;
+  }
+
+  /**
+   * Get the amount of services of the given task which are waiting to start or currently starting.
+   *
+   * @param task the name of the task to get the queued starts of.
+   * @return the amount of services of the given task in the start queue.
+   * @throws NullPointerException if the given task name is null.
+   */
+  public int queuedStarts(@NonNull String task) {
+    var pendingSelections = this.pendingSelections.get(task);
+    var count = pendingSelections == null ? 0 : pendingSelections.get();
+    for (var queuedStart : this.queuedStarts.values()) {
+      if (queuedStart.task.equals(task)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Get the unique ids of all services which are waiting to start or currently starting.
+   *
+   * @return the unique ids of all services in the start queue.
+   */
+  public @UnmodifiableView @NonNull Collection<UUID> queuedServices() {
+    return Collections.unmodifiableSet(this.queuedStarts.keySet());
+  }
+
+  /**
+   * Reserves the given amount of heap memory for a service which is about to start. The reservation only succeeds if
+   * the memory used by running services, the memory reserved by other starting services and the given memory are
+   * below the given maximum memory. A successful reservation must be released using {@link #releaseHeapMemory(int)}
+   * once the service is running or failed to start.
+   * <p>
+   * The used memory is resolved while holding the lock of the reservations. A service must therefore be counted by the
+   * given supplier before it releases its reservation.
+   *
+   * @param heapMemory     the heap memory of the service to start, in megabytes.
+   * @param maxMemory      the maximum memory which can be used by all services, in megabytes.
+   * @param usedHeapMemory the supplier of the heap memory used by all running services, in megabytes.
+   * @return true if the memory was reserved, false if not enough memory is available.
+   * @throws NullPointerException if the given used memory supplier is null.
+   */
+  public boolean reserveHeapMemory(int heapMemory, int maxMemory, @NonNull IntSupplier usedHeapMemory) {
+    synchronized (this.memoryLock) {
+      if (usedHeapMemory.getAsInt() + this.reservedHeapMemory + heapMemory >= maxMemory) {
+        return false;
+      }
+
+      this.reservedHeapMemory += heapMemory;
+      return true;
+    }
+  }
+
+  /**
+   * Releases the given amount of heap memory which was reserved using
+   * {@link #reserveHeapMemory(int, int, IntSupplier)}.
+   *
+   * @param heapMemory the heap memory to release, in megabytes.
+   */
+  public void releaseHeapMemory(int heapMemory) {
+    synchronized (this.memoryLock) {
+      this.reservedHeapMemory -= heapMemory;
+    }
+  }
+
+  /**
+   * Get the heap memory which is currently reserved by starting services.
+   *
+   * @return the reserved heap memory of starting services, in megabytes.
+   */
+  public int reservedHeapMemory() {
+    synchronized (this.memoryLock) {
+      return this.reservedHeapMemory;
+    }
+  }
+
+  /**
+   * Records the time a service needed to complete the given start stage.
+   *
+   * @param stage    the stage which was completed.
+   * @param duration the time the stage took, in nanoseconds.
+   * @throws NullPointerException if the given stage is null.
+   */
+  public void recordStage(@NonNull Stage stage, long duration) {
+    this.stageStatistics.get(stage).record(duration);
+  }
+
+  public long stageCount(@NonNull Stage stage) {
+    return this.stageStatistics.get(stage).count.sum();
+  }
+
+  public long averageStageNanos(@NonNull Stage stage) {
+    var statistics = this.stageStatistics.get(stage);
+    var count = statistics.count.sum();
+    return count == 0 ? 0 : statistics.totalNanos.sum() / count;
+  }
+
+  public long maxStageNanos(@NonNull Stage stage) {
+    return this.stageStatistics.get(stage).maxNanos.get();
+  }
+
+  private @Nullable UUID register(@NonNull SpecificCloudServiceProvider provider) {
+    var serviceInfo = provider.serviceInfo();
+    if (serviceInfo == null) {
+      return null;
+    }
+
+    // register the start, or request another start attempt if the service is already queued
+    var newlyQueued = new AtomicBoolean();
+    var serviceId = serviceInfo.serviceId();
+    this.queuedStarts.compute(serviceId.uniqueId(), ($, queuedStart) -> {
+      if (queuedStart == null) {
+        newlyQueued.set(true);
+        return new QueuedStart(serviceId.taskName(), System.nanoTime());
+      }
+
+      queuedStart.restartRequested = true;
+      return queuedStart;
+    });
+    return newlyQueued.get() ? serviceId.uniqueId() : null;
+  }
+
+  private void selectAndStart(
+    @NonNull AtomicInteger pendingSelections,
+    @NonNull Function<Collection<UUID>, SpecificCloudServiceProvider> selector
+  ) {
+    SpecificCloudServiceProvider provider;
+    UUID uniqueId;
+    try {
+      // select one service at a time and register it before releasing the lock, the next selection must exclude it
+      synchronized (this.selectionLock) {
+        provider = selector.apply(this.queuedServices());
+        uniqueId = this.register(provider);
+      }
+    } catch (Exception exception) {
+      LOGGER.severe("Exception while selecting a service to start", exception);
+      return;
+    } finally {
+      // the selected service (if any) is now part of the queued starts
+      pendingSelections.decrementAndGet();
+    }
+
+    if (uniqueId != null) {
+      this.start(uniqueId, provider);
+    }
+  }
+
+  private void start(@NonNull UUID uniqueId, @NonNull SpecificCloudServiceProvider provider) {
+    var queuedStart = this.queuedStarts.get(uniqueId);
+    this.recordStage(Stage.QUEUED, System.nanoTime() - queuedStart.queueTime);
+
+    do {
+      try {
+        provider.start();
+      } catch (Exception exception) {
+        LOGGER.severe("Exception while starting service %s", exception, uniqueId);
+      }
+      // remove the start unless another start attempt was requested in the meantime
+    } while (this.queuedStarts.computeIfPresent(uniqueId, ($, start) -> {
+      if (start.restartRequested) {
+        start.restartRequested = false;
+        return start;
+      }
+      return null;
+    }) != null);
+  }
+
+  /**
+   * The stages a service passes while being started.
+   *
+   * @since 4.0
+   */
+  public enum Stage {
+
+    /**
+     * The time a service waited in the queue before a worker started it.
+     */
+    QUEUED,
+    /**
+     * The download and copy of the remote inclusions of a service.
+     */
+    INCLUSIONS,
+    /**
+     * The copy of the templates of a service.
+     */
+    TEMPLATES,
+    /**
+     * The rewrite of the service configuration and the write of the wrapper configuration.
+     */
+    CONFIGURATION,
+    /**
+     * The start of the service process.
+     */
+    PROCESS_START
+  }
+
+  private static final class QueuedStart {
+
+    private final String task;
+    private final long queueTime;
+    // only accessed while holding the lock of the map entry
+    private boolean restartRequested;
+
+    public QueuedStart(@NonNull String task, long queueTime) {
+      this.task = task;
+      this.queueTime = queueTime;
+    }
+  }
+
+  private static final class StageStatistics {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    private void record(long duration) {
+      this.count.increment();
+      this.totalNanos.add(duration);
+      this.maxNanos.accumulate(duration);
+    }
+  }
+}
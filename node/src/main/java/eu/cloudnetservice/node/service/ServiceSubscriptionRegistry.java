@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service;
+
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceUpdateSubscription;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+
+/**
+ * Keeps track of the update subscriptions declared by the services running on this node and selects the local services
+ * which should receive the lifecycle and snapshot updates of a service. Services which did not declare a subscription
+ * receive all updates, which keeps the behaviour for wrappers which are unaware of subscriptions.
+ *
+ * @since 4.0
+ */
+public final class ServiceSubscriptionRegistry {
+
+  private final Map<String, ServiceUpdateSubscription> subscriptions = new ConcurrentHashMap<>();
+
+  public void subscribe(@NonNull String serviceName, @NonNull ServiceUpdateSubscription subscription) {
+    this.subscriptions.put(serviceName, subscription);
+  }
+
+  public void unsubscribe(@NonNull String serviceName) {
+    this.subscriptions.remove(serviceName);
+  }
+
+  public @NonNull ServiceUpdateSubscription subscription(@NonNull String serviceName) {
+    return this.subscriptions.getOrDefault(serviceName, ServiceUpdateSubscription.all());
+  }
+
+  public boolean subscribed(@NonNull String serviceName, @NonNull ServiceInfoSnapshot subject) {
+    // a service is always interested in its own updates
+    return serviceName.equals(subject.name()) || this.subscription(serviceName).matches(subject);
+  }
+
+  /**
+   * Checks if none of the local services restricted the service updates it receives. In that case updates can be sent
+   * to all components at once instead of resolving the subscribed services.
+   *
+   * @return true if all local services receive the updates of all services, false otherwise.
+   */
+  public boolean receiveAllUpdates() {
+    return this.subscriptions.values().stream().allMatch(ServiceUpdateSubscription::wildcard);
+  }
+
+  /**
+   * Adds all given services which are connected and subscribed to updates of the given service as target to the given
+   * channel message builder.
+   *
+   * @param builder  the builder of the update message to add the targets to.
+   * @param subject  the service the update message is about.
+   * @param services the local services which are candidates to receive the update.
+   * @return the amount of services which were added as target.
+   * @throws NullPointerException if the given builder, subject or services are null.
+   */
+  public int targetSubscribers(
+    @NonNull ChannelMessage.Builder builder,
+    @NonNull ServiceInfoSnapshot subject,
+    @NonNull Collection<CloudService> services
+  ) {
+    var targets = 0;
+    for (var service : services) {
+      var serviceName = service.serviceId().name();
+      if (service.networkChannel() != null && this.subscribed(serviceName, subject)) {
+        builder.targetService(serviceName);
+        targets++;
+      }
+    }
+    return targets;
+  }
+}
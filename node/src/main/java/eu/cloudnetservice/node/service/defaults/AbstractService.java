@@ -45,6 +45,7 @@
 import eu.cloudnetservice.driver.service.ServiceRemoteInclusion;
 import eu.cloudnetservice.driver.service.ServiceTask;
 import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.service.ThreadSnapshot;
 import eu.cloudnetservice.node.TickLoop;
 import eu.cloudnetservice.node.config.Configuration;
 import eu.cloudnetservice.node.event.service.CloudServiceCreateEvent;
@@ -59,7 +60,11 @@
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.ServiceConfigurationPreparer;
 import eu.cloudnetservice.node.service.ServiceConsoleLogCache;
+import eu.cloudnetservice.node.service.ServiceStartPipeline;
 import eu.cloudnetservice.node.version.ServiceVersionProvider;
+import io.leangen.geantyref.TypeFactory;
+import java.io.IOException;
+import java.lang.reflect.Type;
 import java.net.Inet6Address;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -72,12 +77,14 @@
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import kong.unirest.core.Unirest;
 import kong.unirest.core.UnirestException;
@@ -88,6 +95,7 @@ public abstract class AbstractService implements CloudService {
 
   protected static final Logger LOGGER = LogManager.logger(AbstractService.class);
 
+  protected static final Type THREAD_SNAPSHOTS = TypeFactory.parameterizedClass(Collection.class, ThreadSnapshot.class);
   protected static final Path INCLUSION_TEMP_DIR = FileUtil.TEMP_DIR.resolve("inclusions");
   protected static final Path WRAPPER_CONFIG_PATH = Path.of(".wrapper", "wrapper.json");
   protected static final BiPredicate<String, Pattern> FILE_MATCHER_PREDICATE =
@@ -202,6 +210,22 @@ public boolean valid() {
     }
   }
 
+  @Override
+  public @NonNull Collection<ThreadSnapshot> threadSnapshots() {
+    // check if the service is able to serve the request
+    if (this.networkChannel != null) {
+      var response = ChannelMessage.builder()
+        .targetService(this.serviceId().name())
+        .message("request_thread_snapshots")
+        .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+        .build()
+        .sendSingleQuery();
+      return response == null ? List.of() : response.content().readObject(THREAD_SNAPSHOTS);
+    } else {
+      return List.of();
+    }
+  }
+
   @Override
   public void addServiceTemplate(@NonNull ServiceTemplate serviceTemplate) {
     this.waitingTemplates.add(serviceTemplate);
@@ -260,11 +284,19 @@ protected void updateLifecycle(@NonNull ServiceLifeCycle lifeCycle, boolean swit
           if (this.preLifecycleChange(ServiceLifeCycle.RUNNING)) {
             // check if we can start the process now
             if (this.lifeCycle() == ServiceLifeCycle.PREPARED && this.canStartNow()) {
-              this.prepareService();
-              this.startProcess();
-              // update the current service info
-              this.pushServiceInfoSnapshotUpdate(ServiceLifeCycle.RUNNING);
-              LOGGER.info(I18n.trans("cloudnet-service-post-start-message", this.serviceReplacement()));
+              try {
+                this.prepareService();
+                // start the process
+                var stageStart = System.nanoTime();
+                this.startProcess();
+                this.recordStartStage(ServiceStartPipeline.Stage.PROCESS_START, stageStart);
+                // update the current service info
+                this.pushServiceInfoSnapshotUpdate(ServiceLifeCycle.RUNNING);
+                LOGGER.info(I18n.trans("cloudnet-service-post-start-message", this.serviceReplacement()));
+              } finally {
+                // the service is either counted as running now or failed to start
+                this.cloudServiceManager.startPipeline().releaseHeapMemory(this.heapMemory());
+              }
             }
           }
         }
@@ -345,8 +377,8 @@ public void includeWaitingServiceTemplates(boolean force) {
         // check if we should load the template
         var storage = template.storage();
         if (!this.eventManager.callEvent(new CloudServiceTemplateLoadEvent(this, storage, template)).cancelled()) {
-          // the event is not cancelled - copy the template
-          storage.pull(template, this.serviceDirectory);
+          // the event is not cancelled - copy the template, using the node-local cache of the template
+          this.cloudServiceManager.templateCache().pull(storage, template, this.serviceDirectory);
           // we've pulled the template
           this.installedTemplates.add(template);
         }
@@ -373,17 +405,30 @@ public void includeWaitingServiceInclusions() {
 
         // download the file from the given url to the temp path if it does not exist
         if (Files.notExists(destination)) {
+          // services are prepared in parallel, download into a unique file and move it into place once it's complete
+          // to prevent other services from copying a partially downloaded inclusion
+          var downloadTarget = INCLUSION_TEMP_DIR.resolve(destination.getFileName() + "." + UUID.randomUUID());
           try {
             // copy the file to the temp path, ensure that the parent directory exists
             FileUtil.createDirectory(INCLUSION_TEMP_DIR);
-            req.asFile(destination.toString(), StandardCopyOption.REPLACE_EXISTING);
+            req.asFile(downloadTarget.toString(), StandardCopyOption.REPLACE_EXISTING);
+            Files.move(
+              downloadTarget,
+              destination,
+              StandardCopyOption.ATOMIC_MOVE,
+              StandardCopyOption.REPLACE_EXISTING);
           } catch (UnirestException exception) {
+            FileUtil.delete(downloadTarget);
             LOGGER.severe(
               "Unable to download inclusion from %s to %s",
               exception.getCause(),
               inclusion.url(),
               destination);
             continue;
+          } catch (IOException exception) {
+            FileUtil.delete(downloadTarget);
+            LOGGER.severe("Unable to move downloaded inclusion to %s", exception, destination);
+            continue;
           }
         }
 
@@ -523,13 +568,7 @@ public void networkChannel(@Nullable NetworkChannel channel) {
 
   @Override
   public void publishServiceInfoSnapshot() {
-    ChannelMessage.builder()
-      .targetAll()
-      .message("update_service_info")
-      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
-      .buffer(DataBuf.empty().writeObject(this.currentServiceInfo))
-      .build()
-      .send();
+    this.publishServiceUpdate("update_service_info", () -> DataBuf.empty().writeObject(this.currentServiceInfo));
   }
 
   @Override
@@ -647,25 +686,64 @@ protected void pushServiceInfoSnapshotUpdate(
     if (sendUpdate) {
       // call the lifecycle change event
       this.eventManager.callEvent(new CloudServicePostLifecycleEvent(this, lifeCycle));
-      // publish the change to all services and nodes
+      // publish the change to all nodes and subscribed services
+      this.publishServiceUpdate(
+        "update_service_lifecycle",
+        () -> DataBuf.empty().writeObject(this.lastServiceInfo.lifeCycle()).writeObject(this.currentServiceInfo));
+    }
+  }
+
+  protected void publishServiceUpdate(@NonNull String message, @NonNull Supplier<DataBuf> contentFactory) {
+    // no local service restricted the updates it receives, a single message reaches all components
+    var subscriptions = this.cloudServiceManager.serviceSubscriptions();
+    if (subscriptions.receiveAllUpdates()) {
       ChannelMessage.builder()
         .targetAll()
-        .message("update_service_lifecycle")
+        .message(message)
         .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
-        .buffer(DataBuf.empty().writeObject(this.lastServiceInfo.lifeCycle()).writeObject(this.currentServiceInfo))
+        .buffer(contentFactory.get())
         .build()
         .send();
+      return;
+    }
+
+    // the other nodes route the update to their local services which subscribed to updates of this service
+    ChannelMessage.builder()
+      .targetNodes()
+      .message(message)
+      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      .buffer(contentFactory.get())
+      .build()
+      .send();
+
+    // send the update to the local services which subscribed to updates of this service
+    var localMessage = ChannelMessage.builder()
+      .message(message)
+      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL);
+    var subscribers = subscriptions.targetSubscribers(
+      localMessage,
+      this.currentServiceInfo,
+      this.cloudServiceManager.localCloudServices());
+    if (subscribers > 0) {
+      localMessage.buffer(contentFactory.get()).build().send();
     }
   }
 
+  protected int heapMemory() {
+    return this.serviceConfiguration().processConfig().maxHeapMemorySize();
+  }
+
+  // reserves the heap memory of the service when returning true, the memory must be released after the start
   protected boolean canStartNow() {
-    // check jvm heap size
-    if (this.cloudServiceManager.currentUsedHeapMemory()
-      + this.serviceConfiguration().processConfig().maxHeapMemorySize()
-      >= this.configuration.maxMemory()) {
+    // check jvm heap size, reserving the memory of the service as services are prepared in parallel
+    var startPipeline = this.cloudServiceManager.startPipeline();
+    if (!startPipeline.reserveHeapMemory(
+      this.heapMemory(),
+      this.configuration.maxMemory(),
+      this.cloudServiceManager::currentUsedHeapMemory)) {
       // schedule a retry
       if (this.configuration.runBlockedServiceStartTryLaterAutomatic()) {
-        this.mainThread.runTask(this::start);
+        this.mainThread.runTask(() -> this.cloudServiceManager.startPipeline().submit(this));
       } else {
         LOGGER.info(I18n.trans("cloudnet-service-manager-max-memory-error"));
       }
@@ -674,9 +752,11 @@ protected boolean canStartNow() {
     }
     // check for cpu usage
     if (CpuUsageResolver.systemCpuLoad() >= this.configuration.maxCPUUsageToStartServices()) {
+      // the service is not starting, release the reserved memory
+      startPipeline.releaseHeapMemory(this.heapMemory());
       // schedule a retry
       if (this.configuration.runBlockedServiceStartTryLaterAutomatic()) {
-        this.mainThread.runTask(this::start);
+        this.mainThread.runTask(() -> this.cloudServiceManager.startPipeline().submit(this));
       } else {
         LOGGER.info(I18n.trans("cloudnet-service-manager-cpu-usage-to-high-error"));
       }
@@ -707,9 +787,12 @@ protected void prepareService() {
     this.eventManager.callEvent(new CloudServicePrePrepareEvent(this));
 
     // load the inclusions
+    var stageStart = System.nanoTime();
     this.includeWaitingServiceInclusions();
+    stageStart = this.recordStartStage(ServiceStartPipeline.Stage.INCLUSIONS, stageStart);
     // check if we should load the templates of the service
     this.includeWaitingServiceTemplates(firstStartup);
+    stageStart = this.recordStartStage(ServiceStartPipeline.Stage.TEMPLATES, stageStart);
     // update the service configuration
     this.serviceConfigurationPreparer.configure(this);
     // write the configuration file for the service
@@ -721,10 +804,17 @@ protected void prepareService() {
       .append("serviceConfiguration", this.serviceConfiguration())
       .append("sslConfiguration", sslConfiguration)
       .writeTo(this.serviceDirectory.resolve(WRAPPER_CONFIG_PATH));
+    this.recordStartStage(ServiceStartPipeline.Stage.CONFIGURATION, stageStart);
     // finished the prepare process
     this.eventManager.callEvent(new CloudServicePostPrepareEvent(this));
   }
 
+  protected long recordStartStage(@NonNull ServiceStartPipeline.Stage stage, long stageStart) {
+    var stageEnd = System.nanoTime();
+    this.cloudServiceManager.startPipeline().recordStage(stage, stageEnd - stageStart);
+    return stageEnd;
+  }
+
   protected @NonNull HostAndPort selectConnectListener(@NonNull List<HostAndPort> listeners) {
     // select a listener for the service to connect to, randomly
     var listener = listeners.get(ThreadLocalRandom.current().nextInt(listeners.size()));
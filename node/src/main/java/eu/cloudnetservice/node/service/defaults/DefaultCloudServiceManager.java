@@ -51,6 +51,9 @@
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.LocalCloudServiceFactory;
 import eu.cloudnetservice.node.service.ServiceConfigurationPreparer;
+import eu.cloudnetservice.node.service.ServicePlacementStrategy;
+import eu.cloudnetservice.node.service.ServiceStartPipeline;
+import eu.cloudnetservice.node.service.ServiceSubscriptionRegistry;
 import eu.cloudnetservice.node.service.defaults.config.BungeeConfigurationPreparer;
 import eu.cloudnetservice.node.service.defaults.config.NukkitConfigurationPreparer;
 import eu.cloudnetservice.node.service.defaults.config.VanillaServiceConfigurationPreparer;
@@ -59,16 +62,19 @@
 import eu.cloudnetservice.node.service.defaults.factory.JVMLocalCloudServiceFactory;
 import eu.cloudnetservice.node.service.defaults.provider.EmptySpecificCloudServiceProvider;
 import eu.cloudnetservice.node.service.defaults.provider.RemoteNodeCloudServiceProvider;
+import eu.cloudnetservice.node.template.TemplateCache;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -82,21 +88,27 @@
 @Provides({CloudServiceManager.class, CloudServiceProvider.class})
 public class DefaultCloudServiceManager implements CloudServiceManager {
 
+  // must be initialized before the default placement strategy which might log a warning
+  private static final Logger LOGGER = LogManager.logger(CloudServiceManager.class);
+
   protected static final Path TEMP_SERVICE_DIR = Path.of(
     System.getProperty("cloudnet.tempDir.services", "temp/services"));
   protected static final Path PERSISTENT_SERVICE_DIR = Path.of(
     System.getProperty("cloudnet.persistable.services.path", "local/services"));
+  protected static final ServicePlacementStrategy DEFAULT_PLACEMENT_STRATEGY = resolveDefaultPlacementStrategy(
+    System.getProperty("cloudnet.service.placement-strategy", "least-memory"));
   protected static final ServiceConfigurationPreparer NO_OP_PREPARER = (cloudService) -> {
   };
 
-  private static final Logger LOGGER = LogManager.logger(CloudServiceManager.class);
-
   protected final RPCSender sender;
+  protected final TemplateCache templateCache;
   protected final Collection<String> defaultJvmOptions;
   protected final NodeServerProvider nodeServerProvider;
   protected final CloudServiceFactory cloudServiceFactory;
 
-  protected final Map<UUID, SpecificCloudServiceProvider> knownServices = new ConcurrentHashMap<>();
+  protected final ServiceProviderIndex knownServices = new ServiceProviderIndex();
+  protected final ServiceStartPipeline startPipeline = new ServiceStartPipeline();
+  protected final ServiceSubscriptionRegistry serviceSubscriptions = new ServiceSubscriptionRegistry();
   protected final Cache<UUID, CloudService> localUnacceptedServices = Caffeine.newBuilder()
     .expireAfterWrite(Duration.ofMinutes(1))
     .build();
@@ -104,6 +116,8 @@ public class DefaultCloudServiceManager implements CloudServiceManager {
   protected final Map<String, LocalCloudServiceFactory> cloudServiceFactories = new ConcurrentHashMap<>();
   protected final Map<ServiceEnvironmentType, ServiceConfigurationPreparer> preparers = new ConcurrentHashMap<>();
 
+  protected volatile ServicePlacementStrategy placementStrategy = DEFAULT_PLACEMENT_STRATEGY;
+
   @Inject
   public DefaultCloudServiceManager(
     @NonNull TickLoop mainThread,
@@ -113,8 +127,10 @@ public DefaultCloudServiceManager(
     @NonNull RPCHandlerRegistry handlerRegistry,
     @NonNull NodeServerProvider nodeServerProvider,
     @NonNull CloudServiceFactory cloudServiceFactory,
+    @NonNull TemplateCache templateCache,
     @NonNull @jakarta.inject.Named("consoleArgs") List<String> args
   ) {
+    this.templateCache = templateCache;
     this.nodeServerProvider = nodeServerProvider;
     this.cloudServiceFactory = cloudServiceFactory;
     this.defaultJvmOptions = Arrays.asList(args.remove(0).split(";;"));
@@ -173,62 +189,39 @@ private void registerDefaultServiceFactory() {
 
   @Override
   public @NonNull SpecificCloudServiceProvider serviceProvider(@NonNull UUID serviceUniqueId) {
-    return this.knownServices.getOrDefault(serviceUniqueId, EmptySpecificCloudServiceProvider.INSTANCE);
+    var provider = this.knownServices.provider(serviceUniqueId);
+    return provider == null ? EmptySpecificCloudServiceProvider.INSTANCE : provider;
   }
 
   @Override
   public @NonNull SpecificCloudServiceProvider serviceProviderByName(@NonNull String serviceName) {
-    return this.knownServices.values().stream()
-      .filter(provider -> {
-        var serviceInfo = provider.serviceInfo();
-        return serviceInfo != null && serviceInfo.serviceId().name().equals(serviceName);
-      })
-      .findFirst()
-      .orElse(EmptySpecificCloudServiceProvider.INSTANCE);
+    var provider = this.knownServices.providerByName(serviceName);
+    return provider == null ? EmptySpecificCloudServiceProvider.INSTANCE : provider;
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> services() {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .toList();
+    return this.collectServiceInfos(this.knownServices.providers(), null);
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> runningServices() {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.lifeCycle() == ServiceLifeCycle.RUNNING)
-      .toList();
+    return this.collectServiceInfos(this.knownServices.providers(), ServiceLifeCycle.RUNNING);
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByTask(@NonNull String taskName) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.serviceId().taskName().equals(taskName))
-      .toList();
+    return this.collectServiceInfos(this.knownServices.providersByTask(taskName), null);
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByEnvironment(@NonNull String environment) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.serviceId().environmentName().equals(environment))
-      .toList();
+    return this.collectServiceInfos(this.knownServices.providersByEnvironment(environment), null);
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByGroup(@NonNull String group) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.configuration().groups().contains(group))
-      .toList();
+    return this.collectServiceInfos(this.knownServices.providersByGroup(group), null);
   }
 
   @Override
@@ -238,12 +231,17 @@ public int serviceCount() {
 
   @Override
   public int serviceCountByGroup(@NonNull String group) {
-    return this.servicesByGroup(group).size();
+    return this.knownServices.providersByGroup(group).size();
   }
 
   @Override
   public int serviceCountByTask(@NonNull String taskName) {
-    return this.servicesByTask(taskName).size();
+    return this.knownServices.providersByTask(taskName).size();
+  }
+
+  @Override
+  public int serviceCountByTask(@NonNull String taskName, @NonNull ServiceLifeCycle lifeCycle) {
+    return this.knownServices.countByTask(taskName, lifeCycle);
   }
 
   @Override
@@ -345,7 +343,7 @@ public void deleteAllCloudServices() {
 
   @Override
   public @NonNull @UnmodifiableView Collection<CloudService> localCloudServices() {
-    return this.knownServices.values().stream()
+    return this.knownServices.providers().stream()
       .filter(provider -> provider instanceof CloudService) // -> CloudService => local service
       .map(provider -> (CloudService) provider)
       .toList();
@@ -358,7 +356,7 @@ public void deleteAllCloudServices() {
 
   @Override
   public @Nullable CloudService localCloudService(@NonNull UUID uniqueId) {
-    return this.knownServices.get(uniqueId) instanceof CloudService service ? service : null;
+    return this.knownServices.provider(uniqueId) instanceof CloudService service ? service : null;
   }
 
   @Override
@@ -402,46 +400,68 @@ public int currentReservedMemory() {
       return null;
     }
 
-    // find the best node server
-    return this.nodeServerProvider.nodeServers().stream()
-      .filter(NodeServer::available)
-      .filter(nodeServer -> !nodeServer.nodeInfoSnapshot().draining())
-      .filter(server -> {
-        var allowedNodes = configuration.serviceId().allowedNodes();
-        return allowedNodes.isEmpty() || allowedNodes.contains(server.info().uniqueId());
-      })
-      .min((left, right) -> {
-        // calculate the reserved memory amount based on the cached service information on this node
-        // this is the better way to do this, as newly created services on other nodes will get cached instantly, rather
-        // than us needing to wait for the updated node info to be sent by the associated node. In normal scenarios
-        // that is not a big problem, however when many start requests are coming in, that can lead to one node picking
-        // up a lot of services until (only a few ms later) the updated snapshot is present.
-        var leftReservedMemory = this.calculateReservedMemoryPercentage(left);
-        var rightReservedMemory = this.calculateReservedMemoryPercentage(right);
-
-        // we elevate the used heap memory percentage over the cpu usage, as it's varying much more
-        var chain = ComparisonChain.start().compare(leftReservedMemory, rightReservedMemory);
-        // only include the cpu usage if both nodes can provide a value
-        if (left.nodeInfoSnapshot().processSnapshot().systemCpuUsage() >= 0
-          && right.nodeInfoSnapshot().processSnapshot().systemCpuUsage() >= 0) {
-          // add the system usage to the chain
-          chain = chain.compare(
-            left.nodeInfoSnapshot().processSnapshot().systemCpuUsage(),
-            right.nodeInfoSnapshot().processSnapshot().systemCpuUsage());
-        }
-        // use the result of the comparison
-        return chain.result();
-      }).orElse(null);
+    // find the best node server. The score is based on the live service stats of this node rather than the node info
+    // snapshot, as newly created services on other nodes will get cached instantly, rather than us needing to wait for
+    // the updated node info to be sent by the associated node. In normal scenarios that is not a big problem, however
+    // when many start requests are coming in, that can lead to one node picking up a lot of services until (only a few
+    // ms later) the updated snapshot is present
+    var strategy = this.placementStrategy;
+    var allowedNodes = configuration.serviceId().allowedNodes();
+
+    NodeServer bestServer = null;
+    var bestScore = 0D;
+    for (var server : this.nodeServerProvider.nodeServers()) {
+      // check if the node is able to start the service
+      if (!server.available()
+        || server.nodeInfoSnapshot().draining()
+        || (!allowedNodes.isEmpty() && !allowedNodes.contains(server.info().uniqueId()))) {
+        continue;
+      }
+
+      // score the node once, lower is better
+      var score = strategy.score(server, this.knownServices.nodeStats(server.name()), configuration);
+      if (bestServer == null || score < bestScore || (score == bestScore && this.lowerCpuUsage(server, bestServer))) {
+        bestServer = server;
+        bestScore = score;
+      }
+    }
+    return bestServer;
+  }
+
+  @Override
+  public @NonNull ServicePlacementStrategy placementStrategy() {
+    return this.placementStrategy;
+  }
+
+  @Override
+  public void placementStrategy(@NonNull ServicePlacementStrategy placementStrategy) {
+    this.placementStrategy = placementStrategy;
+  }
+
+  @Override
+  public @NonNull ServiceStartPipeline startPipeline() {
+    return this.startPipeline;
+  }
+
+  @Override
+  public @NonNull TemplateCache templateCache() {
+    return this.templateCache;
+  }
+
+  @Override
+  public @NonNull ServiceSubscriptionRegistry serviceSubscriptions() {
+    return this.serviceSubscriptions;
   }
 
   @Override
   public void registerLocalService(@NonNull CloudService service) {
-    this.knownServices.putIfAbsent(service.serviceId().uniqueId(), service);
+    this.knownServices.registerIfAbsent(service.serviceInfo(), service);
   }
 
   @Override
   public void unregisterLocalService(@NonNull CloudService service) {
-    this.knownServices.remove(service.serviceId().uniqueId());
+    this.knownServices.unregister(service.serviceId().uniqueId());
+    this.serviceSubscriptions.unsubscribe(service.serviceId().name());
   }
 
   @Override
@@ -458,7 +478,7 @@ public void registerUnacceptedService(@NonNull CloudService service) {
 
   @Override
   public void forceRemoveRegisteredService(@NonNull UUID uniqueId) {
-    this.knownServices.remove(uniqueId);
+    this.knownServices.unregister(uniqueId);
   }
 
   @Override
@@ -468,7 +488,7 @@ public void forceRemoveRegisteredService(@NonNull UUID uniqueId) {
   ) {
     // check if the service provider is already registered, return null to indicate that we didn't register the service
     var serviceUniqueId = snapshot.serviceId().uniqueId();
-    if (this.knownServices.containsKey(serviceUniqueId)) {
+    if (this.knownServices.contains(serviceUniqueId)) {
       return null;
     }
 
@@ -481,7 +501,7 @@ public void forceRemoveRegisteredService(@NonNull UUID uniqueId) {
     ).newInstance(new Object[]{snapshot}, new Object[]{snapshot.serviceId().uniqueId()});
 
     // register the service and return the new provider, unless some other thread registered the service
-    var knownProvider = this.knownServices.putIfAbsent(serviceUniqueId, serviceProvider);
+    var knownProvider = this.knownServices.registerIfAbsent(snapshot, serviceProvider);
     return knownProvider == null ? serviceProvider : null;
   }
 
@@ -489,11 +509,11 @@ public void forceRemoveRegisteredService(@NonNull UUID uniqueId) {
   public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @Nullable NetworkChannel source) {
     // deleted services were removed on the other node - remove it here too
     if (snapshot.lifeCycle() == ServiceLifeCycle.DELETED) {
-      this.knownServices.remove(snapshot.serviceId().uniqueId());
+      this.knownServices.unregister(snapshot.serviceId().uniqueId());
       LOGGER.fine("Deleted cloud service %s after lifecycle change to deleted", null, snapshot.serviceId());
     } else {
       // register the service if the provider is available
-      var provider = this.knownServices.get(snapshot.serviceId().uniqueId());
+      var provider = this.knownServices.provider(snapshot.serviceId().uniqueId());
       if (provider == null) {
         // this is the only point where the channel has to be present
         Objects.requireNonNull(source, "Node Network Channel has to be present to register service");
@@ -524,6 +544,14 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @Nullable
 
   @Override
   public @NonNull SpecificCloudServiceProvider selectOrCreateService(@NonNull ServiceTask task) {
+    return this.selectOrCreateService(task, Set.of());
+  }
+
+  @Override
+  public @NonNull SpecificCloudServiceProvider selectOrCreateService(
+    @NonNull ServiceTask task,
+    @NonNull Collection<UUID> excludedServices
+  ) {
     // filter out all nodes which are able to start a service of the given task
     var nodes = this.nodeServerProvider.nodeServers().stream()
       .filter(NodeServer::available)
@@ -546,6 +574,7 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @Nullable
     var prepared = this.servicesByTask(task.name())
       .stream()
       .filter(taskService -> taskService.lifeCycle() == ServiceLifeCycle.PREPARED)
+      .filter(taskService -> !excludedServices.contains(taskService.serviceId().uniqueId()))
       .map(service -> {
         // get the node server associated with the node, if the server is null it has not enough memory to start a service
         var nodeServer = nodes.get(service.serviceId().nodeUniqueId());
@@ -580,13 +609,38 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @Nullable
     }
   }
 
-  protected int calculateReservedMemoryPercentage(@NonNull NodeServer server) {
-    // get the reserved memory on the given node based on the services which are running on it and sum it up
-    var reservedMemory = this.services().stream()
-      .filter(info -> info.serviceId().nodeUniqueId().equals(server.name()))
-      .mapToInt(info -> info.configuration().processConfig().maxHeapMemorySize())
-      .sum();
-    // convert to a percentage
-    return (reservedMemory * 100) / server.nodeInfoSnapshot().maxMemory();
+  protected boolean lowerCpuUsage(@NonNull NodeServer server, @NonNull NodeServer other) {
+    // only compare the cpu usage if both nodes can provide a value
+    var cpuUsage = server.nodeInfoSnapshot().processSnapshot().systemCpuUsage();
+    var otherCpuUsage = other.nodeInfoSnapshot().processSnapshot().systemCpuUsage();
+    return cpuUsage >= 0 && otherCpuUsage >= 0 && cpuUsage < otherCpuUsage;
+  }
+
+  protected @NonNull List<ServiceInfoSnapshot> collectServiceInfos(
+    @NonNull Collection<SpecificCloudServiceProvider> providers,
+    @Nullable ServiceLifeCycle lifeCycle
+  ) {
+    List<ServiceInfoSnapshot> snapshots = new ArrayList<>(providers.size());
+    for (var provider : providers) {
+      var serviceInfo = provider.serviceInfo();
+      if (serviceInfo != null && (lifeCycle == null || serviceInfo.lifeCycle() == lifeCycle)) {
+        snapshots.add(serviceInfo);
+      }
+    }
+    return Collections.unmodifiableList(snapshots);
+  }
+
+  protected static @NonNull ServicePlacementStrategy resolveDefaultPlacementStrategy(@NonNull String name) {
+    try {
+      return DefaultServicePlacementStrategy.fromName(name);
+    } catch (IllegalArgumentException exception) {
+      // unknown strategy configured, use the least memory strategy rather than failing to load the service manager
+      LOGGER.warning(
+        "Unknown service placement strategy %s, falling back to %s",
+        null,
+        name,
+        DefaultServicePlacementStrategy.LEAST_MEMORY);
+      return DefaultServicePlacementStrategy.LEAST_MEMORY;
+    }
   }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults;
+
+import eu.cloudnetservice.common.util.StringUtil;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.node.cluster.NodeServer;
+import eu.cloudnetservice.node.service.NodeServiceStats;
+import eu.cloudnetservice.node.service.ServicePlacementStrategy;
+import lombok.NonNull;
+
+/**
+ * The placement strategies which are provided by default.
+ *
+ * @since 4.0
+ */
+public enum DefaultServicePlacementStrategy implements ServicePlacementStrategy {
+
+  /**
+   * Selects the node which has the lowest percentage of its memory reserved by services.
+   */
+  LEAST_MEMORY {
+    @Override
+    public double score(
+      @NonNull NodeServer server,
+      @NonNull NodeServiceStats stats,
+      @NonNull ServiceConfiguration configuration
+    ) {
+      return reservedMemoryPercentage(server, stats);
+    }
+  },
+  /**
+   * Selects the node which has the least services of the same task, preferring the node with the lowest reserved
+   * memory percentage if multiple nodes have the same amount of services of the task.
+   */
+  SPREAD_BY_TASK {
+    @Override
+    public double score(
+      @NonNull NodeServer server,
+      @NonNull NodeServiceStats stats,
+      @NonNull ServiceConfiguration configuration
+    ) {
+      // the reserved memory percentage is always in [0, 100] for nodes that are not overloaded
+      var taskServices = stats.serviceCountByTask(configuration.serviceId().taskName());
+      return taskServices * 1000D + reservedMemoryPercentage(server, stats);
+    }
+  },
+  /**
+   * Selects the node which has the least memory left after starting the service, filling up nodes before using the
+   * next one. Nodes which do not have enough memory left to start the service are only selected as a last resort.
+   */
+  BIN_PACKING {
+    @Override
+    public double score(
+      @NonNull NodeServer server,
+      @NonNull NodeServiceStats stats,
+      @NonNull ServiceConfiguration configuration
+    ) {
+      var maxMemory = server.nodeInfoSnapshot().maxMemory();
+      var remainingMemory = maxMemory - stats.reservedMemory() - configuration.processConfig().maxHeapMemorySize();
+      return remainingMemory < 0 ? maxMemory - (double) remainingMemory : remainingMemory;
+    }
+  };
+
+  /**
+   * Get the default placement strategy with the given name, ignoring the case and allowing dashes instead of
+   * underscores (for example {@code spread-by-task}).
+   *
+   * @param name the name of the strategy to get.
+   * @return the default placement strategy with the given name.
+   * @throws NullPointerException     if the given name is null.
+   * @throws IllegalArgumentException if no default strategy with the given name exists.
+   */
+  public static @NonNull DefaultServicePlacementStrategy fromName(@NonNull String name) {
+    return valueOf(StringUtil.toUpper(name.replace('-', '_')));
+  }
+
+  private static int reservedMemoryPercentage(@NonNull NodeServer server, @NonNull NodeServiceStats stats) {
+    return (stats.reservedMemory() * 100) / server.nodeInfoSnapshot().maxMemory();
+  }
+}
@@ -229,6 +229,8 @@ protected void doStartProcess(
 
       // start the process and fire the post start event
       this.process = builder.start();
+      // start capturing the console output of the process
+      super.logCache.update();
       this.eventManager.callEvent(new CloudServicePostProcessStartEvent(this));
     } catch (IOException exception) {
       LOGGER.severe("Unable to start process in %s with command line %s",
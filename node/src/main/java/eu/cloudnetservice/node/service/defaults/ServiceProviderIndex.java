@@ -0,0 +1,248 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults;
+
+import com.google.common.collect.Collections2;
+import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.node.service.NodeServiceStats;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+/**
+ * An index of all service providers known to the node, allowing lookups by the immutable properties of a service (name,
+ * task, groups, environment and node) without iterating over all known services. The lifecycle of a service is not
+ * indexed, as local services change it without notifying the service manager. Filtering by lifecycle is therefore done
+ * on the (already narrowed) set of services when needed.
+ * <p>
+ * Reads are lock-free, writes are synchronized to keep all indexes consistent with each other. The index also maintains
+ * live aggregates of the services per node, which are used to score nodes when placing new services.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class ServiceProviderIndex {
+
+  private final Map<UUID, IndexedProvider> providers = new ConcurrentHashMap<>();
+  private final Map<String, SpecificCloudServiceProvider> providersByName = new ConcurrentHashMap<>();
+
+  private final Map<String, Set<SpecificCloudServiceProvider>> providersByTask = new ConcurrentHashMap<>();
+  private final Map<String, Set<SpecificCloudServiceProvider>> providersByNode = new ConcurrentHashMap<>();
+  private final Map<String, Set<SpecificCloudServiceProvider>> providersByGroup = new ConcurrentHashMap<>();
+  private final Map<String, Set<SpecificCloudServiceProvider>> providersByEnvironment = new ConcurrentHashMap<>();
+
+  private final Map<String, NodeServiceStats> nodeStats = new ConcurrentHashMap<>();
+
+  private static void addToIndex(
+    @NonNull Map<String, Set<SpecificCloudServiceProvider>> index,
+    @NonNull String key,
+    @NonNull SpecificCloudServiceProvider provider
+  ) {
+    index.computeIfAbsent(key, $ -> ConcurrentHashMap.newKeySet()).add(provider);
+  }
+
+  private static void removeFromIndex(
+    @NonNull Map<String, Set<SpecificCloudServiceProvider>> index,
+    @NonNull String key,
+    @NonNull SpecificCloudServiceProvider provider
+  ) {
+    index.computeIfPresent(key, ($, providers) -> {
+      providers.remove(provider);
+      return providers.isEmpty() ? null : providers;
+    });
+  }
+
+  private static @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> lookup(
+    @NonNull Map<String, Set<SpecificCloudServiceProvider>> index,
+    @NonNull String key
+  ) {
+    var providers = index.get(key);
+    return providers == null ? Set.of() : Collections.unmodifiableSet(providers);
+  }
+
+  /**
+   * Registers the given provider into this index, unless a provider with the same unique id is already registered.
+   *
+   * @param snapshot the snapshot of the service to get the indexed properties from.
+   * @param provider the provider of the service to register.
+   * @return the provider which was registered previously, null if the given provider was registered.
+   * @throws NullPointerException if the given snapshot or provider is null.
+   */
+  public synchronized @Nullable SpecificCloudServiceProvider registerIfAbsent(
+    @NonNull ServiceInfoSnapshot snapshot,
+    @NonNull SpecificCloudServiceProvider provider
+  ) {
+    var serviceId = snapshot.serviceId();
+    var indexedProvider = new IndexedProvider(
+      provider,
+      serviceId.name(),
+      serviceId.taskName(),
+      serviceId.nodeUniqueId(),
+      serviceId.environmentName(),
+      Set.copyOf(snapshot.configuration().groups()),
+      snapshot.configuration().processConfig().maxHeapMemorySize());
+
+    var knownProvider = this.providers.putIfAbsent(serviceId.uniqueId(), indexedProvider);
+    if (knownProvider != null) {
+      return knownProvider.provider();
+    }
+
+    // index the new provider
+    this.providersByName.put(indexedProvider.name(), provider);
+    addToIndex(this.providersByTask, indexedProvider.task(), provider);
+    if (indexedProvider.node() != null) {
+      addToIndex(this.providersByNode, indexedProvider.node(), provider);
+      this.nodeStats
+        .computeIfAbsent(indexedProvider.node(), $ -> new NodeServiceStats())
+        .update(indexedProvider.task(), indexedProvider.maxMemory(), true);
+    }
+    addToIndex(this.providersByEnvironment, indexedProvider.environment(), provider);
+    for (var group : indexedProvider.groups()) {
+      addToIndex(this.providersByGroup, group, provider);
+    }
+    return null;
+  }
+
+  /**
+   * Unregisters the provider of the service with the given unique id from this index.
+   *
+   * @param uniqueId the unique id of the service to unregister.
+   * @return the provider which was unregistered, null if no provider with the given id was registered.
+   * @throws NullPointerException if the given unique id is null.
+   */
+  public synchronized @Nullable SpecificCloudServiceProvider unregister(@NonNull UUID uniqueId) {
+    var indexedProvider = this.providers.remove(uniqueId);
+    if (indexedProvider == null) {
+      return null;
+    }
+
+    // remove the provider from all indexes
+    var provider = indexedProvider.provider();
+    this.providersByName.remove(indexedProvider.name(), provider);
+    removeFromIndex(this.providersByTask, indexedProvider.task(), provider);
+    if (indexedProvider.node() != null) {
+      removeFromIndex(this.providersByNode, indexedProvider.node(), provider);
+      var stats = this.nodeStats.get(indexedProvider.node());
+      if (stats != null) {
+        stats.update(indexedProvider.task(), indexedProvider.maxMemory(), false);
+      }
+    }
+    removeFromIndex(this.providersByEnvironment, indexedProvider.environment(), provider);
+    for (var group : indexedProvider.groups()) {
+      removeFromIndex(this.providersByGroup, group, provider);
+    }
+    return provider;
+  }
+
+  public boolean contains(@NonNull UUID uniqueId) {
+    return this.providers.containsKey(uniqueId);
+  }
+
+  public int size() {
+    return this.providers.size();
+  }
+
+  public @Nullable SpecificCloudServiceProvider provider(@NonNull UUID uniqueId) {
+    var indexedProvider = this.providers.get(uniqueId);
+    return indexedProvider == null ? null : indexedProvider.provider();
+  }
+
+  public @Nullable SpecificCloudServiceProvider providerByName(@NonNull String name) {
+    return this.providersByName.get(name);
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> providers() {
+    var providers = Collections2.transform(this.providers.values(), IndexedProvider::provider);
+    return Collections.unmodifiableCollection(providers);
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> providersByTask(@NonNull String task) {
+    return lookup(this.providersByTask, task);
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> providersByNode(@NonNull String node) {
+    return lookup(this.providersByNode, node);
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> providersByGroup(@NonNull String group) {
+    return lookup(this.providersByGroup, group);
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> providersByEnvironment(
+    @NonNull String environment
+  ) {
+    return lookup(this.providersByEnvironment, environment);
+  }
+
+  /**
+   * Get the live aggregates of the services registered on the given node. The returned stats are updated when services
+   * are registered or unregistered on the node.
+   *
+   * @param node the name of the node to get the stats of.
+   * @return the live stats of the services on the given node.
+   * @throws NullPointerException if the given node name is null.
+   */
+  public @NonNull NodeServiceStats nodeStats(@NonNull String node) {
+    return this.nodeStats.computeIfAbsent(node, $ -> new NodeServiceStats());
+  }
+
+  /**
+   * Counts the services of the given task which are currently in the given lifecycle, without copying the services of
+   * the task into a new collection.
+   *
+   * @param task      the name of the task to count the services of.
+   * @param lifeCycle the lifecycle the services must be in to be counted.
+   * @return the amount of services of the given task in the given lifecycle.
+   * @throws NullPointerException if the given task or lifecycle is null.
+   */
+  public int countByTask(@NonNull String task, @NonNull ServiceLifeCycle lifeCycle) {
+    var providers = this.providersByTask.get(task);
+    if (providers == null) {
+      return 0;
+    }
+
+    var count = 0;
+    for (var provider : providers) {
+      var serviceInfo = provider.serviceInfo();
+      if (serviceInfo != null && serviceInfo.lifeCycle() == lifeCycle) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private record IndexedProvider(
+    @NonNull SpecificCloudServiceProvider provider,
+    @NonNull String name,
+    @NonNull String task,
+    @Nullable String node,
+    @NonNull String environment,
+    @NonNull Set<String> groups,
+    int maxMemory
+  ) {
+
+  }
+}
@@ -23,12 +23,16 @@
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.ServiceConsoleLineHandler;
 import eu.cloudnetservice.node.service.ServiceConsoleLogCache;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import lombok.NonNull;
 import org.jetbrains.annotations.UnmodifiableView;
 
@@ -38,15 +42,18 @@ public abstract class AbstractServiceLogCache implements ServiceConsoleLogCache
 
   protected final CloudService service;
 
-  protected final Queue<String> cachedLogMessages = new ConcurrentLinkedQueue<>();
   protected final Set<ServiceConsoleLineHandler> handlers = ConcurrentHashMap.newKeySet();
+  // the lines of stdout and stderr are read by different threads, handlers are still called for one line at a time
+  protected final Lock handlerLock = new ReentrantLock();
+  // lines are added under the read lock as the buffer allows concurrent writes, resizing takes the write lock
+  protected final ReadWriteLock logBufferLock = new ReentrantReadWriteLock();
 
-  protected volatile int logCacheSize;
+  protected volatile LogRingBuffer logBuffer;
   protected volatile boolean alwaysPrintErrorStreamToConsole;
 
   public AbstractServiceLogCache(@NonNull Configuration configuration, @NonNull CloudService service) {
     this.service = service;
-    this.logCacheSize = configuration.maxServiceConsoleLogCacheSize();
+    this.logBuffer = new LogRingBuffer(configuration.maxServiceConsoleLogCacheSize());
     this.alwaysPrintErrorStreamToConsole = configuration.printErrorStreamLinesFromServices();
   }
 
@@ -57,18 +64,24 @@ public AbstractServiceLogCache(@NonNull Configuration configuration, @NonNull Cl
 
   @Override
   public @NonNull Queue<String> cachedLogMessages() {
-    return this.cachedLogMessages;
+    return new ArrayDeque<>(this.logBuffer.snapshot());
   }
 
   @Override
   public int logCacheSize() {
-    return this.logCacheSize;
+    return this.logBuffer.capacity();
   }
 
   @Override
   public void logCacheSize(int cacheSize) {
     Preconditions.checkArgument(cacheSize >= 0, "Cache size must be higher or equal to 0");
-    this.logCacheSize = cacheSize;
+    // prevent lines from being added to the old buffer after its lines were copied
+    this.logBufferLock.writeLock().lock();
+    try {
+      this.logBuffer = this.logBuffer.resize(cacheSize);
+    } finally {
+      this.logBufferLock.writeLock().unlock();
+    }
   }
 
   @Override
@@ -97,20 +110,26 @@ public void removeHandler(@NonNull ServiceConsoleLineHandler handler) {
   }
 
   protected void handleItem(@NonNull String entry, boolean comesFromErrorStream) {
-    // drain the cache
-    while (this.cachedLogMessages.size() > this.logCacheSize) {
-      this.cachedLogMessages.poll();
-    }
     // print the line to the console if enabled
     if (this.alwaysPrintErrorStreamToConsole && comesFromErrorStream) {
       LOGGER.warning(String.format("[%s/SERR]: %s", this.service.serviceId().name(), entry));
     }
-    // add the line
-    this.cachedLogMessages.add(entry);
+    // add the line, overwriting the oldest line if the cache is full
+    this.logBufferLock.readLock().lock();
+    try {
+      this.logBuffer.add(entry);
+    } finally {
+      this.logBufferLock.readLock().unlock();
+    }
     // call all handlers
     if (!this.handlers.isEmpty()) {
-      for (var handler : this.handlers) {
-        handler.handleLine(this, entry, comesFromErrorStream);
+      this.handlerLock.lock();
+      try {
+        for (var handler : this.handlers) {
+          handler.handleLine(this, entry, comesFromErrorStream);
+        }
+      } finally {
+        this.handlerLock.unlock();
       }
     }
   }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults.log;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.NonNull;
+
+/**
+ * A fixed-size ring buffer holding the latest log lines of a service. When the buffer is full, each new line overwrites
+ * the oldest line in the buffer. Adding a line is a constant time operation, multiple threads can add lines at the same
+ * time without synchronizing with each other. Only resizing requires the caller to prevent concurrent additions.
+ * <p>
+ * Snapshots taken while lines are added concurrently might miss a line which is being written at the same time, but
+ * never contain lines out of order. A snapshot is taken again if the buffer wrapped over the copied lines while copying.
+ *
+ * @since 4.0
+ */
+public final class LogRingBuffer {
+
+  private static final int MAX_SNAPSHOT_ATTEMPTS = 8;
+
+  private final int capacity;
+  private final AtomicReferenceArray<Entry> entries;
+  private final AtomicLong writeIndex = new AtomicLong();
+
+  /**
+   * Constructs a new, empty ring buffer with the given capacity.
+   *
+   * @param capacity the maximum amount of lines to hold.
+   * @throws IllegalArgumentException if the given capacity is negative.
+   */
+  public LogRingBuffer(int capacity) {
+    Preconditions.checkArgument(capacity >= 0, "Capacity must be higher or equal to 0");
+    this.capacity = capacity;
+    this.entries = new AtomicReferenceArray<>(capacity);
+  }
+
+  /**
+   * Adds the given line to this buffer, overwriting the oldest line if the buffer is full.
+   *
+   * @param entry the line to add.
+   * @throws NullPointerException if the given line is null.
+   */
+  public void add(@NonNull String entry) {
+    if (this.capacity > 0) {
+      var index = this.writeIndex.getAndIncrement();
+      this.entries.set((int) (index % this.capacity), new Entry(index, entry));
+    }
+  }
+
+  /**
+   * Get the maximum amount of lines this buffer can hold.
+   *
+   * @return the capacity of this buffer.
+   */
+  public int capacity() {
+    return this.capacity;
+  }
+
+  /**
+   * Get the amount of lines which are currently held by this buffer.
+   *
+   * @return the amount of lines in this buffer.
+   */
+  public int size() {
+    return (int) Math.min(this.writeIndex.get(), this.capacity);
+  }
+
+  /**
+   * Get a snapshot of the lines which are currently held by this buffer, ordered from the oldest to the newest line.
+   *
+   * @return a snapshot of the lines in this buffer.
+   */
+  public @NonNull List<String> snapshot() {
+    List<String> lines = new ArrayList<>();
+    for (var attempt = 1; ; attempt++) {
+      var end = this.writeIndex.get();
+      var start = Math.max(0, end - this.capacity);
+
+      lines.clear();
+      for (var index = start; index < end; index++) {
+        // only take the line which was written for the index, skip lines which are still being written or were
+        // already overwritten by a newer line
+        var entry = this.entries.get((int) (index % this.capacity));
+        if (entry != null && entry.sequence() == index) {
+          lines.add(entry.line());
+        }
+      }
+
+      // the copied lines are only complete if the buffer did not wrap over the start index while copying
+      if (this.writeIndex.get() - this.capacity <= start || attempt == MAX_SNAPSHOT_ATTEMPTS) {
+        return lines;
+      }
+    }
+  }
+
+  /**
+   * Creates a new ring buffer with the given capacity which holds the latest lines of this buffer. Lines which are added
+   * to this buffer while resizing might not be copied into the new buffer, callers must prevent concurrent additions.
+   *
+   * @param capacity the capacity of the new buffer.
+   * @return a new buffer with the given capacity, holding the latest lines of this buffer.
+   * @throws IllegalArgumentException if the given capacity is negative.
+   */
+  public @NonNull LogRingBuffer resize(int capacity) {
+    var buffer = new LogRingBuffer(capacity);
+    for (var line : this.snapshot()) {
+      buffer.add(line);
+    }
+    return buffer;
+  }
+
+  /**
+   * A line in the buffer together with the sequence number it was written for.
+   *
+   * @param sequence the sequence number of the line.
+   * @param line     the line.
+   */
+  private record Entry(long sequence, @NonNull String line) {
+
+  }
+}
@@ -16,21 +16,34 @@
 
 package eu.cloudnetservice.node.service.defaults.log;
 
+import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import eu.cloudnetservice.node.config.Configuration;
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.ServiceConsoleLogCache;
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import lombok.NonNull;
 
 public class ProcessServiceLogCache extends AbstractServiceLogCache {
 
+  // each process gets a dedicated reader for its output and error stream
+  protected static final Executor STREAM_READER_EXECUTOR = ExecutorServiceUtil.newVirtualThreadExecutor(
+    "Service-Console-Reader-",
+    threadFactory -> Executors.newCachedThreadPool(runnable -> {
+      var thread = threadFactory.newThread(runnable);
+      thread.setDaemon(true);
+      return thread;
+    }));
+
   protected final Supplier<Process> processSupplier;
 
-  protected final byte[] buffer = new byte[2048];
-  protected final StringBuffer stringBuffer = new StringBuffer();
+  protected volatile Process attachedProcess;
 
   public ProcessServiceLogCache(
     @NonNull Supplier<Process> processSupplier,
@@ -43,43 +56,33 @@ public ProcessServiceLogCache(
 
   @Override
   public @NonNull ServiceConsoleLogCache update() {
-    // check if we can currently update
+    // the lines are captured in real time by the stream readers, we only need to attach them to new processes
     var process = this.processSupplier.get();
-    if (process != null) {
-      try {
-        this.readStream(process.getInputStream(), false);
-        this.readStream(process.getErrorStream(), true);
-      } catch (IOException exception) {
-        LOGGER.severe("Exception updating content of console for service %s",
-          exception,
-          this.service.serviceId().name());
-        // reset the string buffer
-        this.stringBuffer.setLength(0);
+    if (process != null && process != this.attachedProcess) {
+      synchronized (this) {
+        if (process != this.attachedProcess) {
+          this.attachedProcess = process;
+          STREAM_READER_EXECUTOR.execute(() -> this.readStream(process.getInputStream(), false));
+          STREAM_READER_EXECUTOR.execute(() -> this.readStream(process.getErrorStream(), true));
+        }
       }
     }
     // for chaining
     return this;
   }
 
-  protected void readStream(@NonNull InputStream stream, boolean isErrorStream) throws IOException {
-    int len;
-    while (stream.available() > 0 && (len = stream.read(this.buffer, 0, this.buffer.length)) != -1) {
-      this.stringBuffer.append(new String(this.buffer, 0, len, StandardCharsets.UTF_8));
-    }
-
-    // check if we got a result we can work with
-    var content = this.stringBuffer.toString();
-    if (content.contains("\n") || content.contains("\r")) {
-      for (var input : content.split("\r")) {
-        for (var text : input.split("\n")) {
-          if (!text.trim().isEmpty()) {
-            this.handleItem(text, isErrorStream);
-          }
+  protected void readStream(@NonNull InputStream stream, boolean isErrorStream) {
+    // the reader decodes the stream continuously, multibyte characters which are split between reads are handled
+    try (var reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!line.isBlank()) {
+          this.handleItem(line, isErrorStream);
         }
       }
+    } catch (IOException exception) {
+      // the stream gets closed when the process is destroyed
+      LOGGER.fine("Stopped reading console of service %s", exception, this.service.serviceId().name());
     }
-
-    // reset the string buffer
-    this.stringBuffer.setLength(0);
   }
 }
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import com.google.common.hash.Hashing;
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
+import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.template.FileInfo;
+import eu.cloudnetservice.driver.template.TemplateStorage;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A node-local cache of templates which are pulled into service directories. Each template version is pulled from its
+ * storage only once, identified by a fingerprint of the file listing of the template. Service directories are then
+ * materialized from the cached copy by copying all files in parallel.
+ * <p>
+ * Hard linking of files is opt-in using the {@code cloudnet.template.cache.link-pattern} system property (for example
+ * {@code .*\.jar}). A hard linked file shares its content with the cached copy and with all other services which were
+ * materialized from the same template version, therefore only files which are never modified in place by a service
+ * should be linked. Linking falls back to copying if the file system does not support hard links.
+ * <p>
+ * Cache entries are reference counted, an outdated entry is removed once no service is materialized from it anymore.
+ * Up-to-date entries are removed once they were not used for the time configured by the
+ * {@code cloudnet.template.cache.max-idle-minutes} system property (30 minutes by default). Templates of a local
+ * storage are pulled directly if linking is disabled, as the cache would only add another copy. The cache can be
+ * disabled using the {@code cloudnet.template.cache.disabled} system property.
+ *
+ * @since 4.0
+ */
+@Singleton
+public final class TemplateCache {
+
+  private static final Logger LOGGER = LogManager.logger(TemplateCache.class);
+
+  private static final boolean DISABLED = Boolean.getBoolean("cloudnet.template.cache.disabled");
+  private static final Path CACHE_DIRECTORY = Path.of(
+    System.getProperty("cloudnet.template.cache.path", "local/template-cache"));
+  private static final String LINK_PATTERN = System.getProperty("cloudnet.template.cache.link-pattern", "");
+  private static final long MAX_IDLE_MILLIS = TimeUnit.MINUTES.toMillis(
+    Long.getLong("cloudnet.template.cache.max-idle-minutes", 30));
+
+  private final Path cacheDirectory;
+  private final Pattern linkPattern;
+  private final long maxIdleMillis;
+  private final Map<String, CacheEntry> entries = new HashMap<>();
+
+  // guarded by this
+  private long generation;
+
+  @Inject
+  public TemplateCache() {
+    this(CACHE_DIRECTORY, LINK_PATTERN.isEmpty() ? null : Pattern.compile(LINK_PATTERN), MAX_IDLE_MILLIS);
+  }
+
+  TemplateCache(@NonNull Path cacheDirectory, @Nullable Pattern linkPattern, long maxIdleMillis) {
+    this.cacheDirectory = cacheDirectory;
+    this.linkPattern = linkPattern;
+    this.maxIdleMillis = maxIdleMillis;
+    // the entries of the last run are unknown to this cache
+    FileUtil.delete(cacheDirectory);
+  }
+
+  private static @NonNull String fingerprint(@NonNull List<FileInfo> files) {
+    var hasher = Hashing.sha256().newHasher();
+    files.stream().sorted(Comparator.comparing(FileInfo::path)).forEachOrdered(file -> hasher
+      .putString(file.path(), StandardCharsets.UTF_8)
+      .putBoolean(file.directory())
+      .putLong(file.size())
+      .putLong(file.lastModified()));
+    return hasher.hash().toString();
+  }
+
+  /**
+   * Pulls the given template into the given directory, using the cached copy of the template if it is up-to-date.
+   *
+   * @param storage   the storage the template is stored in.
+   * @param template  the template to pull.
+   * @param directory the directory to pull the template into.
+   * @return true if the template was pulled successfully, false otherwise.
+   * @throws NullPointerException if one of the given arguments is null.
+   */
+  public boolean pull(@NonNull TemplateStorage storage, @NonNull ServiceTemplate template, @NonNull Path directory) {
+    // a local storage copies the files anyway, the cache would only add another copy if no files are linked
+    if (DISABLED || (this.linkPattern == null && storage instanceof LocalTemplateStorage)) {
+      return storage.pull(template, directory);
+    }
+
+    // list the files of the template to detect changes, pull directly if there is nothing we can identify
+    var files = new ArrayList<>(storage.listFiles(template, "", true));
+    if (files.isEmpty()) {
+      return storage.pull(template, directory);
+    }
+
+    var entry = this.acquire(storage.name() + '/' + template.fullName(), fingerprint(files));
+    try {
+      // ensure that the entry is pulled, then materialize the service directory from it
+      return entry.populate(storage, template) && this.materialize(entry.directory, directory);
+    } finally {
+      this.release(entry);
+    }
+  }
+
+  private @NonNull CacheEntry acquire(@NonNull String key, @NonNull String fingerprint) {
+    List<CacheEntry> idleEntries = new ArrayList<>();
+    CacheEntry outdatedEntry = null;
+    CacheEntry entry;
+    synchronized (this) {
+      // remove the entries which were not used for too long, for example because their template is no longer used
+      var now = System.currentTimeMillis();
+      var iterator = this.entries.values().iterator();
+      while (iterator.hasNext()) {
+        var idleEntry = iterator.next();
+        if (idleEntry.references == 0 && now - idleEntry.lastUsed >= this.maxIdleMillis) {
+          iterator.remove();
+          idleEntries.add(idleEntry);
+        }
+      }
+
+      entry = this.entries.get(key);
+      if (entry == null || !entry.fingerprint.equals(fingerprint)) {
+        // the template changed, replace the entry
+        if (entry != null) {
+          entry.outdated = true;
+          outdatedEntry = entry.references == 0 ? entry : null;
+        }
+
+        // each entry gets its own directory, an outdated entry with the same fingerprint might still be in use
+        var entryDirectory = this.cacheDirectory.resolve(key).resolve(fingerprint + '-' + this.generation++);
+        entry = new CacheEntry(fingerprint, entryDirectory);
+        this.entries.put(key, entry);
+      }
+      entry.references++;
+    }
+
+    // delete the outdated and idle entries outside the lock
+    if (outdatedEntry != null) {
+      FileUtil.delete(outdatedEntry.directory);
+    }
+    for (var idleEntry : idleEntries) {
+      FileUtil.delete(idleEntry.directory);
+    }
+    return entry;
+  }
+
+  private void release(@NonNull CacheEntry entry) {
+    boolean delete;
+    synchronized (this) {
+      entry.lastUsed = System.currentTimeMillis();
+      delete = --entry.references == 0 && entry.outdated;
+    }
+
+    // delete the entry if it was replaced while it was in use
+    if (delete) {
+      FileUtil.delete(entry.directory);
+    }
+  }
+
+  private boolean materialize(@NonNull Path source, @NonNull Path target) {
+    // the storage reported a successful pull, but there is nothing we could materialize
+    if (Files.notExists(source)) {
+      LOGGER.severe("Cached template directory %s does not exist after pulling the template", null, source);
+      return false;
+    }
+
+    try (var stream = Files.walk(source)) {
+      List<Path> files = new ArrayList<>();
+      for (var path : (Iterable<Path>) stream::iterator) {
+        var targetPath = target.resolve(source.relativize(path).toString());
+        if (Files.isDirectory(path)) {
+          Files.createDirectories(targetPath);
+        } else {
+          files.add(path);
+        }
+      }
+
+      // link or copy the files in parallel
+      files.parallelStream().forEach(path -> {
+        var targetPath = target.resolve(source.relativize(path).toString());
+        try {
+          if (this.linkPattern != null
+            && this.linkPattern.matcher(path.getFileName().toString()).matches()
+            && this.link(path, targetPath)) {
+            return;
+          }
+          Files.copy(path, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException exception) {
+          throw new UncheckedIOException(exception);
+        }
+      });
+      return true;
+    } catch (IOException | UncheckedIOException exception) {
+      LOGGER.severe("Unable to materialize cached template %s into %s", exception, source, target);
+      return false;
+    }
+  }
+
+  private boolean link(@NonNull Path source, @NonNull Path target) {
+    try {
+      // replace the target file rather than writing into it, the file might be a link itself
+      Files.deleteIfExists(target);
+      Files.createLink(target, source);
+      return true;
+    } catch (IOException | UnsupportedOperationException exception) {
+      // the file system does not support hard links, or the file is on another file system
+      return false;
+    }
+  }
+
+  private static final class CacheEntry {
+
+    private final String fingerprint;
+    private final Path directory;
+
+    // guarded by the template cache
+    private int references;
+    private boolean outdated;
+    private long lastUsed;
+    // guarded by this entry
+    private boolean populated;
+
+    private CacheEntry(@NonNull String fingerprint, @NonNull Path directory) {
+      this.fingerprint = fingerprint;
+      this.directory = directory;
+    }
+
+    private synchronized boolean populate(@NonNull TemplateStorage storage, @NonNull ServiceTemplate template) {
+      // only pull the template once, other services pulling the same template wait for the first pull
+      if (!this.populated) {
+        FileUtil.delete(this.directory);
+        this.populated = storage.pull(template, this.directory);
+      }
+      return this.populated;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node;
+
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
+import eu.cloudnetservice.node.cluster.NodeServerProvider;
+import eu.cloudnetservice.node.service.CloudServiceManager;
+import jakarta.inject.Provider;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class TickLoopTest {
+
+  @SuppressWarnings("unchecked")
+  private static TickLoop newTickLoop() {
+    return new TickLoop(
+      Mockito.mock(EventManager.class),
+      Mockito.mock(ServiceTaskProvider.class),
+      Mockito.mock(CloudServiceManager.class),
+      Mockito.mock(NodeServerProvider.class),
+      Mockito.mock(Provider.class));
+  }
+
+  @Test
+  void testScheduledTaskExecution() {
+    var tickLoop = newTickLoop();
+
+    var immediate = new AtomicInteger();
+    var delayed = new AtomicInteger();
+    var periodic = new AtomicInteger();
+    tickLoop.runTask(immediate::incrementAndGet);
+    tickLoop.runDelayedTask(delayed::incrementAndGet, 1, TimeUnit.SECONDS);
+    tickLoop.scheduleTask(periodic::incrementAndGet, 2, 3);
+    Assertions.assertEquals(3, tickLoop.pendingTasks());
+
+    tickLoop.processScheduledTasks(1);
+    Assertions.assertEquals(1, immediate.get());
+    Assertions.assertEquals(0, delayed.get());
+    Assertions.assertEquals(0, periodic.get());
+
+    for (var tick = 2; tick <= 20; tick++) {
+      tickLoop.processScheduledTasks(tick);
+    }
+
+    Assertions.assertEquals(1, immediate.get());
+    Assertions.assertEquals(1, delayed.get());
+    Assertions.assertEquals(3, periodic.get());
+    Assertions.assertEquals(0, tickLoop.pendingTasks());
+  }
+
+  @Test
+  void testCancelledTaskIsDropped() {
+    var tickLoop = newTickLoop();
+
+    var executions = new AtomicInteger();
+    var task = tickLoop.runDelayedTask(executions::incrementAndGet, 500, TimeUnit.MILLISECONDS);
+    task.cancel(true);
+
+    for (var tick = 1; tick <= 10; tick++) {
+      tickLoop.processScheduledTasks(tick);
+    }
+
+    Assertions.assertEquals(0, executions.get());
+    Assertions.assertEquals(0, tickLoop.pendingTasks());
+  }
+
+  @Test
+  void testSkippedTicksAreCaughtUp() {
+    var tickLoop = newTickLoop();
+
+    var executions = new AtomicInteger();
+    tickLoop.runDelayedTask(executions::incrementAndGet, 500, TimeUnit.MILLISECONDS);
+    tickLoop.runDelayedTask(executions::incrementAndGet, 5, TimeUnit.MINUTES);
+
+    // simulates ticks which were skipped while the tick loop was paused
+    tickLoop.processScheduledTasks(1);
+    tickLoop.processScheduledTasks(5_000);
+
+    Assertions.assertEquals(2, executions.get());
+    Assertions.assertEquals(0, tickLoop.pendingTasks());
+  }
+
+  @Test
+  void testManyPendingTasks() {
+    var tickLoop = newTickLoop();
+
+    // schedule 100k tasks spread over 10k ticks, of which only the first 1k ticks are processed
+    var executions = new AtomicInteger();
+    for (var i = 0; i < 100_000; i++) {
+      var delayMillis = ((i % 10_000) + 1) * TickLoop.MILLIS_BETWEEN_TICKS;
+      tickLoop.runDelayedTask(executions::incrementAndGet, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    for (var tick = 1; tick <= 1_000; tick++) {
+      tickLoop.processScheduledTasks(tick);
+    }
+
+    Assertions.assertEquals(10_000, executions.get());
+    Assertions.assertEquals(90_000, tickLoop.pendingTasks());
+  }
+}
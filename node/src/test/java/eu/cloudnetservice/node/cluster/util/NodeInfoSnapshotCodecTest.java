@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.cluster.util;
+
+import eu.cloudnetservice.driver.CloudNetVersion;
+import eu.cloudnetservice.driver.cluster.NetworkClusterNode;
+import eu.cloudnetservice.driver.cluster.NodeInfoSnapshot;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import eu.cloudnetservice.node.cluster.NodeServer;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class NodeInfoSnapshotCodecTest {
+
+  private static final NetworkClusterNode NODE = new NetworkClusterNode("Node-1", List.of());
+  private static final CloudNetVersion VERSION = new CloudNetVersion(4, 0, 0, "abc", "RELEASE", "Test");
+
+  private static NodeInfoSnapshot snapshot(int usedMemory, boolean drain) {
+    return new NodeInfoSnapshot(
+      System.currentTimeMillis(),
+      1000,
+      4096,
+      usedMemory,
+      1024,
+      2,
+      drain,
+      NODE,
+      VERSION,
+      ProcessSnapshot.empty(),
+      100,
+      Set.of(),
+      Document.newJsonDocument());
+  }
+
+  private static NodeServer mockServer(NodeInfoSnapshot[] current) {
+    var server = Mockito.mock(NodeServer.class);
+    Mockito.when(server.name()).thenReturn(NODE.uniqueId());
+    Mockito.when(server.nodeInfoSnapshot()).thenAnswer(invocation -> current[0]);
+    return server;
+  }
+
+  @Test
+  void testDeltaAppliedOntoKeyframe() {
+    var sender = new NodeInfoSnapshotCodec();
+    var receiver = new NodeInfoSnapshotCodec();
+    var current = new NodeInfoSnapshot[1];
+    var server = mockServer(current);
+
+    var keyframe = sender.encode(snapshot(256, false), Set.of("Node-2"));
+    Assertions.assertEquals(NodeInfoSnapshotCodec.KEYFRAME_MESSAGE, keyframe.message());
+    current[0] = receiver.decodeKeyframe(keyframe.content());
+
+    var updated = snapshot(512, true);
+    var delta = sender.encode(updated, Set.of("Node-2"));
+    Assertions.assertEquals(NodeInfoSnapshotCodec.DELTA_MESSAGE, delta.message());
+    Assertions.assertTrue(sender.deltaBytes() < sender.keyframeBytes());
+
+    Assertions.assertEquals(NODE.uniqueId(), delta.content().readString());
+    var patched = receiver.applyDelta(server, delta.content());
+    Assertions.assertNotNull(patched);
+    Assertions.assertEquals(512, patched.usedMemory());
+    Assertions.assertTrue(patched.draining());
+    Assertions.assertEquals(updated.creationTime(), patched.creationTime());
+    Assertions.assertSame(current[0].version(), patched.version());
+    Assertions.assertEquals(1, receiver.deltasApplied());
+  }
+
+  @Test
+  void testDeltaRejectedWithoutBase() {
+    var sender = new NodeInfoSnapshotCodec();
+    var receiver = new NodeInfoSnapshotCodec();
+    var current = new NodeInfoSnapshot[]{snapshot(256, false)};
+    var server = mockServer(current);
+
+    // the receiver never got the keyframe
+    sender.encode(snapshot(256, false), Set.of("Node-2"));
+    var delta = sender.encode(snapshot(512, false), Set.of("Node-2"));
+    delta.content().readString();
+
+    Assertions.assertNull(receiver.applyDelta(server, delta.content()));
+    Assertions.assertEquals(1, receiver.deltaMismatches());
+  }
+
+  @Test
+  void testKeyframeForcedOnTargetChangeAndRequest() {
+    var codec = new NodeInfoSnapshotCodec();
+    Assertions.assertEquals(
+      NodeInfoSnapshotCodec.KEYFRAME_MESSAGE,
+      codec.encode(snapshot(256, false), Set.of("Node-2")).message());
+    Assertions.assertEquals(
+      NodeInfoSnapshotCodec.KEYFRAME_MESSAGE,
+      codec.encode(snapshot(256, false), Set.of("Node-2", "Node-3")).message());
+    Assertions.assertEquals(
+      NodeInfoSnapshotCodec.DELTA_MESSAGE,
+      codec.encode(snapshot(256, false), Set.of("Node-2", "Node-3")).message());
+
+    codec.requestKeyframe();
+    Assertions.assertEquals(
+      NodeInfoSnapshotCodec.KEYFRAME_MESSAGE,
+      codec.encode(snapshot(256, false), Set.of("Node-2", "Node-3")).message());
+    Assertions.assertEquals(3, codec.keyframesSent());
+    Assertions.assertEquals(1, codec.deltasSent());
+  }
+}
@@ -20,9 +20,12 @@
 import eu.cloudnetservice.driver.document.Document;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -125,6 +128,55 @@ void testBasicDatabaseOperations() {
     Assertions.assertFalse(database.delete("1234"));
   }
 
+  @Test
+  void testIndexedFind() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // insert some data before creating the index, it should get indexed as well
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "derklaro")));
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "0utplay")));
+    Assertions.assertTrue(database.createIndex("name"));
+    Assertions.assertTrue(database.createIndex("name"));
+
+    Assertions.assertTrue(database.insert("3", Document.newJsonDocument().append("name", "derklaro").append("a", "b")));
+    Assertions.assertTrue(database.insert("4", Document.newJsonDocument().append("other", "value")));
+    Assertions.assertEquals(2, database.find("name", "derklaro").size());
+    Assertions.assertEquals(1, database.find("name", "0utplay").size());
+    Assertions.assertEquals(1, database.find(Map.of("name", "derklaro", "a", "b")).size());
+
+    // update a document, the old value should no longer be found
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "juliarn")));
+    Assertions.assertEquals(1, database.find("name", "derklaro").size());
+    Assertions.assertEquals(1, database.find("name", "juliarn").size());
+
+    // delete a document, it should no longer be found
+    Assertions.assertTrue(database.delete("3"));
+    Assertions.assertTrue(database.find("name", "derklaro").isEmpty());
+  }
+
+  @Test
+  void testIndexColumnIsResyncedOnReopen() throws Exception {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "derklaro")));
+    Assertions.assertTrue(database.createIndex("name"));
+
+    // reopen the database, the existing index column is reused
+    this.databaseProvider.close();
+    this.databaseProvider = new H2DatabaseProvider(Path.of("build", "tmp", "h2", "db").toString());
+    this.databaseProvider.init();
+
+    // write documents before registering the index again, the existing column must be updated with them
+    database = this.databaseProvider.database("test");
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "0utplay")));
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "derklaro")));
+    Assertions.assertTrue(database.createIndex("name"));
+
+    Assertions.assertTrue(database.insert("3", Document.newJsonDocument().append("name", "derklaro")));
+    Assertions.assertEquals(2, database.find("name", "derklaro").size());
+    Assertions.assertEquals(1, database.find("name", "0utplay").size());
+  }
+
   @Test
   void testChunkedDataRead() {
     var database = this.databaseProvider.database("test");
@@ -159,4 +211,40 @@ void testChunkedDataRead() {
     Assertions.assertEquals(expectedReadCounts, readsCalled);
     Assertions.assertTrue(keys.isEmpty());
   }
+
+  @Test
+  void testKeyContinuationChunkedRead() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // fill in some data
+    var entries = 1235;
+    Set<String> keys = new HashSet<>();
+    for (var i = 0; i < entries; i++) {
+      var key = UUID.randomUUID().toString();
+      keys.add(key);
+      database.insert(key, Document.newJsonDocument().append("this_is", "a_world_test"));
+    }
+
+    // read all entries chunk by chunk
+    String lastKey = null;
+    Set<String> readKeys = new HashSet<>();
+    Map<String, Document> currentChunk;
+    while ((currentChunk = database.readChunkAfter(lastKey, 50)) != null) {
+      Assertions.assertFalse(currentChunk.size() > 50);
+      for (var key : currentChunk.keySet()) {
+        Assertions.assertTrue(readKeys.add(key));
+        lastKey = key;
+      }
+    }
+    Assertions.assertEquals(keys, readKeys);
+
+    // read all entries using the stream & iteration
+    Assertions.assertEquals(keys, database.stream().map(Map.Entry::getKey).collect(Collectors.toSet()));
+    Assertions.assertEquals(10, database.stream().limit(10).count());
+
+    Set<String> iteratedKeys = new HashSet<>();
+    database.iterate((key, $) -> Assertions.assertTrue(iteratedKeys.add(key)), 100);
+    Assertions.assertEquals(keys, iteratedKeys);
+  }
 }
@@ -20,9 +20,12 @@
 import eu.cloudnetservice.driver.document.Document;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -131,6 +134,46 @@ void testBasicDatabaseOperations() {
     Assertions.assertFalse(database.delete("1234"));
   }
 
+  @Test
+  void testIndexedFind() throws Exception {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // insert some data before creating the index, it should get indexed as well
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "derklaro")));
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "0utplay")));
+    Assertions.assertTrue(database.createIndex("name"));
+    Assertions.assertTrue(database.createIndex("name"));
+
+    Assertions.assertTrue(database.insert("3", Document.newJsonDocument().append("name", "derklaro").append("a", "b")));
+    Assertions.assertTrue(database.insert("4", Document.newJsonDocument().append("other", "value")));
+    Assertions.assertEquals(2, database.find("name", "derklaro").size());
+    Assertions.assertEquals(1, database.find("name", "0utplay").size());
+    Assertions.assertEquals(1, database.find(Map.of("name", "derklaro", "a", "b")).size());
+
+    // update a document, the old value should no longer be found
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "juliarn")));
+    Assertions.assertEquals(1, database.find("name", "derklaro").size());
+    Assertions.assertEquals(1, database.find("name", "juliarn").size());
+
+    // delete a document, it should no longer be found
+    Assertions.assertTrue(database.delete("3"));
+    Assertions.assertTrue(database.find("name", "derklaro").isEmpty());
+
+    // the index store should not be visible as a database
+    Assertions.assertEquals(List.of("test"), List.copyOf(this.databaseProvider.databaseNames()));
+
+    // the index should be loaded again after a restart
+    this.databaseProvider.close();
+    this.setup();
+    database = this.databaseProvider.database("test");
+    Assertions.assertEquals(1, ((XodusDatabase) database).indexStores.size());
+    Assertions.assertEquals(1, database.find("name", "juliarn").size());
+
+    database.clear();
+    Assertions.assertTrue(database.find("name", "juliarn").isEmpty());
+  }
+
   @Test
   void testChunkedDataRead() {
     var database = this.databaseProvider.database("test");
@@ -165,4 +208,40 @@ void testChunkedDataRead() {
     Assertions.assertEquals(expectedReadCounts, readsCalled);
     Assertions.assertTrue(keys.isEmpty());
   }
+
+  @Test
+  void testKeyContinuationChunkedRead() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // fill in some data
+    var entries = 1235;
+    Set<String> keys = new HashSet<>();
+    for (var i = 0; i < entries; i++) {
+      var key = UUID.randomUUID().toString();
+      keys.add(key);
+      database.insert(key, Document.newJsonDocument().append("this_is", "a_world_test"));
+    }
+
+    // read all entries chunk by chunk
+    String lastKey = null;
+    Set<String> readKeys = new HashSet<>();
+    Map<String, Document> currentChunk;
+    while ((currentChunk = database.readChunkAfter(lastKey, 50)) != null) {
+      Assertions.assertFalse(currentChunk.size() > 50);
+      for (var key : currentChunk.keySet()) {
+        Assertions.assertTrue(readKeys.add(key));
+        lastKey = key;
+      }
+    }
+    Assertions.assertEquals(keys, readKeys);
+
+    // read all entries using the stream & iteration
+    Assertions.assertEquals(keys, database.stream().map(Map.Entry::getKey).collect(Collectors.toSet()));
+    Assertions.assertEquals(10, database.stream().limit(10).count());
+
+    Set<String> iteratedKeys = new HashSet<>();
+    database.iterate((key, $) -> Assertions.assertTrue(iteratedKeys.add(key)), 100);
+    Assertions.assertEquals(keys, iteratedKeys);
+  }
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service;
+
+import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
+import eu.cloudnetservice.driver.service.ServiceId;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ServiceStartPipelineTest {
+
+  private static SpecificCloudServiceProvider mockProvider(String task) {
+    var serviceId = Mockito.mock(ServiceId.class);
+    Mockito.when(serviceId.uniqueId()).thenReturn(UUID.randomUUID());
+    Mockito.when(serviceId.taskName()).thenReturn(task);
+
+    var snapshot = Mockito.mock(ServiceInfoSnapshot.class);
+    Mockito.when(snapshot.serviceId()).thenReturn(serviceId);
+
+    var provider = Mockito.mock(SpecificCloudServiceProvider.class);
+    Mockito.when(provider.serviceInfo()).thenReturn(snapshot);
+    return provider;
+  }
+
+  private static void awaitEmptyQueue(ServiceStartPipeline pipeline) throws InterruptedException {
+    var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (pipeline.queueDepth() != 0) {
+      Assertions.assertTrue(System.nanoTime() < deadline, "start queue did not drain");
+      Thread.sleep(5);
+    }
+  }
+
+  @Test
+  void testRestartRequestRunsAfterCurrentStart() throws Exception {
+    var pipeline = new ServiceStartPipeline(4);
+    try {
+      var started = new CountDownLatch(1);
+      var unblock = new CountDownLatch(1);
+      var active = new AtomicInteger();
+      var maxActive = new AtomicInteger();
+
+      var provider = mockProvider("Lobby");
+      Mockito.doAnswer(invocation -> {
+        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+        started.countDown();
+        Assertions.assertTrue(unblock.await(10, TimeUnit.SECONDS));
+        active.decrementAndGet();
+        return null;
+      }).when(provider).start();
+
+      Assertions.assertTrue(pipeline.submit(provider));
+      Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+      // the service is starting, the second request must not result in a second queue entry
+      Assertions.assertTrue(pipeline.submit(provider));
+      Assertions.assertEquals(1, pipeline.queueDepth());
+      Assertions.assertEquals(1, pipeline.queuedStarts("Lobby"));
+
+      unblock.countDown();
+      awaitEmptyQueue(pipeline);
+
+      // the second start attempt ran after the first one finished
+      Mockito.verify(provider, Mockito.times(2)).start();
+      Assertions.assertEquals(1, maxActive.get());
+    } finally {
+      pipeline.close();
+    }
+  }
+
+  @Test
+  void testSelectionExcludesQueuedServices() throws Exception {
+    var pipeline = new ServiceStartPipeline(4);
+    try {
+      var unblock = new CountDownLatch(1);
+      var providers = IntStream.range(0, 3).mapToObj($ -> mockProvider("Lobby")).toList();
+      for (var provider : providers) {
+        Mockito.doAnswer(invocation -> {
+          Assertions.assertTrue(unblock.await(10, TimeUnit.SECONDS));
+          return null;
+        }).when(provider).start();
+      }
+
+      // select the first service which is not queued yet
+      for (var i = 0; i < providers.size(); i++) {
+        Assertions.assertTrue(pipeline.submit("Lobby", excluded -> providers.stream()
+          .filter(provider -> !excluded.contains(provider.serviceInfo().serviceId().uniqueId()))
+          .findFirst()
+          .orElseThrow()));
+      }
+
+      // pending selections are counted as queued starts of the task
+      Assertions.assertEquals(3, pipeline.queuedStarts("Lobby"));
+      Assertions.assertEquals(0, pipeline.queuedStarts("Proxy"));
+
+      unblock.countDown();
+      awaitEmptyQueue(pipeline);
+      for (var provider : providers) {
+        Mockito.verify(provider, Mockito.times(1)).start();
+      }
+    } finally {
+      pipeline.close();
+    }
+  }
+
+  @Test
+  void testFailuresAreRemovedFromQueue() throws Exception {
+    var pipeline = new ServiceStartPipeline(2);
+    try {
+      var provider = mockProvider("Lobby");
+      Mockito.doThrow(new IllegalStateException("start failed")).when(provider).start();
+
+      // a failed start must not block further start attempts of the service
+      Assertions.assertTrue(pipeline.submit(provider));
+      awaitEmptyQueue(pipeline);
+      Assertions.assertTrue(pipeline.submit(provider));
+      awaitEmptyQueue(pipeline);
+      Mockito.verify(provider, Mockito.times(2)).start();
+
+      // a failed selection must not be counted as queued start anymore
+      Assertions.assertTrue(pipeline.submit("Lobby", excluded -> {
+        throw new IllegalStateException("selection failed");
+      }));
+      awaitEmptyQueue(pipeline);
+      Assertions.assertEquals(0, pipeline.queuedStarts("Lobby"));
+    } finally {
+      pipeline.close();
+    }
+  }
+
+  @Test
+  void testStartConcurrencyIsLimited() throws Exception {
+    var pipeline = new ServiceStartPipeline(2);
+    try {
+      var unblock = new CountDownLatch(1);
+      var active = new AtomicInteger();
+      var maxActive = new AtomicInteger();
+
+      var providers = IntStream.range(0, 6).mapToObj($ -> mockProvider("Lobby")).toList();
+      for (var provider : providers) {
+        Mockito.doAnswer(invocation -> {
+          maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+          Assertions.assertTrue(unblock.await(10, TimeUnit.SECONDS));
+          active.decrementAndGet();
+          return null;
+        }).when(provider).start();
+        Assertions.assertTrue(pipeline.submit(provider));
+      }
+
+      // wait until the workers are busy, all other services must still be queued
+      var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (active.get() < 2) {
+        Assertions.assertTrue(System.nanoTime() < deadline, "workers did not start services");
+        Thread.sleep(5);
+      }
+      Assertions.assertEquals(6, pipeline.queueDepth());
+
+      unblock.countDown();
+      awaitEmptyQueue(pipeline);
+      Assertions.assertEquals(2, maxActive.get());
+      for (var provider : providers) {
+        Mockito.verify(provider, Mockito.times(1)).start();
+      }
+    } finally {
+      pipeline.close();
+    }
+  }
+
+  @Test
+  void testClosedPipelineRejectsSubmissions() {
+    var pipeline = new ServiceStartPipeline(1);
+    pipeline.close();
+
+    Assertions.assertFalse(pipeline.submit(mockProvider("Lobby")));
+    Assertions.assertFalse(pipeline.submit("Lobby", excluded -> mockProvider("Lobby")));
+    Assertions.assertEquals(0, pipeline.queueDepth());
+  }
+
+  @Test
+  void testParallelStartsDoNotOvercommitMemory() throws Exception {
+    var pipeline = new ServiceStartPipeline(8);
+    try {
+      var runningMemory = new AtomicInteger();
+      var startedServices = new AtomicInteger();
+      var attempts = new CountDownLatch(8);
+      for (var i = 0; i < 8; i++) {
+        var provider = mockProvider("Lobby");
+        Mockito.doAnswer(invocation -> {
+          try {
+            // each service needs 512 mb of the 2048 mb, only three services fit
+            if (pipeline.reserveHeapMemory(512, 2048, runningMemory::get)) {
+              try {
+                // simulate the preparation of the service, all services are checked during it
+                Thread.sleep(100);
+                runningMemory.addAndGet(512);
+                startedServices.incrementAndGet();
+              } finally {
+                pipeline.releaseHeapMemory(512);
+              }
+            }
+          } finally {
+            attempts.countDown();
+          }
+          return null;
+        }).when(provider).start();
+        Assertions.assertTrue(pipeline.submit(provider));
+      }
+
+      Assertions.assertTrue(attempts.await(10, TimeUnit.SECONDS));
+      Assertions.assertEquals(3, startedServices.get());
+      Assertions.assertEquals(1536, runningMemory.get());
+      Assertions.assertEquals(0, pipeline.reservedHeapMemory());
+    } finally {
+      pipeline.close();
+    }
+  }
+}
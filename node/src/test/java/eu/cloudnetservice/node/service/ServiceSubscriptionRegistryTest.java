@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service;
+
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.driver.service.ServiceId;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceUpdateSubscription;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ServiceSubscriptionRegistryTest {
+
+  private static ServiceInfoSnapshot mockSnapshot(String name, String task, String... groups) {
+    var serviceId = Mockito.mock(ServiceId.class);
+    Mockito.when(serviceId.name()).thenReturn(name);
+    Mockito.when(serviceId.taskName()).thenReturn(task);
+    Mockito.when(serviceId.environmentName()).thenReturn("MINECRAFT_SERVER");
+
+    var configuration = Mockito.mock(ServiceConfiguration.class);
+    Mockito.when(configuration.groups()).thenReturn(Set.of(groups));
+
+    var snapshot = Mockito.mock(ServiceInfoSnapshot.class);
+    Mockito.when(snapshot.name()).thenReturn(name);
+    Mockito.when(snapshot.serviceId()).thenReturn(serviceId);
+    Mockito.when(snapshot.configuration()).thenReturn(configuration);
+    return snapshot;
+  }
+
+  private static CloudService mockService(String name) {
+    var serviceId = Mockito.mock(ServiceId.class);
+    Mockito.when(serviceId.name()).thenReturn(name);
+
+    var service = Mockito.mock(CloudService.class);
+    Mockito.when(service.serviceId()).thenReturn(serviceId);
+    Mockito.when(service.networkChannel()).thenReturn(Mockito.mock(NetworkChannel.class));
+    return service;
+  }
+
+  @Test
+  void testSubscriptionMatching() {
+    var registry = new ServiceSubscriptionRegistry();
+    registry.subscribe("Lobby-1", ServiceUpdateSubscription.builder().groups(List.of("Lobby")).build());
+    registry.subscribe("BedWars-1", ServiceUpdateSubscription.builder().tasks(List.of("BedWars")).build());
+
+    var lobby = mockSnapshot("Lobby-2", "Lobby", "Lobby");
+    var bedWars = mockSnapshot("BedWars-2", "BedWars", "Games");
+
+    Assertions.assertTrue(registry.subscribed("Lobby-1", lobby));
+    Assertions.assertFalse(registry.subscribed("Lobby-1", bedWars));
+    Assertions.assertTrue(registry.subscribed("BedWars-1", bedWars));
+    Assertions.assertFalse(registry.subscribed("BedWars-1", lobby));
+    // services without subscription receive everything
+    Assertions.assertTrue(registry.subscribed("Proxy-1", lobby));
+    Assertions.assertTrue(registry.subscribed("Proxy-1", bedWars));
+    // services always receive their own updates
+    Assertions.assertTrue(registry.subscribed("BedWars-1", mockSnapshot("BedWars-1", "BedWars")));
+
+    registry.unsubscribe("Lobby-1");
+    Assertions.assertTrue(registry.subscribed("Lobby-1", bedWars));
+  }
+
+  @Test
+  void testReceiveAllUpdates() {
+    var registry = new ServiceSubscriptionRegistry();
+    Assertions.assertTrue(registry.receiveAllUpdates());
+
+    registry.subscribe("Proxy-1", ServiceUpdateSubscription.all());
+    Assertions.assertTrue(registry.receiveAllUpdates());
+
+    registry.subscribe("Lobby-1", ServiceUpdateSubscription.builder().groups(List.of("Lobby")).build());
+    Assertions.assertFalse(registry.receiveAllUpdates());
+
+    registry.unsubscribe("Lobby-1");
+    Assertions.assertTrue(registry.receiveAllUpdates());
+  }
+
+  @Test
+  void testTargetSubscribers() {
+    var registry = new ServiceSubscriptionRegistry();
+    registry.subscribe("Lobby-1", ServiceUpdateSubscription.builder().services(List.of("Lobby-2")).build());
+    registry.subscribe("BedWars-1", ServiceUpdateSubscription.builder().environments(List.of("GLOWSTONE")).build());
+
+    var builder = Mockito.mock(ChannelMessage.Builder.class);
+    var targets = registry.targetSubscribers(
+      builder,
+      mockSnapshot("Lobby-2", "Lobby"),
+      List.of(mockService("Lobby-1"), mockService("BedWars-1"), mockService("Proxy-1")));
+
+    Assertions.assertEquals(2, targets);
+    Mockito.verify(builder).targetService("Lobby-1");
+    Mockito.verify(builder).targetService("Proxy-1");
+    Mockito.verify(builder, Mockito.never()).targetService("BedWars-1");
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults;
+
+import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
+import eu.cloudnetservice.driver.service.ProcessConfiguration;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.driver.service.ServiceId;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ServiceProviderIndexTest {
+
+  private static ServiceInfoSnapshot mockSnapshot(
+    String name,
+    String task,
+    String node,
+    ServiceLifeCycle lifeCycle,
+    String... groups
+  ) {
+    var serviceId = Mockito.mock(ServiceId.class);
+    Mockito.when(serviceId.uniqueId()).thenReturn(UUID.randomUUID());
+    Mockito.when(serviceId.name()).thenReturn(name);
+    Mockito.when(serviceId.taskName()).thenReturn(task);
+    Mockito.when(serviceId.nodeUniqueId()).thenReturn(node);
+    Mockito.when(serviceId.environmentName()).thenReturn("MINECRAFT_SERVER");
+
+    var configuration = Mockito.mock(ServiceConfiguration.class);
+    Mockito.when(configuration.groups()).thenReturn(Set.of(groups));
+    Mockito.when(configuration.processConfig())
+      .thenReturn(new ProcessConfiguration("MINECRAFT_SERVER", 512, List.of(), List.of(), Map.of()));
+
+    var snapshot = Mockito.mock(ServiceInfoSnapshot.class);
+    Mockito.when(snapshot.serviceId()).thenReturn(serviceId);
+    Mockito.when(snapshot.configuration()).thenReturn(configuration);
+    Mockito.when(snapshot.lifeCycle()).thenReturn(lifeCycle);
+    return snapshot;
+  }
+
+  private static SpecificCloudServiceProvider mockProvider(ServiceInfoSnapshot snapshot) {
+    var provider = Mockito.mock(SpecificCloudServiceProvider.class);
+    Mockito.when(provider.serviceInfo()).thenReturn(snapshot);
+    return provider;
+  }
+
+  @Test
+  void testIndexedLookups() {
+    var index = new ServiceProviderIndex();
+
+    var lobby1 = mockSnapshot("Lobby-1", "Lobby", "Node-1", ServiceLifeCycle.RUNNING, "Global", "Lobby");
+    var lobby2 = mockSnapshot("Lobby-2", "Lobby", "Node-2", ServiceLifeCycle.PREPARED, "Global");
+    var proxy1 = mockSnapshot("Proxy-1", "Proxy", "Node-1", ServiceLifeCycle.RUNNING, "Global");
+    var lobby1Provider = mockProvider(lobby1);
+
+    Assertions.assertNull(index.registerIfAbsent(lobby1, lobby1Provider));
+    Assertions.assertNull(index.registerIfAbsent(lobby2, mockProvider(lobby2)));
+    Assertions.assertNull(index.registerIfAbsent(proxy1, mockProvider(proxy1)));
+    Assertions.assertSame(lobby1Provider, index.registerIfAbsent(lobby1, mockProvider(lobby1)));
+
+    Assertions.assertEquals(3, index.size());
+    Assertions.assertEquals(3, index.providers().size());
+    Assertions.assertSame(lobby1Provider, index.providerByName("Lobby-1"));
+    Assertions.assertSame(lobby1Provider, index.provider(lobby1.serviceId().uniqueId()));
+    Assertions.assertEquals(2, index.providersByTask("Lobby").size());
+    Assertions.assertEquals(2, index.providersByNode("Node-1").size());
+    Assertions.assertEquals(3, index.providersByGroup("Global").size());
+    Assertions.assertEquals(1, index.providersByGroup("Lobby").size());
+    Assertions.assertEquals(3, index.providersByEnvironment("MINECRAFT_SERVER").size());
+    Assertions.assertEquals(1, index.countByTask("Lobby", ServiceLifeCycle.RUNNING));
+    Assertions.assertEquals(0, index.countByTask("Unknown", ServiceLifeCycle.RUNNING));
+
+    Assertions.assertSame(lobby1Provider, index.unregister(lobby1.serviceId().uniqueId()));
+    Assertions.assertNull(index.unregister(lobby1.serviceId().uniqueId()));
+
+    Assertions.assertEquals(2, index.size());
+    Assertions.assertNull(index.providerByName("Lobby-1"));
+    Assertions.assertEquals(1, index.providersByTask("Lobby").size());
+    Assertions.assertTrue(index.providersByGroup("Lobby").isEmpty());
+    Assertions.assertEquals(0, index.countByTask("Lobby", ServiceLifeCycle.RUNNING));
+  }
+
+  @Test
+  void testNodeStats() {
+    var index = new ServiceProviderIndex();
+
+    var lobby1 = mockSnapshot("Lobby-1", "Lobby", "Node-1", ServiceLifeCycle.RUNNING);
+    var lobby2 = mockSnapshot("Lobby-2", "Lobby", "Node-1", ServiceLifeCycle.RUNNING);
+    var proxy1 = mockSnapshot("Proxy-1", "Proxy", "Node-2", ServiceLifeCycle.RUNNING);
+
+    index.registerIfAbsent(lobby1, mockProvider(lobby1));
+    index.registerIfAbsent(lobby2, mockProvider(lobby2));
+    index.registerIfAbsent(proxy1, mockProvider(proxy1));
+
+    var node1Stats = index.nodeStats("Node-1");
+    Assertions.assertEquals(2, node1Stats.serviceCount());
+    Assertions.assertEquals(1024, node1Stats.reservedMemory());
+    Assertions.assertEquals(2, node1Stats.serviceCountByTask("Lobby"));
+    Assertions.assertEquals(0, node1Stats.serviceCountByTask("Proxy"));
+    Assertions.assertEquals(1, index.nodeStats("Node-2").serviceCount());
+    Assertions.assertEquals(0, index.nodeStats("Node-3").serviceCount());
+
+    index.unregister(lobby1.serviceId().uniqueId());
+    Assertions.assertEquals(1, node1Stats.serviceCount());
+    Assertions.assertEquals(512, node1Stats.reservedMemory());
+    Assertions.assertEquals(1, node1Stats.serviceCountByTask("Lobby"));
+  }
+}
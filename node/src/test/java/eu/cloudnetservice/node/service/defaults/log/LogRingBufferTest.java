@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults.log;
+
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LogRingBufferTest {
+
+  @Test
+  void testOverwritesOldestLines() {
+    var buffer = new LogRingBuffer(3);
+    Assertions.assertEquals(0, buffer.size());
+    Assertions.assertTrue(buffer.snapshot().isEmpty());
+
+    buffer.add("1");
+    buffer.add("2");
+    Assertions.assertEquals(2, buffer.size());
+    Assertions.assertEquals(List.of("1", "2"), buffer.snapshot());
+
+    buffer.add("3");
+    buffer.add("4");
+    buffer.add("5");
+    Assertions.assertEquals(3, buffer.size());
+    Assertions.assertEquals(List.of("3", "4", "5"), buffer.snapshot());
+  }
+
+  @Test
+  void testResize() {
+    var buffer = new LogRingBuffer(4);
+    for (var i = 1; i <= 6; i++) {
+      buffer.add(Integer.toString(i));
+    }
+
+    var smaller = buffer.resize(2);
+    Assertions.assertEquals(2, smaller.capacity());
+    Assertions.assertEquals(List.of("5", "6"), smaller.snapshot());
+
+    var larger = buffer.resize(8);
+    larger.add("7");
+    Assertions.assertEquals(List.of("3", "4", "5", "6", "7"), larger.snapshot());
+  }
+
+  @Test
+  void testSnapshotIsOrderedWhileWriting() throws Exception {
+    var buffer = new LogRingBuffer(16);
+    var writer = new Thread(() -> {
+      for (var i = 0; i < 200_000; i++) {
+        buffer.add(Integer.toString(i));
+      }
+    });
+    writer.start();
+
+    while (writer.isAlive()) {
+      var previous = -1;
+      for (var line : buffer.snapshot()) {
+        var current = Integer.parseInt(line);
+        Assertions.assertTrue(current > previous);
+        previous = current;
+      }
+    }
+    writer.join();
+  }
+
+  @Test
+  void testZeroCapacity() {
+    var buffer = new LogRingBuffer(0);
+    buffer.add("1");
+
+    Assertions.assertEquals(0, buffer.size());
+    Assertions.assertTrue(buffer.snapshot().isEmpty());
+  }
+}
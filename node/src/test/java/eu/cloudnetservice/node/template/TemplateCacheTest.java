@@ -0,0 +1,191 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.driver.service.ServiceTemplate;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+class TemplateCacheTest {
+
+  private static final Path HOME_PATH = Path.of("build", "tmp", "template_cache");
+  private static final Path CACHE_PATH = HOME_PATH.resolve("cache");
+  private static final ServiceTemplate TEMPLATE = ServiceTemplate.builder()
+    .prefix("global")
+    .name("proxy")
+    .storage("local")
+    .build();
+
+  private LocalTemplateStorage storage;
+  private TemplateCache cache;
+
+  @BeforeEach
+  void setupCache() throws IOException {
+    this.storage = Mockito.spy(new LocalTemplateStorage(HOME_PATH.resolve("storage")));
+    this.cache = new TemplateCache(CACHE_PATH, Pattern.compile(".*\\.jar"), TimeUnit.MINUTES.toMillis(30));
+
+    Assertions.assertTrue(this.storage.create(TEMPLATE));
+    this.writeTemplateFile("server.jar", "jar");
+    this.writeTemplateFile("server.properties", "motd=Hello");
+  }
+
+  @AfterEach
+  void deleteCache() {
+    this.storage.close();
+    FileUtil.delete(HOME_PATH);
+  }
+
+  @Test
+  void testConcurrentPullsShareOneEntry() throws Exception {
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      var start = new CountDownLatch(1);
+      List<CompletableFuture<Boolean>> pulls = new ArrayList<>();
+      for (var i = 0; i < 16; i++) {
+        var directory = HOME_PATH.resolve("services").resolve(Integer.toString(i));
+        pulls.add(CompletableFuture.supplyAsync(() -> {
+          Assertions.assertDoesNotThrow(() -> start.await());
+          return this.cache.pull(this.storage, TEMPLATE, directory);
+        }, executor));
+      }
+
+      start.countDown();
+      for (var pull : pulls) {
+        Assertions.assertTrue(pull.get(30, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // the template was only pulled once into the cache
+    Mockito.verify(this.storage, Mockito.times(1)).pull(
+      ArgumentMatchers.eq(TEMPLATE),
+      ArgumentMatchers.argThat(path -> path.startsWith(CACHE_PATH)));
+    for (var i = 0; i < 16; i++) {
+      var directory = HOME_PATH.resolve("services").resolve(Integer.toString(i));
+      Assertions.assertEquals("jar", Files.readString(directory.resolve("server.jar")));
+      Assertions.assertEquals("motd=Hello", Files.readString(directory.resolve("server.properties")));
+    }
+
+    // the entry is still up-to-date and must be kept after all references were released
+    Assertions.assertEquals(1, this.entryDirectoryCount());
+  }
+
+  @Test
+  void testFingerprintChangeWhileEntryIsInUse() throws Exception {
+    // block the first pull into the cache until the template was changed and changed back
+    var firstPull = new AtomicBoolean(true);
+    var unblock = new CountDownLatch(1);
+    var blocked = new CountDownLatch(1);
+    Mockito
+      .doAnswer(invocation -> {
+        if (firstPull.compareAndSet(true, false)) {
+          blocked.countDown();
+          Assertions.assertTrue(unblock.await(30, TimeUnit.SECONDS));
+        }
+        return invocation.callRealMethod();
+      })
+      .when(this.storage)
+      .pull(ArgumentMatchers.eq(TEMPLATE), ArgumentMatchers.any(Path.class));
+
+    var first = CompletableFuture.supplyAsync(
+      () -> this.cache.pull(this.storage, TEMPLATE, HOME_PATH.resolve("services").resolve("first")));
+    Assertions.assertTrue(blocked.await(30, TimeUnit.SECONDS));
+
+    // the template changes while the first entry is still being populated
+    this.writeTemplateFile("world.txt", "world");
+    Assertions.assertTrue(this.cache.pull(this.storage, TEMPLATE, HOME_PATH.resolve("services").resolve("second")));
+
+    // changing the template back results in the fingerprint of the entry which is still in use
+    Assertions.assertTrue(this.storage.deleteFile(TEMPLATE, "world.txt"));
+    Assertions.assertTrue(this.cache.pull(this.storage, TEMPLATE, HOME_PATH.resolve("services").resolve("third")));
+
+    unblock.countDown();
+    Assertions.assertTrue(first.get(30, TimeUnit.SECONDS));
+
+    Assertions.assertTrue(Files.exists(HOME_PATH.resolve("services").resolve("second").resolve("world.txt")));
+    Assertions.assertFalse(Files.exists(HOME_PATH.resolve("services").resolve("third").resolve("world.txt")));
+    Assertions.assertEquals(
+      "motd=Hello",
+      Files.readString(HOME_PATH.resolve("services").resolve("third").resolve("server.properties")));
+
+    // all outdated entries were removed once they were released
+    Assertions.assertEquals(1, this.entryDirectoryCount());
+  }
+
+  @Test
+  void testIdleEntriesAreEvicted() throws Exception {
+    var cache = new TemplateCache(CACHE_PATH, Pattern.compile(".*\\.jar"), 0);
+    Assertions.assertTrue(cache.pull(this.storage, TEMPLATE, HOME_PATH.resolve("services").resolve("first")));
+    Assertions.assertEquals(1, this.entryDirectoryCount());
+
+    // the entry of the first template is idle while another template is pulled
+    var otherTemplate = ServiceTemplate.builder().prefix("global").name("server").storage("local").build();
+    Assertions.assertTrue(this.storage.create(otherTemplate));
+    try (var stream = this.storage.newOutputStream(otherTemplate, "server.properties")) {
+      Assertions.assertNotNull(stream);
+      stream.write("motd=World".getBytes(StandardCharsets.UTF_8));
+    }
+
+    Assertions.assertTrue(cache.pull(this.storage, otherTemplate, HOME_PATH.resolve("services").resolve("second")));
+    Assertions.assertEquals(0, this.entryDirectoryCount());
+    Assertions.assertEquals(
+      "motd=Hello",
+      Files.readString(HOME_PATH.resolve("services").resolve("first").resolve("server.properties")));
+  }
+
+  @Test
+  void testPullFailsIfCachedTemplateIsMissing() {
+    // the storage reports a successful pull without writing anything
+    Mockito
+      .doReturn(true)
+      .when(this.storage)
+      .pull(ArgumentMatchers.eq(TEMPLATE), ArgumentMatchers.any(Path.class));
+
+    Assertions.assertFalse(this.cache.pull(this.storage, TEMPLATE, HOME_PATH.resolve("services").resolve("missing")));
+  }
+
+  private void writeTemplateFile(String path, String content) throws IOException {
+    try (var stream = this.storage.newOutputStream(TEMPLATE, path)) {
+      Assertions.assertNotNull(stream);
+      stream.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private long entryDirectoryCount() throws IOException {
+    try (var stream = Files.list(CACHE_PATH.resolve(this.storage.name()).resolve(TEMPLATE.fullName()))) {
+      return stream.count();
+    }
+  }
+}
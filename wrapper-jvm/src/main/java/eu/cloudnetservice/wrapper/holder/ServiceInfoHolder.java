@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceUpdateSubscription;
 import lombok.NonNull;
 
 /**
@@ -86,6 +87,10 @@ public interface ServiceInfoHolder {
   /**
    * Creates a new service snapshot, configures it, updates the current and old one and sends an update to all
    * components which are currently registered within the CloudNet network.
+   * <p>
+   * The snapshot is created and configured on the calling thread, but sending it is coalesced: at most one snapshot is
+   * sent per interval configured by the {@code cloudnet.wrapper.service-info-publish-interval} system property (in
+   * milliseconds), calls during the interval result in a single send of the latest snapshot at the end of it.
    */
   void publishServiceInfoUpdate();
 
@@ -97,4 +102,14 @@ public interface ServiceInfoHolder {
    * @throws NullPointerException if the given service snapshot is null.
    */
   void publishServiceInfoUpdate(@NonNull ServiceInfoSnapshot serviceInfoSnapshot);
+
+  /**
+   * Declares which lifecycle and snapshot updates of other services this service is interested in. The node will only
+   * route the updates of services matching the given subscription to this service. Until a subscription is declared
+   * this service receives the updates of all services.
+   *
+   * @param subscription the subscription to declare.
+   * @throws NullPointerException if the given subscription is null.
+   */
+  void subscribeServiceUpdates(@NonNull ServiceUpdateSubscription subscription);
 }
@@ -26,6 +26,7 @@
 import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.driver.service.ServiceUpdateSubscription;
 import eu.cloudnetservice.driver.util.VarHandleUtil;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
 import eu.cloudnetservice.wrapper.event.ServiceInfoPropertiesConfigureEvent;
@@ -34,6 +35,9 @@
 import jakarta.inject.Singleton;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.NonNull;
 
 /**
@@ -45,6 +49,10 @@
 @Provides(ServiceInfoHolder.class)
 public final class WrapperServiceInfoHolder implements ServiceInfoHolder {
 
+  private static final long PUBLISH_INTERVAL_MILLIS = Long.getLong(
+    "cloudnet.wrapper.service-info-publish-interval",
+    500);
+
   private static final VarHandle LAST_INFO_VAR_HANDLE;
   private static final VarHandle CURRENT_INFO_VARHANDLE;
 
@@ -67,6 +75,9 @@ public final class WrapperServiceInfoHolder implements ServiceInfoHolder {
   private final EventManager eventManager;
   private final WrapperConfiguration configuration;
 
+  private final AtomicBoolean publishScheduled = new AtomicBoolean();
+  private volatile long lastPublishMillis;
+
   // both of these fields are only accessed from the associated var handles
   @SuppressWarnings({"FieldCanBeLocal", "unused", "FieldMayBeFinal"})
   private ServiceInfoSnapshot lastServiceInfoSnapshot;
@@ -158,7 +169,20 @@ public void setup() {
    */
   @Override
   public void publishServiceInfoUpdate() {
-    this.publishServiceInfoUpdate(this.createServiceInfoSnapshot());
+    // create the snapshot on the calling thread, the events for it must be called on the thread requesting the update
+    this.configureServiceInfoSnapshot(this.createServiceInfoSnapshot());
+
+    // only schedule one send at a time, all calls until the send happens are covered by it
+    if (this.publishScheduled.compareAndSet(false, true)) {
+      var delay = this.lastPublishMillis + PUBLISH_INTERVAL_MILLIS - System.currentTimeMillis();
+      if (delay <= 0) {
+        this.sendCoalescedServiceInfoUpdate();
+      } else {
+        CompletableFuture.runAsync(
+          this::sendCoalescedServiceInfoUpdate,
+          CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS));
+      }
+    }
   }
 
   /**
@@ -171,9 +195,44 @@ public void publishServiceInfoUpdate(@NonNull ServiceInfoSnapshot serviceInfoSna
       this.configureServiceInfoSnapshot(serviceInfoSnapshot);
     }
 
-    // send the update to all nodes and services
+    this.sendServiceInfoUpdate(serviceInfoSnapshot);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void subscribeServiceUpdates(@NonNull ServiceUpdateSubscription subscription) {
+    ChannelMessage.builder()
+      .targetNode(this.configuration.serviceConfiguration().serviceId().nodeUniqueId())
+      .message("update_service_subscription")
+      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      .buffer(DataBuf.empty().writeObject(subscription))
+      .build()
+      .send();
+  }
+
+  /**
+   * Sends the current snapshot of this service, resetting the scheduled send state before reading the snapshot to
+   * ensure that snapshots configured while the send happens result in another send.
+   */
+  private void sendCoalescedServiceInfoUpdate() {
+    // update the send time first, a call which sees the reset state must compute its delay from this send
+    this.lastPublishMillis = System.currentTimeMillis();
+    this.publishScheduled.set(false);
+    this.sendServiceInfoUpdate(this.serviceInfo());
+  }
+
+  /**
+   * Sends the given service snapshot to all nodes, they route it to the services which are subscribed to updates of
+   * the service.
+   *
+   * @param serviceInfoSnapshot the service snapshot to send.
+   * @throws NullPointerException if the given snapshot is null.
+   */
+  private void sendServiceInfoUpdate(@NonNull ServiceInfoSnapshot serviceInfoSnapshot) {
     ChannelMessage.builder()
-      .targetAll()
+      .targetNodes()
       .message("update_service_info")
       .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
       .buffer(DataBuf.empty().writeObject(serviceInfoSnapshot))
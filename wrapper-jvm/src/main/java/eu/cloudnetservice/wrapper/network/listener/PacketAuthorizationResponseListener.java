@@ -17,6 +17,7 @@
 package eu.cloudnetservice.wrapper.network.listener;
 
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.def.PacketCompressionType;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListener;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -43,6 +44,15 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
     content.readBoolean();
     content.readBoolean();
 
+    // enable the compression selected by the node, if any (older nodes don't send the compression information)
+    if (content.readableBytes() > 0) {
+      var compressionType = content.readObject(PacketCompressionType.class);
+      var compressionThreshold = content.readInt();
+      if (compressionType != null) {
+        channel.enableCompression(compressionType, compressionThreshold);
+      }
+    }
+
     // signal all listeners waiting for the auth
     LockSupport.unpark(this.blockedThread);
   }
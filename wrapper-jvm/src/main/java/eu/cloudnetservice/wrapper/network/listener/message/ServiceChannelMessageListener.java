@@ -26,6 +26,7 @@
 import eu.cloudnetservice.driver.event.events.service.CloudServiceUpdateEvent;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.driver.service.ServiceCreateResult;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
@@ -61,6 +62,10 @@ public void handleChannelMessage(
         case "request_update_service_information" -> event.binaryResponse(DataBuf.empty()
           .writeObject(serviceInfoHolder.configureServiceInfoSnapshot()));
 
+        // request of a snapshot of all threads, which is not included in the published process snapshots
+        case "request_thread_snapshots" -> event.binaryResponse(DataBuf.empty()
+          .writeObject(ProcessSnapshot.selfWithThreads().threads()));
+
         // force update request of the service information with new properties
         case "request_update_service_information_with_new_properties" -> {
           var properties = event.content().readObject(Document.class);
@@ -84,6 +84,7 @@ public boolean reload() {
       for (var group : permissionGroups) {
         this.permissionGroupCache.put(group.name(), group);
       }
+      this.invalidateCompiledPermissions();
     }
 
     return success;
@@ -46,10 +46,12 @@ public WrapperMessenger(@NonNull NetworkClient networkClient) {
 
   @Override
   public void sendChannelMessage(@NonNull ChannelMessage channelMessage) {
+    // serialize the message once, no matter to how many channels the client is connected
+    var packet = PacketServerChannelMessage.broadcast(channelMessage, true);
     if (channelMessage.sendSync()) {
-      this.networkClient.sendPacketSync(new PacketServerChannelMessage(channelMessage, true));
+      this.networkClient.sendPacketSync(packet);
     } else {
-      this.networkClient.sendPacket(new PacketServerChannelMessage(channelMessage, true));
+      this.networkClient.sendPacket(packet);
     }
   }
 
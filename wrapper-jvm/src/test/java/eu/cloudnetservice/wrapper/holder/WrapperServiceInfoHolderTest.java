@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.wrapper.holder;
+
+import dev.derklaro.aerogel.binding.BindingBuilder;
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.event.Event;
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.provider.CloudMessenger;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class WrapperServiceInfoHolderTest {
+
+  private static ServiceInfoSnapshot snapshot() {
+    return new ServiceInfoSnapshot(
+      System.currentTimeMillis(),
+      new HostAndPort("127.0.0.1", 25565),
+      ProcessSnapshot.empty(),
+      ServiceConfiguration.builder()
+        .taskName("Lobby")
+        .taskId(1)
+        .environment(ServiceEnvironmentType.MINECRAFT_SERVER)
+        .maxHeapMemory(512)
+        .startPort(25565)
+        .build(),
+      System.currentTimeMillis(),
+      ServiceLifeCycle.RUNNING,
+      Document.newJsonDocument());
+  }
+
+  @Test
+  void testUpdatesAreCoalescedDuringInterval() {
+    // record the threads on which the events are called
+    List<Thread> eventThreads = new CopyOnWriteArrayList<>();
+    var eventManager = Mockito.mock(EventManager.class);
+    Mockito.when(eventManager.callEvent(Mockito.any(Event.class))).then(invocation -> {
+      eventThreads.add(Thread.currentThread());
+      return invocation.getArgument(0);
+    });
+
+    var snapshot = snapshot();
+    var configuration = Mockito.mock(WrapperConfiguration.class);
+    Mockito.when(configuration.serviceInfoSnapshot()).thenReturn(snapshot);
+    Mockito.when(configuration.serviceConfiguration()).thenReturn(snapshot.configuration());
+    var messenger = Mockito.mock(CloudMessenger.class);
+
+    // install the required bindings to construct the holder
+    var layer = InjectionLayer.boot();
+    layer.install(BindingBuilder.create().bind(EventManager.class).toInstance(eventManager));
+    layer.install(BindingBuilder.create().bind(WrapperConfiguration.class).toInstance(configuration));
+    layer.install(BindingBuilder.create().bind(CloudMessenger.class).toInstance(messenger));
+
+    var holder = layer.instance(WrapperServiceInfoHolder.class);
+    holder.setup();
+
+    // the first update is sent immediately
+    holder.publishServiceInfoUpdate();
+    Mockito.verify(messenger, Mockito.times(1)).sendChannelMessage(Mockito.any(ChannelMessage.class));
+
+    // all updates during the interval are covered by a single delayed send
+    for (var i = 0; i < 10; i++) {
+      holder.publishServiceInfoUpdate();
+    }
+    Mockito.verify(messenger, Mockito.times(1)).sendChannelMessage(Mockito.any(ChannelMessage.class));
+    Mockito.verify(messenger, Mockito.timeout(5_000).times(2)).sendChannelMessage(Mockito.any(ChannelMessage.class));
+    Mockito.verify(messenger, Mockito.after(1_000).times(2)).sendChannelMessage(Mockito.any(ChannelMessage.class));
+
+    // the snapshots are configured on the thread requesting the update, even if sending them is delayed
+    Assertions.assertEquals(22, eventThreads.size());
+    Assertions.assertTrue(eventThreads.stream().allMatch(thread -> thread == Thread.currentThread()));
+  }
+}